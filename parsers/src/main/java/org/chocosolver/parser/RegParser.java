@@ -138,6 +138,11 @@ public abstract class RegParser implements IParser {
      */
     protected ParallelPortfolio portfolio = new ParallelPortfolio();
 
+    /**
+     * Number of models of the portfolio which are copies of the first one, the other ones being parsed
+     */
+    protected int nbCopies = 0;
+
     /**
      * Indicates that the resolution stops on user instruction
      */
@@ -212,6 +217,29 @@ public abstract class RegParser implements IParser {
         return true;
     }
 
+    /**
+     * Copy a fully built model, to be solved by another worker of the portfolio.
+     * Parsing an instance once and copying the resulting model is cheaper than parsing it once per worker,
+     * and the (possibly large) tables, automata and diagrams are shared among copies.
+     * Since the copy comes with its own solver, the search strategy declared on <i>model</i>, if any,
+     * is copied too.
+     *
+     * @param model  a fully built model
+     * @param name   name of the copy
+     * @param cloner the cloner in charge of the copy, to query afterwards to map objects
+     * @return a copy of <i>model</i>
+     * @throws org.chocosolver.solver.exception.SolverException if <i>model</i> or its search strategy
+     *                                                          cannot be copied
+     */
+    protected static Model copyModel(Model model, String name, ModelCloner cloner) {
+        Model copy = cloner.copy(model, name);
+        AbstractStrategy<?> search = model.getSolver().getSearch();
+        if (search != null) {
+            copy.getSolver().setSearch(cloner.copyOf(search));
+        }
+        return copy;
+    }
+
     /**
      * Create a complementary search on non-decision variables
      *
@@ -322,6 +350,14 @@ public abstract class RegParser implements IParser {
         return m;
     }
 
+    /**
+     * @return the number of models of the portfolio obtained by copying the first one, once built,
+     * instead of parsing the instance again
+     */
+    public final int getNbCopies() {
+        return nbCopies;
+    }
+
     public final int bestModelID() {
         Model best = getModel();
         for (int i = 0; i < nb_cores; i++) {
@@ -15,16 +15,17 @@ import org.chocosolver.parser.ParserListener;
 import org.chocosolver.parser.RegParser;
 import org.chocosolver.parser.flatzinc.ast.Datas;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Paths;
-import java.util.List;
 
 /**
  * A Flatzinc to Choco parser.
@@ -97,31 +98,55 @@ public class Flatzinc extends RegParser {
         }
         datas = new Datas[nb_cores];
         String iname = instance == null?"":Paths.get(instance).getFileName().toString();
-        for (int i = 0; i < nb_cores; i++) {
-            Model threadModel = new Model(iname + "_" + (i + 1), defaultSettings);
-            portfolio.addModel(threadModel);
-            datas[i] = new Datas(threadModel, all, stat);
-            threadModel.addHook("CUMULATIVE", "GLB");
-        }
+        // the other models are copies of the first one, once built, or parsed again
+        Model threadModel = new Model(iname + "_1", defaultSettings);
+        portfolio.addModel(threadModel);
+        datas[0] = new Datas(threadModel, all, stat);
+        threadModel.addHook("CUMULATIVE", "GLB");
         listeners.forEach(ParserListener::afterSolverCreation);
     }
 
     @Override
     public void buildModel() {
         listeners.forEach(ParserListener::beforeParsingFile);
-        List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            try {
-                FileInputStream fileInputStream = new FileInputStream(new File(instance));
-                parse(models.get(i), datas[i], fileInputStream);
-                fileInputStream.close();
-            } catch (IOException e) {
-                throw new Error(e.getMessage());
+        Model model = portfolio.getModels().get(0);
+        parseInstance(model, datas[0]);
+        String iname = Paths.get(instance).getFileName().toString();
+        boolean copy = true;
+        for (int i = 1; i < nb_cores; i++) {
+            Model threadModel = null;
+            if (copy) {
+                try {
+                    ModelCloner cloner = new ModelCloner();
+                    threadModel = copyModel(model, iname + "_" + (i + 1), cloner);
+                    datas[i] = datas[0].duplicate(cloner);
+                    nbCopies++;
+                } catch (SolverException e) {
+                    // a constraint or a search annotation does not support copying, parse the instance again
+                    copy = false;
+                }
+            }
+            if (!copy) {
+                threadModel = new Model(iname + "_" + (i + 1), defaultSettings);
+                datas[i] = new Datas(threadModel, all, stat);
+                threadModel.addHook("CUMULATIVE", "GLB");
+                parseInstance(threadModel, datas[i]);
             }
+            portfolio.addModel(threadModel);
         }
         listeners.forEach(ParserListener::afterParsingFile);
     }
 
+    private void parseInstance(Model target, Datas data) {
+        try {
+            FileInputStream fileInputStream = new FileInputStream(new File(instance));
+            parse(target, data, fileInputStream);
+            fileInputStream.close();
+        } catch (IOException e) {
+            throw new Error(e.getMessage());
+        }
+    }
+
     public void parse(Model target, Datas data, InputStream is) {
         CharStream input = new UnbufferedCharStream(is);
         Flatzinc4Lexer lexer = new Flatzinc4Lexer(input);
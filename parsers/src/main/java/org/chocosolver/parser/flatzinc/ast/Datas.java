@@ -18,6 +18,7 @@ import org.chocosolver.parser.flatzinc.ast.expression.ESetBounds;
 import org.chocosolver.parser.flatzinc.ast.expression.ESetList;
 import org.chocosolver.parser.flatzinc.ast.expression.Expression;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.variables.BoolVar;
@@ -92,6 +93,28 @@ public class Datas {
         return map.get(id);
     }
 
+    /**
+     * Create a copy of this, for the copy of the model built by <i>cloner</i>.
+     * Only the outputs are copied, the declarations are only needed while parsing.
+     *
+     * @param cloner the cloner of the model
+     * @return a copy of this
+     */
+    public Datas duplicate(ModelCloner cloner) {
+        Datas copy = new Datas(cloner.getModel(), printAll, printStat);
+        copy.output_names.addAll(output_names);
+        copy.output_types.addAll(output_types);
+        for (Variable var : output_vars) {
+            copy.output_vars.add(cloner.copyOf(var));
+        }
+        copy.output_arrays_names.addAll(output_arrays_names);
+        copy.output_arrays_types.addAll(output_arrays_types);
+        for (Variable[] vars : output_arrays_vars) {
+            copy.output_arrays_vars.add(cloner.copyOf(vars));
+        }
+        return copy;
+    }
+
     void declareOutput(String name, Variable variable, Declaration type) {
         output_names.add(name);
         output_vars.add(variable);
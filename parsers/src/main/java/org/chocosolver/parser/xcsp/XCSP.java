@@ -13,9 +13,11 @@ import org.chocosolver.cutoffseq.LubyCutoffStrategy;
 import org.chocosolver.parser.ParserListener;
 import org.chocosolver.parser.RegParser;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.Settings;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.kohsuke.args4j.Option;
@@ -25,7 +27,6 @@ import java.io.ByteArrayInputStream;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * Created by cprudhom on 01/09/15.
@@ -84,27 +85,54 @@ public class XCSP extends RegParser {
         }
         String iname = Paths.get(instance).getFileName().toString();
         parsers = new XCSPParser[nb_cores];
-        for (int i = 0; i < nb_cores; i++) {
-            Model threadModel = new Model(iname + "_" + (i + 1), defaultSettings);
-            portfolio.addModel(threadModel);
-            parsers[i] = new XCSPParser();
-        }
+        // the other models are copies of the first one, once built, or parsed again
+        Model threadModel = new Model(iname + "_1", defaultSettings);
+        portfolio.addModel(threadModel);
+        parsers[0] = new XCSPParser();
         listeners.forEach(ParserListener::afterSolverCreation);
     }
 
     @Override
     public void buildModel() {
         listeners.forEach(ParserListener::beforeParsingFile);
-        List<Model> models = portfolio.getModels();
-        for (int i = 0; i < models.size(); i++) {
-            try {
-                parse(models.get(i), parsers[i], i);
-            } catch (Exception e) {
-                if (PRINT_LOG) System.out.printf("s UNSUPPORTED\n");
-                if (PRINT_LOG) System.out.printf("c %s\n", e.getMessage());
-                e.printStackTrace();
-                throw new RuntimeException("UNSUPPORTED");
+        Model model = portfolio.getModels().get(0);
+        try {
+            parse(model, parsers[0], 0);
+        } catch (Exception e) {
+            if (PRINT_LOG) System.out.printf("s UNSUPPORTED\n");
+            if (PRINT_LOG) System.out.printf("c %s\n", e.getMessage());
+            e.printStackTrace();
+            throw new RuntimeException("UNSUPPORTED");
+        }
+        String iname = Paths.get(instance).getFileName().toString();
+        boolean copy = true;
+        for (int i = 1; i < nb_cores; i++) {
+            Model threadModel = null;
+            if (copy) {
+                try {
+                    // as when parsing, only the first model declares a search strategy
+                    ModelCloner cloner = new ModelCloner();
+                    threadModel = cloner.copy(model, iname + "_" + (i + 1));
+                    parsers[i] = parsers[0].duplicate(cloner);
+                    nbCopies++;
+                } catch (SolverException e) {
+                    // a constraint does not support copying, parse the instance again
+                    copy = false;
+                }
             }
+            if (!copy) {
+                threadModel = new Model(iname + "_" + (i + 1), defaultSettings);
+                parsers[i] = new XCSPParser();
+                try {
+                    parse(threadModel, parsers[i], i);
+                } catch (Exception e) {
+                    if (PRINT_LOG) System.out.printf("s UNSUPPORTED\n");
+                    if (PRINT_LOG) System.out.printf("c %s\n", e.getMessage());
+                    e.printStackTrace();
+                    throw new RuntimeException("UNSUPPORTED");
+                }
+            }
+            portfolio.addModel(threadModel);
         }
         listeners.forEach(ParserListener::afterParsingFile);
     }
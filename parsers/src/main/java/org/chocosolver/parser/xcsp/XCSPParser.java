@@ -13,6 +13,7 @@ import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
 import org.chocosolver.parser.ParserException;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.constraints.nary.automata.FA.FiniteAutomaton;
 import org.chocosolver.solver.expression.discrete.arithmetic.ArExpression;
@@ -92,6 +93,28 @@ public class XCSPParser implements XCallbacks2 {
         }
     }
 
+    /**
+     * Create a copy of this parser, for the copy of the model built by <i>cloner</i>,
+     * so that the solutions of the copy can be printed.
+     *
+     * @param cloner the cloner of the model
+     * @return a copy of this parser
+     */
+    public XCSPParser duplicate(ModelCloner cloner) {
+        XCSPParser copy = new XCSPParser();
+        copy.model = cloner.getModel();
+        copy.mvars = new HashMap<>();
+        mvars.forEach((x, v) -> copy.mvars.put(x, cloner.copyOf(v)));
+        copy.symbolics = new HashSet<>();
+        symbolics.forEach(v -> copy.symbolics.add(cloner.copyOf(v)));
+        // symbols are not modified once parsed
+        copy.symbolToInt = symbolToInt;
+        copy.intToSymbol = intToSymbol;
+        copy.unusedSymbol = unusedSymbol;
+        copy.implem = new Implem(copy);
+        return copy;
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     /////////////////////////////////////////// VARIABLES //////////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
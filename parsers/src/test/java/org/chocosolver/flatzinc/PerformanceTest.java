@@ -90,4 +90,29 @@ public class PerformanceTest {
         }
     }
 
+    @Test(groups = "mzn", dataProvider = "instances", timeOut = 60000)
+    public void testThemAllInParallel(String path, int solutions, Integer bst, int nodes, int failures) throws SetUpException {
+        String file = this.getClass().getResource(path).getFile();
+        String[] args = new String[]{
+                file,
+                "-limit", "[20s]",
+                "-p", "2"
+        };
+        Flatzinc fzn = new Flatzinc();
+        fzn.addListener(new BaseFlatzincListener(fzn));
+        fzn.setUp(args);
+        fzn.createSolver();
+        fzn.buildModel();
+        // the second model is a copy of the first one
+        Assert.assertEquals(fzn.getNbCopies(), 1, "The model has been parsed again");
+        Assert.assertNotNull(fzn.datas[1]);
+        Assert.assertNotSame(fzn.datas[1], fzn.datas[0]);
+        fzn.configureSearch();
+        fzn.solve();
+        // the time limit may be reached, but a complete search must agree with the sequential one
+        if (fzn.getModel().getSolver().getSearchState() == SearchState.TERMINATED) {
+            Assert.assertEquals(fzn.getModel().getSolver().getSolutionCount() > 0, solutions > 0, "Unexpected satisfiability");
+        }
+    }
+
 }
@@ -95,4 +95,28 @@ public class PerformanceTest {
         }
     }
 
+    @Test(groups = "xcsp", dataProvider = "instances", timeOut = 60000)
+    public void testThemAllInParallel(String path, int solutions, Integer bst, int nodes, int failures) throws SetUpException {
+        String file = this.getClass().getResource(path).getFile();
+        String[] args = new String[]{
+                file,
+                "-limit", "[20s]",
+                "-p", "2"
+        };
+        XCSP xcsp = new XCSP();
+        xcsp.setUp(args);
+        xcsp.createSolver();
+        xcsp.buildModel();
+        // the second model is a copy of the first one
+        Assert.assertEquals(xcsp.getNbCopies(), 1, "The model has been parsed again");
+        Assert.assertNotNull(xcsp.parsers[1]);
+        Assert.assertNotSame(xcsp.parsers[1], xcsp.parsers[0]);
+        xcsp.configureSearch();
+        xcsp.solve();
+        // the time limit may be reached, but a complete search must agree with the sequential one
+        if (xcsp.getModel().getSolver().getSearchState() == SearchState.TERMINATED) {
+            Assert.assertEquals(xcsp.getModel().getSolver().getSolutionCount() > 0, solutions > 0, "Unexpected satisfiability");
+        }
+    }
+
 }
@@ -13,14 +13,17 @@ import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntObjectHashMap;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 
 /**
  * A MiniSat solver.
  * <p>
  * (or-tools, booleans.cc, ty L. Perron).
+ * <p>
+ * Clauses of size greater than 2 are stored in one contiguous arena of int.
+ * A clause is referred to by its offset in the arena, where it is stored as a header
+ * (size, flags and LBD, activity) followed by its literals.
+ * Watchers are packed as (clause, blocker) pairs in one int array per literal.
  * <br/>
  *
  * @author Charles Prud'homme
@@ -34,16 +37,62 @@ public class SatSolver implements SatFactory {
      */
     private static final int kUndefinedLiteral = -2;
 
+    /**
+     * Number of ints preceding the literals of a clause in {@link #arena_}
+     */
+    private static final int HEADER = 3;
+    /**
+     * Position, in a clause header, of the flags, the age and the LBD: bit 0 is set for learnt clauses,
+     * bit 1 for deleted ones, bits 2 to 7 store the age of learnt clauses
+     * (see {@link #forgetUnusedLearnts(int)}), bit 8 is set for tagged clauses (see {@link #startTagging()}),
+     * the LBD is stored in the remaining bits
+     */
+    private static final int INFO = 1;
+    /**
+     * Position, in a clause header, of the activity (raw bits of a float)
+     */
+    private static final int ACTIVITY = 2;
+    private static final int LEARNT = 0b01;
+    private static final int DELETED = 0b10;
+    private static final int AGE_SHIFT = 2;
+    private static final int TAGGED = 1 << 8;
+    private static final int LBD_SHIFT = 9;
+    /**
+     * Largest age of a learnt clause, ages saturate at this value
+     */
+    public static final int MAX_AGE = (1 << 6) - 1;
+    private static final int AGE_MASK = MAX_AGE << AGE_SHIFT;
+    /**
+     * Learnt clauses with a LBD less than or equal to this value are never removed by {@link #reduceLearnts()}
+     */
+    private static final int GLUE = 2;
+    /**
+     * Clause activity decay factor
+     */
+    private static final float CLAUSE_DECAY = 0.999f;
+    /**
+     * Reason of a literal which is a decision, a fact or is enqueued from outside
+     */
+    private static final int NO_REASON = -1;
+
     // If false, the constraints are already unsatisfiable. No part of
     // the solver state may be used!
     public boolean ok_;
-    // List of problem addClauses.
-    public ArrayList<Clause> clauses;
-    // List of learnt addClauses.
-    public ArrayList<Clause> learnts;
-    // 'watches_[lit]' is a list of constraints watching 'lit'(will go
-    // there if literal becomes true).
-    private TIntObjectHashMap<ArrayList<Watcher>> watches_;
+    // Clause arena: headers and literals of all clauses, one after the other.
+    int[] arena_;
+    // First free position in 'arena_'.
+    int arenaTop_;
+    // Number of ints occupied by deleted clauses in 'arena_'.
+    int wasted_;
+    // List of problem addClauses, as offsets in 'arena_'.
+    public TIntArrayList clauses;
+    // List of learnt addClauses, as offsets in 'arena_'.
+    public TIntArrayList learnts;
+    // 'watches_[lit]' is a list of (clause, blocker) pairs watching 'lit'
+    // (will go there if literal becomes true).
+    private int[][] watches_;
+    // 'watchesSize_[lit]' is the number of ints used in 'watches_[lit]'.
+    private int[] watchesSize_;
     // implies_[lit] is a list of literals to set to true if 'lit' becomes true.
     public TIntObjectHashMap<TIntArrayList> implies_;
     // The current assignments.
@@ -57,8 +106,35 @@ public class SatSolver implements SatFactory {
     int qhead_;
     // Number of variables
     int num_vars_;
+    // Decision level at which each variable was assigned.
+    private int[] level_;
+    // Reason of the assignment of each variable: a clause reference, or, when lower than NO_REASON,
+    // the literal whose implications forced it (stored as NO_REASON - 1 - literal).
+    private int[] reason_;
+    // Literals of the clause in conflict on last failure of propagate(), all false.
+    private TIntArrayList conflict_;
+    // Stamps, indexed by decision level, to compute LBD.
+    private int[] lbdStamps_;
+    private int lbdStamp_;
+    // Amount to bump clause activity with.
+    private float clauseInc_;
+    // Marks, indexed by variable, to minimize clauses.
+    private int[] seen_;
+    // Variables marked in 'seen_', literals to explore and reason literals, to minimize clauses.
+    private TIntArrayList toclear_;
+    private TIntArrayList stack_;
+    private TIntArrayList reason_lits_;
 
     private TIntArrayList temporary_add_vector_;
+    // Binary clauses produced by strengthening, pairs of literals.
+    private TIntArrayList new_binaries_;
+    // Set to true while clauses are tagged, see startTagging().
+    private boolean tagging_;
+    // Binary clauses added while tagging, pairs of literals.
+    private TIntArrayList tagged_binaries_;
+    // Number of facts, and value of 'ok_', when tagging started.
+    private int tagged_facts_;
+    private boolean tagged_ok_;
     public TIntArrayList touched_variables_;
 
 
@@ -66,15 +142,28 @@ public class SatSolver implements SatFactory {
         this.ok_ = true;
         this.qhead_ = 0;
         num_vars_ = 0;
-        this.clauses = new ArrayList<>();
-        this.learnts = new ArrayList<>();
-        this.watches_ = new TIntObjectHashMap<>();
+        this.arena_ = new int[256];
+        this.clauses = new TIntArrayList();
+        this.learnts = new TIntArrayList();
+        this.watches_ = new int[16][];
+        this.watchesSize_ = new int[16];
+        this.level_ = new int[8];
+        this.reason_ = new int[8];
+        this.lbdStamps_ = new int[8];
+        this.clauseInc_ = 1f;
         this.implies_ = new TIntObjectHashMap<>();
         this.assignment_ = new TIntObjectHashMap<>();
         this.trail_ = new TIntArrayList();
         this.trail_markers_ = new TIntArrayList();
         this.temporary_add_vector_ = new TIntArrayList();
+        this.new_binaries_ = new TIntArrayList();
+        this.tagged_binaries_ = new TIntArrayList();
         this.touched_variables_ = new TIntArrayList();
+        this.conflict_ = new TIntArrayList();
+        this.seen_ = new int[8];
+        this.toclear_ = new TIntArrayList();
+        this.stack_ = new TIntArrayList();
+        this.reason_lits_ = new TIntArrayList();
     }
 
     @Override
@@ -85,7 +174,15 @@ public class SatSolver implements SatFactory {
     // Add a new variable.
     public int newVariable() {
         int v = incrementVariableCounter();
-//            watches_.resize(2 * v + 2);
+        if (2 * v + 2 > watches_.length) {
+            int n = Math.max(2 * v + 2, watches_.length * 3 / 2);
+            watches_ = Arrays.copyOf(watches_, n);
+            watchesSize_ = Arrays.copyOf(watchesSize_, n);
+        }
+        if (v >= level_.length) {
+            level_ = Arrays.copyOf(level_, Math.max(v + 1, level_.length * 3 / 2));
+            reason_ = Arrays.copyOf(reason_, level_.length);
+        }
 //        implies_.resize(2 * v.value() + 2);
         assignment_.put(v, Boolean.kUndefined);
         return v;
@@ -121,24 +218,13 @@ public class SatSolver implements SatFactory {
                 uncheckedEnqueue(ps.get(0));
                 return (ok_ = propagate());
             case 2:
-                int l0 = ps.get(0);
-                int l1 = ps.get(1);
-                TIntArrayList i0 = implies_.get(negated(l0));
-                if (i0 == null) {
-                    i0 = new TIntArrayList();
-                    implies_.put(negated(l0), i0);
-                }
-                i0.add(l1);
-
-                TIntArrayList i1 = implies_.get(negated(l1));
-                if (i1 == null) {
-                    i1 = new TIntArrayList();
-                    implies_.put(negated(l1), i1);
-                }
-                i1.add(l0);
+                addBinary(ps.get(0), ps.get(1));
                 break;
             default:
-                Clause cr = new Clause(ps.toArray());
+                int cr = allocClause(ps.size(), false, 0);
+                for (int i = 0; i < ps.size(); i++) {
+                    arena_[cr + HEADER + i] = ps.get(i);
+                }
                 clauses.add(cr);
                 attachClause(cr);
                 break;
@@ -147,12 +233,48 @@ public class SatSolver implements SatFactory {
         return true;
     }
 
+    // Add a binary clause to the implication lists.
+    private void addBinary(int l0, int l1) {
+        if (tagging_) {
+            tagged_binaries_.add(l0);
+            tagged_binaries_.add(l1);
+        }
+        TIntArrayList i0 = implies_.get(negated(l0));
+        if (i0 == null) {
+            i0 = new TIntArrayList();
+            implies_.put(negated(l0), i0);
+        }
+        i0.add(l1);
+
+        TIntArrayList i1 = implies_.get(negated(l1));
+        if (i1 == null) {
+            i1 = new TIntArrayList();
+            implies_.put(negated(l1), i1);
+        }
+        i1.add(l0);
+    }
+
     /**
      * Add a clause during resolution
      * @param ps clause to add
      * @return <tt>true</tt> if clause is added
      */
     public boolean learnClause(int... ps) {
+        return learnClause(ps, true);
+    }
+
+    /**
+     * Add a clause during resolution which, unlike a learnt clause, is never removed,
+     * neither by {@link #reduceLearnts()} nor by {@link #forgetUnusedLearnts(int)}.
+     * This is required for clauses that are not implied by the other ones, such as a clause excluding a solution.
+     * @param ps clause to add
+     * @return <tt>true</tt> if clause is added
+     */
+    public boolean learnPermanentClause(int... ps) {
+        return learnClause(ps, false);
+    }
+
+    private boolean learnClause(int[] ps, boolean learnt) {
         Arrays.sort(ps);
         switch (ps.length) {
             case 0:
@@ -161,14 +283,171 @@ public class SatSolver implements SatFactory {
                 dynUncheckedEnqueue(ps[0]);
                 return (ok_ = propagate());
             default:
-                Clause cr = new Clause(ps);
-                learnts.add(cr);
+                int cr = allocClause(ps.length, learnt, learnt ? computeLBD(ps) : 0);
+                System.arraycopy(ps, 0, arena_, cr + HEADER, ps.length);
+                if (learnt) {
+                    learnts.add(cr);
+                } else {
+                    clauses.add(cr);
+                }
                 attachClause(cr);
+                bumpClause(cr);
+                clauseInc_ /= CLAUSE_DECAY;
                 break;
         }
         return true;
     }
 
+    /**
+     * Remove half of the learnt clauses, the ones with the highest LBD first and, to break ties,
+     * the least active ones.
+     * Learnt clauses with a LBD less than or equal to {@link #GLUE} are always kept,
+     * so are the ones that are the reason of a literal currently assigned.
+     * The order of the remaining learnt clauses is maintained.
+     * <p>
+     * Must not be called during {@link #propagate()}.
+     */
+    public void reduceLearnts() {
+        int n = 0;
+        Integer[] candidates = new Integer[learnts.size()];
+        for (int i = 0; i < learnts.size(); i++) {
+            int cr = learnts.getQuick(i);
+            if (clauseLBD(cr) > GLUE && !isLocked(cr)) {
+                candidates[n++] = cr;
+            }
+        }
+        if (n == 0) return;
+        Arrays.sort(candidates, 0, n, (c1, c2) -> {
+            int d = clauseLBD(c2) - clauseLBD(c1);
+            return d != 0 ? d : Float.compare(clauseActivity(c1), clauseActivity(c2));
+        });
+        for (int i = 0; i < n / 2; i++) {
+            int cr = candidates[i];
+            arena_[cr + INFO] |= DELETED;
+            wasted_ += HEADER + arena_[cr];
+        }
+        int j = 0;
+        for (int i = 0; i < learnts.size(); i++) {
+            int cr = learnts.getQuick(i);
+            if (!isDeleted(cr)) {
+                learnts.setQuick(j++, cr);
+            }
+        }
+        learnts.remove(j, learnts.size() - j);
+        purgeWatches();
+        checkGarbage();
+    }
+
+    /**
+     * Age all the learnt clauses and remove the ones that did not propagate, nor fail,
+     * during the last <i>maxAge</i> calls to this method.
+     * The age of a clause is reset each time it propagates or fails and saturates at {@link #MAX_AGE}.
+     * Learnt clauses that are the reason of a literal currently assigned are kept.
+     * The order of the remaining learnt clauses is maintained.
+     * <p>
+     * Must not be called during {@link #propagate()}.
+     *
+     * @param maxAge age from which a learnt clause is removed, at most {@link #MAX_AGE}
+     * @return the number of learnt clauses removed
+     */
+    public int forgetUnusedLearnts(int maxAge) {
+        assert maxAge > 0 && maxAge <= MAX_AGE;
+        int j = 0;
+        for (int i = 0; i < learnts.size(); i++) {
+            int cr = learnts.getQuick(i);
+            int age = Math.min(clauseAge(cr) + 1, MAX_AGE);
+            arena_[cr + INFO] = (arena_[cr + INFO] & ~AGE_MASK) | (age << AGE_SHIFT);
+            if (age >= maxAge && !isLocked(cr)) {
+                deleteClause(cr);
+            } else {
+                learnts.setQuick(j++, cr);
+            }
+        }
+        int removed = learnts.size() - j;
+        if (removed > 0) {
+            learnts.remove(j, removed);
+            purgeWatches();
+            checkGarbage();
+        }
+        return removed;
+    }
+
+    /**
+     * Tag the clauses added from now on with {@link #learnClause(int...)} or {@link #learnPermanentClause(int...)},
+     * and the clauses strengthened from now on, until {@link #stopTagging()} or {@link #removeTagged()} is called.
+     * This makes it possible to remove, afterwards, clauses that only hold for a while,
+     * such as the ones derived from a clause excluding a solution.
+     */
+    public void startTagging() {
+        tagging_ = true;
+        tagged_binaries_.resetQuick();
+        tagged_facts_ = trail_markers_.isEmpty() ? trail_.size() : trail_markers_.getQuick(0);
+        tagged_ok_ = ok_;
+    }
+
+    /**
+     * Stop tagging clauses. The clauses tagged so far become regular clauses.
+     */
+    public void stopTagging() {
+        tagging_ = false;
+        tagged_binaries_.resetQuick();
+        for (int i = 0; i < clauses.size(); i++) {
+            arena_[clauses.getQuick(i) + INFO] &= ~TAGGED;
+        }
+        for (int i = 0; i < learnts.size(); i++) {
+            arena_[learnts.getQuick(i) + INFO] &= ~TAGGED;
+        }
+    }
+
+    /**
+     * Remove the clauses tagged since the last call to {@link #startTagging()}, and stop tagging.
+     * The binary clauses derived and the facts deduced at level 0 since then are removed too,
+     * since they may depend on tagged clauses.
+     * <p>
+     * Must not be called during {@link #propagate()}.
+     *
+     * @return the number of clauses removed
+     */
+    public int removeTagged() {
+        if (!tagging_) {
+            return 0;
+        }
+        cancelUntil(0);
+        for (int i = trail_.size() - 1; i >= tagged_facts_; i--) {
+            assignment_.put(var(trail_.getQuick(i)), Boolean.kUndefined);
+        }
+        trail_.remove(tagged_facts_, trail_.size() - tagged_facts_);
+        qhead_ = Math.min(qhead_, tagged_facts_);
+        ok_ = tagged_ok_;
+        for (int i = 0; i < tagged_binaries_.size(); i += 2) {
+            int l0 = tagged_binaries_.getQuick(i);
+            int l1 = tagged_binaries_.getQuick(i + 1);
+            implies_.get(negated(l0)).remove(l1);
+            implies_.get(negated(l1)).remove(l0);
+        }
+        int removed = removeTagged(clauses) + removeTagged(learnts) + tagged_binaries_.size() / 2;
+        tagging_ = false;
+        tagged_binaries_.resetQuick();
+        purgeWatches();
+        checkGarbage();
+        return removed;
+    }
+
+    private int removeTagged(TIntArrayList crs) {
+        int j = 0;
+        for (int i = 0; i < crs.size(); i++) {
+            int cr = crs.getQuick(i);
+            if ((arena_[cr + INFO] & TAGGED) != 0) {
+                deleteClause(cr);
+            } else {
+                crs.setQuick(j++, cr);
+            }
+        }
+        int removed = crs.size() - j;
+        crs.remove(j, removed);
+        return removed;
+    }
+
     // Add the empty clause, making the solver contradictory.
     boolean addEmptyClause() {
         temporary_add_vector_.resetQuick();
@@ -213,6 +492,7 @@ public class SatSolver implements SatFactory {
                 assignment_.put(x, Boolean.kUndefined);
             }
             qhead_ = trail_markers_.get(level);
+            conflict_.resetQuick();
             trail_.remove(trail_markers_.get(level), trail_.size() - trail_markers_.get(level));
             trail_markers_.remove(level, trail_markers_.size() - level);
         }
@@ -244,11 +524,208 @@ public class SatSolver implements SatFactory {
         return learnts.size();
     }
 
+    /**
+     * @param cr a clause reference
+     * @return the number of literals of the clause
+     */
+    public int clauseSize(int cr) {
+        return arena_[cr];
+    }
+
+    /**
+     * @param cr a clause reference
+     * @param i  position of a literal in the clause
+     * @return the <i>i</i>-th literal of the clause
+     */
+    public int clauseLiteral(int cr, int i) {
+        return arena_[cr + HEADER + i];
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the literal block distance of the clause, <tt>0</tt> for original clauses
+     */
+    public int clauseLBD(int cr) {
+        return arena_[cr + INFO] >>> LBD_SHIFT;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the number of calls to {@link #forgetUnusedLearnts(int)} since the clause last propagated or failed
+     */
+    int clauseAge(int cr) {
+        return (arena_[cr + INFO] & AGE_MASK) >>> AGE_SHIFT;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return the activity of the clause
+     */
+    float clauseActivity(int cr) {
+        return Float.intBitsToFloat(arena_[cr + ACTIVITY]);
+    }
+
+    private boolean isDeleted(int cr) {
+        return (arena_[cr + INFO] & DELETED) != 0;
+    }
+
+    /**
+     * @param cr a clause reference
+     * @return <tt>true</tt> if the clause is the reason of a literal currently assigned
+     */
+    private boolean isLocked(int cr) {
+        int x = var(arena_[cr + HEADER]);
+        return reason_[x] == cr && valueVar(x) != Boolean.kUndefined;
+    }
+
+    /**
+     * @param l a literal
+     * @return <tt>true</tt> if <i>l</i> is currently true
+     */
+    public boolean isTrue(int l) {
+        return valueLit(l) == Boolean.kTrue;
+    }
+
+    /**
+     * @param l a literal
+     * @return <tt>true</tt> if <i>l</i> is currently false
+     */
+    public boolean isFalse(int l) {
+        return valueLit(l) == Boolean.kFalse;
+    }
+
+    /**
+     * @param l an assigned literal
+     * @return the trail marker at which the variable of <i>l</i> has been assigned
+     */
+    public int levelOf(int l) {
+        return level_[var(l)];
+    }
+
+    /**
+     * Add to <i>out</i> the other literals of the clause that forced <i>l</i> to be true.
+     * Those literals are all false.
+     *
+     * @param l a literal
+     * @param out list to fill
+     * @return <tt>false</tt> if <i>l</i> is not true or if it was not forced by a clause
+     * (that is, it was enqueued from outside or its reason is gone), <tt>true</tt> otherwise
+     */
+    public boolean reasonOf(int l, TIntList out) {
+        int x = var(l);
+        if (valueLit(l) != Boolean.kTrue || reason_[x] == NO_REASON) {
+            return false;
+        }
+        int r = reason_[x];
+        if (r < NO_REASON) {
+            out.add(negated(NO_REASON - 1 - r));
+        } else {
+            for (int k = r + HEADER, end = k + arena_[r]; k < end; k++) {
+                if (var(arena_[k]) != x) {
+                    out.add(arena_[k]);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add to <i>out</i> the literals of the clause in conflict on the last failure of propagation.
+     * Those literals are all false. The conflict is forgotten on backtrack.
+     *
+     * @param out list to fill
+     * @return <tt>false</tt> if there is no known conflict, <tt>true</tt> otherwise
+     */
+    public boolean conflictOf(TIntList out) {
+        for (int i = 0; i < conflict_.size(); i++) {
+            out.add(conflict_.getQuick(i));
+        }
+        return !conflict_.isEmpty();
+    }
+
+    /**
+     * Remove redundant literals from a clause, given the implications of the current assignment.
+     * A literal is redundant when it is false at level 0, or when it is false and
+     * the literals of the reason of its negation are either in the clause, false at level 0, or redundant too.
+     * The clause obtained is thus implied by <i>ps</i> and the clauses of this solver.
+     *
+     * @param ps literals of a clause, not modified
+     * @return the literals of <i>ps</i> that are not redundant, or <i>ps</i> itself if there is none
+     */
+    public int[] minimize(int[] ps) {
+        if (seen_.length < num_vars_) {
+            seen_ = new int[num_vars_];
+        }
+        // 1: in the clause, 2: redundant, 3: not redundant
+        for (int p : ps) {
+            seen_[var(p)] = 1;
+            toclear_.add(var(p));
+        }
+        int[] out = new int[ps.length];
+        int j = 0;
+        for (int p : ps) {
+            if (valueLit(p) != Boolean.kFalse || (level_[var(p)] > 0 && !isRedundant(p))) {
+                out[j++] = p;
+            }
+        }
+        for (int i = 0; i < toclear_.size(); i++) {
+            seen_[toclear_.getQuick(i)] = 0;
+        }
+        toclear_.resetQuick();
+        return j == ps.length ? ps : Arrays.copyOf(out, j);
+    }
+
+    /**
+     * @param p a false literal
+     * @return <tt>true</tt> if the negation of <i>p</i> is implied by literals marked in {@link #seen_}
+     * or false at level 0
+     */
+    private boolean isRedundant(int p) {
+        stack_.resetQuick();
+        stack_.add(p);
+        int top = toclear_.size();
+        while (!stack_.isEmpty()) {
+            int q = stack_.removeAt(stack_.size() - 1);
+            reason_lits_.resetQuick();
+            if (!reasonOf(negated(q), reason_lits_)) {
+                return notRedundant(p, top);
+            }
+            for (int i = 0; i < reason_lits_.size(); i++) {
+                int r = reason_lits_.getQuick(i);
+                int x = var(r);
+                if (level_[x] == 0 || seen_[x] == 1 || seen_[x] == 2) {
+                    continue;
+                }
+                if (seen_[x] == 3) {
+                    return notRedundant(p, top);
+                }
+                seen_[x] = 2;
+                toclear_.add(x);
+                stack_.add(r);
+            }
+        }
+        return true;
+    }
+
+    private boolean notRedundant(int p, int top) {
+        // literals visited since 'top' are not known to be redundant anymore
+        for (int i = top; i < toclear_.size(); i++) {
+            seen_[toclear_.getQuick(i)] = 0;
+        }
+        toclear_.remove(top, toclear_.size() - top);
+        if (seen_[var(p)] == 0) {
+            seen_[var(p)] = 3;
+            toclear_.add(var(p));
+        }
+        return false;
+    }
+
     // Propagates one literal, returns true if successful, false in case
     // of failure.
     public boolean propagateOneLiteral(int lit) {
         assert ok_;
         touched_variables_.resetQuick();
+        conflict_.resetQuick();
         if (!propagate()) {
             return false;
         }
@@ -263,6 +740,8 @@ public class SatSolver implements SatFactory {
         // Unchecked enqueue
         assert valueLit(lit) == Boolean.kUndefined;
         assignment_.put(var(lit), makeBoolean(!sign(lit)));
+        level_[var(lit)] = trailMarker();
+        reason_[var(lit)] = NO_REASON;
         trail_.add(lit);
         return propagate();
     }
@@ -279,11 +758,18 @@ public class SatSolver implements SatFactory {
 
     // Enqueue a literal. Assumes value of literal is undefined.
     void uncheckedEnqueue(int l) {
+        uncheckedEnqueue(l, NO_REASON);
+    }
+
+    // Enqueue a literal with its reason. Assumes value of literal is undefined.
+    private void uncheckedEnqueue(int l, int reason) {
         assert valueLit(l) == Boolean.kUndefined;
         if (assignment_.get(var(l)) == Boolean.kUndefined) {
             touched_variables_.add(l);
         }
         assignment_.put(var(l), sign(l) ? Boolean.kFalse : Boolean.kTrue);
+        level_[var(l)] = trailMarker();
+        reason_[var(l)] = reason;
         trail_.add(l);
     }
 
@@ -293,50 +779,521 @@ public class SatSolver implements SatFactory {
 
 
     // Test if fact 'p' contradicts current state, Enqueue otherwise.
-    private boolean enqueue(int l) {
+    private boolean enqueue(int l, int reason) {
         if (valueLit(l) != Boolean.kUndefined) {
             return valueLit(l) != Boolean.kFalse;
         } else {
-            uncheckedEnqueue(l);
+            uncheckedEnqueue(l, reason);
             return true;
         }
     }
 
+    /**
+     * Reserve room in the arena for a new clause and fill its header.
+     * @param size number of literals
+     * @param learnt <tt>true</tt> for a learnt clause
+     * @param lbd literal block distance of the clause
+     * @return the clause reference
+     */
+    private int allocClause(int size, boolean learnt, int lbd) {
+        int cr = arenaTop_;
+        if (cr + HEADER + size > arena_.length) {
+            arena_ = Arrays.copyOf(arena_, Math.max(cr + HEADER + size, arena_.length * 3 / 2));
+        }
+        arena_[cr] = size;
+        arena_[cr + INFO] = (lbd << LBD_SHIFT) | (learnt ? LEARNT : 0) | (tagging_ ? TAGGED : 0);
+        arena_[cr + ACTIVITY] = Float.floatToRawIntBits(0f);
+        arenaTop_ += HEADER + size;
+        return cr;
+    }
+
+    /**
+     * Compute the number of distinct decision levels among the literals of <i>ps</i>.
+     * Unassigned literals are considered to belong to the same, upcoming, level.
+     * @param ps literals
+     * @return the literal block distance
+     */
+    private int computeLBD(int[] ps) {
+        int top = trailMarker() + 1;
+        if (top >= lbdStamps_.length) {
+            lbdStamps_ = Arrays.copyOf(lbdStamps_, Math.max(top + 1, lbdStamps_.length * 3 / 2));
+        }
+        lbdStamp_++;
+        int lbd = 0;
+        for (int l : ps) {
+            int lvl = valueLit(l) == Boolean.kUndefined ? top : level_[var(l)];
+            if (lbdStamps_[lvl] != lbdStamp_) {
+                lbdStamps_[lvl] = lbdStamp_;
+                lbd++;
+            }
+        }
+        return lbd;
+    }
+
+    private void bumpClause(int cr) {
+        if ((arena_[cr + INFO] & LEARNT) != 0) {
+            arena_[cr + INFO] &= ~AGE_MASK;
+            float act = clauseActivity(cr) + clauseInc_;
+            arena_[cr + ACTIVITY] = Float.floatToRawIntBits(act);
+            if (act > 1e20f) {
+                // rescale all activities
+                for (int i = 0; i < learnts.size(); i++) {
+                    int c = learnts.getQuick(i);
+                    arena_[c + ACTIVITY] = Float.floatToRawIntBits(clauseActivity(c) * 1e-20f);
+                }
+                clauseInc_ *= 1e-20f;
+            }
+        }
+    }
+
     // Attach a clause to watcher lists.
-    private void attachClause(Clause cr) {
-        assert cr.size() > 1;
-        ArrayList<Watcher> l0 = watches_.get(negated(cr._g(0)));
-        if (l0 == null) {
-            l0 = new ArrayList<>();
-            watches_.put(negated(cr._g(0)), l0);
+    private void attachClause(int cr) {
+        assert clauseSize(cr) > 1;
+        addWatch(negated(clauseLiteral(cr, 0)), cr, clauseLiteral(cr, 1));
+        addWatch(negated(clauseLiteral(cr, 1)), cr, clauseLiteral(cr, 0));
+    }
+
+    private void addWatch(int lit, int cr, int blocker) {
+        int[] ws = watches_[lit];
+        int n = watchesSize_[lit];
+        if (ws == null) {
+            ws = watches_[lit] = new int[8];
+        } else if (n + 2 > ws.length) {
+            ws = watches_[lit] = Arrays.copyOf(ws, ws.length * 2);
+        }
+        ws[n] = cr;
+        ws[n + 1] = blocker;
+        watchesSize_[lit] = n + 2;
+    }
+
+    private void removeWatch(int lit, int cr) {
+        int[] ws = watches_[lit];
+        int n = watchesSize_[lit];
+        int i = n - 2;
+        while (i >= 0 && ws[i] != cr) {
+            i -= 2;
         }
-        ArrayList<Watcher> l1 = watches_.get(negated(cr._g(1)));
-        if (l1 == null) {
-            l1 = new ArrayList<>();
-            watches_.put(negated(cr._g(1)), l1);
+        assert i > -1;
+        System.arraycopy(ws, i + 2, ws, i, n - i - 2);
+        watchesSize_[lit] = n - 2;
+    }
+
+    /**
+     * Remove from watcher lists pairs referring to deleted clauses.
+     */
+    private void purgeWatches() {
+        for (int l = 0; l < 2 * num_vars_; l++) {
+            int[] ws = watches_[l];
+            int n = watchesSize_[l];
+            int j = 0;
+            for (int i = 0; i < n; i += 2) {
+                if (!isDeleted(ws[i])) {
+                    ws[j++] = ws[i];
+                    ws[j++] = ws[i + 1];
+                }
+            }
+            watchesSize_[l] = j;
         }
-        l0.add(new Watcher(cr, cr._g(1)));
-        l1.add(new Watcher(cr, cr._g(0)));
     }
 
     public void detachLearnt(int ci) {
-        Clause cr = learnts.get(ci);
-        learnts.remove(ci);
+        int cr = learnts.removeAt(ci);
+        removeWatch(negated(clauseLiteral(cr, 0)), cr);
+        removeWatch(negated(clauseLiteral(cr, 1)), cr);
+        arena_[cr + INFO] |= DELETED;
+        wasted_ += HEADER + arena_[cr];
+        checkGarbage();
+    }
 
-        ArrayList<Watcher> ws = watches_.get(negated(cr._g(0)));
-        int i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+    /**
+     * Compact the arena when more than half of it is occupied by deleted clauses.
+     */
+    private void checkGarbage() {
+        if (wasted_ > arenaTop_ / 2) {
+            collectGarbage();
         }
-        assert i > -1;
-        ws.remove(i);
-        ws = watches_.get(negated(cr._g(1)));
-        i = ws.size() - 1;
-        while (i >= 0 && ws.get(i).clause != cr) {
-            i--;
+    }
+
+    /**
+     * Move all live clauses at the beginning of a new arena and update clause references.
+     * The new reference of a moved clause is temporarily stored in the activity slot of its old location.
+     */
+    private void collectGarbage() {
+        int[] to = new int[Math.max(256, arenaTop_ - wasted_)];
+        int top = relocate(clauses, to, 0);
+        top = relocate(learnts, to, top);
+        for (int i = 0; i < trail_.size(); i++) {
+            int x = var(trail_.getQuick(i));
+            if (reason_[x] > NO_REASON) {
+                reason_[x] = isDeleted(reason_[x]) ? NO_REASON : arena_[reason_[x] + ACTIVITY];
+            }
         }
-        assert i > -1;
-        ws.remove(i);
+        for (int l = 0; l < 2 * num_vars_; l++) {
+            int[] ws = watches_[l];
+            for (int i = 0; i < watchesSize_[l]; i += 2) {
+                ws[i] = arena_[ws[i] + ACTIVITY];
+            }
+        }
+        arena_ = to;
+        arenaTop_ = top;
+        wasted_ = 0;
+    }
+
+    private int relocate(TIntArrayList crs, int[] to, int top) {
+        for (int i = 0; i < crs.size(); i++) {
+            int cr = crs.getQuick(i);
+            int len = HEADER + arena_[cr];
+            System.arraycopy(arena_, cr, to, top, len);
+            arena_[cr + ACTIVITY] = top;
+            crs.setQuick(i, top);
+            top += len;
+        }
+        return top;
+    }
+
+    /**
+     * Mark a clause as deleted. It is up to the caller to detach it and to remove it from its list.
+     * @param cr a clause reference
+     */
+    private void deleteClause(int cr) {
+        arena_[cr + INFO] |= DELETED;
+        wasted_ += HEADER + arena_[cr];
+    }
+
+    /**
+     * Remove the literal at position <i>i</i> from a (detached) clause.
+     * If the clause becomes binary, it is moved to the implication lists.
+     * @param cr a clause reference
+     * @param i position of the literal to remove
+     */
+    private void removeLiteral(int cr, int i) {
+        int c = cr + HEADER;
+        int n = arena_[cr] - 1;
+        System.arraycopy(arena_, c + i + 1, arena_, c + i, n - i);
+        arena_[cr] = n;
+        wasted_++;
+        if (tagging_) {
+            // the literal may be removed thanks to a tagged clause
+            arena_[cr + INFO] |= TAGGED;
+        }
+        if (n == 2) {
+            addBinary(arena_[c], arena_[c + 1]);
+            new_binaries_.add(arena_[c]);
+            new_binaries_.add(arena_[c + 1]);
+            deleteClause(cr);
+        }
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // SIMPLIFICATION
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Simplify the clause database. Must be called at level 0, that is, when {@link #trailMarker()} is 0.
+     * <ol>
+     *     <li>satisfied clauses are removed and false literals are removed from the other clauses,</li>
+     *     <li>clauses subsumed by a binary or an original clause are removed,</li>
+     *     <li>clauses are strengthened by self-subsuming resolution,</li>
+     *     <li>literals with implications are probed: a literal whose propagation fails is set to false.</li>
+     * </ol>
+     * Variables are never eliminated and the models of the clause database are preserved.
+     * Facts deduced are reported in {@link #touched_variables_}.
+     * @return <tt>false</tt> if the clause database is proven unsatisfiable
+     */
+    public boolean simplify() {
+        assert trailMarker() == 0;
+        if (!ok_ || !propagate()) {
+            return (ok_ = false);
+        }
+        // watches are rebuilt from scratch once clauses are simplified
+        Arrays.fill(watchesSize_, 0);
+        cleanClauses(clauses);
+        cleanClauses(learnts);
+        new_binaries_.resetQuick();
+        subsume();
+        reattach(clauses);
+        reattach(learnts);
+        if (!probe()) {
+            return (ok_ = false);
+        }
+        checkGarbage();
+        return true;
+    }
+
+    /**
+     * Remove satisfied clauses and false literals, given the current (level 0) assignment.
+     * @param crs clause references
+     */
+    private void cleanClauses(TIntArrayList crs) {
+        for (int k = 0; k < crs.size(); k++) {
+            int cr = crs.getQuick(k);
+            int c = cr + HEADER;
+            boolean satisfied = false;
+            for (int i = 0; i < arena_[cr] && !satisfied; i++) {
+                satisfied = valueLit(arena_[c + i]) == Boolean.kTrue;
+            }
+            if (satisfied) {
+                deleteClause(cr);
+            } else {
+                // propagation is at fix point, so at least two literals are undefined
+                for (int i = arena_[cr] - 1; i >= 0; i--) {
+                    if (valueLit(arena_[c + i]) == Boolean.kFalse) {
+                        removeLiteral(cr, i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply subsumption and self-subsuming resolution to clauses, using binary and original clauses.
+     */
+    private void subsume() {
+        int n2 = 2 * num_vars_;
+        TIntArrayList[] occs = new TIntArrayList[n2];
+        for (int l = 0; l < n2; l++) {
+            occs[l] = new TIntArrayList();
+        }
+        addOccurrences(clauses, occs);
+        addOccurrences(learnts, occs);
+        int[] marks = new int[n2];
+        int[] lits = new int[2];
+        int stamp = 0;
+        for (int l : implies_.keys()) {
+            TIntArrayList imp = implies_.get(l);
+            // a binary clause appears twice in implies_
+            for (int i = 0; i < imp.size(); i++) {
+                if (negated(l) < imp.getQuick(i)) {
+                    lits[0] = negated(l);
+                    lits[1] = imp.getQuick(i);
+                    subsumeWith(-1, lits, 2, occs, marks, ++stamp);
+                }
+            }
+        }
+        for (int k = 0; k < clauses.size(); k++) {
+            int cr = clauses.getQuick(k);
+            if (!isDeleted(cr)) {
+                int n = arena_[cr];
+                if (lits.length < n) {
+                    lits = new int[n];
+                }
+                System.arraycopy(arena_, cr + HEADER, lits, 0, n);
+                subsumeWith(cr, lits, n, occs, marks, ++stamp);
+            }
+        }
+        // binary clauses created by strengthening may subsume or strengthen other clauses
+        while (!new_binaries_.isEmpty()) {
+            int n = new_binaries_.size();
+            lits[0] = new_binaries_.getQuick(n - 2);
+            lits[1] = new_binaries_.getQuick(n - 1);
+            new_binaries_.remove(n - 2, 2);
+            subsumeWith(-1, lits, 2, occs, marks, ++stamp);
+        }
+    }
+
+    private void addOccurrences(TIntArrayList crs, TIntArrayList[] occs) {
+        for (int k = 0; k < crs.size(); k++) {
+            int cr = crs.getQuick(k);
+            if (!isDeleted(cr)) {
+                for (int i = 0; i < arena_[cr]; i++) {
+                    occs[arena_[cr + HEADER + i]].add(cr);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the clauses subsumed by <i>lits</i> and strengthen the ones it self-subsumes.
+     * @param cr reference of the clause made of <i>lits</i>, or -1 for binary clauses
+     * @param lits literals of the subsuming clause
+     * @param n number of literals
+     * @param occs occurrence lists
+     * @param marks marked literals
+     * @param stamp current mark
+     */
+    private void subsumeWith(int cr, int[] lits, int n, TIntArrayList[] occs, int[] marks, int stamp) {
+        int best = lits[0];
+        for (int i = 0; i < n; i++) {
+            marks[lits[i]] = stamp;
+            if (occs[lits[i]].size() + occs[negated(lits[i])].size()
+                    < occs[best].size() + occs[negated(best)].size()) {
+                best = lits[i];
+            }
+        }
+        subsumeWith(cr, n, occs[best], marks, stamp);
+        subsumeWith(cr, n, occs[negated(best)], marks, stamp);
+    }
+
+    private void subsumeWith(int cr, int n, TIntArrayList candidates, int[] marks, int stamp) {
+        for (int k = 0; k < candidates.size(); k++) {
+            int d = candidates.getQuick(k);
+            if (d == cr || isDeleted(d) || arena_[d] < n) continue;
+            int match = 0;
+            int flip = -1;
+            for (int i = 0; i < arena_[d] && match + (flip >= 0 ? 1 : 0) + arena_[d] - i >= n; i++) {
+                int l = arena_[d + HEADER + i];
+                if (marks[l] == stamp) {
+                    match++;
+                } else if (marks[negated(l)] == stamp) {
+                    if (flip >= 0) break;
+                    flip = i;
+                }
+            }
+            if (match == n) {
+                deleteClause(d);
+            } else if (match == n - 1 && flip >= 0) {
+                removeLiteral(d, flip);
+            }
+        }
+    }
+
+    /**
+     * Remove deleted clauses from <i>crs</i> and attach the other ones.
+     * @param crs clause references
+     */
+    private void reattach(TIntArrayList crs) {
+        int j = 0;
+        for (int k = 0; k < crs.size(); k++) {
+            int cr = crs.getQuick(k);
+            if (!isDeleted(cr)) {
+                crs.setQuick(j++, cr);
+                attachClause(cr);
+            }
+        }
+        crs.remove(j, crs.size() - j);
+    }
+
+    /**
+     * Failed-literal probing on literals with implications.
+     * @return <tt>false</tt> if the clause database is proven unsatisfiable
+     */
+    private boolean probe() {
+        TIntArrayList facts = new TIntArrayList();
+        facts.addAll(touched_variables_);
+        for (int l : implies_.keys()) {
+            if (valueLit(l) != Boolean.kUndefined) continue;
+            boolean failed = !propagateOneLiteral(l);
+            cancelUntil(0);
+            touched_variables_.resetQuick();
+            touched_variables_.addAll(facts);
+            if (failed) {
+                uncheckedEnqueue(negated(l));
+                if (!propagate()) {
+                    return false;
+                }
+                facts.resetQuick();
+                facts.addAll(touched_variables_);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Vivify the learnt clauses of (at least) three literals.
+     * Must be called at level 0, that is, when {@link #trailMarker()} is 0.
+     * <p>
+     * Each clause is detached, then the negations of its literals are assigned one after the other and propagated:
+     * <ul>
+     *     <li>a literal that becomes false is removed,</li>
+     *     <li>when a literal becomes true, the following ones are removed,</li>
+     *     <li>on failure, the literals not yet assigned are removed.</li>
+     * </ul>
+     * Clauses satisfied at level 0 are removed, clauses reduced to two literals are moved to the implication lists.
+     * Facts deduced are reported in {@link #touched_variables_}.
+     *
+     * @return the number of literals removed, {@link #ok_} is set to <tt>false</tt>
+     * if the clause database is proven unsatisfiable
+     */
+    public int vivify() {
+        assert trailMarker() == 0;
+        if (!ok_ || !propagate()) {
+            ok_ = false;
+            return 0;
+        }
+        TIntArrayList facts = new TIntArrayList();
+        facts.addAll(touched_variables_);
+        int removed = 0;
+        int[] lits = new int[8];
+        for (int k = 0; k < learnts.size() && ok_; k++) {
+            int cr = learnts.getQuick(k);
+            int n = arena_[cr];
+            if (n < 3) continue;
+            if (lits.length < n) {
+                lits = new int[n];
+            }
+            System.arraycopy(arena_, cr + HEADER, lits, 0, n);
+            removeWatch(negated(lits[0]), cr);
+            removeWatch(negated(lits[1]), cr);
+            int j = 0;
+            boolean satisfied = false;
+            for (int i = 0; i < n; i++) {
+                int l = lits[i];
+                Boolean b = valueLit(l);
+                if (b == Boolean.kTrue) {
+                    if (level_[var(l)] == 0) {
+                        satisfied = true;
+                    } else {
+                        lits[j++] = l;
+                    }
+                    break;
+                } else if (b == Boolean.kUndefined) {
+                    lits[j++] = l;
+                    if (i < n - 1) {
+                        pushTrailMarker();
+                        uncheckedEnqueue(negated(l));
+                        if (!propagate()) {
+                            break;
+                        }
+                    }
+                }
+            }
+            cancelUntil(0);
+            touched_variables_.resetQuick();
+            touched_variables_.addAll(facts);
+            if (satisfied) {
+                deleteClause(cr);
+                continue;
+            }
+            removed += n - j;
+            switch (j) {
+                case 0:
+                    ok_ = false;
+                    deleteClause(cr);
+                    break;
+                case 1:
+                    deleteClause(cr);
+                    uncheckedEnqueue(lits[0]);
+                    ok_ = propagate();
+                    facts.resetQuick();
+                    facts.addAll(touched_variables_);
+                    break;
+                case 2:
+                    deleteClause(cr);
+                    addBinary(lits[0], lits[1]);
+                    break;
+                default:
+                    if (j < n) {
+                        System.arraycopy(lits, 0, arena_, cr + HEADER, j);
+                        arena_[cr] = j;
+                        wasted_ += n - j;
+                        if (tagging_) {
+                            arena_[cr + INFO] |= TAGGED;
+                        }
+                    }
+                    attachClause(cr);
+                    break;
+            }
+        }
+        int j = 0;
+        for (int k = 0; k < learnts.size(); k++) {
+            int cr = learnts.getQuick(k);
+            if (!isDeleted(cr)) {
+                learnts.setQuick(j++, cr);
+            }
+        }
+        learnts.remove(j, learnts.size() - j);
+        checkGarbage();
+        return removed;
     }
 
     // Perform unit propagation. returns true upon success.
@@ -356,48 +1313,47 @@ public class SatSolver implements SatFactory {
     private boolean propagateClauses(int p) {
         boolean result = true;
         // 'p' is enqueued fact to propagate.
-        ArrayList<Watcher> ws = watches_.get(p);
+        int[] ws = watches_[p];
+        int n = watchesSize_[p];
+        final int false_lit = negated(p);
 
         int i = 0;
         int j = 0;
-        while (ws != null && i < ws.size()) {
+        while (i < n) {
             // Try to avoid inspecting the clause:
-            int blocker = ws.get(i).blocker;
+            int cr = ws[i];
+            int blocker = ws[i + 1];
+            i += 2;
             if (valueLit(blocker) == Boolean.kTrue) {
-                ws.set(j++, ws.get(i++));
+                ws[j++] = cr;
+                ws[j++] = blocker;
                 continue;
             }
 
             // Make sure the false literal is data[1]:
-            Clause cr = ws.get(i).clause;
-            final int false_lit = negated(p);
-            if (cr._g(0) == false_lit) {
-                cr._s(0, cr._g(1));
-                cr._s(1, false_lit);
+            int c = cr + HEADER;
+            if (arena_[c] == false_lit) {
+                arena_[c] = arena_[c + 1];
+                arena_[c + 1] = false_lit;
             }
-            assert (cr._g(1) == false_lit);
-            i++;
+            assert (arena_[c + 1] == false_lit);
 
             // If 0th watch is true, then clause is already satisfied.
-            final int first = cr._g(0);
-            Watcher w = new Watcher(cr, first);
+            final int first = arena_[c];
             if (first != blocker && valueLit(first) == Boolean.kTrue) {
-                ws.set(j++, w);
+                ws[j++] = cr;
+                ws[j++] = first;
                 continue;
             }
 
             // Look for new watch:
             boolean cont = false;
-            for (int k = 2; k < cr.size(); k++) {
-                if (valueLit(cr._g(k)) != Boolean.kFalse) {
-                    cr._s(1, cr._g(k));
-                    cr._s(k, false_lit);
-                    ArrayList<Watcher> lw = watches_.get(negated(cr._g(1)));
-                    if (lw == null) {
-                        lw = new ArrayList<>();
-                        watches_.put(negated(cr._g(1)), lw);
-                    }
-                    lw.add(w);
+            for (int k = c + 2, end = c + arena_[cr]; k < end; k++) {
+                if (valueLit(arena_[k]) != Boolean.kFalse) {
+                    arena_[c + 1] = arena_[k];
+                    arena_[k] = false_lit;
+                    // cannot be 'ws', since the new watched literal is not false
+                    addWatch(negated(arena_[c + 1]), cr, first);
                     cont = true;
                     break;
                 }
@@ -405,25 +1361,27 @@ public class SatSolver implements SatFactory {
 
             // Did not find watch -- clause is unit under assignment:
             if (!cont) {
-                ws.set(j++, w);
+                ws[j++] = cr;
+                ws[j++] = first;
+                bumpClause(cr);
                 if (valueLit(first) == Boolean.kFalse) {
                     result = false;
                     qhead_ = trail_.size();
                     // Copy the remaining watches_:
-                    while (i < ws.size()) {
-                        ws.set(j++, ws.get(i++));
+                    while (i < n) {
+                        ws[j++] = ws[i++];
                     }
                     touched_variables_.add(first);
+                    conflict_.resetQuick();
+                    for (int k = c, end = c + arena_[cr]; k < end; k++) {
+                        conflict_.add(arena_[k]);
+                    }
                 } else {
-                    uncheckedEnqueue(first);
+                    uncheckedEnqueue(first, cr);
                 }
             }
         }
-        if (ws != null) {
-            if (ws.size() > j) {
-                ws.subList(j, ws.size()).clear();
-            }
-        }
+        watchesSize_[p] = j;
         return result;
     }
 
@@ -431,8 +1389,11 @@ public class SatSolver implements SatFactory {
         TIntList to_add = implies_.get(p);
         if (to_add != null) {
             for (int i = 0; i < to_add.size(); ++i) {
-                if (!enqueue(to_add.get(i))) {
+                if (!enqueue(to_add.get(i), NO_REASON - 1 - p)) {
                     touched_variables_.add(to_add.get(i));
+                    conflict_.resetQuick();
+                    conflict_.add(negated(p));
+                    conflict_.add(to_add.get(i));
                     return false;
                 }
             }
@@ -493,64 +1454,6 @@ public class SatSolver implements SatFactory {
     }
 
 
-    /**
-     * Clause -- a simple class for representing a clause
-     * <br/>
-     *
-     * @author Charles Prud'homme, Laurent Perron
-     * @since 12/07/13
-     */
-    public static class Clause {
-        private int[] literals_;
-
-        Clause(int[] ps) {
-            literals_ = ps.clone();
-        }
-
-        public int size() {
-            return literals_.length;
-        }
-
-        public int _g(int i) {
-            return literals_[i];
-        }
-
-        int _s(int pos, int l) {
-            return literals_[pos] = l;
-        }
-
-        int pos(int l) {
-            int i = literals_.length - 1;
-            while (i >= 0 && literals_[i] != l) {
-                i--;
-            }
-            return i;
-        }
-
-        public String toString() {
-            return Arrays.toString(literals_);
-        }
-    }
-
-    /**
-     * // A watcher represent a clause attached to a literal.
-     * <br/>
-     * (or-tools, booleans.cc, ty L. Perron).
-     *
-     * @author Charles Prud'homme
-     * @since 12/07/13
-     */
-    static class Watcher {
-
-        Clause clause;
-        int blocker;
-
-        Watcher(final Clause cr, int l) {
-            this.clause = cr;
-            this.blocker = l;
-        }
-    }
-
     /**
      * <br/>
      * (or-tools, booleans.cc, ty L. Perron).
@@ -609,28 +1512,28 @@ public class SatSolver implements SatFactory {
             }
             tl.addAll(o.implies_.get(k));
         }
-        final HashMap<Clause, Clause> map = new HashMap<>();
-        this.clauses.clear();
-        for (Clause cl : o.clauses) {
-            Clause _cl = new Clause(cl.literals_);
-            map.put(cl, _cl);
-            this.clauses.add(_cl);
-        }
-        this.learnts.clear();
-        for (Clause cl : o.learnts) {
-            Clause _cl = new Clause(cl.literals_);
-            map.put(cl, _cl);
-            this.learnts.add(_cl);
-        }
-        this.watches_.clear();
-        for (int k : o.watches_.keys()) {
-            ArrayList<Watcher> ws = o.watches_.get(k);
-            ArrayList<Watcher> _ws = new ArrayList<>(ws.size());
-            for (Watcher w : ws) {
-                _ws.add(new Watcher(map.get(w.clause), w.blocker));
+        this.arena_ = Arrays.copyOf(o.arena_, o.arena_.length);
+        this.arenaTop_ = o.arenaTop_;
+        this.wasted_ = o.wasted_;
+        this.clauses.resetQuick();
+        this.clauses.addAll(o.clauses);
+        this.learnts.resetQuick();
+        this.learnts.addAll(o.learnts);
+        this.watches_ = new int[o.watches_.length][];
+        for (int l = 0; l < o.watches_.length; l++) {
+            if (o.watches_[l] != null) {
+                this.watches_[l] = o.watches_[l].clone();
             }
-            this.watches_.put(k, _ws);
         }
+        this.watchesSize_ = o.watchesSize_.clone();
+        this.level_ = o.level_.clone();
+        this.reason_ = o.reason_.clone();
+        this.clauseInc_ = o.clauseInc_;
+        this.tagging_ = o.tagging_;
+        this.tagged_binaries_.resetQuick();
+        this.tagged_binaries_.addAll(o.tagged_binaries_);
+        this.tagged_facts_ = o.tagged_facts_;
+        this.tagged_ok_ = o.tagged_ok_;
     }
 
     public long nbclauses() {
@@ -69,7 +69,22 @@ public class SatSolverTest {
 
     @Test(groups = "1s")
     public void testLearnClause() throws Exception {
-
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        Assert.assertTrue(sat.learnClause(cp, ap, bp));
+        Assert.assertEquals(sat.clauses.size(), 0);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        int cr = sat.learnts.get(0);
+        Assert.assertEquals(sat.clauseSize(cr), 3);
+        Assert.assertEquals(sat.clauseLiteral(cr, 0), ap);
+        Assert.assertEquals(sat.clauseLiteral(cr, 1), bp);
+        Assert.assertEquals(sat.clauseLiteral(cr, 2), cp);
+        Assert.assertEquals(sat.clauseLBD(cr), 1);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(bp)));
+        Assert.assertEquals(sat.valueVar(c), SatSolver.Boolean.kFalse);
+        Assert.assertTrue(sat.clauseActivity(cr) > 1f);
     }
 
     @Test(groups = "1s")
@@ -351,7 +366,381 @@ public class SatSolverTest {
 
     @Test(groups = "1s")
     public void testDetachLearnt() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.learnClause(ap, bp, cp);
+        sat.learnClause(ap, bp, dp);
+        sat.learnClause(bp, cp, dp);
+        sat.detachLearnt(0);
+        sat.detachLearnt(0);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        int cr = sat.learnts.get(0);
+        // the arena has been compacted
+        Assert.assertEquals(cr, 0);
+        Assert.assertEquals(sat.clauseLiteral(cr, 0), bp);
+        Assert.assertEquals(sat.clauseLiteral(cr, 2), dp);
+        // the detached clause does not propagate anymore
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(bp)));
+        Assert.assertEquals(sat.valueVar(c), SatSolver.Boolean.kUndefined);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(cp)));
+        Assert.assertEquals(sat.valueVar(d), SatSolver.Boolean.kFalse);
+    }
+
+    @Test(groups = "1s")
+    public void testReduceLearnts() throws Exception {
+        int[] vs = new int[12];
+        for (int i = 0; i < vs.length; i++) {
+            vs[i] = sat.newVariable();
+        }
+        // 'a' is set at level 1, 'b' at level 2, etc.
+        int[] ls = {a, b, c, d};
+        for (int l : ls) {
+            Assert.assertTrue(sat.propagateOneLiteral(SatSolver.makeLiteral(l, false)));
+        }
+        // LBD 2: the level of a + the upcoming one
+        sat.learnClause(SatSolver.makeLiteral(a, true), SatSolver.makeLiteral(vs[0], true), SatSolver.makeLiteral(vs[1], true));
+        Assert.assertEquals(sat.clauseLBD(sat.learnts.get(0)), 2);
+        for (int i = 0; i < 4; i++) {
+            sat.learnClause(SatSolver.makeLiteral(a, true), SatSolver.makeLiteral(b, true),
+                    SatSolver.makeLiteral(c, true), SatSolver.makeLiteral(vs[2 + 2 * i], true),
+                    SatSolver.makeLiteral(vs[3 + 2 * i], true));
+            Assert.assertEquals(sat.clauseLBD(sat.learnts.get(i + 1)), 4);
+        }
+        sat.reduceLearnts();
+        // the glue clause is kept, then half of the others, the most active ones
+        Assert.assertEquals(sat.nLearnt(), 3);
+        Assert.assertEquals(sat.clauseLBD(sat.learnts.get(0)), 2);
+        Assert.assertEquals(sat.clauseLiteral(sat.learnts.get(0), 1), SatSolver.makeLiteral(vs[0], true));
+        Assert.assertEquals(sat.clauseLiteral(sat.learnts.get(1), 3), SatSolver.makeLiteral(vs[6], true));
+        Assert.assertEquals(sat.clauseLiteral(sat.learnts.get(2), 3), SatSolver.makeLiteral(vs[8], true));
+        // remaining clauses still propagate
+        sat.cancelUntil(0);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.makeLiteral(a, false)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.makeLiteral(vs[0], false)));
+        Assert.assertEquals(sat.valueVar(vs[1]), SatSolver.Boolean.kFalse);
+    }
+
+    @Test(groups = "1s")
+    public void testReasonOf() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.addClause(ap, bp, cp);
+        sat.addClause(SatSolver.negated(cp), dp);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(bp)));
+        Assert.assertTrue(sat.isTrue(cp));
+        Assert.assertTrue(sat.isTrue(dp));
+        Assert.assertEquals(sat.levelOf(cp), 2);
+        TIntArrayList out = new TIntArrayList();
+        // enqueued from outside
+        Assert.assertFalse(sat.reasonOf(SatSolver.negated(bp), out));
+        // forced by a clause
+        Assert.assertTrue(sat.reasonOf(cp, out));
+        out.sort();
+        Assert.assertEquals(out.size(), 2);
+        Assert.assertEquals(out.get(0), ap);
+        Assert.assertEquals(out.get(1), bp);
+        // forced by a binary clause
+        out.resetQuick();
+        Assert.assertTrue(sat.reasonOf(dp, out));
+        Assert.assertEquals(out.size(), 1);
+        Assert.assertEquals(out.get(0), SatSolver.negated(cp));
+        // not true anymore
+        sat.cancelUntil(1);
+        out.resetQuick();
+        Assert.assertFalse(sat.reasonOf(cp, out));
+        Assert.assertTrue(out.isEmpty());
+    }
+
+    @Test(groups = "1s")
+    public void testReasonOfAfterGarbageCollection() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.learnClause(ap, cp, dp);
+        sat.learnClause(ap, bp, cp);
+        sat.learnClause(bp, cp, dp);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(bp)));
+        Assert.assertTrue(sat.isTrue(cp));
+        // a locked clause is kept on reduction
+        sat.reduceLearnts();
+        Assert.assertEquals(sat.nLearnt(), 3);
+        sat.detachLearnt(0);
+        sat.detachLearnt(1);
+        // the arena has been compacted
+        Assert.assertEquals(sat.learnts.get(0), 0);
+        TIntArrayList out = new TIntArrayList();
+        Assert.assertTrue(sat.reasonOf(cp, out));
+        out.sort();
+        Assert.assertEquals(out.size(), 2);
+        Assert.assertEquals(out.get(0), ap);
+        Assert.assertEquals(out.get(1), bp);
+    }
+
+    @Test(groups = "1s")
+    public void testConflictOf() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        sat.addClause(ap, bp, cp);
+        sat.addClause(ap, bp, SatSolver.negated(cp));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertFalse(sat.propagateOneLiteral(SatSolver.negated(bp)));
+        TIntArrayList out = new TIntArrayList();
+        Assert.assertTrue(sat.conflictOf(out));
+        Assert.assertEquals(out.size(), 3);
+        for (int i = 0; i < out.size(); i++) {
+            Assert.assertTrue(sat.isFalse(out.get(i)));
+        }
+        // the conflict is forgotten on backtrack
+        sat.cancelUntil(1);
+        out.resetQuick();
+        Assert.assertFalse(sat.conflictOf(out));
+    }
+
+    @Test(groups = "1s")
+    public void testMinimize() throws Exception {
+        int e = sat.newVariable();
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        int ep = SatSolver.makeLiteral(e, true);
+        // 'e' is false at level 0, '!a' implies '!b' and '!b' and '!c' imply '!d'
+        sat.addClause(SatSolver.negated(ep));
+        sat.addClause(ap, SatSolver.negated(bp));
+        sat.addClause(bp, cp, SatSolver.negated(dp));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(cp)));
+        Assert.assertTrue(sat.isFalse(dp));
+        int[] ps = {ap, bp, cp, dp, ep};
+        int[] min = sat.minimize(ps);
+        Assert.assertEquals(min.length, 2);
+        Assert.assertEquals(min[0], ap);
+        Assert.assertEquals(min[1], cp);
+        Assert.assertEquals(ps.length, 5);
+        // the reason of '!b' is not in the clause
+        ps = new int[]{bp, cp};
+        Assert.assertSame(sat.minimize(ps), ps);
+        // undefined literals are kept
+        sat.cancelUntil(1);
+        ps = new int[]{ap, bp, dp};
+        min = sat.minimize(ps);
+        Assert.assertEquals(min.length, 2);
+        Assert.assertEquals(min[0], ap);
+        Assert.assertEquals(min[1], dp);
+    }
+
+    @Test(groups = "1s")
+    public void testVivify() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.addClause(ap, SatSolver.negated(bp));
+        // '!a' implies '!b', so 'b' is removed
+        sat.learnClause(ap, bp, cp, dp);
+        Assert.assertEquals(sat.vivify(), 1);
+        Assert.assertTrue(sat.ok_);
+        Assert.assertEquals(sat.trailMarker(), 0);
+        Assert.assertTrue(sat.touched_variables_.isEmpty());
+        Assert.assertEquals(sat.nLearnt(), 1);
+        int cr = sat.learnts.get(0);
+        Assert.assertEquals(sat.clauseSize(cr), 3);
+        Assert.assertEquals(sat.clauseLiteral(cr, 0), ap);
+        Assert.assertEquals(sat.clauseLiteral(cr, 1), cp);
+        Assert.assertEquals(sat.clauseLiteral(cr, 2), dp);
+        // nothing more to remove
+        Assert.assertEquals(sat.vivify(), 0);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        // the clause still propagates
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(cp)));
+        Assert.assertTrue(sat.isTrue(dp));
+    }
+
+    @Test(groups = "1s")
+    public void testVivifyConflict() throws Exception {
+        int x = sat.newVariable();
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        int xp = SatSolver.makeLiteral(x, true);
+        sat.addClause(ap, bp, xp);
+        sat.addClause(ap, bp, SatSolver.negated(xp));
+        // '!a' and '!b' fail, so 'c' and 'd' are removed
+        sat.learnClause(ap, bp, cp, dp);
+        Assert.assertEquals(sat.vivify(), 2);
+        Assert.assertTrue(sat.ok_);
+        Assert.assertEquals(sat.trailMarker(), 0);
+        // the clause is now binary
+        Assert.assertEquals(sat.nLearnt(), 0);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.isTrue(bp));
+        Assert.assertEquals(sat.valueVar(c), SatSolver.Boolean.kUndefined);
+    }
+
+    @Test(groups = "1s")
+    public void testVivifyUnit() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.addClause(ap, bp);
+        sat.addClause(ap, SatSolver.negated(bp));
+        sat.learnClause(ap, cp, dp);
+        Assert.assertEquals(sat.vivify(), 2);
+        Assert.assertTrue(sat.ok_);
+        Assert.assertEquals(sat.nLearnt(), 0);
+        Assert.assertTrue(sat.isTrue(ap));
+        Assert.assertEquals(sat.touched_variables_.size(), 1);
+        Assert.assertEquals(sat.touched_variables_.get(0), ap);
+    }
 
+    @Test(groups = "1s")
+    public void testForgetUnusedLearnts() throws Exception {
+        int e = sat.newVariable();
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        int ep = SatSolver.makeLiteral(e, true);
+        sat.learnClause(ap, bp, cp);
+        sat.learnClause(bp, dp, ep);
+        Assert.assertEquals(sat.forgetUnusedLearnts(2), 0);
+        Assert.assertEquals(sat.clauseAge(sat.learnts.get(0)), 1);
+        // the first clause propagates, its age is reset
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(cp)));
+        Assert.assertTrue(sat.isTrue(bp));
+        Assert.assertEquals(sat.clauseAge(sat.learnts.get(0)), 0);
+        // the first clause is kept: it is the reason of 'b'
+        Assert.assertEquals(sat.forgetUnusedLearnts(1), 1);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        Assert.assertEquals(sat.clauseLiteral(sat.learnts.get(0), 0), bp);
+        sat.cancelUntil(0);
+        Assert.assertEquals(sat.forgetUnusedLearnts(SatSolver.MAX_AGE), 0);
+        Assert.assertEquals(sat.forgetUnusedLearnts(1), 1);
+        Assert.assertEquals(sat.nLearnt(), 0);
+    }
+
+    @Test(groups = "1s")
+    public void testRemoveTagged() throws Exception {
+        int e = sat.newVariable();
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        int ep = SatSolver.makeLiteral(e, true);
+        sat.learnClause(ap, bp, cp);
+        sat.startTagging();
+        sat.learnClause(bp, dp, ep);
+        sat.learnPermanentClause(ap, dp, ep);
+        Assert.assertEquals(sat.nLearnt(), 2);
+        Assert.assertEquals(sat.nClauses(), 1);
+        // permanent clauses are not forgotten
+        Assert.assertEquals(sat.forgetUnusedLearnts(1), 2);
+        Assert.assertEquals(sat.nClauses(), 1);
+        Assert.assertEquals(sat.removeTagged(), 1);
+        Assert.assertEquals(sat.nClauses(), 0);
+        // clauses are kept once tagging stops
+        sat.startTagging();
+        sat.learnClause(bp, dp, ep);
+        sat.stopTagging();
+        Assert.assertEquals(sat.removeTagged(), 0);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(bp)));
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(dp)));
+        Assert.assertTrue(sat.isTrue(ep));
+    }
+
+    @Test(groups = "1s")
+    public void testSimplifySubsumption() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.addClause(new TIntArrayList(new int[]{ap, bp, cp, dp}));
+        sat.addClause(ap, bp, cp);
+        sat.learnClause(ap, cp, dp);
+        Assert.assertTrue(sat.simplify());
+        Assert.assertEquals(sat.clauses.size(), 1);
+        Assert.assertEquals(sat.clauseSize(sat.clauses.get(0)), 3);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        sat.addClause(ap, bp);
+        Assert.assertTrue(sat.simplify());
+        Assert.assertEquals(sat.clauses.size(), 0);
+        Assert.assertEquals(sat.nLearnt(), 1);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(ap)));
+        Assert.assertEquals(sat.valueVar(b), SatSolver.Boolean.kFalse);
+    }
+
+    @Test(groups = "1s")
+    public void testSimplifyStrengthening() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.addClause(ap, bp, cp);
+        sat.addClause(new TIntArrayList(new int[]{SatSolver.negated(ap), bp, cp, dp}));
+        Assert.assertTrue(sat.simplify());
+        Assert.assertEquals(sat.clauses.size(), 2);
+        int cr = sat.clauses.get(1);
+        Assert.assertEquals(sat.clauseSize(cr), 3);
+        Assert.assertEquals(sat.clauseLiteral(cr, 0), bp);
+        Assert.assertEquals(sat.clauseLiteral(cr, 1), cp);
+        Assert.assertEquals(sat.clauseLiteral(cr, 2), dp);
+        // strengthening into a binary clause
+        sat.addClause(SatSolver.negated(bp), cp, dp);
+        Assert.assertTrue(sat.simplify());
+        Assert.assertEquals(sat.clauses.size(), 1);
+        Assert.assertEquals(sat.implies_.get(SatSolver.negated(cp)).get(0), dp);
+        Assert.assertTrue(sat.propagateOneLiteral(SatSolver.negated(cp)));
+        Assert.assertEquals(sat.valueVar(d), SatSolver.Boolean.kFalse);
+    }
+
+    @Test(groups = "1s")
+    public void testSimplifyRoot() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        int dp = SatSolver.makeLiteral(d, true);
+        sat.addClause(ap, bp, cp);
+        sat.addClause(new TIntArrayList(new int[]{SatSolver.negated(ap), bp, cp, dp}));
+        sat.addClause(ap);
+        Assert.assertTrue(sat.simplify());
+        Assert.assertEquals(sat.clauses.size(), 1);
+        Assert.assertEquals(sat.clauseSize(sat.clauses.get(0)), 3);
+        Assert.assertEquals(sat.clauseLiteral(sat.clauses.get(0), 0), bp);
+    }
+
+    @Test(groups = "1s")
+    public void testSimplifyProbing() throws Exception {
+        int ap = SatSolver.makeLiteral(a, true);
+        int bp = SatSolver.makeLiteral(b, true);
+        int cp = SatSolver.makeLiteral(c, true);
+        sat.addClause(SatSolver.negated(ap), bp);
+        sat.addClause(SatSolver.negated(ap), cp);
+        sat.addClause(SatSolver.negated(bp), SatSolver.negated(cp));
+        sat.initPropagator();
+        Assert.assertTrue(sat.simplify());
+        Assert.assertEquals(sat.valueLit(ap), SatSolver.Boolean.kFalse);
+        Assert.assertEquals(sat.trailMarker(), 0);
+        Assert.assertEquals(sat.touched_variables_.size(), 1);
+        Assert.assertEquals(sat.touched_variables_.get(0), SatSolver.negated(ap));
+        // the opposite is failing too
+        sat.addClause(ap, bp);
+        sat.addClause(ap, SatSolver.negated(bp));
+        Assert.assertFalse(sat.simplify());
+        Assert.assertFalse(sat.ok_);
     }
 
     @Test(groups = "1s")
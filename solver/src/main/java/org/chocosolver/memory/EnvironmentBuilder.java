@@ -9,6 +9,7 @@
  */
 package org.chocosolver.memory;
 
+import org.chocosolver.memory.copying.EnvironmentCopying;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.*;
 import org.chocosolver.memory.trailing.trail.chunck.*;
@@ -178,6 +179,16 @@ public class EnvironmentBuilder {
         return env;
     }
 
+    /**
+     * Build an environment which restores primitives by copy instead of trailing,
+     * the trails declared in this builder are ignored.
+     * @return the resulting environment
+     * @see EnvironmentCopying
+     */
+    public EnvironmentCopying buildCopying(){
+        return new EnvironmentCopying(worldsize, worldnumber, loadfactor);
+    }
+
     /**
      * Build a chunk environment
      * @return {@code this}
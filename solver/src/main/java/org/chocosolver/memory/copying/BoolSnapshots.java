@@ -0,0 +1,134 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStorage;
+
+import java.util.Arrays;
+
+/**
+ * Snapshots of all the {@link CopiedBool} of an environment.
+ * <p>
+ * The current values are mirrored in a contiguous array, which is copied as a whole on each world push.
+ * On world pop, the snapshot is compared to the mirror and only the modified elements are restored.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class BoolSnapshots implements IStorage {
+
+    /**
+     * The load factor to grow the structures.
+     */
+    private final double loadfactor;
+
+    /**
+     * The registered elements.
+     */
+    private CopiedBool[] elements;
+
+    /**
+     * Current value of each element, by index.
+     */
+    boolean[] values;
+
+    /**
+     * Number of registered elements.
+     */
+    private int size;
+
+    /**
+     * Copy of {@link #values} at the beginning of each world.
+     */
+    private boolean[][] snapshots;
+
+    /**
+     * Number of elements copied in each snapshot.
+     */
+    private int[] sizes;
+
+    /**
+     * Create the snapshots of CopiedBool.
+     *
+     * @param nElements  initial number of elements
+     * @param nWorlds    initial number of worlds
+     * @param loadfactor load factor
+     */
+    BoolSnapshots(int nElements, int nWorlds, double loadfactor) {
+        this.loadfactor = loadfactor;
+        this.elements = new CopiedBool[nElements];
+        this.values = new boolean[nElements];
+        this.snapshots = new boolean[nWorlds][];
+        this.sizes = new int[nWorlds];
+    }
+
+    /**
+     * Register a new element.
+     *
+     * @param element the element
+     * @param value   its initial value
+     * @param history the element is considered to hold <i>value</i> in worlds 1 to <i>history</i>
+     * @return the index of the element
+     */
+    int register(CopiedBool element, boolean value, int history) {
+        if (size == elements.length) {
+            int n = Math.max(size + 1, (int) (size * loadfactor));
+            elements = Arrays.copyOf(elements, n);
+            values = Arrays.copyOf(values, n);
+        }
+        elements[size] = element;
+        values[size] = value;
+        for (int w = 1; w <= history; w++) {
+            boolean[] snapshot = snapshots[w];
+            if (snapshot.length <= size) {
+                snapshots[w] = snapshot = Arrays.copyOf(snapshot, values.length);
+            }
+            for (int i = sizes[w]; i < size; i++) {
+                snapshot[i] = values[i];
+            }
+            snapshot[size] = value;
+            sizes[w] = size + 1;
+        }
+        return size++;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        if (worldIndex == snapshots.length) {
+            int n = Math.max(worldIndex + 1, (int) (worldIndex * loadfactor));
+            snapshots = Arrays.copyOf(snapshots, n);
+            sizes = Arrays.copyOf(sizes, n);
+        }
+        boolean[] snapshot = snapshots[worldIndex];
+        if (snapshot == null || snapshot.length < size) {
+            snapshots[worldIndex] = snapshot = new boolean[values.length];
+        }
+        System.arraycopy(values, 0, snapshot, 0, size);
+        sizes[worldIndex] = size;
+    }
+
+    @Override
+    public void worldPop(int worldIndex) {
+        boolean[] snapshot = snapshots[worldIndex];
+        int n = sizes[worldIndex];
+        for (int i = 0; i < n; i++) {
+            boolean v = snapshot[i];
+            if (values[i] != v) {
+                values[i] = v;
+                elements[i]._set(v, worldIndex - 1);
+            }
+        }
+    }
+
+    @Override
+    public void worldCommit(int worldIndex) {
+        // the snapshot of the previous world remains valid
+    }
+}
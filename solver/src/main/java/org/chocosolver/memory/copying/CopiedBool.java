@@ -0,0 +1,51 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateBool;
+
+/**
+ * A {@link IStateBool} restored by copy, see {@link EnvironmentCopying}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CopiedBool extends IStateBool {
+
+    /**
+     * The snapshots this belongs to.
+     */
+    private final BoolSnapshots snapshots;
+
+    /**
+     * Index of this in {@link #snapshots}.
+     */
+    private final int index;
+
+    /**
+     * Create a boolean restored by copy.
+     *
+     * @param env the copying environment
+     * @param i   the initial value
+     */
+    public CopiedBool(final EnvironmentCopying env, final boolean i) {
+        super(env, i);
+        this.snapshots = env.getBoolSnapshots();
+        this.index = snapshots.register(this, i, env.fakeHistoryNeeded() ? env.getWorldIndex() : 0);
+    }
+
+    @Override
+    public final void set(final boolean y) {
+        if (y != currentValue) {
+            currentValue = y;
+            snapshots.values[index] = y;
+        }
+    }
+}
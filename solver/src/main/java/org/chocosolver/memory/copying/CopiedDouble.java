@@ -0,0 +1,51 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateDouble;
+
+/**
+ * A {@link IStateDouble} restored by copy, see {@link EnvironmentCopying}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class CopiedDouble extends IStateDouble {
+
+    /**
+     * The snapshots this belongs to.
+     */
+    private final DoubleSnapshots snapshots;
+
+    /**
+     * Index of this in {@link #snapshots}.
+     */
+    private final int index;
+
+    /**
+     * Create a double restored by copy.
+     *
+     * @param env the copying environment
+     * @param i   the initial value
+     */
+    public CopiedDouble(final EnvironmentCopying env, final double i) {
+        super(env, i);
+        this.snapshots = env.getDoubleSnapshots();
+        this.index = snapshots.register(this, i, env.fakeHistoryNeeded() ? env.getWorldIndex() : 0);
+    }
+
+    @Override
+    public final void set(final double y) {
+        if (y != currentValue) {
+            currentValue = y;
+            snapshots.values[index] = y;
+        }
+    }
+}
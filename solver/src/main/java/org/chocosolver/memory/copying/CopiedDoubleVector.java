@@ -0,0 +1,82 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.IStateDoubleVector;
+
+/**
+ * A {@link IStateDoubleVector} for {@link EnvironmentCopying}.
+ * Vectors are scarcely used, so, instead of being copied, their modifications are saved as operations.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class CopiedDoubleVector extends IStateDoubleVector {
+
+    /**
+     * Create a vector.
+     *
+     * @param env          the copying environment
+     * @param initialSize  initial size of the vector
+     * @param initialValue initial value of each element
+     */
+    public CopiedDoubleVector(EnvironmentCopying env, int initialSize, double initialValue) {
+        super(env, initialSize, initialValue);
+    }
+
+    /**
+     * Ensure the capacity of the vector.
+     *
+     * @param minCapacity the minimal capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        int oldCapacity = elementData.length;
+        if (minCapacity > oldCapacity) {
+            double[] oldData = elementData;
+            int newCapacity = (oldCapacity * 3) / 2 + 1;
+            if (newCapacity < minCapacity)
+                newCapacity = minCapacity;
+            elementData = new double[newCapacity];
+            System.arraycopy(oldData, 0, elementData, 0, size.get());
+        }
+    }
+
+    /**
+     * Adds a new element at the end of the vector.
+     *
+     * @param i the element to add
+     */
+    public void add(double i) {
+        int newsize = size.get() + 1;
+        ensureCapacity(newsize);
+        size.set(newsize);
+        elementData[newsize - 1] = i;
+    }
+
+    /**
+     * Removes the last element of the vector.
+     */
+    public void removeLast() {
+        int newsize = size.get() - 1;
+        if (newsize >= 0)
+            size.set(newsize);
+    }
+
+    @Override
+    public double quickSet(int index, double val) {
+        assert (rangeCheck(index));
+        final double oldValue = elementData[index];
+        if (val != oldValue) {
+            environment.save(() -> elementData[index] = oldValue);
+            elementData[index] = val;
+        }
+        return oldValue;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.memory.copying;
+
+import org.chocosolver.memory.*;
+import org.chocosolver.memory.structure.IOperation;
+import org.chocosolver.memory.trailing.trail.IOperationTrail;
+import org.chocosolver.memory.trailing.trail.flatten.OperationTrail;
+
+/**
+ * An environment which restores backtrackable primitives by copy instead of trailing.
+ * <p>
+ * The current values of {@link IStateInt}, {@link IStateLong}, {@link IStateBool} and {@link IStateDouble}
+ * are mirrored in one contiguous array per type.
+ * On {@link #worldPush()}, each array is copied as a whole with {@link System#arraycopy}.
+ * On {@link #worldPop()}, each snapshot is compared to the current values and only the modified
+ * primitives are restored.
+ * Operations (see {@link #save(IOperation)}) and vectors are still trailed.
+ * <p>
+ * A world push costs the number of primitives, whatever the number of modifications,
+ * and each world keeps a copy of all primitives.
+ * This pays off when a large part of the primitives is modified at each node,
+ * otherwise {@link org.chocosolver.memory.trailing.EnvironmentTrailing} should be preferred.
+ * <p>
+ * It can be built with {@link EnvironmentBuilder#buildCopying()}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class EnvironmentCopying extends AbstractEnvironment {
+
+    private final IntSnapshots intSnapshots;
+    private final LongSnapshots longSnapshots;
+    private final BoolSnapshots boolSnapshots;
+    private final DoubleSnapshots doubleSnapshots;
+    private final IOperationTrail operationTrail;
+
+    /**
+     * Contains all the {@link IStorage} for storing different kinds of data.
+     */
+    private final IStorage[] storages;
+
+    /**
+     * Create a copying environment.
+     *
+     * @param nElements  initial number of elements of each type
+     * @param nWorlds    initial number of worlds
+     * @param loadfactor load factor to grow the structures
+     */
+    public EnvironmentCopying(int nElements, int nWorlds, double loadfactor) {
+        intSnapshots = new IntSnapshots(nElements, nWorlds, loadfactor);
+        longSnapshots = new LongSnapshots(nElements, nWorlds, loadfactor);
+        boolSnapshots = new BoolSnapshots(nElements, nWorlds, loadfactor);
+        doubleSnapshots = new DoubleSnapshots(nElements, nWorlds, loadfactor);
+        operationTrail = new OperationTrail(nElements, nWorlds, loadfactor);
+        storages = new IStorage[]{intSnapshots, longSnapshots, boolSnapshots, doubleSnapshots, operationTrail};
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPush() {
+        timestamp++;
+        final int wi = currentWorld + 1;
+        for (int i = 0; i < storages.length; i++) {
+            storages[i].worldPush(wi);
+        }
+        currentWorld++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldPop() {
+        timestamp++;
+        final int wi = currentWorld;
+        for (int i = storages.length - 1; i >= 0; i--) {
+            storages[i].worldPop(wi);
+        }
+        currentWorld--;
+        assert currentWorld >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void worldCommit() {
+        if (currentWorld == 0) {
+            throw new IllegalStateException("Commit in world 0?");
+        }
+        final int wi = currentWorld;
+        for (int i = storages.length - 1; i >= 0; i--) {
+            storages[i].worldCommit(wi);
+        }
+        currentWorld--;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt() {
+        return makeInt(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateInt makeInt(final int initialValue) {
+        return new CopiedInt(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateBool makeBool(final boolean initialValue) {
+        return new CopiedBool(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateIntVector makeIntVector(final int size, final int initialValue) {
+        return new CopiedIntVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDoubleVector makeDoubleVector(final int size, final double initialValue) {
+        return new CopiedDoubleVector(this, size, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat() {
+        return makeFloat(Double.NaN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateDouble makeFloat(final double initialValue) {
+        return new CopiedDouble(this, initialValue);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong() {
+        return makeLong(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IStateLong makeLong(final long init) {
+        return new CopiedLong(this, init);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(IOperation operation) {
+        operationTrail.savePreviousState(operation);
+    }
+
+    IntSnapshots getIntSnapshots() {
+        return intSnapshots;
+    }
+
+    LongSnapshots getLongSnapshots() {
+        return longSnapshots;
+    }
+
+    BoolSnapshots getBoolSnapshots() {
+        return boolSnapshots;
+    }
+
+    DoubleSnapshots getDoubleSnapshots() {
+        return doubleSnapshots;
+    }
+}
@@ -20,60 +20,74 @@ import org.chocosolver.memory.trailing.trail.IStoredIntTrail;
  * @author Charles Prud'homme
  * @since 29/05/2016
  */
-public class ChunckedIntTrail extends ChunckedTrail<IntWorld> implements IStoredIntTrail {
+public class ChunckedIntTrail extends ChunckedTrail implements IStoredIntTrail {
 
-    private final int ws;
+    /**
+     * Stack of backtrackable search variables.
+     */
+    private StoredInt[] variableStack;
+
+    /**
+     * Stack of values (former values that need be restored upon backtracking).
+     */
+    private int[] valueStack;
 
     /**
-     * Load factor
+     * Stack of timestamps indicating the world where the former value
+     * had been written.
      */
-    private final double loadfactor;
+    private int[] stampStack;
 
     /**
      * Constructs a trail with predefined size and loadfactor
-     * @param ws the initial world size
+     * @param ws the initial number of updates
      * @param nbWorlds the initial number of worlds
      * @param loadfactor how to resize world
      */
     public ChunckedIntTrail(int ws, int nbWorlds, double loadfactor) {
-        worlds = new IntWorld[nbWorlds];
-        this.ws = ws;
-        this.loadfactor = loadfactor;
-        worlds[0] = current = new IntWorld(ws, loadfactor);
-    }
-
-    @Override
-    public void worldPush(int worldIndex) {
-        if (worlds[worldIndex] == null) {
-            current = new IntWorld(ws, loadfactor);
-            worlds[worldIndex] = current;
-        } else {
-            current = worlds[worldIndex];
-            current.clear();
-        }
-        if (worldIndex == worlds.length - 1) {
-            resizeWorlds();
-        }
-    }
-
-    private void resizeWorlds() {
-        int newCapacity = (int) (worlds.length * loadfactor);
-        IntWorld[] tmp = new IntWorld[newCapacity];
-        System.arraycopy(worlds, 0, tmp, 0, worlds.length);
-        worlds = tmp;
+        super(ws, nbWorlds, loadfactor);
+        int capacity = allocated();
+        variableStack = new StoredInt[capacity];
+        valueStack = new int[capacity];
+        stampStack = new int[capacity];
     }
 
     @Override
     public void savePreviousState(StoredInt v, int oldValue, int oldStamp) {
-        current.savePreviousState(v, oldValue, oldStamp);
+        int i = next();
+        valueStack[i] = oldValue;
+        variableStack[i] = v;
+        stampStack[i] = oldStamp;
     }
 
     @Override
     public void buildFakeHistory(StoredInt v, int initValue, int olderStamp) {
         // rewrite older states
         for (int w = olderStamp; w > 0; w--) {
-            IntWorld cur = worlds[w];
-            cur.savePreviousState(v, initValue, w - 1);
+            int i = next(w);
+            valueStack[i] = initValue;
+            variableStack[i] = v;
+            stampStack[i] = w - 1;
         }
     }
+
+    @Override
+    protected void revert(int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            variableStack[i]._set(valueStack[i], stampStack[i]);
+        }
+    }
+
+    @Override
+    protected void resizeUpdateCapacity(int newCapacity) {
+        final StoredInt[] tmp1 = new StoredInt[newCapacity];
+        System.arraycopy(variableStack, 0, tmp1, 0, variableStack.length);
+        variableStack = tmp1;
+        final int[] tmp2 = new int[newCapacity];
+        System.arraycopy(valueStack, 0, tmp2, 0, valueStack.length);
+        valueStack = tmp2;
+        final int[] tmp3 = new int[newCapacity];
+        System.arraycopy(stampStack, 0, tmp3, 0, stampStack.length);
+        stampStack = tmp3;
+    }
 }
@@ -18,51 +18,41 @@ import org.chocosolver.memory.trailing.trail.IOperationTrail;
  * @author Charles Prud'homme
  * @since 29/05/2016
  */
-public class ChunckedOperationTrail extends ChunckedTrail<OperationWorld> implements IOperationTrail {
-
-    private final int ws;
+public class ChunckedOperationTrail extends ChunckedTrail implements IOperationTrail {
 
     /**
-     * Load factor
+     * Stack of operations to undo upon backtracking.
      */
-    private final double loadfactor;
+    private IOperation[] valueStack;
 
     /**
      * Constructs a trail with predefined size and loadfactor
-     * @param ws the initial world size
+     * @param ws the initial number of updates
      * @param nbWorlds the initial number of worlds
      * @param loadfactor how to resize world
      */
     public ChunckedOperationTrail(int ws, int nbWorlds, double loadfactor) {
-            worlds = new OperationWorld[nbWorlds];
-            this.ws = ws;
-            this.loadfactor = loadfactor;
-            worlds[0] = current = new OperationWorld(ws, loadfactor);
+        super(ws, nbWorlds, loadfactor);
+        valueStack = new IOperation[allocated()];
     }
 
     @Override
-    public void worldPush(int worldIndex) {
-        if (worlds[worldIndex] == null) {
-            current = new OperationWorld(ws, loadfactor);
-            worlds[worldIndex] = current;
-        } else {
-            current = worlds[worldIndex];
-            current.clear();
-        }
-        if (worldIndex == worlds.length - 1) {
-            resizeWorlds();
-        }
+    public void savePreviousState(IOperation oldValue) {
+        int i = next();
+        valueStack[i] = oldValue;
     }
 
-    private void resizeWorlds() {
-        int newCapacity = (int) (worlds.length * loadfactor);
-        OperationWorld[] tmp = new OperationWorld[newCapacity];
-        System.arraycopy(worlds, 0, tmp, 0, worlds.length);
-        worlds = tmp;
+    @Override
+    protected void revert(int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            valueStack[i].undo();
+        }
     }
 
     @Override
-    public void savePreviousState(IOperation oldValue) {
-        current.savePreviousState(oldValue);
+    protected void resizeUpdateCapacity(int newCapacity) {
+        final IOperation[] tmp = new IOperation[newCapacity];
+        System.arraycopy(valueStack, 0, tmp, 0, valueStack.length);
+        valueStack = tmp;
     }
 }
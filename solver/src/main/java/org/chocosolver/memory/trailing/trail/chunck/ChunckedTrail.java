@@ -13,22 +13,89 @@ import org.chocosolver.memory.IStorage;
 
 /**
  * An abstract segmented trail.
+ * <p>
+ * Updates are stored in a single growable buffer per type, cut into fixed-size chunks.
+ * Each world owns a backward-linked list of chunks, so that updates can still be appended to an
+ * older world (see <code>buildFakeHistory</code>) without shifting the following ones.
+ * Chunks released by a world on backtrack are recycled by the next ones:
+ * once the deepest dive has been done, neither {@link #worldPush(int)} nor {@link #worldPop(int)}
+ * allocate anything.
+ *
  * @author Fabien Hermenier
  * @author Charles Prud'homme
  * @since 29/05/2016
  */
-public abstract class ChunckedTrail<W extends World> implements IStorage{
+public abstract class ChunckedTrail implements IStorage {
+
+    /**
+     * Log2 of the number of updates a chunk can store.
+     */
+    private static final int SHIFT = 6;
+
+    /**
+     * Number of updates a chunk can store.
+     */
+    protected static final int CHUNK_SIZE = 1 << SHIFT;
+
+    /**
+     * Load factor
+     */
+    private final double loadfactor;
+
+    /**
+     * For each world, the last chunk it uses, or -1 if it is empty.
+     */
+    private int[] tails;
 
     /**
-     * The worlds.
+     * For each chunk, the previous chunk of the same world (or the next free chunk), or -1.
      */
-    protected W[] worlds;
+    private int[] prevs;
+
+    /**
+     * For each chunk, the number of updates it stores.
+     */
+    private int[] sizes;
+
+    /**
+     * Head of the list of free chunks, or -1.
+     */
+    private int free;
+
+    /**
+     * Number of chunks already handed out at least once.
+     */
+    private int nbChunks;
 
     /**
      * The current world.
      */
-    protected W current;
+    private int current;
 
+    /**
+     * Constructs a trail with predefined size and loadfactor
+     * @param ws the initial number of updates
+     * @param nbWorlds the initial number of worlds
+     * @param loadfactor how to resize world
+     */
+    protected ChunckedTrail(int ws, int nbWorlds, double loadfactor) {
+        this.loadfactor = loadfactor;
+        int nc = Math.max(1, (ws + CHUNK_SIZE - 1) >> SHIFT);
+        this.prevs = new int[nc];
+        this.sizes = new int[nc];
+        this.tails = new int[Math.max(2, nbWorlds)];
+        this.tails[0] = -1;
+        this.free = -1;
+    }
+
+    @Override
+    public void worldPush(int worldIndex) {
+        current = worldIndex;
+        tails[worldIndex] = -1;
+        if (worldIndex == tails.length - 1) {
+            resizeWorlds();
+        }
+    }
 
     /**
      * Moving down to the previous world.
@@ -37,12 +104,17 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
      */
     @Override
     public void worldPop(int worldIndex) {
-        current.revert();
-        if (worldIndex > 0) {
-            current = worlds[worldIndex - 1];
-        }else {
-            current = null;
+        int c = tails[worldIndex];
+        while (c != -1) {
+            int from = c << SHIFT;
+            revert(from, from + sizes[c]);
+            int p = prevs[c];
+            prevs[c] = free;
+            free = c;
+            c = p;
         }
+        tails[worldIndex] = -1;
+        current = worldIndex - 1;
     }
 
     @Override
@@ -56,13 +128,72 @@ public abstract class ChunckedTrail<W extends World> implements IStorage{
      * @return a positive number
      */
     public int allocated() {
-        int n = 0;
-        for (World w : worlds) {
-            if (w != null) {
-                n += w.allocated();
+        return prevs.length << SHIFT;
+    }
+
+    /**
+     * @return the position in the buffer where the next update of the current world should be stored
+     */
+    protected final int next() {
+        return next(current);
+    }
+
+    /**
+     * @param world a world index, at most equal to the current one
+     * @return the position in the buffer where the next update of <i>world</i> should be stored
+     */
+    protected final int next(int world) {
+        int c = tails[world];
+        if (c == -1 || sizes[c] == CHUNK_SIZE) {
+            c = chunk(c);
+            tails[world] = c;
+        }
+        return (c << SHIFT) + sizes[c]++;
+    }
+
+    /**
+     * Restore the updates stored in [<i>from</i>, <i>to</i>), in reverse order.
+     * @param from first position (inclusive)
+     * @param to last position (exclusive)
+     */
+    protected abstract void revert(int from, int to);
+
+    /**
+     * Grow the buffers to <i>newCapacity</i> updates.
+     * @param newCapacity the new number of updates the buffers can store
+     */
+    protected abstract void resizeUpdateCapacity(int newCapacity);
+
+    private int chunk(int prev) {
+        int c = free;
+        if (c != -1) {
+            free = prevs[c];
+        } else {
+            c = nbChunks++;
+            if (c == prevs.length) {
+                resizeChunks();
             }
         }
-        return n;
+        prevs[c] = prev;
+        sizes[c] = 0;
+        return c;
     }
 
-}
\ No newline at end of file
+    private void resizeChunks() {
+        int newCapacity = Math.max(prevs.length + 1, (int) (prevs.length * loadfactor));
+        int[] tmp = new int[newCapacity];
+        System.arraycopy(prevs, 0, tmp, 0, prevs.length);
+        prevs = tmp;
+        tmp = new int[newCapacity];
+        System.arraycopy(sizes, 0, tmp, 0, sizes.length);
+        sizes = tmp;
+        resizeUpdateCapacity(newCapacity << SHIFT);
+    }
+
+    private void resizeWorlds() {
+        int newCapacity = Math.max(tails.length + 1, (int) (tails.length * loadfactor));
+        int[] tmp = new int[newCapacity];
+        System.arraycopy(tails, 0, tmp, 0, tails.length);
+        tails = tmp;
+    }
+}
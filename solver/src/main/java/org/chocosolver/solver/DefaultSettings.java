@@ -73,6 +73,12 @@ public class DefaultSettings implements Settings {
 
     private boolean enableSAT = false;
 
+    private boolean enableSATSimplification = false;
+
+    private boolean minimizeNogoods = false;
+
+    private int nogoodsMaxAge = 0;
+
     private boolean swapOnPassivate = false;
 
     private boolean checkDeclaredConstraints = true;
@@ -89,6 +95,12 @@ public class DefaultSettings implements Settings {
 
     private int dominancePerimeter = 4;
 
+    private int coreLBD = 2;
+
+    private int midLBD = 6;
+
+    private boolean lcg = false;
+
     private boolean explainGlobalFailureInSum = true;
 
     private double ibexContractionRatio = Ibex.RATIO;
@@ -319,6 +331,39 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public boolean enableSATSimplification() {
+        return enableSATSimplification;
+    }
+
+    @Override
+    public DefaultSettings setEnableSATSimplification(boolean enableSATSimplification) {
+        this.enableSATSimplification = enableSATSimplification;
+        return this;
+    }
+
+    @Override
+    public boolean enableNogoodsMinimization() {
+        return minimizeNogoods;
+    }
+
+    @Override
+    public DefaultSettings setNogoodsMinimization(boolean minimize) {
+        this.minimizeNogoods = minimize;
+        return this;
+    }
+
+    @Override
+    public int getNogoodsMaxAge() {
+        return nogoodsMaxAge;
+    }
+
+    @Override
+    public DefaultSettings setNogoodsMaxAge(int maxAge) {
+        this.nogoodsMaxAge = maxAge;
+        return this;
+    }
+
     @Override
     public boolean swapOnPassivate() {
         return swapOnPassivate;
@@ -408,6 +453,34 @@ public class DefaultSettings implements Settings {
         return this;
     }
 
+    @Override
+    public int getLearntClausesCoreLBD() {
+        return coreLBD;
+    }
+
+    @Override
+    public int getLearntClausesMidLBD() {
+        return midLBD;
+    }
+
+    @Override
+    public Settings setLearntClausesTiers(int core, int mid) {
+        this.coreLBD = core;
+        this.midLBD = Math.max(core, mid);
+        return this;
+    }
+
+    @Override
+    public boolean isLazyClauseGeneration() {
+        return lcg;
+    }
+
+    @Override
+    public Settings setLazyClauseGeneration(boolean lcg) {
+        this.lcg = lcg;
+        return this;
+    }
+
     @Override
     public int getLearntClausesDominancePerimeter() {
         return dominancePerimeter;
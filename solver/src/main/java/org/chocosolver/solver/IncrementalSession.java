@@ -0,0 +1,452 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
+import org.chocosolver.solver.constraints.nary.cnf.SatConstraint;
+import org.chocosolver.solver.constraints.nary.nogood.NogoodConstraint;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.search.strategy.strategy.AssumptionBranching;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * An incremental session on a model, to solve it many times with small changes in between.
+ * </p>
+ * <p>
+ * Instead of rebuilding the model, or calling {@link Solver#hardReset()}, each resolution starts with
+ * a soft reset of the solver, as {@link Solver#reset()} does but keeping the stop criteria: the propagators,
+ * the learnt signed clauses and no-goods,
+ * the search strategy and its internal scores (e.g., weights of {@link org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg})
+ * are kept from one resolution to the other.
+ * </p>
+ * <p>
+ * The model can be changed between two resolutions:
+ *      <ul>
+ *          <li>constraints posted with {@link #post(Constraint...)} are added to the base model, for good,</li>
+ *          <li>constraints added to a {@link ConstraintGroup} can be retracted with {@link #retract(ConstraintGroup)},</li>
+ *          <li>assumption literals, given to {@link #solve(BoolVar...)}, only hold for one resolution.</li>
+ *      </ul>
+ * A constraint group is guarded by an activation literal <i>a</i>: each of its constraints <i>c</i> is posted as
+ * <i>a</i> &rArr; <i>c</i>, and <i>a</i> is assumed to be <i>true</i> on each resolution, as long as the group
+ * is not retracted.
+ * Assumptions are made first, with decisions which cannot be refuted (see {@link AssumptionBranching}).
+ * That way, anything learnt during a resolution is derived from the base model and the guarded constraints,
+ * and remains valid after a group is retracted or assumptions change.
+ * </p>
+ * <p>
+ * When there is no solution, {@link #solveUnderAssumptions(BoolVar...)} returns the assumptions and groups
+ * involved in the conflict that ends the search (an unsat core), which can be narrowed
+ * with {@link #minimizeCore(List)}.
+ * </p>
+ * <p>
+ * No-goods recorded on solutions, and clauses derived from objective cuts, are not implied by the model.
+ * So, the clauses and no-goods learnt during a resolution that finds a solution are removed
+ * before the next resolution starts; the ones learnt during a resolution without solution are kept.
+ * Stop criteria declared on the solver are kept from one resolution to the other.
+ * </p>
+ * <pre> {@code
+ * IncrementalSession session = new IncrementalSession(model);
+ * ConstraintGroup orders = session.newGroup("orders");
+ * session.add(orders, model.arithm(x, ">", 3));
+ * if (session.solve()) {
+ *     // ...
+ * }
+ * session.retract(orders);
+ * session.post(model.arithm(y, "<", 5));
+ * session.solve(model.arithm(z, "=", 2).reify());
+ * }</pre>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class IncrementalSession {
+
+    /**
+     * A set of constraints that can be retracted, guarded by an activation literal.
+     */
+    public static final class ConstraintGroup {
+        /**
+         * Name of the group
+         */
+        private final String name;
+        /**
+         * The literal that activates the constraints of this group when set to <i>true</i>
+         */
+        private final BoolVar activation;
+        /**
+         * Constraints posted to guard the constraints of this group
+         */
+        private final List<Constraint> posted = new ArrayList<>();
+        /**
+         * Set to <i>true</i> once this group is retracted
+         */
+        private boolean retracted;
+
+        private ConstraintGroup(String name, BoolVar activation) {
+            this.name = name;
+            this.activation = activation;
+        }
+
+        /**
+         * @return the name of this group
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the literal that activates the constraints of this group
+         */
+        public BoolVar getActivation() {
+            return activation;
+        }
+
+        /**
+         * @return <i>true</i> if this group is retracted
+         */
+        public boolean isRetracted() {
+            return retracted;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * The model to solve
+     */
+    private final Model model;
+    /**
+     * Groups not retracted yet
+     */
+    private final List<ConstraintGroup> groups = new ArrayList<>();
+    /**
+     * The search strategy declared by the user, <i>null</i> to use the default one
+     */
+    private AbstractStrategy<?> search;
+    /**
+     * The default search strategy, when none is declared by the user
+     */
+    private AbstractStrategy<?> defaultSearch;
+    /**
+     * Number of variables in the model when {@link #defaultSearch} was built
+     */
+    private int nbVars = -1;
+    /**
+     * The search strategy installed on last resolution
+     */
+    private AbstractStrategy<?> installed;
+    /**
+     * Set to <i>true</i> while the clauses learnt during the current resolution are tagged
+     */
+    private boolean tagging;
+    /**
+     * Number of constraints in the model when tagging started, learnt unit clauses are posted after them
+     */
+    private int nbCstrs;
+
+    /**
+     * Create an incremental session on <i>model</i>.
+     * The search strategy, if any, can be declared before or after creating the session, as usual.
+     *
+     * @param model the model to solve
+     */
+    public IncrementalSession(Model model) {
+        this.model = model;
+    }
+
+    /**
+     * @return the model solved in this session
+     */
+    public Model getModel() {
+        return model;
+    }
+
+    /**
+     * Post permanently <i>cs</i> in the base model.
+     *
+     * @param cs constraints to add
+     */
+    public void post(Constraint... cs) {
+        prepare();
+        model.post(cs);
+    }
+
+    /**
+     * Create a new, empty, constraint group.
+     *
+     * @param name name of the group
+     * @return a constraint group
+     */
+    public ConstraintGroup newGroup(String name) {
+        prepare();
+        ConstraintGroup group = new ConstraintGroup(name, model.boolVar("G_" + name));
+        groups.add(group);
+        return group;
+    }
+
+    /**
+     * Add <i>cs</i> to <i>group</i>. The constraints must be free, that is, neither posted nor reified.
+     *
+     * @param group a constraint group
+     * @param cs    constraints to add to <i>group</i>
+     * @throws SolverException if <i>group</i> is retracted
+     */
+    public void add(ConstraintGroup group, Constraint... cs) {
+        if (group.retracted) {
+            throw new SolverException("Try to add constraints to retracted group " + group.name);
+        }
+        prepare();
+        for (Constraint c : cs) {
+            int from = model.getNbCstrs();
+            model.ifThen(group.activation, c);
+            Constraint[] cstrs = model.getCstrs();
+            for (int i = from; i < cstrs.length; i++) {
+                group.posted.add(cstrs[i]);
+            }
+        }
+    }
+
+    /**
+     * Remove for good the constraints of <i>group</i> from the model.
+     * The activation literal of <i>group</i> is not assumed anymore.
+     *
+     * @param group a constraint group
+     */
+    public void retract(ConstraintGroup group) {
+        if (!group.retracted) {
+            prepare();
+            model.unpost(group.posted.toArray(new Constraint[0]));
+            group.posted.clear();
+            group.retracted = true;
+            groups.remove(group);
+        }
+    }
+
+    /**
+     * Start a new resolution, in which constraint groups not retracted are enforced and
+     * <i>assumptions</i> are set to <i>true</i>.
+     * This method returns on the first solution, if any; next ones can be found
+     * by calling {@link Solver#solve()}, as usual, until this method or any other modifier of this session is called.
+     * <p>
+     * When no solution is found and the search is complete, there is no solution under the assumptions.
+     * Search limits declared on the solver apply to each resolution.
+     *
+     * @param assumptions literals to set to <i>true</i> during this resolution only
+     * @return <i>true</i> if a solution is found
+     */
+    public boolean solve(BoolVar... assumptions) {
+        return solveUnder(literals(assumptions));
+    }
+
+    /**
+     * Start a new resolution, as {@link #solve(BoolVar...)} does, and, when there is no solution, return an unsat core,
+     * that is, a subset of the assumption literals and of the activation literals of the constraint groups
+     * that cannot be satisfied together.
+     * <p>
+     * With signed clauses learning enabled (see {@link Solver#setLearningSignedClauses()}), the core is extracted
+     * from the explanation of the conflict that ends the search, in one resolution.
+     * Otherwise, or when the search is stopped before being complete, all the literals are returned.
+     * The core is not guaranteed to be minimal, see {@link #minimizeCore(List)}.
+     *
+     * @param assumptions literals to set to <i>true</i> during this resolution only
+     * @return <i>null</i> if a solution is found, an unsat core otherwise, empty when there is no solution at all
+     */
+    public List<BoolVar> solveUnderAssumptions(BoolVar... assumptions) {
+        BoolVar[] lits = literals(assumptions);
+        if (solveUnder(lits)) {
+            return null;
+        }
+        return extractCore(lits);
+    }
+
+    /**
+     * Minimize an unsat core, as returned by {@link #solveUnderAssumptions(BoolVar...)}:
+     * each literal is removed in turn and put back only if the other ones can be satisfied.
+     * When they cannot, the core is narrowed to the one found by this resolution.
+     * Each test is a resolution under assumptions, which benefits from the clauses learnt so far.
+     * Literals of constraint groups not in <i>core</i> are not assumed during the tests.
+     *
+     * @param core an unsat core
+     * @return a subset of <i>core</i>, minimal as long as each resolution is complete
+     */
+    public List<BoolVar> minimizeCore(List<BoolVar> core) {
+        List<BoolVar> current = new ArrayList<>(core);
+        int i = 0;
+        while (i < current.size()) {
+            List<BoolVar> others = new ArrayList<>(current);
+            others.remove(i);
+            BoolVar[] lits = others.toArray(new BoolVar[0]);
+            if (!solveUnder(lits) && model.getSolver().getSearchState() == SearchState.TERMINATED) {
+                // literals before i are necessary, they belong to any core included in 'current'
+                current = extractCore(lits);
+            } else {
+                i++;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @param assumptions assumption literals
+     * @return activation literals of the groups not retracted, followed by <i>assumptions</i>
+     */
+    private BoolVar[] literals(BoolVar[] assumptions) {
+        BoolVar[] lits = new BoolVar[groups.size() + assumptions.length];
+        for (int i = 0; i < groups.size(); i++) {
+            lits[i] = groups.get(i).activation;
+        }
+        System.arraycopy(assumptions, 0, lits, groups.size(), assumptions.length);
+        return lits;
+    }
+
+    /**
+     * Start a new resolution in which <i>lits</i>, and only them, are assumed.
+     *
+     * @param lits literals to set to <i>true</i>
+     * @return <i>true</i> if a solution is found
+     */
+    private boolean solveUnder(BoolVar[] lits) {
+        prepare();
+        Solver solver = model.getSolver();
+        AbstractStrategy<?> current = solver.getSearch();
+        if (current != installed) {
+            // the search strategy has been declared or changed by the user
+            search = current;
+        }
+        AbstractStrategy<?> main = search;
+        if (main == null) {
+            // built again only when variables are added, to keep its scores otherwise
+            if (defaultSearch == null || nbVars != model.getNbVars()) {
+                defaultSearch = model.getSettings().makeDefaultSearch(model);
+                nbVars = model.getNbVars();
+            }
+            main = defaultSearch;
+        }
+        if (lits.length > 0) {
+            solver.setSearch(Search.sequencer(new AssumptionBranching(lits), main));
+        } else {
+            solver.setSearch(main);
+        }
+        installed = solver.getSearch();
+        startTagging();
+        return solver.solve();
+    }
+
+    /**
+     * @param lits literals assumed during the last resolution, which ends without solution
+     * @return the literals involved in the conflict that ends the search, all of them if unknown
+     */
+    private List<BoolVar> extractCore(BoolVar[] lits) {
+        Solver solver = model.getSolver();
+        Set<IntVar> decisions = null;
+        if (solver.getSearchState() == SearchState.TERMINATED
+                && solver.getLearner() instanceof LearnSignedClauses) {
+            decisions = ((LearnSignedClauses<?>) solver.getLearner()).getFinalConflictDecisions();
+        }
+        List<BoolVar> core = new ArrayList<>();
+        for (BoolVar lit : lits) {
+            if ((decisions == null || decisions.contains(lit)) && !core.contains(lit)) {
+                core.add(lit);
+            }
+        }
+        return core;
+    }
+
+    /**
+     * Go back to the state before the first resolution, if needed, keeping stop criteria, heuristic scores
+     * and the clauses learnt as long as no solution was found.
+     */
+    private void prepare() {
+        Solver solver = model.getSolver();
+        boolean solutions = solver.getSolutionCount() > 0;
+        if (solver.isSolving()) {
+            solver.reset(true, true);
+        }
+        if (tagging) {
+            stopTagging(solutions);
+        }
+    }
+
+    /**
+     * Tag the clauses that are learnt from now on by the no-good and clause stores of the model.
+     */
+    private void startTagging() {
+        NogoodConstraint nogoods = (NogoodConstraint) model.getHook(Model.NOGOODS_HOOK_NAME);
+        if (nogoods != null) {
+            nogoods.getPropNogoods().startTagging();
+        }
+        SatConstraint minisat = (SatConstraint) model.getHook(Model.MINISAT_HOOK_NAME);
+        if (minisat != null) {
+            minisat.getPropSat().startTagging();
+        }
+        ClauseConstraint clauses = (ClauseConstraint) model.getHook(Model.CLAUSES_HOOK_NAME);
+        if (clauses != null) {
+            clauses.getClauseStore().startTagging();
+        }
+        nbCstrs = model.getNbCstrs();
+        tagging = true;
+    }
+
+    /**
+     * Stop tagging clauses.
+     *
+     * @param remove set to <i>true</i> to remove the clauses tagged, they are kept otherwise
+     */
+    private void stopTagging(boolean remove) {
+        NogoodConstraint nogoods = (NogoodConstraint) model.getHook(Model.NOGOODS_HOOK_NAME);
+        if (nogoods != null) {
+            if (remove) {
+                nogoods.getPropNogoods().removeTagged();
+            } else {
+                nogoods.getPropNogoods().stopTagging();
+            }
+        }
+        SatConstraint minisat = (SatConstraint) model.getHook(Model.MINISAT_HOOK_NAME);
+        if (minisat != null) {
+            if (remove) {
+                minisat.getPropSat().removeTagged();
+            } else {
+                minisat.getPropSat().stopTagging();
+            }
+        }
+        ClauseConstraint clauses = (ClauseConstraint) model.getHook(Model.CLAUSES_HOOK_NAME);
+        if (clauses != null) {
+            if (remove) {
+                clauses.getClauseStore().removeTagged();
+            } else {
+                clauses.getClauseStore().stopTagging();
+            }
+        }
+        if (remove) {
+            // unit and empty clauses are posted as constraints, in addition to stores created on the fly
+            Constraint[] cstrs = model.getCstrs();
+            for (int i = cstrs.length - 1; i >= nbCstrs; i--) {
+                if (!model.getHooks().containsValue(cstrs[i])) {
+                    model.unpost(cstrs[i]);
+                }
+            }
+        }
+        tagging = false;
+    }
+}
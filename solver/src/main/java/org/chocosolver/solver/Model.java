@@ -31,6 +31,7 @@ import org.chocosolver.solver.variables.*;
 
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -256,6 +257,82 @@ public class Model implements IModel {
         this("Model-" + nextModelNum());
     }
 
+    /**
+     * Creates a copy of <i>model</i>, see {@link ModelCloner}.
+     *
+     * @param model  the model to copy
+     * @param name   name of the copy
+     * @param cloner the cloner in charge of the copy
+     */
+    @SuppressWarnings("unchecked")
+    Model(Model model, String name, ModelCloner cloner) {
+        this(ModelCloner.environmentLike(model.environment), name, model.settings);
+        cloner.register(model, this);
+        cloner.register(model.solver, this.solver);
+        this.seed = model.seed;
+        this.precision = model.precision;
+        this.nameId = model.nameId;
+        // variables are created in the same order, views after the variables they observe
+        for (int i = 0; i < model.vIdx; i++) {
+            cloner.copyOf(model.vars[i]);
+        }
+        for (int i = 0; i < model.vIdx; i++) {
+            if (model.vars[i] instanceof BoolVar) {
+                BoolVar b = (BoolVar) model.vars[i];
+                BoolVar c = cloner.copyOf(b);
+                if (b.hasNot() && !c.hasNot()) {
+                    c._setNot(cloner.copyOf(b.not()));
+                }
+            }
+        }
+        model.cachedConstants.forEachEntry((v, c) -> {
+            cachedConstants.put(v, cloner.copyOf(c));
+            return true;
+        });
+        // constraints are posted in the same order
+        for (int i = 0; i < model.cIdx; i++) {
+            post(cloner.copyOf(model.cstrs[i]));
+        }
+        for (Map.Entry<String, Object> hook : model.hooks.entrySet()) {
+            switch (hook.getKey()) {
+                case TASK_SET_HOOK_NAME:
+                    // a task declares itself in the hook
+                    for (Task t : (List<Task>) hook.getValue()) {
+                        new Task(cloner.copyOf(t.getStart()), cloner.copyOf(t.getDuration()), cloner.copyOf(t.getEnd()));
+                    }
+                    break;
+                case CLAUSESBUILDER_HOOK_NAME:
+                case "HK_LIST_OP_PM":
+                case "cinstances":
+                    // created on demand
+                    break;
+                default:
+                    hooks.put(hook.getKey(), copyOfHook(hook.getKey(), hook.getValue(), cloner));
+                    break;
+            }
+        }
+        this.id = model.id;
+        if (model.objective != null) {
+            setObjective(model.policy == ResolutionPolicy.MAXIMIZE, cloner.copyOf(model.objective));
+        }
+    }
+
+    /**
+     * Copy of a hook object: variables and constraints are mapped to their copy, immutable objects are shared.
+     */
+    private static Object copyOfHook(String name, Object hook, ModelCloner cloner) {
+        if (hook instanceof Variable) {
+            return cloner.copyOf((Variable) hook);
+        } else if (hook instanceof Variable[]) {
+            return cloner.copyOf((Variable[]) hook);
+        } else if (hook instanceof Constraint) {
+            return cloner.copyOf((Constraint) hook);
+        } else if (hook instanceof String || hook instanceof Number || hook instanceof Boolean || hook instanceof Enum) {
+            return hook;
+        }
+        throw new SolverException("The hook " + name + " does not support copying");
+    }
+
     /**
      * For autonumbering anonymous models.
      */
@@ -841,6 +918,16 @@ public class Model implements IModel {
         return id++;
     }
 
+    /**
+     * Set the id {@link #nextId()} returns on its next call, so that copies keep the id of their original.
+     *
+     * @param id the next id
+     * @see ModelCloner
+     */
+    void setNextId(int id) {
+        this.id = id;
+    }
+
     /**
      * Get a free single-use name id to identify a variable created internally.
      * Should not be called by the user.
@@ -970,6 +1057,24 @@ public class Model implements IModel {
         }
     }
 
+    /**
+     * Creates a copy of this model: variables, constraints and propagators are duplicated,
+     * immutable payloads (tuples, MDDs, automata) are shared.
+     * The copy comes with a fresh solver, on which search strategies, limits and monitors have to be declared.
+     * <p>
+     * This method can only be called before the resolution starts.
+     * To retrieve copies of some objects (e.g., variables), use a {@link ModelCloner} directly.
+     * </p>
+     *
+     * @return a copy of this model
+     * @throws SolverException if the resolution of this model has started
+     *                         or if an element of this model does not support copying
+     * @see ModelCloner
+     */
+    public Model copy() {
+        return new ModelCloner().copy(this);
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     //////////////////////////////////////////// RELATED TO I/O ////////////////////////////////////////////////////////
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,329 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.memory.copying.EnvironmentCopying;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * <p>
+ * Copy of a fully built {@link Model}, so that the copy can be solved concurrently with the original one,
+ * for instance in a {@link ParallelPortfolio}.
+ * </p>
+ * <p>
+ * There is no generic deep copy: each variable, constraint, propagator and search strategy creates its own copy,
+ * through a <code>duplicate(ModelCloner)</code> method, as if it were declared in the copy of the model.
+ * Since a model can only be copied before its resolution starts, a copy does not need to restore any internal
+ * state, and immutable payloads (tuples, automata, diagrams, cost matrices, ...) are shared among copies.
+ * Variables and propagators keep their identifier, and constraints are posted in the same order,
+ * which makes the copy behave exactly like the original model.
+ * A {@link SolverException} is thrown when a propagator or a search strategy that does not support copying is met.
+ * </p>
+ * <p>
+ * The copy comes with its own {@link Solver}, which is not a copy of the original one:
+ * search strategies, search monitors, stop criteria and learning must be declared anew.
+ * The objective manager is rebuilt with default settings.
+ * </p>
+ * <p>
+ * The same cloner can be queried afterwards, with {@link #get(Object)} or the <code>copyOf</code> methods,
+ * to retrieve the copies of objects declared in the original model (e.g., to map decision variables).
+ * A cloner copies only one model.
+ * </p>
+ * <pre>
+ * <code>Model model = ...; // fully built
+ * ParallelPortfolio portfolio = new ParallelPortfolio();
+ * portfolio.addModel(model);
+ * for (int i = 1; i < n; i++) {
+ *     portfolio.addModel(model.copy());
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class ModelCloner {
+
+    /**
+     * Map an original object to its copy
+     */
+    private final IdentityHashMap<Object, Object> copies = new IdentityHashMap<>();
+
+    /**
+     * The model copied by this, if any
+     */
+    private Model source;
+
+    /**
+     * The copy of {@link #source}, being built
+     */
+    private Model target;
+
+    /**
+     * Copy of <i>model</i>, with the same name.
+     *
+     * @param model a fully built model, not being solved
+     * @return a copy of <i>model</i>
+     * @throws SolverException if <i>model</i>'s resolution has started, if this cloner has already copied a model
+     *                         or if an element of <i>model</i> does not support copying
+     */
+    public Model copy(Model model) {
+        return copy(model, model.getName());
+    }
+
+    /**
+     * Copy of <i>model</i>, named <i>name</i>, e.g. to tell apart the workers of a portfolio.
+     *
+     * @param model a fully built model, not being solved
+     * @param name  name of the copy
+     * @return a copy of <i>model</i>
+     * @throws SolverException if <i>model</i>'s resolution has started, if this cloner has already copied a model
+     *                         or if an element of <i>model</i> does not support copying
+     */
+    public Model copy(Model model, String name) {
+        if (source != null) {
+            throw new SolverException("A ModelCloner can only copy one model");
+        }
+        Solver solver = model.getSolver();
+        if (solver.getEngine().isInitialized() || solver.isSolving()) {
+            throw new SolverException("A model can only be copied before its resolution starts");
+        }
+        source = model;
+        return new Model(model, name, this);
+    }
+
+    /**
+     * @return the copy being built by this cloner, or <i>null</i> if no model has been copied yet
+     */
+    public Model getModel() {
+        return target;
+    }
+
+    /**
+     * Declare <i>copy</i> as being the copy of <i>original</i>.
+     *
+     * @param original an object
+     * @param copy     its copy
+     */
+    void register(Object original, Object copy) {
+        if (original == source) {
+            target = (Model) copy;
+        }
+        copies.put(original, copy);
+    }
+
+    /**
+     * Return the copy of <i>var</i>, creating it if needed.
+     *
+     * @param var a variable of the copied model
+     * @param <V> type of the variable
+     * @return the copy of <i>var</i>
+     * @throws SolverException if <i>var</i> does not belong to the copied model or does not support copying
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> V copyOf(V var) {
+        if (var == null) {
+            return null;
+        }
+        Object c = copies.get(var);
+        if (c == null) {
+            checkOrigin(var.getModel(), var);
+            int next = target.nextId();
+            target.setNextId(var.getId());
+            c = checkCopy(var, var.duplicate(this));
+            target.setNextId(next);
+            copies.put(var, c);
+        }
+        return (V) c;
+    }
+
+    /**
+     * Return the copies of <i>vars</i>, creating them if needed.
+     *
+     * @param vars variables of the copied model
+     * @param <V>  type of the variables
+     * @return an array, of the same type as <i>vars</i>, of the copies of <i>vars</i>
+     * @throws SolverException if a variable does not belong to the copied model or does not support copying
+     */
+    public <V extends Variable> V[] copyOf(V[] vars) {
+        if (vars == null) {
+            return null;
+        }
+        V[] cvars = Arrays.copyOf(vars, vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            cvars[i] = copyOf(vars[i]);
+        }
+        return cvars;
+    }
+
+    /**
+     * Return the copies of <i>vars</i>, creating them if needed.
+     *
+     * @param vars variables of the copied model
+     * @param <V>  type of the variables
+     * @return a matrix, of the same type as <i>vars</i>, of the copies of <i>vars</i>
+     * @throws SolverException if a variable does not belong to the copied model or does not support copying
+     */
+    public <V extends Variable> V[][] copyOf(V[][] vars) {
+        if (vars == null) {
+            return null;
+        }
+        V[][] cvars = Arrays.copyOf(vars, vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            cvars[i] = copyOf(vars[i]);
+        }
+        return cvars;
+    }
+
+    /**
+     * Return the copy of <i>prop</i>, creating it if needed.
+     *
+     * @param prop a propagator of the copied model
+     * @param <V>  type of the variables of the propagator
+     * @return the copy of <i>prop</i>
+     * @throws SolverException if <i>prop</i> does not belong to the copied model or does not support copying
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> Propagator<V> copyOf(Propagator<V> prop) {
+        Object c = copies.get(prop);
+        if (c == null) {
+            checkOrigin(prop.getModel(), prop);
+            int next = target.nextId();
+            target.setNextId(prop.getId());
+            c = checkCopy(prop, prop.duplicate(this));
+            target.setNextId(next);
+            copies.put(prop, c);
+        }
+        return (Propagator<V>) c;
+    }
+
+    /**
+     * Return the copies of <i>props</i>, creating them if needed.
+     *
+     * @param props propagators of the copied model
+     * @return the copies of <i>props</i>
+     * @throws SolverException if a propagator does not belong to the copied model or does not support copying
+     */
+    @SuppressWarnings("unchecked")
+    public Propagator[] copyOf(Propagator[] props) {
+        Propagator[] cprops = new Propagator[props.length];
+        for (int i = 0; i < props.length; i++) {
+            cprops[i] = copyOf((Propagator<Variable>) props[i]);
+        }
+        return cprops;
+    }
+
+    /**
+     * Return the copy of <i>cstr</i>, creating it if needed.
+     * The copy is not posted.
+     *
+     * @param cstr a constraint of the copied model
+     * @return the copy of <i>cstr</i>
+     * @throws SolverException if a propagator of <i>cstr</i> does not support copying
+     */
+    public Constraint copyOf(Constraint cstr) {
+        Object c = copies.get(cstr);
+        if (c == null) {
+            c = cstr.duplicate(this);
+            copies.put(cstr, c);
+        }
+        return (Constraint) c;
+    }
+
+    /**
+     * Return the copy of <i>strategy</i>, over the copies of its variables, creating it if needed.
+     * A search strategy can be copied once the model is.
+     *
+     * @param strategy a search strategy declared on the copied model
+     * @param <V>      type of the variables of the strategy
+     * @return the copy of <i>strategy</i>
+     * @throws SolverException if no model has been copied yet or if <i>strategy</i> does not support copying
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends Variable> AbstractStrategy<V> copyOf(AbstractStrategy<V> strategy) {
+        if (target == null) {
+            throw new SolverException("A search strategy can only be copied once the model is");
+        }
+        Object c = copies.get(strategy);
+        if (c == null) {
+            c = checkCopy(strategy, strategy.duplicate(this));
+            copies.put(strategy, c);
+        }
+        return (AbstractStrategy<V>) c;
+    }
+
+    /**
+     * Return the copy of <i>solution</i>, creating it if needed.
+     * The copy stores the copies of the variables stored by <i>solution</i>, it is empty and not attached to any solver.
+     *
+     * @param solution a solution of the copied model
+     * @return an empty solution of the copy
+     * @throws SolverException if a variable does not belong to the copied model or does not support copying
+     */
+    public Solution copyOf(Solution solution) {
+        Object c = copies.get(solution);
+        if (c == null) {
+            c = new Solution(target, copyOf(solution.varsToStore));
+            copies.put(solution, c);
+        }
+        return (Solution) c;
+    }
+
+    /**
+     * Return the copy of <i>original</i>, if it has already been copied.
+     *
+     * @param original an object from the original model
+     * @param <T>      type of the object
+     * @return the copy of <i>original</i>, or <i>null</i> if it has not been copied
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(T original) {
+        return (T) copies.get(original);
+    }
+
+    /**
+     * Create an empty backtracking environment of the same kind as <i>environment</i>.
+     *
+     * @param environment the environment of the copied model
+     * @return a new environment
+     */
+    static IEnvironment environmentLike(IEnvironment environment) {
+        if (environment instanceof EnvironmentCopying) {
+            return new EnvironmentBuilder().buildCopying();
+        }
+        return new EnvironmentBuilder().fromFlat().build();
+    }
+
+    /**
+     * Make sure that <i>copy</i> is an instance of the class of <i>original</i>,
+     * that is, that the copy has not been made by a super class of it.
+     */
+    private static Object checkCopy(Object original, Object copy) {
+        if (copy.getClass() != original.getClass()) {
+            throw new SolverException(original.getClass().getSimpleName() + " does not support copying");
+        }
+        return copy;
+    }
+
+    private void checkOrigin(Model model, Object o) {
+        if (model != source) {
+            throw new SolverException(o + " does not belong to the copied model");
+        }
+    }
+}
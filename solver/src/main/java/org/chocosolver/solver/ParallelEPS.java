@@ -0,0 +1,550 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.SharedIncumbent;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * An Embarrassingly Parallel Search (EPS) helper.
+ * </p>
+ * <p>
+ * Where {@link ParallelPortfolio} races differently configured models, EPS splits the search space of
+ * one model among workers, which makes it suited to complete searches: enumerating all solutions or
+ * proving optimality.
+ * The resolution is made of three steps:
+ * <ol>
+ *     <li>the model is copied once per additional worker (see {@link Model#copy()}),
+ *     so it must be fully built and not being solved,</li>
+ *     <li>the root node is decomposed into many consistent subproblems: a depth-bounded tree search
+ *     (first-fail, <i>x = v</i> then <i>x &ne; v</i>) is run on the decision variables and each node reached at
+ *     the depth limit is a subproblem, described by its decision path prefix.
+ *     The depth limit is increased until the number of subproblems is at least
+ *     {@link #setNbSubproblemsPerWorker(int)} times the number of workers,</li>
+ *     <li>subproblems are dealt out to the workers, each one replays a prefix in a new world
+ *     and explores the subproblem with its own search strategy.
+ *     A worker which runs out of subproblems steals the latest ones of another worker.</li>
+ * </ol>
+ * Solution counts, nodes and failures are aggregated over workers.
+ * When optimizing, workers share a {@link SharedIncumbent}, so that a bound found in one subproblem
+ * prunes all the others.
+ * </p>
+ * <p>
+ * The search strategy declared on the model, if any, is copied to the workers and
+ * its variables are the decision variables of the decomposition.
+ * Otherwise, all integer variables are decision variables and each worker relies on the default search.
+ * Only {@link org.chocosolver.solver.search.loop.move.MoveBinaryDFS} (the default move) is supported.
+ * </p>
+ * <p>
+ * A resolution method can only be called once.
+ * </p>
+ * <p>
+ * Example of use.
+ * <pre>
+ * <code>Model model = ...; // fully built
+ * ParallelEPS eps = new ParallelEPS(model, 4);
+ * List&lt;Solution&gt; solutions = eps.findAllSolutions();
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * @author agent
+ * @see ParallelPortfolio
+ * @since 17/10/2026
+ */
+public class ParallelEPS {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Decision operator of a prefix: <i>x = v</i>
+     */
+    private static final int EQ = 1;
+
+    /**
+     * Decision operator of a prefix: <i>x &ne; v</i>
+     */
+    private static final int NEQ = 0;
+
+    /**
+     * The model to solve
+     */
+    private final Model model;
+
+    /**
+     * Number of workers, including the model itself
+     */
+    private final int nbWorkers;
+
+    /**
+     * The models solved in parallel, the first one is {@link #model}
+     */
+    private final List<Model> workers;
+
+    /**
+     * Expected number of subproblems per worker
+     */
+    private int nbSubproblemsPerWorker = 30;
+
+    /**
+     * Position in {@link Model#getVars()} of the decision variables
+     */
+    private int[] decisions;
+
+    /**
+     * Subproblems of each worker.
+     * A subproblem is a sequence of decisions stored as triplets: (decision variable, operator, value).
+     */
+    private List<ConcurrentLinkedDeque<int[]>> deques;
+
+    /**
+     * Number of subproblems computed at decomposition
+     */
+    private int nbSubproblems;
+
+    /**
+     * Set to <i>true</i> when the workers have to stop
+     */
+    private volatile boolean stop;
+
+    /**
+     * Set to <i>true</i> when a stop criterion is met
+     */
+    private volatile boolean interrupted;
+
+    /**
+     * The incumbent shared among workers, when dealing with optimization problem
+     */
+    private SharedIncumbent incumbent;
+
+    /**
+     * Best solution of each worker, when dealing with optimization problem
+     */
+    private Solution[] bests;
+
+    private final AtomicLong solutionCount = new AtomicLong();
+    private final AtomicLong nodeCount = new AtomicLong();
+    private final AtomicLong failCount = new AtomicLong();
+    private final AtomicLong stealCount = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new EPS helper.
+     *
+     * @param model     a fully built model, not being solved
+     * @param nbWorkers number of workers (and threads), at least 1
+     */
+    public ParallelEPS(Model model, int nbWorkers) {
+        if (nbWorkers < 1) {
+            throw new SolverException("ParallelEPS requires at least one worker");
+        }
+        this.model = model;
+        this.nbWorkers = nbWorkers;
+        this.workers = new ArrayList<>(nbWorkers);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Set the expected number of subproblems per worker (30 by default).
+     * The more subproblems, the better the load balancing but the longer the decomposition.
+     *
+     * @param n a positive number
+     */
+    public void setNbSubproblemsPerWorker(int n) {
+        if (n < 1) {
+            throw new SolverException("The number of subproblems per worker must be positive");
+        }
+        this.nbSubproblemsPerWorker = n;
+    }
+
+    /**
+     * Attempts to find a solution of the declared satisfaction problem.
+     * The workers are stopped as soon as one of them finds a solution.
+     *
+     * @param stop optional criteria to stop the search, shared by all workers hence thread-safe
+     * @return a {@link Solution} if and only if a solution has been found, <tt>null</tt> otherwise.
+     */
+    public Solution findSolution(Criterion... stop) {
+        model.clearObjective();
+        ConcurrentLinkedQueue<Solution> solutions = new ConcurrentLinkedQueue<>();
+        run(stop, (w, m) -> {
+            solutions.add(new Solution(m).record());
+            this.stop = true;
+        });
+        return solutions.peek();
+    }
+
+    /**
+     * Attempts to find all solutions of the declared satisfaction problem.
+     * Subproblems are disjoint, so is each solution found.
+     *
+     * @param stop optional criteria to stop the search, shared by all workers hence thread-safe
+     * @return a list that contained the found solutions, in no particular order.
+     * @see #isComplete()
+     */
+    public List<Solution> findAllSolutions(Criterion... stop) {
+        model.clearObjective();
+        ConcurrentLinkedQueue<Solution> solutions = new ConcurrentLinkedQueue<>();
+        run(stop, (w, m) -> solutions.add(new Solution(m).record()));
+        return new ArrayList<>(solutions);
+    }
+
+    /**
+     * Attempts to find the optimal solution of the problem defined by <i>objective</i>.
+     *
+     * @param objective integer variable to optimize
+     * @param maximize  set to <tt>true</tt> to solve a maximization problem, set to <tt>false</tt> to solve a
+     *                  minimization problem.
+     * @param stop      optional criteria to stop the search, shared by all workers hence thread-safe
+     * @return the best solution found, <tt>null</tt> if none. It is proven to be optimal if {@link #isComplete()}.
+     */
+    public Solution findOptimalSolution(IntVar objective, boolean maximize, Criterion... stop) {
+        model.setObjective(maximize, objective);
+        run(stop, (w, m) -> {
+            int value = ((IntVar) m.getObjective()).getValue();
+            // the objective manager has already offered the solution to the incumbent
+            if (incumbent.getWorker() == w && incumbent.getBestValue() == value) {
+                bests[w] = new Solution(m).record();
+            }
+        });
+        int w = incumbent.getWorker();
+        return w < 0 ? null : bests[w];
+    }
+
+    /**
+     * @return the models solved in parallel, the first one is the model given on construction
+     */
+    public List<Model> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return <i>true</i> if the last resolution explored all subproblems
+     * (that is, no stop criterion was met)
+     */
+    public boolean isComplete() {
+        return !interrupted;
+    }
+
+    /**
+     * @return number of subproblems computed by the decomposition
+     */
+    public int getNbSubproblems() {
+        return nbSubproblems;
+    }
+
+    /**
+     * @return number of solutions found, over all workers
+     */
+    public long getSolutionCount() {
+        return solutionCount.get();
+    }
+
+    /**
+     * @return number of nodes explored, over all workers (decomposition excluded)
+     */
+    public long getNodeCount() {
+        return nodeCount.get();
+    }
+
+    /**
+     * @return number of failures, over all workers (decomposition excluded)
+     */
+    public long getFailCount() {
+        return failCount.get();
+    }
+
+    /**
+     * @return number of subproblems a worker took from another worker
+     */
+    public long getStealCount() {
+        return stealCount.get();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Action to execute on a solution, given the worker and its model
+     */
+    private interface OnSolution {
+        void accept(int worker, Model model);
+    }
+
+    private void run(Criterion[] criteria, OnSolution onSolution) {
+        if (!workers.isEmpty()) {
+            throw new SolverException("ParallelEPS: a resolution method can only be called once");
+        }
+        prepare();
+        decompose();
+        ForkJoinPool pool = new ForkJoinPool(nbWorkers);
+        try {
+            List<Future<?>> tasks = new ArrayList<>(nbWorkers);
+            for (int i = 0; i < nbWorkers; i++) {
+                int w = i;
+                tasks.add(pool.submit(() -> work(w, criteria, onSolution)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("ParallelEPS has been interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException(e.getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Copy the model for each additional worker and share the incumbent, if any.
+     */
+    private void prepare() {
+        Solver solver = model.getSolver();
+        if (solver.getEngine().isInitialized() || solver.isSolving()) {
+            throw new SolverException("ParallelEPS: the model's resolution has already started");
+        }
+        AbstractStrategy<?> search = solver.getSearch();
+        workers.add(model);
+        for (int i = 1; i < nbWorkers; i++) {
+            ModelCloner cloner = new ModelCloner();
+            Model copy = cloner.copy(model);
+            if (search != null) {
+                copy.getSolver().setSearch(cloner.copyOf(search));
+            }
+            workers.add(copy);
+        }
+        if (model.getResolutionPolicy() != ResolutionPolicy.SATISFACTION) {
+            incumbent = new SharedIncumbent(model.getResolutionPolicy());
+            bests = new Solution[nbWorkers];
+            for (int i = 0; i < nbWorkers; i++) {
+                if (!workers.get(i).getSolver().getObjectiveManager().shareIncumbent(incumbent, i)) {
+                    throw new SolverException("ParallelEPS: the objective manager cannot share its incumbent");
+                }
+            }
+        }
+        // decision variables
+        Variable[] vars = model.getVars();
+        IdentityHashMap<Variable, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < vars.length; i++) {
+            positions.put(vars[i], i);
+        }
+        Variable[] dvars;
+        if (search != null) {
+            dvars = search.getVariables();
+        } else {
+            dvars = model.retrieveIntVars(true);
+        }
+        Variable objective = model.getObjective();
+        decisions = Arrays.stream(dvars)
+                .filter(v -> (v.getTypeAndKind() & Variable.INT) > 0 && (v.getTypeAndKind() & Variable.CSTE) == 0)
+                .filter(v -> v != objective)
+                .mapToInt(positions::get)
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Decompose the root node of {@link #model} into subproblems, by iterative deepening,
+     * and deal them out to the workers.
+     */
+    private void decompose() {
+        Solver solver = model.getSolver();
+        IEnvironment env = model.getEnvironment();
+        IntVar[] vars = map(model);
+        int target = nbSubproblemsPerWorker * nbWorkers;
+        List<int[]> subproblems = new ArrayList<>();
+        boolean deeper = true;
+        for (int depth = 0; deeper && subproblems.size() < target; depth++) {
+            subproblems.clear();
+            env.worldPush();
+            try {
+                solver.propagate();
+                deeper = dive(solver, vars, new int[0], depth, subproblems);
+            } catch (ContradictionException ignored) {
+                // the problem has no solution
+                deeper = false;
+            }
+            env.worldPop();
+            // propagators are passive again, the engine must be initialized anew
+            solver.getEngine().reset();
+        }
+        nbSubproblems = subproblems.size();
+        deques = new ArrayList<>(nbWorkers);
+        for (int i = 0; i < nbWorkers; i++) {
+            deques.add(new ConcurrentLinkedDeque<>());
+        }
+        for (int i = 0; i < subproblems.size(); i++) {
+            deques.get(i % nbWorkers).addLast(subproblems.get(i));
+        }
+    }
+
+    /**
+     * Depth-bounded search, from a consistent node.
+     *
+     * @return <i>true</i> if at least one node has been cut by the depth limit
+     */
+    private boolean dive(Solver solver, IntVar[] vars, int[] prefix, int depth, List<int[]> subproblems) {
+        int k = -1;
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated() && (k == -1 || vars[i].getDomainSize() < vars[k].getDomainSize())) {
+                k = i;
+            }
+        }
+        if (k == -1 || prefix.length / 3 == depth) {
+            subproblems.add(prefix);
+            return k > -1;
+        }
+        int value = vars[k].getLB();
+        boolean cut = false;
+        for (int op = EQ; op >= NEQ; op--) {
+            int[] next = Arrays.copyOf(prefix, prefix.length + 3);
+            next[prefix.length] = k;
+            next[prefix.length + 1] = op;
+            next[prefix.length + 2] = value;
+            solver.getEnvironment().worldPush();
+            try {
+                apply(vars, next, prefix.length);
+                solver.propagate();
+                cut |= dive(solver, vars, next, depth, subproblems);
+            } catch (ContradictionException ignored) {
+                // inconsistent branch
+            }
+            solver.getEnvironment().worldPop();
+        }
+        return cut;
+    }
+
+    /**
+     * Apply the decisions of <i>prefix</i>, from the one at position <i>from</i>.
+     */
+    private static void apply(IntVar[] vars, int[] prefix, int from) throws ContradictionException {
+        for (int i = from; i < prefix.length; i += 3) {
+            IntVar var = vars[prefix[i]];
+            if (prefix[i + 1] == EQ) {
+                var.instantiateTo(prefix[i + 2], Cause.Null);
+            } else {
+                var.removeValue(prefix[i + 2], Cause.Null);
+            }
+        }
+    }
+
+    /**
+     * @return the decision variables of <i>m</i>
+     */
+    private IntVar[] map(Model m) {
+        IntVar[] vars = new IntVar[decisions.length];
+        for (int i = 0; i < decisions.length; i++) {
+            vars[i] = (IntVar) m.getVar(decisions[i]);
+        }
+        return vars;
+    }
+
+    /**
+     * @return the next subproblem of worker <i>w</i>, possibly taken from another worker, or <i>null</i>
+     * if there is no subproblem left
+     */
+    private int[] next(int w) {
+        int[] prefix = deques.get(w).pollFirst();
+        for (int i = 1; prefix == null && i < nbWorkers; i++) {
+            prefix = deques.get((w + i) % nbWorkers).pollLast();
+            if (prefix != null) {
+                stealCount.incrementAndGet();
+            }
+        }
+        return prefix;
+    }
+
+    /**
+     * Solve subproblems until there is no one left or the workers are stopped.
+     */
+    private void work(int w, Criterion[] criteria, OnSolution onSolution) {
+        Model m = workers.get(w);
+        Solver solver = m.getSolver();
+        IEnvironment env = m.getEnvironment();
+        IntVar[] vars = map(m);
+        Criterion halt = () -> {
+            if (!stop) {
+                for (Criterion c : criteria) {
+                    if (c.isMet()) {
+                        interrupted = true;
+                        stop = true;
+                        break;
+                    }
+                }
+            }
+            return stop;
+        };
+        // registered once, the stop criteria are kept when the solver is reset between two subproblems
+        solver.addStopCriterion(halt);
+        int[] prefix;
+        while (!stop && (prefix = next(w)) != null) {
+            env.worldPush();
+            boolean solved = false;
+            try {
+                apply(vars, prefix, 0);
+                solver.propagate();
+                solved = true;
+                while (solver.solve()) {
+                    solutionCount.incrementAndGet();
+                    onSolution.accept(w, m);
+                }
+                if (solver.getSearchState() == SearchState.KILLED
+                        || (solver.getSearchState() == SearchState.STOPPED && !stop)) {
+                    // killed, or stopped by a criterion declared on the worker's model
+                    interrupted = stop = true;
+                }
+            } catch (ContradictionException ignored) {
+                // the subproblem has no solution
+            }
+            if (solved) {
+                nodeCount.addAndGet(solver.getNodeCount());
+                failCount.addAndGet(solver.getFailCount());
+                // backtrack to the world the subproblem has been replayed in, and reset the engine
+                solver.reset(true, false);
+            } else {
+                solver.getEngine().reset();
+            }
+            env.worldPop();
+            // bounds are reset on the subproblem's domains, restore them on the root ones
+            solver.getObjectiveManager().resetBestBounds();
+        }
+        solver.removeStopCriterion(halt);
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.SharedIncumbent;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
+import org.chocosolver.solver.search.loop.lns.neighbors.ImprovementRateNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.ImprovementRates;
+import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.ReversePropagationGuidedNeighborhood;
+import org.chocosolver.solver.search.loop.move.MoveLNS;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * A parallel Large Neighborhood Search (LNS) helper.
+ * </p>
+ * <p>
+ * Where {@link ParallelPortfolio} only shares the bound among LNS workers, here the workers also share
+ * the best solution: each one runs a LNS on its own copy of the model and, as soon as one of them improves
+ * the incumbent, the others restart from that solution on their next move (see {@link MoveLNS#offerSolution(Solution)}).
+ * </p>
+ * <p>
+ * Each worker relaxes the solution with a random, a propagation-guided and a reverse propagation-guided
+ * neighborhood, and selects the one with the best improvement rate, that is, the objective gain per second
+ * (see {@link ImprovementRateNeighborhood}).
+ * The rates are shared among workers, which start from different neighborhoods and learn from each other
+ * which one pays off.
+ * A fragment is given up, and a new one is selected, after {@link #setRestartFailLimit(int)} failures.
+ * </p>
+ * <p>
+ * The search strategy declared on the model, if any, is copied to the workers and
+ * its variables are the ones relaxed by the neighborhoods.
+ * Otherwise, all integer variables are relaxed and each worker relies on the default search.
+ * The model is copied once per additional worker (see {@link Model#copy()}),
+ * so it must be fully built and not being solved.
+ * </p>
+ * <p>
+ * A resolution method can only be called once.
+ * </p>
+ * <p>
+ * Example of use.
+ * <pre>
+ * <code>Model model = ...; // fully built
+ * ParallelLNS lns = new ParallelLNS(model, 4);
+ * Solution best = lns.findOptimalSolution(cost, false, new TimeCounter(model, 60_000_000_000L));
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * @author agent
+ * @see ParallelPortfolio
+ * @see ParallelEPS
+ * @since 17/10/2026
+ */
+public class ParallelLNS {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////       VARIABLES       //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * The model to solve
+     */
+    private final Model model;
+
+    /**
+     * Number of workers, including the model itself
+     */
+    private final int nbWorkers;
+
+    /**
+     * The models solved in parallel, the first one is {@link #model}
+     */
+    private final List<Model> workers;
+
+    /**
+     * The LNS of each worker
+     */
+    private MoveLNS[] moves;
+
+    /**
+     * Number of failures before a fragment is given up
+     */
+    private int restartFailLimit = 1000;
+
+    /**
+     * Improvement rates of the neighborhoods, shared among workers
+     */
+    private final ImprovementRates rates = new ImprovementRates(3);
+
+    /**
+     * Set to <i>true</i> when the workers have to stop
+     */
+    private volatile boolean stop;
+
+    /**
+     * Set to <i>true</i> when a stop criterion is met
+     */
+    private volatile boolean interrupted;
+
+    /**
+     * The incumbent shared among workers
+     */
+    private SharedIncumbent incumbent;
+
+    /**
+     * Best solution of each worker
+     */
+    private Solution[] bests;
+
+    private final AtomicLong solutionCount = new AtomicLong();
+    private final AtomicLong shareCount = new AtomicLong();
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Creates a new parallel LNS helper.
+     *
+     * @param model     a fully built model, not being solved
+     * @param nbWorkers number of workers (and threads), at least 1
+     */
+    public ParallelLNS(Model model, int nbWorkers) {
+        if (nbWorkers < 1) {
+            throw new SolverException("ParallelLNS requires at least one worker");
+        }
+        this.model = model;
+        this.nbWorkers = nbWorkers;
+        this.workers = new ArrayList<>(nbWorkers);
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////          API          //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Set the number of failures after which a fragment is given up (1000 by default).
+     *
+     * @param n a positive number
+     */
+    public void setRestartFailLimit(int n) {
+        if (n < 1) {
+            throw new SolverException("The number of failures before a restart must be positive");
+        }
+        this.restartFailLimit = n;
+    }
+
+    /**
+     * Attempts to find the optimal solution of the problem defined by <i>objective</i>.
+     * Unless the optimality is proven by one of the workers, the search only ends when a stop criterion is met,
+     * so at least one should be given.
+     *
+     * @param objective integer variable to optimize
+     * @param maximize  set to <tt>true</tt> to solve a maximization problem, set to <tt>false</tt> to solve a
+     *                  minimization problem.
+     * @param stop      optional criteria to stop the search, shared by all workers hence thread-safe
+     * @return the best solution found, <tt>null</tt> if none. It is proven to be optimal if {@link #isComplete()}.
+     */
+    public Solution findOptimalSolution(IntVar objective, boolean maximize, Criterion... stop) {
+        if (!workers.isEmpty()) {
+            throw new SolverException("ParallelLNS: a resolution method can only be called once");
+        }
+        model.setObjective(maximize, objective);
+        prepare();
+        ForkJoinPool pool = new ForkJoinPool(nbWorkers);
+        try {
+            List<Future<?>> tasks = new ArrayList<>(nbWorkers);
+            for (int i = 0; i < nbWorkers; i++) {
+                int w = i;
+                tasks.add(pool.submit(() -> work(w, stop)));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SolverException("ParallelLNS has been interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new SolverException(e.getMessage());
+        } finally {
+            pool.shutdownNow();
+        }
+        int w = incumbent.getWorker();
+        return w < 0 ? null : bests[w];
+    }
+
+    /**
+     * @return the models solved in parallel, the first one is the model given on construction
+     */
+    public List<Model> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return improvement rates of the random, the propagation-guided and
+     * the reverse propagation-guided neighborhoods, in that order
+     */
+    public ImprovementRates getRates() {
+        return rates;
+    }
+
+    /**
+     * @return <i>true</i> if the optimality of the best solution found has been proven
+     * (that is, no stop criterion was met)
+     */
+    public boolean isComplete() {
+        return !interrupted;
+    }
+
+    /**
+     * @return number of solutions found, over all workers
+     */
+    public long getSolutionCount() {
+        return solutionCount.get();
+    }
+
+    /**
+     * @return number of times a worker improved the incumbent and shared it with the others
+     */
+    public long getShareCount() {
+        return shareCount.get();
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    ///////////////////////////////////////   INTERNAL METHODS    //////////////////////////////////////////////////////
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Copy the model for each additional worker, share the incumbent and set up the LNS of each worker.
+     */
+    private void prepare() {
+        Solver solver = model.getSolver();
+        if (solver.getEngine().isInitialized() || solver.isSolving()) {
+            throw new SolverException("ParallelLNS: the model's resolution has already started");
+        }
+        AbstractStrategy<?> search = solver.getSearch();
+        workers.add(model);
+        for (int i = 1; i < nbWorkers; i++) {
+            ModelCloner cloner = new ModelCloner();
+            Model copy = cloner.copy(model);
+            if (search != null) {
+                copy.getSolver().setSearch(cloner.copyOf(search));
+            }
+            workers.add(copy);
+        }
+        incumbent = new SharedIncumbent(model.getResolutionPolicy());
+        bests = new Solution[nbWorkers];
+        // relaxed variables
+        Variable[] vars = model.getVars();
+        IdentityHashMap<Variable, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < vars.length; i++) {
+            positions.put(vars[i], i);
+        }
+        Variable[] dvars;
+        if (search != null) {
+            dvars = search.getVariables();
+        } else {
+            dvars = model.retrieveIntVars(true);
+        }
+        Variable objective = model.getObjective();
+        int[] relaxed = Arrays.stream(dvars)
+                .filter(v -> (v.getTypeAndKind() & Variable.INT) > 0 && (v.getTypeAndKind() & Variable.CSTE) == 0)
+                .filter(v -> v != objective)
+                .mapToInt(positions::get)
+                .distinct()
+                .toArray();
+        moves = new MoveLNS[nbWorkers];
+        for (int i = 0; i < nbWorkers; i++) {
+            Model m = workers.get(i);
+            if (!m.getSolver().getObjectiveManager().shareIncumbent(incumbent, i)) {
+                throw new SolverException("ParallelLNS: the objective manager cannot share its incumbent");
+            }
+            IntVar[] ivars = new IntVar[relaxed.length];
+            for (int j = 0; j < relaxed.length; j++) {
+                ivars[j] = (IntVar) m.getVar(relaxed[j]);
+            }
+            // same order as the rates
+            INeighbor neighbor = new ImprovementRateNeighborhood((IntVar) m.getObjective(), rates, i,
+                    new RandomNeighborhood(ivars, 3, i),
+                    new PropagationGuidedNeighborhood(ivars, 30, 10, i),
+                    new ReversePropagationGuidedNeighborhood(ivars, 0, 30, i));
+            moves[i] = new MoveLNS(m.getSolver().getMove(), neighbor, new FailCounter(m, restartFailLimit));
+            m.getSolver().setMove(moves[i]);
+        }
+    }
+
+    /**
+     * Run the LNS of worker <i>w</i> until the optimality is proven or the workers are stopped.
+     */
+    private void work(int w, Criterion[] criteria) {
+        Model m = workers.get(w);
+        Solver solver = m.getSolver();
+        solver.addStopCriterion(() -> {
+            if (!stop) {
+                for (Criterion c : criteria) {
+                    if (c.isMet()) {
+                        interrupted = true;
+                        stop = true;
+                        break;
+                    }
+                }
+            }
+            return stop;
+        });
+        while (solver.solve()) {
+            solutionCount.incrementAndGet();
+            int value = ((IntVar) m.getObjective()).getValue();
+            // the objective manager has already offered the solution to the incumbent
+            if (incumbent.getWorker() == w && incumbent.getBestValue() == value) {
+                Solution solution = new Solution(m).record();
+                bests[w] = solution;
+                for (int i = 0; i < nbWorkers; i++) {
+                    if (i != w) {
+                        moves[i].offerSolution(solution);
+                    }
+                }
+                shareCount.incrementAndGet();
+            }
+        }
+        if (solver.getSearchState() == SearchState.KILLED) {
+            interrupted = true;
+        }
+        // either the optimality is proven, or the workers are stopped
+        stop = true;
+    }
+}
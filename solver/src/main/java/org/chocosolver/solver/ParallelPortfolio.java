@@ -11,14 +11,18 @@ package org.chocosolver.solver;
 
 import org.chocosolver.cutoffseq.LubyCutoffStrategy;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseSharing;
 import org.chocosolver.solver.constraints.nary.sat.NogoodStealer;
 import org.chocosolver.solver.constraints.real.RealConstraint;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.objective.SharedIncumbent;
 import org.chocosolver.solver.search.limits.FailCounter;
+import org.chocosolver.solver.search.loop.learn.LearnSignedClauses;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
 import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
 import org.chocosolver.solver.search.loop.monitors.NogoodFromRestarts;
+import org.chocosolver.solver.search.loop.monitors.SharedClausesOnRestarts;
 import org.chocosolver.solver.search.strategy.Search;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.RealVar;
@@ -59,12 +63,18 @@ import static org.chocosolver.solver.search.strategy.Search.*;
  * <p>
  *     The resolution process is synchronized. As soon as one model ends (naturally or by hitting a limit)
  *     the other ones are eagerly stopped.
- *     Moreover, when dealing with an optimization problem, cut on the objective variable's value is propagated
- *     to all models on solution.
+ *     Moreover, when dealing with an optimization problem, the models share a lock-free incumbent
+ *     (see {@link SharedIncumbent}): each solution is offered to it and
+ *     every model pulls the best known value each time it posts its cut on the objective variable, that is,
+ *     at every node.
  *     It is essential to eagerly declare the objective variable(s) with {@link Model#setObjective(boolean, Variable)}.
  *
  * </p>
  * <p>
+ *     Models learning signed clauses can exchange their short learnt clauses on restarts
+ *     (see {@link #shareLearntClauses(int, int)}).
+ * </p>
+ * <p>
  *     Note that the similarity of the models declared is not required.
  *     However, when dealing with an optimization problem, keep in mind that the cut on the objective variable's value
  *     is propagated among all models, so different objectives may lead to wrong results.
@@ -120,6 +130,16 @@ public class ParallelPortfolio {
      */
     private NogoodStealer manager = NogoodStealer.NONE;
 
+    /**
+     * Set to <i>true</i> when learnt signed clauses are shared among models
+     */
+    private boolean shareClauses = false;
+
+    /**
+     * Largest cardinality and LBD of a shared learnt signed clause
+     */
+    private int shareMaxSize, shareMaxLBD;
+
     /**
      * Stores whether or not prepare() method has been called
      */
@@ -135,9 +155,19 @@ public class ParallelPortfolio {
     private AtomicInteger solverRunning = new AtomicInteger(0);
 
     /**
-     * Point to (one of) the solver(s) which found a solution
+     * Point to (one of) the solver(s) which found a solution, when dealing with satisfaction problem
+     */
+    private volatile Model finder;
+
+    /**
+     * The incumbent shared among models, when dealing with optimization problem
      */
-    private Model finder;
+    private SharedIncumbent incumbent;
+
+    /**
+     * Best objective value broadcast to all models, when the incumbent cannot be shared
+     */
+    private Number broadcast;
 
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     ///////////////////////////////////////      CONSTRUCTOR      //////////////////////////////////////////////////////
@@ -181,6 +211,34 @@ public class ParallelPortfolio {
         this.manager = new NogoodStealer();
     }
 
+    /**
+     * Calling this method will ensure that workers learning signed clauses
+     * (see {@link Solver#setLearningSignedClauses()}) export their learnt clauses of cardinality
+     * less than or equal to <i>maxSize</i> and of LBD less than or equal to <i>maxLBD</i>,
+     * and import those learnt by the other workers on each restart.
+     * Unreliable workers import clauses but do not export theirs.
+     *
+     * @param maxSize largest cardinality of a shared clause
+     * @param maxLBD  largest LBD of a shared clause
+     * @implSpec It is assumed that all models in this portfolio are equivalent (ie, each variable has
+     * the same ID in each worker). Learning must be enabled before the first resolution.
+     */
+    public void shareLearntClauses(int maxSize, int maxLBD) {
+        this.shareMaxSize = maxSize;
+        this.shareMaxLBD = maxLBD;
+        this.shareClauses = true;
+    }
+
+    /**
+     * Share learnt signed clauses of cardinality less than or equal to 8 and of LBD less than or equal to 4
+     * among workers.
+     *
+     * @see #shareLearntClauses(int, int)
+     */
+    public void shareLearntClauses() {
+        shareLearntClauses(8, 4);
+    }
+
     /**
      * <p>
      * Adds a model to the list of models to run in parallel.
@@ -267,7 +325,7 @@ public class ParallelPortfolio {
             forkJoinPool.submit(() -> models.parallelStream().forEach(m -> {
                 if (!getSolverTerminated().get()) {
                     boolean so = m.getSolver().solve();
-                    if (!so || finder == m) {
+                    if (!so || getBestModel() == m) {
                         getSolverTerminated().set(so || reliableness.get(m) || getSolverRunning().decrementAndGet() <= 0);
                     }
                 }
@@ -316,6 +374,10 @@ public class ParallelPortfolio {
      * @return the first model which finds a solution (or the best one) or <tt>null</tt> if no such model exists.
      */
     public Model getBestModel() {
+        if (incumbent != null) {
+            int w = incumbent.getWorker();
+            return w < 0 ? null : models.get(w);
+        }
         return finder;
     }
 
@@ -385,36 +447,67 @@ public class ParallelPortfolio {
     public void prepare() {
         isPrepared = true;
         check();
+        ResolutionPolicy policy = models.get(0).getResolutionPolicy();
+        if (policy != ResolutionPolicy.SATISFACTION) {
+            incumbent = new SharedIncumbent(policy);
+        }
+        boolean shared = true;
+        ClauseSharing sharing = shareClauses ?
+                new ClauseSharing(models.size(), 1024, shareMaxSize, shareMaxLBD) : null;
         for (int i = 0; i < models.size(); i++) {
             Solver s = models.get(i).getSolver();
+            int worker = i;
             s.addStopCriterion(() -> getSolverTerminated().get());
-            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(s.getModel()));
+            if (incumbent != null) {
+                shared &= s.getObjectiveManager().shareIncumbent(incumbent, worker);
+            }
+            if (sharing != null && s.getLearner() instanceof LearnSignedClauses) {
+                if (reliableness.get(s.getModel())) {
+                    s.getModel().getClauseConstraint().getClauseStore().exportTo(sharing, worker);
+                }
+                s.plugMonitor(new SharedClausesOnRestarts(s.getModel(), sharing, worker));
+            }
+            s.plugMonitor((IMonitorSolution) () -> updateFromSolution(s.getModel(), worker));
             if (searchAutoConf) {
                 configureModel(i);
             }
         }
+        if (!shared) {
+            // e.g., real or custom objective: bounds are broadcast on solution
+            incumbent = null;
+        }
     }
 
-    private synchronized void updateFromSolution(Model m) {
+    private void updateFromSolution(Model m, int worker) {
         if (m.getResolutionPolicy() == ResolutionPolicy.SATISFACTION) {
             finder = m;
             getSolutionFound().set(true);
-        } else {
-            int solverVal = ((IntVar) m.getObjective()).getValue();
-            int bestVal = m.getSolver().getObjectiveManager().getBestSolutionValue().intValue();
-            if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
-                assert solverVal <= bestVal : solverVal + ">" + bestVal;
-            } else
-                assert
-                        m.getResolutionPolicy() != ResolutionPolicy.MINIMIZE || solverVal >= bestVal : solverVal + "<" + bestVal;
-            if (solverVal == bestVal) {
+        } else if (incumbent != null) {
+            // the solution has already been offered to the incumbent by the objective manager
+            if (incumbent.getWorker() == worker) {
                 getSolutionFound().set(true);
-                finder = m;
-                if (m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE) {
-                    models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestLB(bestVal));
-                } else {
-                    models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestUB(bestVal));
-                }
+            }
+        } else {
+            broadcast(m);
+        }
+    }
+
+    /**
+     * Propagate the objective value of the solution found by <i>m</i> to all models,
+     * when their objective managers cannot share an incumbent
+     */
+    private synchronized void broadcast(Model m) {
+        Number value = m.getSolver().getObjectiveManager().getBestSolutionValue();
+        boolean max = m.getResolutionPolicy() == ResolutionPolicy.MAXIMIZE;
+        if (broadcast == null
+                || (max ? value.doubleValue() > broadcast.doubleValue() : value.doubleValue() < broadcast.doubleValue())) {
+            broadcast = value;
+            finder = m;
+            getSolutionFound().set(true);
+            if (max) {
+                models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestLB(value));
+            } else {
+                models.forEach(s1 -> s1.getSolver().getObjectiveManager().updateBestUB(value));
             }
         }
     }
@@ -76,6 +76,12 @@ public interface Settings {
                 "variables.prefix", this.defaultPrefix()));
         this.setEnableSAT(Boolean.parseBoolean(properties.getOrDefault(
                 "satsolver.activate", this.enableSAT()).toString()));
+        this.setEnableSATSimplification(Boolean.parseBoolean(properties.getOrDefault(
+                "satsolver.simplify", this.enableSATSimplification()).toString()));
+        this.setNogoodsMinimization(Boolean.parseBoolean(properties.getOrDefault(
+                "nogoods.minimize", this.enableNogoodsMinimization()).toString()));
+        this.setNogoodsMaxAge(Integer.parseInt(properties.getOrDefault(
+                "nogoods.maxAge", this.getNogoodsMaxAge()).toString()));
         this.setSwapOnPassivate(Boolean.parseBoolean(properties.getOrDefault(
                 "propagators.swap", this.swapOnPassivate()).toString()));
         this.setCheckDeclaredConstraints(Boolean.parseBoolean(properties.getOrDefault(
@@ -90,6 +96,12 @@ public interface Settings {
                 "learnt.maxCard", this.getMaxLearntClauseCardinality()).toString()));
         this.setLearntClausesDominancePerimeter(Integer.parseInt(properties.getOrDefault(
                 "learnt.dominance", this.getLearntClausesDominancePerimeter()).toString()));
+        this.setLearntClausesTiers(Integer.parseInt(properties.getOrDefault(
+                "learnt.lbd.core", this.getLearntClausesCoreLBD()).toString()),
+                Integer.parseInt(properties.getOrDefault(
+                        "learnt.lbd.mid", this.getLearntClausesMidLBD()).toString()));
+        this.setLazyClauseGeneration(Boolean.parseBoolean(properties.getOrDefault(
+                "learnt.lcg", this.isLazyClauseGeneration()).toString()));
         this.explainGlobalFailureInSum(Boolean.parseBoolean(properties.getOrDefault(
                 "learnt.sum.global", this.explainGlobalFailureInSum()).toString()));
         this.setIbexContractionRatio(Double.parseDouble(properties.getOrDefault(
@@ -150,6 +162,9 @@ public interface Settings {
         properties.setProperty("propagators.clonevars", Boolean.toString(this.cloneVariableArrayInPropagator()));
         properties.setProperty("variables.prefix", this.defaultPrefix());
         properties.setProperty("satsolver.activate", Boolean.toString(enableSAT()));
+        properties.setProperty("satsolver.simplify", Boolean.toString(enableSATSimplification()));
+        properties.setProperty("nogoods.minimize", Boolean.toString(enableNogoodsMinimization()));
+        properties.setProperty("nogoods.maxAge", Integer.toString(getNogoodsMaxAge()));
         properties.setProperty("propagators.swap", Boolean.toString(swapOnPassivate()));
         properties.setProperty("constraints.check", Boolean.toString(checkDeclaredConstraints()));
         properties.setProperty("constraints.check.printall", Boolean.toString(printAllUndeclaredConstraints()));
@@ -158,6 +173,9 @@ public interface Settings {
         properties.setProperty("learnt.ratio", Float.toString(this.getRatioForClauseStoreReduction()));
         properties.setProperty("learnt.maxCard", Integer.toString(this.getMaxLearntClauseCardinality()));
         properties.setProperty("learnt.dominance", Integer.toString(this.getLearntClausesDominancePerimeter()));
+        properties.setProperty("learnt.lbd.core", Integer.toString(this.getLearntClausesCoreLBD()));
+        properties.setProperty("learnt.lbd.mid", Integer.toString(this.getLearntClausesMidLBD()));
+        properties.setProperty("learnt.lcg", Boolean.toString(this.isLazyClauseGeneration()));
         properties.setProperty("learnt.sum.global", Boolean.toString(this.explainGlobalFailureInSum()));
         properties.setProperty("constraints.ibex.contractionRation", Double.toString(this.getIbexContractionRatio()));
         properties.setProperty("constraints.ibex.restoreRounding", Boolean.toString(this.getIbexRestoreRounding()));
@@ -435,6 +453,57 @@ public interface Settings {
      */
     Settings setEnableSAT(boolean enableSAT);
 
+    /**
+     * @return <i>true</i> if the clauses of the underlying SAT solver are simplified before being propagated,
+     *         <i>false</i> (default value) otherwise.
+     * @see #setEnableSATSimplification(boolean)
+     */
+    boolean enableSATSimplification();
+
+    /**
+     * Indicate if the clauses of the underlying SAT solver are simplified (subsumption, strengthening and
+     * failed-literal probing) on initial propagation, and each time clauses are added.
+     * Simplification can also be applied on restarts, see
+     * {@link org.chocosolver.solver.search.loop.monitors.ISearchMonitorFactory#setSATSimplificationOnRestarts()}.
+     * @param enableSATSimplification {@code true} to simplify clauses
+     * @return the current instance
+     */
+    Settings setEnableSATSimplification(boolean enableSATSimplification);
+
+    /**
+     * @return <i>true</i> if the no-goods learnt from restarts and solutions are minimized,
+     *         <i>false</i> (default value) otherwise.
+     * @see #setNogoodsMinimization(boolean)
+     */
+    boolean enableNogoodsMinimization();
+
+    /**
+     * Indicate if the no-goods learnt from restarts and solutions (see {@link Model#getNogoodStore()}) are minimized.
+     * When set, literals implied by the other ones in the no-good store are removed from each new no-good
+     * and, on each restart, the learnt no-goods are vivified by unit propagation at root level.
+     * @param minimize {@code true} to minimize no-goods
+     * @return the current instance
+     */
+    Settings setNogoodsMinimization(boolean minimize);
+
+    /**
+     * @return the number of restarts after which a learnt no-good that did not propagate is forgotten,
+     *         <i>0</i> (default value) means never.
+     * @see #setNogoodsMaxAge(int)
+     */
+    int getNogoodsMaxAge();
+
+    /**
+     * Define the number of consecutive restarts after which a learnt no-good (see {@link Model#getNogoodStore()})
+     * that did neither propagate nor fail is forgotten.
+     * Ages saturate at {@link org.chocosolver.sat.SatSolver#MAX_AGE}, so do larger values.
+     * Note that parts of the search space may then be explored again, so that, when enumerating solutions,
+     * a solution may be found more than once.
+     * @param maxAge number of restarts, <i>0</i> to keep all no-goods
+     * @return the current instance
+     */
+    Settings setNogoodsMaxAge(int maxAge);
+
     /**
      * @return <i>true</i> if, on propagator passivation, the propagator is swapped from active to passive in its variables' propagators list.
      * <i>false</i> if, on propagator passivation, only the propagator's state is set to PASSIVE.
@@ -593,6 +662,53 @@ public interface Settings {
      */
     Settings setLearntClausesDominancePerimeter(int n);
 
+    /**
+     * @return the greatest LBD of a learnt clause in the core tier, such clauses are never removed.
+     * @see #setLearntClausesTiers(int, int)
+     */
+    int getLearntClausesCoreLBD();
+
+    /**
+     * @return the greatest LBD of a learnt clause in the mid tier, such clauses are kept as long as they are used.
+     * @see #setLearntClausesTiers(int, int)
+     */
+    int getLearntClausesMidLBD();
+
+    /**
+     * Learnt clauses are managed in three tiers wrt their LBD (the number of distinct decision levels among their literals):
+     * <ul>
+     *     <li>core tier: LBD &le; <i>core</i>, clauses are never removed,</li>
+     *     <li>mid tier: <i>core</i> &lt; LBD &le; <i>mid</i>, clauses not used in conflict analysis
+     *     between two reductions are moved to the local tier,</li>
+     *     <li>local tier: other clauses, reduced wrt their activity
+     *     (see {@link #setNbMaxLearntClauses(int)} and {@link #setRatioForClauseStoreReduction(float)}).</li>
+     * </ul>
+     * The LBD of a clause is updated each time it is used in conflict analysis, and the clause moves to a better tier if needed.
+     * Setting both values to 0 puts all learnt clauses in the local tier.
+     * @param core greatest LBD of a core clause (default is 2)
+     * @param mid greatest LBD of a mid clause (default is 6)
+     * @return the current instance
+     */
+    Settings setLearntClausesTiers(int core, int mid);
+
+    /**
+     * @return <i>true</i> if learnt signed clauses are translated into SAT clauses when possible.
+     * @see #setLazyClauseGeneration(boolean)
+     */
+    boolean isLazyClauseGeneration();
+
+    /**
+     * When learning signed clauses, translate each learnt clause into a SAT clause over
+     * integer literals [x = v] and [x &le; v], created on demand in the no-good store
+     * (see {@link Model#getNogoodStore()}), when each of its signed literals can be expressed
+     * with a few such literals wrt the root domain of its variable.
+     * Such clauses are then propagated with two watched literals, and explained with the SAT clause that forced them.
+     * Other clauses are stored as signed clauses.
+     * @param lcg set to <i>true</i> to enable lazy clause generation (default is <i>false</i>)
+     * @return the current instance
+     */
+    Settings setLazyClauseGeneration(boolean lcg);
+
     /**
      * @return <i>true</i> if additional clauses can be learned from sum's global failure
      */
@@ -9,8 +9,6 @@
  */
 package org.chocosolver.solver;
 
-import gnu.trove.map.hash.TIntIntHashMap;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -37,28 +35,27 @@ public class Solution implements ICause {
     // VARIABLES
     //***********************************************************************************
 
-    /**
-     * No entry value for maps
-     */
-    private static final int NO_ENTRY = Integer.MAX_VALUE;
-
     // SOLUTION
     /**
      * Set to <tt>true</tt> when this object is empty
      */
     private boolean empty;
     /**
-     * Maps of value for integer variable (id - value)
+     * Values of integer variables, indexed by position in {@link #varsToStore}
+     */
+    int[] ints;
+    /**
+     * Bounds of real variables, at <i>2p</i> and <i>2p + 1</i> for position <i>p</i> in {@link #varsToStore}
      */
-    private TIntIntHashMap intmap;
+    double[] reals;
     /**
-     * Maps of value for real variable (id - value)
+     * Values of set variables, indexed by position in {@link #varsToStore}
      */
-    private TIntObjectHashMap<double[]> realmap;
+    int[][] sets;
     /**
-     * Maps of value for set variable (id - values)
+     * Bit <i>p</i> is set when the variable at position <i>p</i> in {@link #varsToStore} has no value in this solution
      */
-    private TIntObjectHashMap<int[]> setmap;
+    long[] missing;
 
     // INPUT
     /**
@@ -68,7 +65,13 @@ public class Solution implements ICause {
     /**
      * Variables to store;
      */
-    private Variable[] varsToStore;
+    Variable[] varsToStore;
+    /**
+     * Position in {@link #varsToStore} of each variable, indexed by variable ID, -1 if none.
+     * Built with the storage, before this solution can be shared among threads, and shared among copies:
+     * it is never modified once built.
+     */
+    private int[] positions;
 
     //***********************************************************************************
     // CONSTRUCTOR
@@ -101,46 +104,35 @@ public class Solution implements ICause {
     public Solution record() {
         empty = false;
         boolean warn = false;
-        if (varsToStore.length == 0) {
-            varsToStore = model.getVars();
-        }
+        layout();
         assert varsToStore.length > 0;
-        if (intmap != null) {
-            intmap.clear();
-        }
-        if (realmap != null) {
-            realmap.clear();
-        }
-        if (setmap != null) {
-            setmap.clear();
-        }
-        for (Variable var : varsToStore) {
+        Arrays.fill(missing, -1L);
+        for (int p = 0; p < varsToStore.length; p++) {
+            Variable var = varsToStore[p];
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 if (var.isInstantiated()) {
                     switch (kind) {
                         case Variable.INT:
                         case Variable.BOOL:
-                            if (intmap == null) {
-                                intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY,
-                                    Solution.NO_ENTRY);
-                            }
-                            IntVar v = (IntVar) var;
-                            intmap.put(v.getId(), v.getValue());
+                            ints[p] = ((IntVar) var).getValue();
+                            found(p);
                             break;
                         case Variable.REAL:
-                            if (realmap == null) {
-                                realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+                            if (reals == null) {
+                                reals = new double[2 * varsToStore.length];
                             }
                             RealVar r = (RealVar) var;
-                            realmap.put(r.getId(), new double[]{r.getLB(), r.getUB()});
+                            reals[2 * p] = r.getLB();
+                            reals[2 * p + 1] = r.getUB();
+                            found(p);
                             break;
                         case Variable.SET:
-                            if (setmap == null) {
-                                setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+                            if (sets == null) {
+                                sets = new int[varsToStore.length][];
                             }
-                            SetVar s = (SetVar) var;
-                            setmap.put(s.getId(), s.getValue().toArray());
+                            sets[p] = ((SetVar) var).getValue().toArray();
+                            found(p);
                             break;
                         default:
                             // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -159,32 +151,130 @@ public class Solution implements ICause {
         return this;
     }
 
+    /**
+     * Allocate the dense storage, and the positions of the variables, when first needed
+     */
+    private void layout() {
+        if (ints == null) {
+            if (varsToStore.length == 0) {
+                varsToStore = model.getVars();
+            }
+            ints = new int[varsToStore.length];
+            missing = new long[(varsToStore.length + 63) >>> 6];
+            Arrays.fill(missing, -1L);
+            if (positions == null) {
+                int maxId = -1;
+                for (Variable v : varsToStore) {
+                    maxId = Math.max(maxId, v.getId());
+                }
+                int[] pos = new int[maxId + 1];
+                Arrays.fill(pos, -1);
+                for (int p = 0; p < varsToStore.length; p++) {
+                    pos[varsToStore[p].getId()] = p;
+                }
+                positions = pos;
+            }
+        }
+    }
+
+    /**
+     * Add <i>var</i> to the variables to store, without value.
+     * The arrays shared with copies of this solution are replaced, not modified.
+     *
+     * @param var a variable not stored yet
+     * @return position of <i>var</i> in {@link #varsToStore}
+     */
+    private int extend(Variable var) {
+        int p = varsToStore.length;
+        varsToStore = Arrays.copyOf(varsToStore, p + 1, Variable[].class);
+        varsToStore[p] = var;
+        ints = Arrays.copyOf(ints, p + 1);
+        if (missing.length < (p + 64) >>> 6) {
+            missing = Arrays.copyOf(missing, missing.length + 1);
+            missing[missing.length - 1] = -1L;
+        }
+        if (reals != null) {
+            reals = Arrays.copyOf(reals, 2 * (p + 1));
+        }
+        if (sets != null) {
+            sets = Arrays.copyOf(sets, p + 1);
+        }
+        int id = var.getId();
+        int[] pos = Arrays.copyOf(positions, Math.max(positions.length, id + 1));
+        Arrays.fill(pos, positions.length, pos.length, -1);
+        pos[id] = p;
+        positions = pos;
+        return p;
+    }
+
+    /**
+     * Declare that the variable at position <i>p</i> has a value in this solution
+     */
+    private void found(int p) {
+        missing[p >>> 6] &= ~(1L << p);
+    }
+
+    /**
+     * @return <i>true</i> if the variable at position <i>p</i> has a value in this solution
+     */
+    private boolean has(int p) {
+        return p >= 0 && missing != null && (missing[p >>> 6] & (1L << p)) == 0;
+    }
+
+    /**
+     * @param var a variable
+     * @return position of <i>var</i> in {@link #varsToStore}, matched by its ID, -1 if none
+     */
+    private int position(Variable var) {
+        if (ints == null) {
+            return -1;
+        }
+        int id = var.getId();
+        return id < positions.length ? positions[id] : -1;
+    }
+
+    /**
+     * @param var a variable to set the value of, added to the variables to store if needed
+     * @return position of <i>var</i> in {@link #varsToStore}, declared to have a value in this solution
+     */
+    private int store(Variable var) {
+        layout();
+        int p = position(var);
+        if (p < 0) {
+            p = extend(var);
+        }
+        found(p);
+        empty = false;
+        return p;
+    }
+
     @Override
     public String toString() {
         if (empty) {
             return "Empty solution. No solution recorded yet";
         }
         StringBuilder st = new StringBuilder("Solution: ");
-        for (Variable var : varsToStore) {
+        for (int p = 0; p < varsToStore.length; p++) {
+            Variable var = varsToStore[p];
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
-                        IntVar v = (IntVar) var;
-                        st.append(v.getName()).append("=").append(intmap.get(v.getId()))
+                        st.append(var.getName()).append("=").append(has(p) ? String.valueOf(ints[p]) : "?")
                             .append(", ");
                         break;
                     case Variable.REAL:
-                        RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
-                        st.append(r.getName()).append("=[").append(bounds[0]).append(",")
-                            .append(bounds[1]).append("], ");
+                        if (has(p)) {
+                            st.append(var.getName()).append("=[").append(reals[2 * p]).append(",")
+                                .append(reals[2 * p + 1]).append("], ");
+                        } else {
+                            st.append(var.getName()).append("=?, ");
+                        }
                         break;
                     case Variable.SET:
-                        SetVar s = (SetVar) var;
-                        st.append(s.getName()).append("=")
-                            .append(Arrays.toString(setmap.get(s.getId()))).append(", ");
+                        st.append(var.getName()).append("=")
+                            .append(has(p) ? Arrays.toString(sets[p]) : "?").append(", ");
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -196,17 +286,24 @@ public class Solution implements ICause {
         return st.toString();
     }
 
+    /**
+     * Copy this solution. Only the arrays of values are copied, the variables to store are shared.
+     *
+     * @return a copy of this solution
+     */
     public Solution copySolution() {
         Solution ret = new Solution(model, varsToStore);
         ret.empty = empty;
-        if (intmap != null) {
-            ret.intmap = new TIntIntHashMap(intmap);
+        ret.positions = positions;
+        if (ints != null) {
+            ret.ints = ints.clone();
+            ret.missing = missing.clone();
         }
-        if (realmap != null) {
-            ret.realmap = new TIntObjectHashMap<>(realmap);
+        if (reals != null) {
+            ret.reals = reals.clone();
         }
-        if (setmap != null) {
-            ret.setmap = new TIntObjectHashMap<>(setmap);
+        if (sets != null) {
+            ret.sets = sets.clone();
         }
         return ret;
     }
@@ -214,6 +311,10 @@ public class Solution implements ICause {
     /**
      * Get the value of variable v in this solution. If <i>v</i> was not instantiated during
      * solution recording, calling this method will throw an exception.
+     * <p>
+     * Variables are matched by their ID, so a solution of a model can be read with the variables of a copy of it
+     * (see {@link Model#copy()}).
+     * </p>
      *
      * @param v IntVar (or BoolVar)
      * @return the value of variable v in this solution, or null if the variable is not instantiated
@@ -225,8 +326,9 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + v
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (intmap != null && intmap.containsKey(v.getId())) {
-            return intmap.get(v.getId());
+        int p = position(v);
+        if (has(p)) {
+            return ints[p];
         } else {
             if ((v.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
                 return v.getValue();
@@ -238,17 +340,29 @@ public class Solution implements ICause {
     }
 
     /**
-     * Set the value of variable v in this solution.
+     * Get the values of variables <i>vars</i> in this solution, at once.
+     * This is equivalent to calling {@link #getIntVal(IntVar)} on each variable, without any hashing.
+     *
+     * @param vars   IntVars (or BoolVars)
+     * @param values array to fill, <i>values[i]</i> is set to the value of <i>vars[i]</i> in this solution
+     * @throws SolverException if a variable was not instantiated during solution recording.
+     */
+    public void getIntVals(IntVar[] vars, int[] values) {
+        for (int i = 0; i < vars.length; i++) {
+            int p = position(vars[i]);
+            values[i] = has(p) ? ints[p] : getIntVal(vars[i]);
+        }
+    }
+
+    /**
+     * Set the value of variable v in this solution, <i>var</i> is added to the variables to store if needed.
      *
      * @param var IntVar (or BoolVar)
      * @param val its value
      */
     public void setIntVal(IntVar var, int val) {
-        empty = false;
-        if (intmap == null) {
-            intmap = new TIntIntHashMap(16, .5f, Solution.NO_ENTRY, Solution.NO_ENTRY);
-        }
-        intmap.put(var.getId(), val);
+        int p = store(var);
+        ints[p] = val;
     }
 
     /**
@@ -265,8 +379,9 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + s
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (setmap != null && setmap.containsKey(s.getId())) {
-            return setmap.get(s.getId());
+        int p = position(s);
+        if (has(p)) {
+            return sets[p];
         } else if ((s.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
             return s.getValue().toArray();
         } else {
@@ -276,17 +391,17 @@ public class Solution implements ICause {
     }
 
     /**
-     * Set the value of variable v in this solution
+     * Set the value of variable v in this solution, <i>var</i> is added to the variables to store if needed.
      *
      * @param var SetVar
      * @param val its value
      */
     public void setSetVal(SetVar var, int[] val) {
-        empty = false;
-        if (setmap == null) {
-            setmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
+        int p = store(var);
+        if (sets == null) {
+            sets = new int[varsToStore.length][];
         }
-        setmap.put(var.getId(), val);
+        sets[p] = val;
     }
 
     /**
@@ -303,8 +418,9 @@ public class Solution implements ICause {
             throw new SolverException("Cannot access value of " + r
                 + ": No solution has been recorded yet (empty solution). Make sure this.record() has been called.");
         }
-        if (realmap != null && realmap.containsKey(r.getId())) {
-            return realmap.get(r.getId());
+        int p = position(r);
+        if (has(p)) {
+            return new double[]{reals[2 * p], reals[2 * p + 1]};
         } else {
             if ((r.getTypeAndKind() & Variable.TYPE) == Variable.CSTE) {
                 return new double[]{r.getLB(), r.getUB()};
@@ -316,20 +432,21 @@ public class Solution implements ICause {
     }
 
     /**
-     * Set the value of variable v in this solution
+     * Set the value of variable v in this solution, <i>var</i> is added to the variables to store if needed.
      *
      * @param var RealVar
      * @param val its value
      */
     public void setRealBounds(RealVar var, double[] val) {
-        empty = false;
-        if (realmap == null) {
-            realmap = new TIntObjectHashMap<>(16, 05f, Solution.NO_ENTRY);
-        }
         if (val.length != 2) {
             throw new SolverException("wrong array size");
         }
-        realmap.put(var.getId(), val);
+        int p = store(var);
+        if (reals == null) {
+            reals = new double[2 * varsToStore.length];
+        }
+        reals[2 * p] = val[0];
+        reals[2 * p + 1] = val[1];
     }
 
     /**
@@ -376,23 +493,23 @@ public class Solution implements ICause {
      * @throws ContradictionException if restoring the solution leads to failure
      */
     public void restore() throws ContradictionException {
-        for (Variable var : varsToStore) {
+        for (int p = 0; p < varsToStore.length; p++) {
+            Variable var = varsToStore[p];
             if ((var.getTypeAndKind() & Variable.TYPE) != Variable.CSTE) {
                 int kind = var.getTypeAndKind() & Variable.KIND;
                 switch (kind) {
                     case Variable.INT:
                     case Variable.BOOL:
-                        IntVar v = (IntVar) var;
-                        v.instantiateTo(intmap.get(v.getId()), this);
+                        check(p, var);
+                        ((IntVar) var).instantiateTo(ints[p], this);
                         break;
                     case Variable.REAL:
-                        RealVar r = (RealVar) var;
-                        double[] bounds = realmap.get(r.getId());
-                        r.updateBounds(bounds[0], bounds[1], this);
+                        check(p, var);
+                        ((RealVar) var).updateBounds(reals[2 * p], reals[2 * p + 1], this);
                         break;
                     case Variable.SET:
-                        SetVar s = (SetVar) var;
-                        s.instantiateTo(setmap.get(s.getId()), this);
+                        check(p, var);
+                        ((SetVar) var).instantiateTo(sets[p], this);
                         break;
                     default:
                         // do not throw exception to allow extending the solver with other variable kinds (e.g. graph)
@@ -404,6 +521,16 @@ public class Solution implements ICause {
         model.getSolver().propagate();
     }
 
+    /**
+     * @throws SolverException if the variable <i>var</i>, at position <i>p</i>, has no value in this solution
+     */
+    private void check(int p, Variable var) {
+        if (!has(p)) {
+            throw new SolverException("Cannot restore value of " + var
+                + ": This variable was not instantiated during solution recording.");
+        }
+    }
+
     /**
      * @return <i>true</i> if a solution has been recorded into this, <i>false</i> otherwise.
      */
@@ -0,0 +1,142 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import gnu.trove.list.array.TIntArrayList;
+import org.chocosolver.solver.search.IResolutionHelper;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of solutions stored with delta compression, as returned by
+ * {@link IResolutionHelper#findAllSolutionsCompressed(Criterion...)}.
+ * <p>
+ * Consecutive solutions of an enumeration usually differ on a few variables.
+ * So, the values of the integer variables of a solution are stored as the positions and values
+ * that differ from the previous solution.
+ * A solution is fully stored every {@link #PERIOD} solutions, or when it does not store the same variables as
+ * the previous one, or when the values of its other variables differ.
+ * </p>
+ * <p>
+ * A solution is decoded on access, from the last one fully stored before it, into a new {@link Solution}:
+ * modifying it does not modify this list.
+ * Solutions can be added, but neither replaced nor removed.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SolutionList extends AbstractList<Solution> implements RandomAccess {
+
+    /**
+     * Maximum number of solutions decoded from a solution fully stored
+     */
+    private static final int PERIOD = 64;
+
+    private static final int[] NO_DELTA = new int[0];
+
+    /**
+     * Solutions fully stored
+     */
+    private final List<Solution> snapshots = new ArrayList<>();
+    /**
+     * For each solution, index in {@link #snapshots} of the one it is decoded from
+     */
+    private final TIntArrayList bases = new TIntArrayList();
+    /**
+     * For each solution, the positions and values that differ from the previous solution, interleaved,
+     * or <i>null</i> if it is fully stored
+     */
+    private final List<int[]> deltas = new ArrayList<>();
+    /**
+     * Values of the integer variables of the last solution
+     */
+    private int[] last;
+    /**
+     * Number of solutions added since the last one fully stored
+     */
+    private int since;
+    private final TIntArrayList delta = new TIntArrayList();
+
+    @Override
+    public boolean add(Solution solution) {
+        Solution base = snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1);
+        if (base != null && since < PERIOD && sameLayout(base, solution)) {
+            delta.resetQuick();
+            int[] ints = solution.ints;
+            for (int p = 0; p < ints.length; p++) {
+                if (ints[p] != last[p]) {
+                    delta.add(p);
+                    delta.add(ints[p]);
+                    last[p] = ints[p];
+                }
+            }
+            deltas.add(delta.isEmpty() ? NO_DELTA : delta.toArray());
+            since++;
+        } else {
+            Solution copy = solution.copySolution();
+            snapshots.add(copy);
+            deltas.add(null);
+            last = copy.ints == null ? null : copy.ints.clone();
+            since = 1;
+        }
+        bases.add(snapshots.size() - 1);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * @return <i>true</i> if <i>solution</i> stores the same variables as <i>base</i>,
+     * and is equal to it but for the values of the integer variables
+     */
+    private static boolean sameLayout(Solution base, Solution solution) {
+        return base.ints != null && solution.ints != null
+            && (base.varsToStore == solution.varsToStore || Arrays.equals(base.varsToStore, solution.varsToStore))
+            && Arrays.equals(base.missing, solution.missing)
+            && Arrays.equals(base.reals, solution.reals)
+            && Arrays.deepEquals(base.sets, solution.sets);
+    }
+
+    @Override
+    public Solution get(int index) {
+        if (index < 0 || index >= deltas.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + deltas.size());
+        }
+        Solution solution = snapshots.get(bases.getQuick(index)).copySolution();
+        int from = index;
+        while (deltas.get(from) != null) {
+            from--;
+        }
+        for (int i = from + 1; i <= index; i++) {
+            int[] d = deltas.get(i);
+            for (int k = 0; k < d.length; k += 2) {
+                solution.ints[d[k]] = d[k + 1];
+            }
+        }
+        return solution;
+    }
+
+    @Override
+    public int size() {
+        return deltas.size();
+    }
+
+    /**
+     * @return number of solutions fully stored
+     */
+    public int getSnapshotCount() {
+        return snapshots.size();
+    }
+}
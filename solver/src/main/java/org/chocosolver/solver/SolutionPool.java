@@ -0,0 +1,237 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A bounded pool of the <i>k</i> best solutions offered, with respect to an objective variable.
+ * <p>
+ * The solutions are kept in a binary heap whose root is the worst one.
+ * When the pool is full, a solution is kept only if it is strictly better than the worst one,
+ * which is then evicted and its {@link Solution} object is recycled to record the new one:
+ * offering solutions to a full pool allocates nothing.
+ * Among solutions of equal objective value, the first ones offered are kept.
+ * </p>
+ * <p>
+ * The pool can be plugged as a monitor to offer it each solution found:
+ * <pre>
+ * <code>SolutionPool pool = new SolutionPool(cost, false, 10);
+ * model.getSolver().plugMonitor(pool);
+ * while (model.getSolver().solve());
+ * List&lt;Solution&gt; best = pool.getSolutions();
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SolutionPool implements IMonitorSolution {
+
+    private final IntVar objective;
+    private final boolean maximize;
+    private final Variable[] varsToStore;
+    /**
+     * Solutions of the pool, as a binary heap whose root is the worst one
+     */
+    private final Solution[] heap;
+    /**
+     * Objective value of each solution of the heap
+     */
+    private final int[] values;
+    /**
+     * Offer rank of each solution of the heap, to break ties
+     */
+    private final long[] ranks;
+    /**
+     * Number of solutions in the pool
+     */
+    private int size;
+    /**
+     * Number of solutions offered so far
+     */
+    private long offers;
+
+    /**
+     * Create a pool of at most <i>capacity</i> solutions.
+     *
+     * @param objective   the objective variable
+     * @param maximize    set to <tt>true</tt> to keep the solutions with the highest objective values,
+     *                    set to <tt>false</tt> to keep the ones with the lowest.
+     * @param capacity    maximum number of solutions kept, at least 1
+     * @param varsToStore variables to store in each solution, all variables when empty (see {@link Solution})
+     */
+    public SolutionPool(IntVar objective, boolean maximize, int capacity, Variable... varsToStore) {
+        if (capacity < 1) {
+            throw new SolverException("A solution pool must be able to keep at least one solution");
+        }
+        this.objective = objective;
+        this.maximize = maximize;
+        this.varsToStore = varsToStore;
+        this.heap = new Solution[capacity];
+        this.values = new int[capacity];
+        this.ranks = new long[capacity];
+    }
+
+    @Override
+    public void onSolution() {
+        offer();
+    }
+
+    /**
+     * Offer the current solution of the model to this pool.
+     * The objective variable must be instantiated.
+     *
+     * @return <i>true</i> if the solution is kept
+     */
+    public boolean offer() {
+        int value = objective.getValue();
+        long rank = offers++;
+        int i;
+        if (size < heap.length) {
+            i = size++;
+            heap[i] = new Solution(objective.getModel(), varsToStore);
+        } else if (maximize ? value > values[0] : value < values[0]) {
+            i = 0;
+        } else {
+            return false;
+        }
+        heap[i].record();
+        values[i] = value;
+        ranks[i] = rank;
+        if (i == 0) {
+            siftDown(0);
+        } else {
+            siftUp(i);
+        }
+        return true;
+    }
+
+    /**
+     * @return copies of the solutions of this pool, from the best one to the worst one
+     */
+    public List<Solution> getSolutions() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> compare(j, i));
+        List<Solution> solutions = new ArrayList<>(size);
+        for (int i : order) {
+            solutions.add(heap[i].copySolution());
+        }
+        return solutions;
+    }
+
+    /**
+     * @return a copy of the best solution of this pool, <i>null</i> if the pool is empty
+     */
+    public Solution getBest() {
+        if (size == 0) {
+            return null;
+        }
+        int best = 0;
+        for (int i = 1; i < size; i++) {
+            if (compare(i, best) > 0) {
+                best = i;
+            }
+        }
+        return heap[best].copySolution();
+    }
+
+    /**
+     * @return objective value of the worst solution of this pool
+     * @throws SolverException if the pool is empty
+     */
+    public int getWorstValue() {
+        if (size == 0) {
+            throw new SolverException("The solution pool is empty");
+        }
+        return values[0];
+    }
+
+    /**
+     * @return number of solutions in this pool
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return maximum number of solutions in this pool
+     */
+    public int getCapacity() {
+        return heap.length;
+    }
+
+    /**
+     * Remove all solutions from this pool
+     */
+    public void clear() {
+        Arrays.fill(heap, null);
+        size = 0;
+    }
+
+    /**
+     * @return a positive value if the solution at <i>i</i> in the heap is better than the one at <i>j</i>,
+     * a negative value if it is worse
+     */
+    private int compare(int i, int j) {
+        int c = maximize ? Integer.compare(values[i], values[j]) : Integer.compare(values[j], values[i]);
+        return c != 0 ? c : Long.compare(ranks[j], ranks[i]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (compare(i, parent) >= 0) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int worst = i;
+            for (int c = 2 * i + 1; c <= 2 * i + 2 && c < size; c++) {
+                if (compare(c, worst) < 0) {
+                    worst = c;
+                }
+            }
+            if (worst == i) {
+                break;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Solution s = heap[i];
+        heap[i] = heap[j];
+        heap[j] = s;
+        int v = values[i];
+        values[i] = values[j];
+        values[j] = v;
+        long r = ranks[i];
+        ranks[i] = ranks[j];
+        ranks[j] = r;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads solutions written by a {@link SolutionWriter}, one at a time, in constant memory.
+ * <p>
+ * Example of use.
+ * <pre>
+ * <code>try (SolutionReader reader = new SolutionReader(new FileInputStream(file))) {
+ *     int[] values = new int[reader.getNbValues()];
+ *     while (reader.read(values)) {
+ *         // ... do something with values
+ *     }
+ * }
+ * </code>
+ * </pre>
+ * </p>
+ *
+ * @author agent
+ * @see SolutionWriter
+ * @since 17/10/2026
+ */
+public class SolutionReader implements Closeable {
+
+    private final InputStream in;
+    /**
+     * Values of the previous solution
+     */
+    private final int[] previous;
+
+    /**
+     * Create a reader of solutions and read the header from <i>in</i>.
+     * The stream is buffered by this reader.
+     *
+     * @param in the stream to read from
+     * @throws IOException     if an I/O error occurs
+     * @throws SolverException if the stream was not written by a {@link SolutionWriter}
+     */
+    public SolutionReader(InputStream in) throws IOException {
+        this.in = new BufferedInputStream(in, 1 << 16);
+        int magic = 0;
+        for (int k = 0; k < 4; k++) {
+            magic = (magic << 8) | readByte();
+        }
+        if (magic != SolutionWriter.MAGIC) {
+            throw new SolverException("Not a stream of solutions");
+        }
+        int version = readByte();
+        if (version != SolutionWriter.VERSION) {
+            throw new SolverException("Unsupported version of stream of solutions: " + version);
+        }
+        this.previous = new int[readVarInt()];
+    }
+
+    /**
+     * Read the next solution
+     *
+     * @param values array to fill with the values of the solution, at least {@link #getNbValues()} long
+     * @return <i>false</i> if there is no more solution to read
+     * @throws IOException if an I/O error occurs, or the stream ends within a solution
+     */
+    public boolean read(int[] values) throws IOException {
+        if (previous.length == 0) {
+            return false;
+        }
+        in.mark(1);
+        if (in.read() < 0) {
+            return false;
+        }
+        in.reset();
+        for (int i = 0; i < previous.length; i++) {
+            int z = readVarInt();
+            previous[i] += (z >>> 1) ^ -(z & 1);
+            values[i] = previous[i];
+        }
+        return true;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException();
+        }
+        return b;
+    }
+
+    private int readVarInt() throws IOException {
+        int v = 0;
+        for (int s = 0; s < 35; s += 7) {
+            int b = readByte();
+            v |= (b & 0x7F) << s;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new SolverException("Malformed stream of solutions");
+    }
+
+    /**
+     * @return number of values per solution
+     */
+    public int getNbValues() {
+        return previous.length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes solutions, given as arrays of integer values, to a compact binary stream, in constant memory.
+ * They can be read back with a {@link SolutionReader}.
+ * <p>
+ * The stream starts with a header made of the four bytes <tt>CSOL</tt>, a version byte and the number of values
+ * per solution. Then, each value of a solution is written as the difference with the value at the same position
+ * in the previous solution (or 0 for the first one), zigzag-encoded on a variable number of bytes.
+ * Consecutive solutions of an enumeration usually differ on a few variables, so most values take a single byte.
+ * </p>
+ *
+ * @author agent
+ * @see SolutionReader
+ * @since 17/10/2026
+ */
+public class SolutionWriter implements Closeable, Flushable {
+
+    /**
+     * First bytes of the stream, <tt>CSOL</tt>
+     */
+    static final int MAGIC = 0x43534F4C;
+    /**
+     * Version of the format
+     */
+    static final int VERSION = 1;
+
+    private final OutputStream out;
+    /**
+     * Values of the previous solution
+     */
+    private final int[] previous;
+    /**
+     * Number of solutions written so far
+     */
+    private long count;
+
+    /**
+     * Create a writer of solutions of <i>nbValues</i> values each, and write the header to <i>out</i>.
+     * The stream is buffered by this writer.
+     *
+     * @param out      the stream to write to
+     * @param nbValues number of values per solution
+     * @throws IOException if an I/O error occurs
+     */
+    public SolutionWriter(OutputStream out, int nbValues) throws IOException {
+        this.out = new BufferedOutputStream(out, 1 << 16);
+        this.previous = new int[nbValues];
+        for (int s = 24; s >= 0; s -= 8) {
+            this.out.write(MAGIC >>> s);
+        }
+        this.out.write(VERSION);
+        writeVarInt(nbValues);
+    }
+
+    /**
+     * Write a solution
+     *
+     * @param values the values of the solution, only the first {@link #getNbValues()} ones are written
+     * @throws IOException if an I/O error occurs
+     */
+    public void write(int[] values) throws IOException {
+        if (values.length < previous.length) {
+            throw new SolverException("Expected " + previous.length + " values, found " + values.length);
+        }
+        for (int i = 0; i < previous.length; i++) {
+            int d = values[i] - previous[i];
+            writeVarInt((d << 1) ^ (d >> 31));
+            previous[i] = values[i];
+        }
+        count++;
+    }
+
+    private void writeVarInt(int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    /**
+     * @return number of values per solution
+     */
+    public int getNbValues() {
+        return previous.length;
+    }
+
+    /**
+     * @return number of solutions written so far
+     */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Flush and close this writer, and the underlying stream
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
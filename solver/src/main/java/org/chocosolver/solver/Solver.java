@@ -11,6 +11,7 @@ package org.chocosolver.solver;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseConstraint;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.InvalidSolutionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -19,6 +20,8 @@ import org.chocosolver.solver.objective.IBoundsManager;
 import org.chocosolver.solver.objective.IObjectiveManager;
 import org.chocosolver.solver.objective.ObjectiveFactory;
 import org.chocosolver.solver.propagation.PropagationEngine;
+import org.chocosolver.solver.propagation.PropagatorProfiler;
+import org.chocosolver.solver.propagation.ProfilingPropagationEngine;
 import org.chocosolver.solver.search.SearchState;
 import org.chocosolver.solver.search.limits.ICounter;
 import org.chocosolver.solver.search.loop.Reporting;
@@ -394,6 +397,11 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         // Indicates which decision was previously applied before selecting the move.
         // Always sets to ROOT for the first move
         M.setTopDecisionPosition(0);
+        // variables created since the last resolution, e.g. between two resets, are made known to learning
+        eventObserver.getGI().ifPresent(ig -> ig.init(mModel));
+        if (mModel.getHook(Model.CLAUSESBUILDER_HOOK_NAME) != null) {
+            mModel.getClauseBuilder().declareVariables(mModel);
+        }
         mModel.getEnvironment().worldPush(); // store state before initial propagation; w = 0 -> 1
         try {
             if (mModel.getHook(Model.TASK_SET_HOOK_NAME) != null) {
@@ -432,7 +440,9 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
             AbstractStrategy complete = mModel.getSettings().makeDefaultSearch(mModel);
             setSearch(declared, complete);
         }
-        if (!M.init()) { // the initialisation of the Move and strategy can detect inconsistency
+        // the initialisation of the Move and strategy can detect inconsistency,
+        // unless the initial propagation already did
+        if (!M.init() && ok) {
             mModel.getEnvironment().worldPop();
             feasible = FALSE;
             engine.flush();
@@ -583,7 +593,7 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      *     <li>set {@link #searchWorldIndex} to 0</li>
      *     <li>set {@link #action} to {@link Action#initialize}</li>
      *     <li>reset {@link #mMeasures}</li>
-     *     <li>flush {@link #engine}</li>
+     *     <li>flush {@link #engine} and remove the learnt signed clauses</li>
      *     <li>synchronize {@link #dpath} to erase out-dated decisions, presumably all of them</li>
      *     <li>reset bounds of {@link #objectivemanager} (calling {@link IObjectiveManager#resetBestBounds()}</li>
      *     <li>remove all stop criteria {@link #removeAllStopCriteria()}</li>
@@ -593,16 +603,35 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      * @see #hardReset()
      */
     public void reset() {
+        reset(false, false);
+    }
+
+    /**
+     * Same as {@link #reset()}, except that the stop criteria are kept when <i>keepStopCriteria</i> is set to
+     * <i>true</i>, for resolutions made of many successive searches on the same solver,
+     * and that learnt signed clauses are kept when <i>keepLearntClauses</i> is set to <i>true</i>.
+     * The latter is only safe when the clauses are implied by the model, that is, when they are derived neither
+     * from solutions nor from objective cuts, and when no constraint is removed afterwards.
+     *
+     * @param keepStopCriteria  set to <i>true</i> to keep the stop criteria declared
+     * @param keepLearntClauses set to <i>true</i> to keep the learnt signed clauses
+     */
+    void reset(boolean keepStopCriteria, boolean keepLearntClauses) {
         if (rootWorldIndex > -1) {
             mModel.getEnvironment().worldPopUntil(rootWorldIndex);
         }
         searchWorldIndex = 0;
         action = initialize;
         mMeasures.reset();
-        engine.reset();
+        engine.reset(keepLearntClauses);
+        if (!keepLearntClauses && mModel.getHook(Model.CLAUSES_HOOK_NAME) != null) {
+            ((ClauseConstraint) mModel.getHook(Model.CLAUSES_HOOK_NAME)).getClauseStore().removeLearnts();
+        }
         dpath.synchronize();
         objectivemanager.resetBestBounds();
-        removeAllStopCriteria();
+        if (!keepStopCriteria) {
+            removeAllStopCriteria();
+        }
         feasible = UNDEFINED;
         jumpTo = 0;
         stop = false;
@@ -689,20 +718,61 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
      * Note that the restart may not be immediate
      */
     public void restart() {
+        restart(false);
+    }
+
+    /**
+     * Sets the following action in the search to be a restart instruction.
+     * Note that the restart may not be immediate.
+     * <p>
+     * When <i>reuseTrail</i> is set to <tt>true</tt>, the search does not go back to the root node
+     * but to the deepest node reached by decisions on their first branch only (the last decision excepted),
+     * that is, the trail prefix that a search restarted from the root node would rebuild anyway
+     * provided that the search strategy takes the same decisions, e.g., with a static variable selection
+     * and phase saving (see {@link org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase}).
+     * If this node turns out to be inconsistent, the search goes back to the root node.
+     *
+     * @param reuseTrail set to <tt>true</tt> to keep the prefix of the decision path made of first branches
+     */
+    public void restart(boolean reuseTrail) {
         searchMonitors.beforeRestart();
-        restoreRootNode();
-        mModel.getEnvironment().worldPush();
         getMeasures().incRestartCount();
+        int kept = reuseTrail ? reusablePrefix() : 0;
+        if (kept > 0 && !restartFrom(kept)) {
+            mMeasures.incFailCount();
+            kept = 0;
+        }
+        if (kept == 0 && !restartFrom(0)) {
+            // trivial inconsistency is detected, due to the cut
+            stop = true;
+        }
+        searchMonitors.afterRestart();
+    }
+
+    /**
+     * Go back to the node reached by the <i>k</i> first decisions of the decision path, or to the root node when
+     * <i>k</i> is 0, then post the objective cut and propagate.
+     *
+     * @param k number of decisions to keep
+     * @return <tt>false</tt> if an inconsistency is detected
+     */
+    private boolean restartFrom(int k) {
+        if (k > 0) {
+            restoreNode(k);
+        } else {
+            restoreRootNode();
+            mModel.getEnvironment().worldPush();
+        }
         try {
             objectivemanager.postDynamicCut();
             mMeasures.incFixpointCount();
             P.execute(this);
             action = extend;
+            return true;
         } catch (ContradictionException e) {
-            // trivial inconsistency is detected, due to the cut
-            stop = true;
+            engine.flush();
+            return false;
         }
-        searchMonitors.afterRestart();
     }
 
     /**
@@ -718,6 +788,40 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         dpath.synchronize();
     }
 
+    /**
+     * @return the number of decisions, from the root node, that are on their first branch,
+     * the last decision of the decision path excepted
+     */
+    private int reusablePrefix() {
+        int k = 0;
+        while (k + 2 < dpath.size()) {
+            Decision d = dpath.getDecision(k + 1);
+            if (!d.hasNext() && d.getArity() > 1) {
+                break;
+            }
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Retrieves the state of the node reached by the <i>k</i> first decisions of the decision path,
+     * as it was after propagation.
+     * Has an immediate effect
+     *
+     * @param k number of decisions to keep
+     */
+    private void restoreNode(int k) {
+        IEnvironment environment = mModel.getEnvironment();
+        // one world is pushed right after the root node, then one per decision
+        while (environment.getWorldIndex() > searchWorldIndex + 1 + k) {
+            getMeasures().incBackTrackCount();
+            environment.worldPop();
+        }
+        dpath.synchronize();
+        assert dpath.size() == k + 1;
+    }
+
 
     /**
      * <p>
@@ -1174,6 +1278,33 @@ public class Solver implements ISolver, IMeasures, IOutputFactory {
         }
     }
 
+    /**
+     * Enables propagator profiling: the propagation engine is replaced by a
+     * {@link ProfilingPropagationEngine}, which records for each propagator the number of fine and
+     * coarse calls, the time spent, the number of domain reductions and the number of failures.
+     * The report is then output by {@link #printStatistics()}.
+     * <p>
+     * Profiling is off by default and the default engine does not pay for it.
+     * Same restrictions as {@link #setEngine(PropagationEngine)} apply.
+     *
+     * @return the profiler which collects the statistics
+     * @throws SolverException if the propagation engine cannot be modified
+     */
+    public PropagatorProfiler profilePropagators() {
+        if (!(engine instanceof ProfilingPropagationEngine)) {
+            setEngine(new ProfilingPropagationEngine(mModel));
+        }
+        return ((ProfilingPropagationEngine) engine).getProfiler();
+    }
+
+    /**
+     * @return the propagator profiler if {@link #profilePropagators()} was called, <i>null</i> otherwise
+     */
+    public PropagatorProfiler getPropagatorProfiler() {
+        return engine instanceof ProfilingPropagationEngine ?
+                ((ProfilingPropagationEngine) engine).getProfiler() : null;
+    }
+
     /**
      * Completes (or not) the declared search strategy with one over all variables
      *
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.binary.*;
 import org.chocosolver.solver.constraints.unary.PropEqualXC;
 import org.chocosolver.solver.constraints.unary.PropGreaterOrEqualXC;
@@ -175,4 +176,11 @@ public class Arithmetic extends Constraint {
 			}
 		}
 	}
+
+	@Override
+	public Arithmetic duplicate(ModelCloner cloner) {
+		Arithmetic copy = new Arithmetic(getName(), cloner.copyOf(vars), op1, op2, cste, cloner.copyOf(propagators[0]));
+		copy.setEnabled(isEnabled());
+		return copy;
+	}
 }
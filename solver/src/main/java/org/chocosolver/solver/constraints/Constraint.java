@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.reification.Opposite;
 import org.chocosolver.solver.exception.SolverException;
@@ -343,6 +344,13 @@ public class Constraint {
         return opposite;
     }
 
+    /**
+     * @return the opposite constraint of this, or <i>null</i> if it has not been created yet
+     */
+    final Constraint opposite() {
+        return opposite;
+    }
+
     protected void setOpposite(Constraint opp){
         opposite = opp;
         opposite.opposite = this;
@@ -438,4 +446,19 @@ public class Constraint {
             }
         }
     }
+
+    /**
+     * Create a copy of this constraint, made of the copies of its propagators, in the model built by <i>cloner</i>.
+     * The copy is neither posted nor reified.
+     *
+     * @param cloner the cloner in charge of the copy
+     * @return a copy of this constraint
+     * @throws SolverException if a propagator of this constraint does not support copying
+     * @see ModelCloner
+     */
+    public Constraint duplicate(ModelCloner cloner) {
+        Constraint copy = new Constraint(name, cloner.copyOf(propagators));
+        copy.setEnabled(enabled);
+        return copy;
+    }
 }
@@ -14,6 +14,7 @@ import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -182,10 +183,6 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
     // FOR PROPAGATION PURPOSE
     ////////////////////////////////////////////////////////////////////////////////////////////////
 
-    /**
-     * True if this is scheduled for propagation
-     */
-    private boolean scheduled;
     /**
      * This set of events (modified variables) to propagate next time
      */
@@ -578,6 +575,22 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
      */
     public abstract ESat isEntailed();
 
+    /**
+     * Create a copy of this propagator, over the copies of its variables, in the model built by <i>cloner</i>.
+     * The copy is created as if it were declared in the copy of the model: since a model can only be copied
+     * before its resolution starts, no internal state has to be copied, and read-only data (e.g., tuples)
+     * are shared with this propagator.
+     * Propagators that support copying override this method.
+     *
+     * @param cloner the cloner in charge of the copy
+     * @return a copy of this propagator
+     * @throws SolverException if this propagator does not support copying
+     * @see ModelCloner
+     */
+    public Propagator<V> duplicate(ModelCloner cloner) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copying");
+    }
+
     /**
      * @return true iff all this propagator's variables are instantiated
      */
@@ -881,33 +894,33 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
 
     /**
      * Set this as unscheduled
+     * @deprecated the scheduled state is now managed by the propagation engine
      */
+    @Deprecated
     public final void unschedule(){
-        scheduled = false;
-    }
-
-    private void schedule(){
-        scheduled = true;
+        model.getSolver().getEngine().setScheduled(this, false);
     }
 
     /**
      * @return true if scheduled for propagation
      */
     public final boolean isScheduled() {
-        return scheduled;
+        return model.getSolver().getEngine().isScheduled(this);
     }
 
-
     /**
      * Apply scheduling instruction
      * @param queues array of queues in which this can be scheduled
      * @return propagator priority
+     * @deprecated the propagation engine schedules propagators in its own queues,
+     * see {@link org.chocosolver.solver.propagation.PropagationEngine#schedule(Propagator, int, int)}
      */
+    @Deprecated
     public int doSchedule(CircularQueue<Propagator>[] queues){
         int prio = priority.priority;
-        if(!scheduled) {
+        if(!isScheduled()) {
             queues[prio].addLast(this);
-            schedule();
+            model.getSolver().getEngine().setScheduled(this, true);
         }
         return prio;
     }
@@ -943,7 +956,6 @@ public abstract class Propagator<V extends Variable> implements ICause, Identity
                 eventmasks[v] = 0;
             }
         }
-        unschedule();
     }
 
     /**
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.reification.PropReif;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -54,8 +55,15 @@ public class ReificationConstraint extends Constraint {
     //***********************************************************************************
 
     protected ReificationConstraint(BoolVar bVar, Constraint consIfBoolTrue, Constraint consIfBoolFalse) {
-        super(ConstraintsName.REIFICATIONCONSTRAINT, createProps(bVar, consIfBoolTrue, consIfBoolFalse));
-        this.propReif = (PropReif) propagators[0];
+        this(bVar, consIfBoolTrue, consIfBoolFalse, createPropReif(bVar, consIfBoolTrue, consIfBoolFalse));
+    }
+
+    private ReificationConstraint(BoolVar bVar, Constraint consIfBoolTrue, Constraint consIfBoolFalse, PropReif reifProp) {
+        super(ConstraintsName.REIFICATIONCONSTRAINT, ArrayUtils.append(new Propagator[]{reifProp},
+                consIfBoolTrue.getPropagators().clone(),
+                consIfBoolFalse.getPropagators().clone()
+        ));
+        this.propReif = reifProp;
         propReif.setReifCons(this);
         trueCons = consIfBoolTrue;
         falseCons = consIfBoolFalse;
@@ -74,17 +82,13 @@ public class ReificationConstraint extends Constraint {
         falseCons.declareAs(Status.REIFIED, -1);
     }
 
-    private static Propagator[] createProps(BoolVar bVar, Constraint trueCons, Constraint falseCons) {
+    private static PropReif createPropReif(BoolVar bVar, Constraint trueCons, Constraint falseCons) {
         Set<Variable> setOfVars = new HashSet<>();
         prepareConstraint(bVar, trueCons, setOfVars);
         prepareConstraint(bVar, falseCons, setOfVars);
         Variable[] allVars = ArrayUtils.append(new Variable[]{bVar}, setOfVars.toArray(
             new Variable[0]));
-        PropReif reifProp = new PropReif(allVars, trueCons, falseCons);
-        return ArrayUtils.append(new Propagator[]{reifProp},
-                trueCons.getPropagators().clone(),
-                falseCons.getPropagators().clone()
-        );
+        return new PropReif(allVars, trueCons, falseCons);
     }
 
     private static void prepareConstraint(BoolVar bVar, Constraint c, Set<Variable> setOfVars) {
@@ -117,6 +121,18 @@ public class ReificationConstraint extends Constraint {
         return propReif.isEntailed();
     }
 
+    @Override
+    public ReificationConstraint duplicate(ModelCloner cloner) {
+        Constraint t = cloner.copyOf(trueCons);
+        Constraint f = cloner.copyOf(falseCons);
+        if (trueCons.opposite() == falseCons) {
+            t.setOpposite(f);
+        }
+        t.boolReif = cloner.copyOf(trueCons.boolReif);
+        f.boolReif = cloner.copyOf(falseCons.boolReif);
+        return new ReificationConstraint(cloner.copyOf(bool), t, f, (PropReif) cloner.copyOf(propReif));
+    }
+
     @Override
     public String toString() {
         return bool.toString() + "=>" + trueCons.toString() + ", !" + bool.toString() + "=>" + falseCons.toString();
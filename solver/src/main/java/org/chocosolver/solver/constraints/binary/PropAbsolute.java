@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -154,6 +155,15 @@ public class PropAbsolute extends Propagator<IntVar> {
         }
     }
 
+    //***********************************************************************************
+    // COPY
+    //***********************************************************************************
+
+    @Override
+    public PropAbsolute duplicate(ModelCloner cloner) {
+        return new PropAbsolute(cloner.copyOf(X), cloner.copyOf(Y));
+    }
+
     //***********************************************************************************
     // EXPLANATIONS
     //***********************************************************************************
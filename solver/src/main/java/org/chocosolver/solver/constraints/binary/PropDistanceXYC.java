@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -371,4 +372,8 @@ public class PropDistanceXYC extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropDistanceXYC duplicate(ModelCloner cloner) {
+        return new PropDistanceXYC(cloner.copyOf(vars), operator, cste);
+    }
 }
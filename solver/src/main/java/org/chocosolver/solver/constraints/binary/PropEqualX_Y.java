@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -165,4 +166,8 @@ public final class PropEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".EQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public PropEqualX_Y duplicate(ModelCloner cloner) {
+        return new PropEqualX_Y(cloner.copyOf(x), cloner.copyOf(y));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -165,4 +166,9 @@ public final class PropEqualX_YC extends Propagator<IntVar> {
         bf.append(")");
         return bf.toString();
     }
+
+    @Override
+    public PropEqualX_YC duplicate(ModelCloner cloner) {
+        return new PropEqualX_YC(cloner.copyOf(vars), cste);
+    }
 }
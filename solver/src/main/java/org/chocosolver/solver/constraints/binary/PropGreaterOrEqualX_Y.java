@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -126,4 +127,8 @@ public final class PropGreaterOrEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".GEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public PropGreaterOrEqualX_Y duplicate(ModelCloner cloner) {
+        return new PropGreaterOrEqualX_Y(cloner.copyOf(vars));
+    }
 }
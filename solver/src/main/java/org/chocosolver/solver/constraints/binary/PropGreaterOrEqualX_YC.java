@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -131,4 +132,8 @@ public final class PropGreaterOrEqualX_YC extends Propagator<IntVar> {
         return x.getName() + " >= " + y.getName() + " + " + cste;
     }
 
+    @Override
+    public PropGreaterOrEqualX_YC duplicate(ModelCloner cloner) {
+        return new PropGreaterOrEqualX_YC(cloner.copyOf(vars), cste);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -125,4 +126,8 @@ public final class PropLessOrEqualXY_C extends Propagator<IntVar> {
         return x.getName() + " + " + y.getName() + " <= " + cste;
     }
 
+    @Override
+    public PropLessOrEqualXY_C duplicate(ModelCloner cloner) {
+        return new PropLessOrEqualXY_C(cloner.copyOf(vars), cste);
+    }
 }
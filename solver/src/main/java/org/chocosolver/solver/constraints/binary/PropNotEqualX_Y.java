@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -115,4 +116,8 @@ public class PropNotEqualX_Y extends Propagator<IntVar> {
         return "prop(" + vars[0].getName() + ".NEQ." + vars[1].getName() + ")";
     }
 
+    @Override
+    public PropNotEqualX_Y duplicate(ModelCloner cloner) {
+        return new PropNotEqualX_Y(cloner.copyOf(x), cloner.copyOf(y));
+    }
 }
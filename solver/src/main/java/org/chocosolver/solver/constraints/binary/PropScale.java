@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -92,4 +93,8 @@ public class PropScale extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropScale duplicate(ModelCloner cloner) {
+        return new PropScale(cloner.copyOf(X), Y, cloner.copyOf(Z));
+    }
 }
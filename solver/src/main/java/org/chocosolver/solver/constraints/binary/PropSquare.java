@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -250,4 +251,8 @@ public class PropSquare extends Propagator<IntVar> {
         }
     }
 
+    @Override
+    public PropSquare duplicate(ModelCloner cloner) {
+        return new PropSquare(cloner.copyOf(vars[0]), cloner.copyOf(vars[1]));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.binary.element;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -151,4 +152,8 @@ public class PropElement extends Propagator<IntVar> {
         return sb.toString();
     }
 
+    @Override
+    public PropElement duplicate(ModelCloner cloner) {
+        return new PropElement(cloner.copyOf(result), values, cloner.copyOf(index), offset);
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.binary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -205,4 +206,9 @@ public class PropBinAC2001 extends PropBinCSP {
             vars[0].removeValues(vrms, this);
         }
     }
+
+    @Override
+    public PropBinAC2001 duplicate(ModelCloner cloner) {
+        return new PropBinAC2001(cloner.copyOf(v0), cloner.copyOf(v1), (CouplesTable) relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -107,4 +108,9 @@ public class PropBinAC3 extends PropBinCSP {
         v0.removeValues(vrms, this);
         itv0.dispose();
     }
+
+    @Override
+    public PropBinAC3 duplicate(ModelCloner cloner) {
+        return new PropBinAC3(cloner.copyOf(v0), cloner.copyOf(v1), (CouplesBitSetTable) relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -198,4 +199,13 @@ public class PropBinAC3bitrm extends PropBinCSP {
         }
     }
 
+    @Override
+    public PropBinAC3bitrm duplicate(ModelCloner cloner) {
+        PropBinAC3bitrm copy = new PropBinAC3bitrm(cloner.copyOf(v0), cloner.copyOf(v1), (CouplesBitSetTable) relation);
+        copy.offset0 = offset0;
+        copy.offset1 = offset1;
+        copy.initDomSize0 = initDomSize0;
+        copy.initDomSize1 = initDomSize1;
+        return copy;
+    }
 }
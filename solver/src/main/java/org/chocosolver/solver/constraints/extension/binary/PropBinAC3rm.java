@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -325,4 +326,9 @@ public class PropBinAC3rm extends PropBinCSP {
             }
         }
     }
+
+    @Override
+    public PropBinAC3rm duplicate(ModelCloner cloner) {
+        return new PropBinAC3rm(cloner.copyOf(v0), cloner.copyOf(v1), (CouplesBitSetTable) relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.binary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -94,4 +95,9 @@ public class PropBinFC extends PropBinCSP {
             values.dispose();
         }
     }
+
+    @Override
+    public PropBinFC duplicate(ModelCloner cloner) {
+        return new PropBinFC(cloner.copyOf(v0), cloner.copyOf(v1), (CouplesTable) relation);
+    }
 }
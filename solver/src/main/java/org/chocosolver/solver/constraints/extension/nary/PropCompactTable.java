@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.memory.IStateLong;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -302,4 +303,9 @@ public class PropCompactTable extends Propagator<IntVar> {
             return -1;
         }
     }
+
+    @Override
+    public PropCompactTable duplicate(ModelCloner cloner) {
+        return new PropCompactTable(cloner.copyOf(vars), tuples);
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -114,4 +115,9 @@ public class PropCompactTableStar extends PropCompactTable {
             }
         }
     }
+
+    @Override
+    public PropCompactTableStar duplicate(ModelCloner cloner) {
+        return new PropCompactTableStar(cloner.copyOf(vars), tuples);
+    }
 }
\ No newline at end of file
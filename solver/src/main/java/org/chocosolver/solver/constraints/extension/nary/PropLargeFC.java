@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -99,4 +100,9 @@ public class PropLargeFC extends PropLargeCSP<LargeRelation> {
             }
         }
     }
+
+    @Override
+    public PropLargeFC duplicate(ModelCloner cloner) {
+        return new PropLargeFC(cloner.copyOf(vars), relation);
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
@@ -220,4 +221,9 @@ public class PropLargeGAC2001 extends PropLargeCSP<LargeRelation> {
                 reviseVar(valcheck.getPosition(i), false);
         }
     }
+
+    @Override
+    public PropLargeGAC2001 duplicate(ModelCloner cloner) {
+        return new PropLargeGAC2001(cloner.copyOf(vars), relation);
+    }
 }
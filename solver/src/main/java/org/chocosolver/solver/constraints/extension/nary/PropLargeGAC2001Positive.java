@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -191,4 +192,9 @@ public class PropLargeGAC2001Positive extends PropLargeCSP<IterTuplesTable> {
         sb.append("})");
         return sb.toString();
     }
+
+    @Override
+    public PropLargeGAC2001Positive duplicate(ModelCloner cloner) {
+        return new PropLargeGAC2001Positive(cloner.copyOf(vars), relation);
+    }
 }
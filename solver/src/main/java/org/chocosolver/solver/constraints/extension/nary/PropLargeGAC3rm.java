@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -286,4 +287,9 @@ public class PropLargeGAC3rm extends PropLargeCSP<LargeRelation> {
         }
         return null;
     }
+
+    @Override
+    public PropLargeGAC3rm duplicate(ModelCloner cloner) {
+        return new PropLargeGAC3rm(cloner.copyOf(vars), relation);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.extension.nary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -196,4 +197,9 @@ public class PropLargeGAC3rmPositive extends PropLargeCSP<IterTuplesTable> {
             }
         }
     }
+
+    @Override
+    public PropLargeGAC3rmPositive duplicate(ModelCloner cloner) {
+        return new PropLargeGAC3rmPositive(cloner.copyOf(vars), relation);
+    }
 }
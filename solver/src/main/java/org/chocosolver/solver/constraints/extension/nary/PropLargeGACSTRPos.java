@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.extension.nary;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.extension.Tuples;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -199,4 +200,9 @@ public class PropLargeGACSTRPos extends PropLargeCSP<TuplesList> {
         maintainList();
         pruningPhase();
     }
+
+    @Override
+    public PropLargeGACSTRPos duplicate(ModelCloner cloner) {
+        return new PropLargeGACSTRPos(cloner.copyOf(vars), relation);
+    }
 }
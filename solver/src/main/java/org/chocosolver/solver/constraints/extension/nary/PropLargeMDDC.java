@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 
 import gnu.trove.set.TIntSet;
 import gnu.trove.set.hash.TIntHashSet;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -122,4 +123,9 @@ public class PropLargeMDDC extends Propagator<IntVar> {
         }
         return res;
     }
+
+    @Override
+    public PropLargeMDDC duplicate(ModelCloner cloner) {
+        return new PropLargeMDDC(MDD, cloner.copyOf(vars));
+    }
 }
@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.extension.nary;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -244,4 +245,9 @@ public class PropTableStr2 extends Propagator<IntVar> {
             }
         }
     }
+
+    @Override
+    public PropTableStr2 duplicate(ModelCloner cloner) {
+        return new PropTableStr2(cloner.copyOf(vars), tuplesObject);
+    }
 }
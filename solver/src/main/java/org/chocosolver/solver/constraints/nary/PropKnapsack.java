@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -120,4 +122,9 @@ public class PropKnapsack extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropKnapsack duplicate(ModelCloner cloner) {
+        return new PropKnapsack(cloner.copyOf(Arrays.copyOf(vars, n)), cloner.copyOf(capacity), cloner.copyOf(power),
+                weigth, energy);
+    }
 }
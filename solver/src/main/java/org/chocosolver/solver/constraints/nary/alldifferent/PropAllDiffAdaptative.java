@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -67,4 +68,8 @@ public class PropAllDiffAdaptative extends PropAllDiffAC {
         }
     }
 
+    @Override
+    public PropAllDiffAdaptative duplicate(ModelCloner cloner) {
+        return new PropAllDiffAdaptative(cloner.copyOf(vars));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.alldifferent;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.alldifferent.algo.AlgoAllDiffBC;
@@ -52,4 +53,8 @@ public class PropAllDiffBC extends Propagator<IntVar> {
         return ESat.TRUE; // redundant propagator (use PropAllDiffInst)
     }
 
+    @Override
+    public PropAllDiffBC duplicate(ModelCloner cloner) {
+        return new PropAllDiffBC(cloner.copyOf(vars));
+    }
 }
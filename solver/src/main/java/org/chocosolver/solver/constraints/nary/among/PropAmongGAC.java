@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.among;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -268,4 +269,9 @@ public class PropAmongGAC extends Propagator<IntVar> {
         sb.append(vars[nb_vars].toString()).append(")");
         return sb.toString();
     }
+
+    @Override
+    public PropAmongGAC duplicate(ModelCloner cloner) {
+        return new PropAmongGAC(cloner.copyOf(vars), values);
+    }
 }
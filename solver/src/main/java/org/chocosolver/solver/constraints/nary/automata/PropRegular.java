@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.automata;
 import gnu.trove.iterator.TIntIterator;
 import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.memory.IEnvironment;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.nary.automata.FA.IAutomaton;
@@ -255,4 +256,8 @@ public class PropRegular extends Propagator<IntVar> {
         return new StoredDirectedMultiGraph(environment, graph, starts, offsets, totalSizes);
     }
 
+    @Override
+    public PropRegular duplicate(ModelCloner cloner) {
+        return new PropRegular(cloner.copyOf(vars), automaton);
+    }
 }
@@ -172,4 +172,11 @@ public class PropNoSubtour extends Propagator<IntVar> {
         return "PropNoSubTour(" + Arrays.toString(vars) + ")";
     }
 
+    /**
+     * @return the offset of the successor variables: <i>vars[i] = j + offset</i> means that <i>j</i> follows <i>i</i>
+     */
+    public int getOffset() {
+        return offset;
+    }
+
 }
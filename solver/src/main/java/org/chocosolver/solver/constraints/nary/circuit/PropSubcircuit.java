@@ -190,4 +190,11 @@ public class PropSubcircuit extends Propagator<IntVar> {
         }
     }
 
+    /**
+     * @return the offset of the successor variables: <i>vars[i] = j + offset</i> means that <i>j</i> follows <i>i</i>
+     */
+    public int getOffset() {
+        return offset;
+    }
+
 }
@@ -9,8 +9,11 @@
  */
 package org.chocosolver.solver.constraints.nary.clauses;
 
+import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.sat.SatSolver;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.nary.sat.PropNogoods;
 import org.chocosolver.solver.learn.XParameters;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.IntVar;
@@ -45,6 +48,10 @@ public class ClauseBuilder {
      * When the nogood is false (based on variables declared domain)
      */
     private static final short FALSE = 0b00;
+    /**
+     * Maximum number of SAT literals a signed literal can be translated into
+     */
+    private static final int MAX_SAT_LITERALS = 8;
 
     /**
      * Sets of variables
@@ -62,6 +69,18 @@ public class ClauseBuilder {
      * Initial state of the variables
      */
     private final TIntObjectHashMap<IntIterableRangeSet> initialDomains;
+    /**
+     * Runs of values, as pairs of bounds, for translation into SAT literals
+     */
+    private final TIntArrayList runs = new TIntArrayList();
+    /**
+     * Literals of the SAT clause being translated
+     */
+    private final TIntArrayList lits = new TIntArrayList();
+    /**
+     * Working set for translation into SAT literals
+     */
+    private final IntIterableRangeSet tmp = new IntIterableRangeSet();
 
     /**
      * Nogood builder, to ease declaration of nogoods
@@ -72,7 +91,18 @@ public class ClauseBuilder {
         vars = new HashSet<>();
         sets = new TIntObjectHashMap<>();
         initialDomains = new TIntObjectHashMap<>();
+        declareVariables(mModel);
+    }
+
+    /**
+     * Store the initial domain of the variables created since the last call, to use them in nogoods.
+     * To be called at root node.
+     *
+     * @param mModel model to declare the nogoods in
+     */
+    public void declareVariables(Model mModel) {
         Arrays.stream(mModel.retrieveIntVars(true))
+                .filter(v -> !initialDomains.containsKey(v.getId()))
                 .forEach(v -> initialDomains.put(v.getId(), new IntIterableRangeSet(v)));
     }
 
@@ -140,6 +170,80 @@ public class ClauseBuilder {
         this.sets.clear();
     }
 
+    /**
+     * Translate the signed clause (vars[0] &isin; ranges[0]) &or; (vars[1] &isin; ranges[1]) &or; ...
+     * into a SAT clause and add it to <i>png</i> as a learnt clause.
+     * <p>
+     * Each signed literal (x &isin; S) is considered wrt the root domain D of x.
+     * The values of S &cap; D are split into runs of consecutive values of D.
+     * A run that starts at min(D) is translated into [x &le; b],
+     * a run that ends at max(D) is translated into &not;[x &le; a - 1],
+     * and the values of any other run are translated into [x = v].
+     * Literals are created on demand in <i>png</i>.
+     * <p>
+     * Nothing is done when a signed literal requires more than {@link #MAX_SAT_LITERALS} literals.
+     *
+     * @param vars   variables of the clause
+     * @param ranges ranges of the clause, not modified
+     * @param png    the no-good store to add the clause to
+     * @return <i>true</i> if the clause has been translated and added to <i>png</i>, <i>false</i> otherwise
+     */
+    boolean translate(IntVar[] vars, IntIterableRangeSet[] ranges, PropNogoods png) {
+        // 1. compute runs, as (number of runs, lo_1, hi_1, lo_2, hi_2, ...) per variable, without creating literals
+        runs.resetQuick();
+        for (int i = 0; i < vars.length; i++) {
+            IntIterableRangeSet root = initialDomains.get(vars[i].getId());
+            if (root == null) {
+                return false;
+            }
+            tmp.copyFrom(ranges[i]);
+            tmp.retainAll(root);
+            int start = runs.size();
+            runs.add(0);
+            int nb = 0;
+            int r = 0;
+            while (r < tmp.getNbRanges()) {
+                int lo = tmp.minOfRange(r);
+                int hi = tmp.maxOfRange(r);
+                int card = hi - lo + 1;
+                // merge ranges which are consecutive in the root domain
+                while (++r < tmp.getNbRanges() && root.nextValue(hi) == tmp.minOfRange(r)) {
+                    hi = tmp.maxOfRange(r);
+                    card += hi - tmp.minOfRange(r) + 1;
+                }
+                nb += lo == root.min() || hi == root.max() ? 1 : card;
+                if (nb > MAX_SAT_LITERALS) {
+                    return false;
+                }
+                runs.add(lo);
+                runs.add(hi);
+            }
+            runs.setQuick(start, (runs.size() - start - 1) / 2);
+        }
+        // 2. create literals
+        lits.resetQuick();
+        int k = 0;
+        for (int i = 0; i < vars.length; i++) {
+            IntIterableRangeSet root = initialDomains.get(vars[i].getId());
+            int nb = runs.getQuick(k++);
+            for (int j = 0; j < nb; j++, k += 2) {
+                int lo = runs.getQuick(k);
+                int hi = runs.getQuick(k + 1);
+                if (lo == root.min()) {
+                    lits.add(png.Literal(vars[i], hi, false));
+                } else if (hi == root.max()) {
+                    lits.add(SatSolver.negated(png.Literal(vars[i], lo - 1, false)));
+                } else {
+                    for (int v = lo; v <= hi; v = root.nextValue(v)) {
+                        lits.add(png.Literal(vars[i], v, true));
+                    }
+                }
+            }
+        }
+        png.addLearnt(lits.toArray());
+        return true;
+    }
+
     private void eliminateViews() {
         Stack<IntVar> keys = vars
                 .stream()
@@ -0,0 +1,224 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.constraints.nary.clauses;
+
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lock-free exchange of learnt signed clauses among concurrent solvers that solve the same problem,
+ * such as the workers of a {@link org.chocosolver.solver.ParallelPortfolio}.
+ * <p>
+ * Each worker owns a bounded ring in which it exports its learnt clauses, as long as they are short
+ * enough and their LBD is small enough. A ring has a single writer, its owner, and is read by all the other workers,
+ * each one maintaining its own cursors. When a ring is full, the oldest clauses are overwritten,
+ * a slow reader simply misses them.
+ * <p>
+ * Variables are identified by their ID. As a consequence, all models are expected to be equivalent
+ * (ie, each variable has the same ID among models).
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class ClauseSharing {
+
+    /**
+     * A learnt clause, as exported by a worker. Instances are immutable.
+     */
+    public static final class SharedClause {
+        /**
+         * Position of the clause in the ring of its owner
+         */
+        private final long seq;
+        /**
+         * IDs of the variables
+         */
+        private final int[] ids;
+        /**
+         * Ranges of values, <i>ranges[i]</i> is attached to <i>ids[i]</i>
+         */
+        private final IntIterableRangeSet[] ranges;
+        /**
+         * LBD of the clause when exported
+         */
+        private final int lbd;
+
+        private SharedClause(long seq, IntVar[] vars, IntIterableRangeSet[] ranges, int lbd) {
+            this.seq = seq;
+            this.ids = new int[vars.length];
+            this.ranges = new IntIterableRangeSet[vars.length];
+            for (int i = 0; i < vars.length; i++) {
+                this.ids[i] = vars[i].getId();
+                this.ranges[i] = new IntIterableRangeSet();
+                this.ranges[i].copyFrom(ranges[i]);
+            }
+            this.lbd = lbd;
+        }
+
+        /**
+         * @return the number of variables in this clause
+         */
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * @param i index of a variable
+         * @return the ID of the <i>i</i>-th variable
+         */
+        public int getId(int i) {
+            return ids[i];
+        }
+
+        /**
+         * @param i index of a variable
+         * @return the range attached to the <i>i</i>-th variable, <b>not to be modified</b>
+         */
+        public IntIterableRangeSet getRange(int i) {
+            return ranges[i];
+        }
+
+        /**
+         * @return the LBD of this clause when exported
+         */
+        public int getLBD() {
+            return lbd;
+        }
+    }
+
+    /**
+     * A bounded ring with a single writer
+     */
+    private static final class Ring {
+        /**
+         * Clauses exported, at position <i>seq & mask</i>
+         */
+        private final AtomicReferenceArray<SharedClause> slots;
+        /**
+         * Number of clauses exported so far
+         */
+        private final AtomicLong published = new AtomicLong();
+
+        private Ring(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+    }
+
+    /**
+     * One ring per worker
+     */
+    private final Ring[] rings;
+    /**
+     * Capacity of a ring, a power of 2, minus 1
+     */
+    private final int mask;
+    /**
+     * Largest cardinality of a clause to export
+     */
+    private final int maxSize;
+    /**
+     * Largest LBD of a clause to export
+     */
+    private final int maxLBD;
+
+    /**
+     * Create an exchange of learnt clauses among <i>nbWorkers</i> workers.
+     *
+     * @param nbWorkers number of workers
+     * @param capacity  number of clauses each worker can export before overwriting the oldest ones,
+     *                  rounded up to a power of 2
+     * @param maxSize   only clauses with at most <i>maxSize</i> variables are exported
+     * @param maxLBD    only clauses with an LBD less than or equal to <i>maxLBD</i> are exported
+     */
+    public ClauseSharing(int nbWorkers, int capacity, int maxSize, int maxLBD) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        int c = Integer.highestOneBit(capacity);
+        if (c < capacity) {
+            c <<= 1;
+        }
+        this.mask = c - 1;
+        this.rings = new Ring[nbWorkers];
+        for (int i = 0; i < nbWorkers; i++) {
+            this.rings[i] = new Ring(c);
+        }
+        this.maxSize = maxSize;
+        this.maxLBD = maxLBD;
+    }
+
+    /**
+     * @return the number of workers
+     */
+    public int getNbWorkers() {
+        return rings.length;
+    }
+
+    /**
+     * Offer a learnt clause (vars[0] &isin; ranges[0]) &or; (vars[1] &isin; ranges[1]) &or; ...
+     * to the other workers. Only called by <i>worker</i>.
+     *
+     * @param worker the exporting worker
+     * @param vars   variables of the clause
+     * @param ranges ranges of the clause, copied
+     * @param lbd    LBD of the clause
+     * @return <i>true</i> if the clause is exported, <i>false</i> if it is filtered
+     */
+    public boolean export(int worker, IntVar[] vars, IntIterableRangeSet[] ranges, int lbd) {
+        if (vars.length > maxSize || lbd > maxLBD) {
+            return false;
+        }
+        Ring ring = rings[worker];
+        long seq = ring.published.get();
+        ring.slots.set((int) (seq & mask), new SharedClause(seq, vars, ranges, lbd));
+        ring.published.set(seq + 1);
+        return true;
+    }
+
+    /**
+     * @return cursors for a new reader, one per worker
+     */
+    public long[] makeCursors() {
+        return new long[rings.length];
+    }
+
+    /**
+     * Apply <i>action</i> on each clause exported by workers but <i>worker</i> since the last call
+     * (as stored in <i>cursors</i>).
+     * Clauses overwritten in the meantime are skipped.
+     *
+     * @param worker  the importing worker
+     * @param cursors its cursors, updated on return
+     * @param action  the action to apply on each new clause
+     * @return the number of clauses read
+     */
+    public int forEachNew(int worker, long[] cursors, Consumer<SharedClause> action) {
+        int nb = 0;
+        long capacity = mask + 1L;
+        for (int w = 0; w < rings.length; w++) {
+            if (w == worker) continue;
+            Ring ring = rings[w];
+            long head = ring.published.get();
+            for (long seq = Math.max(cursors[w], head - capacity); seq < head; seq++) {
+                SharedClause sc = ring.slots.get((int) (seq & mask));
+                if (sc != null && sc.seq == seq) {
+                    action.accept(sc);
+                    nb++;
+                }
+            }
+            cursors[w] = head;
+        }
+        return nb;
+    }
+}
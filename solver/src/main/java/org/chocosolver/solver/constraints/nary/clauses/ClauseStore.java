@@ -9,11 +9,13 @@
  */
 package org.chocosolver.solver.constraints.nary.clauses;
 
+import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.constraints.nary.sat.PropNogoods;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -34,7 +36,16 @@ import java.util.stream.Stream;
 import static org.chocosolver.util.ESat.*;
 
 /**
- * A class to manage life of sclauses during resolution. TODO
+ * A class to manage life of sclauses during resolution.
+ * <p>
+ * Learnt signed clauses are split into three tiers wrt their LBD, that is the number of distinct
+ * decision levels among their literals (see {@link org.chocosolver.solver.Settings#setLearntClausesTiers(int, int)}):
+ * core clauses are never removed, mid clauses are moved to the local tier when they are not used
+ * between two reductions and local clauses are reduced wrt their activity.
+ * <p>
+ * When lazy clause generation is enabled (see {@link org.chocosolver.solver.Settings#setLazyClauseGeneration(boolean)}),
+ * learnt clauses are first translated into SAT clauses over integer literals and handed to the no-good store,
+ * only the ones that cannot be translated are kept in this store.
  *
  * <p> Project: choco-solver.
  *
@@ -47,6 +58,18 @@ public class ClauseStore extends Propagator<IntVar> {
      * Signed clause unique ID -- for toString() mainly
      */
     private static int SID = 1;
+    /**
+     * Tier of learnt clauses never removed
+     */
+    static final byte CORE = 0;
+    /**
+     * Tier of learnt clauses kept as long as they are used
+     */
+    static final byte MID = 1;
+    /**
+     * Tier of learnt clauses reduced wrt their activity
+     */
+    static final byte LOCAL = 2;
     /**
      * Solver that handles the clauses
      */
@@ -69,6 +92,67 @@ public class ClauseStore extends Propagator<IntVar> {
     private final double ratio;
 
     private final int domPerimeter;
+    /**
+     * Greatest LBD of a core clause
+     */
+    private final int coreLBD;
+    /**
+     * Greatest LBD of a mid clause
+     */
+    private final int midLBD;
+    /**
+     * LBD of the next learnt clause, -1 if unknown
+     */
+    private int nextLBD = -1;
+    /**
+     * Number of learnt clauses in each tier
+     */
+    private final int[] tierSizes = new int[3];
+    /**
+     * Number of calls to {@link #forget()}, that is, of learnt clauses
+     */
+    private long nbConflicts;
+    /**
+     * Value of {@link #nbConflicts} on last reduction
+     */
+    private long lastReduction;
+    /**
+     * Statistics on learnt clauses: learnt, promoted, demoted, removed, and sum of the lifespans of removed ones
+     */
+    private long nbLearnt, nbPromoted, nbDemoted, nbRemoved, sumLifespan;
+    /**
+     * Decision levels, to compute LBD
+     */
+    private final TIntHashSet levels = new TIntHashSet();
+    /**
+     * Exchange of learnt clauses with other solvers, if any
+     */
+    private ClauseSharing sharing;
+    /**
+     * Worker ID of this in {@link #sharing}
+     */
+    private int worker = -1;
+    /**
+     * Set to <i>true</i> while a clause learnt by another solver is added
+     */
+    private boolean importing;
+    /**
+     * Number of clauses exported to, and imported from, other solvers
+     */
+    private long nbExported, nbImported;
+    /**
+     * The no-good store learnt clauses are translated into, when lazy clause generation is enabled,
+     * <i>null</i> otherwise
+     */
+    private final PropNogoods png;
+    /**
+     * Number of learnt clauses translated into SAT clauses
+     */
+    private long nbTranslated;
+    /**
+     * Value of {@link #nbConflicts} when tagging started, <i>-1</i> when not tagging
+     */
+    private long taggedFrom = -1;
     /**
      * Reference to the last learnt signed clause, for checking routine
      */
@@ -94,6 +178,9 @@ public class ClauseStore extends Propagator<IntVar> {
         this.nbMaxLearnts = model.getSettings().getNbMaxLearntClauses();
         this.ratio = model.getSettings().getRatioForClauseStoreReduction();
         this.domPerimeter = model.getSettings().getLearntClausesDominancePerimeter();
+        this.coreLBD = model.getSettings().getLearntClausesCoreLBD();
+        this.midLBD = model.getSettings().getLearntClausesMidLBD();
+        this.png = model.getSettings().isLazyClauseGeneration() ? mModel.getNogoodStore().getPropNogoods() : null;
         this.clauses = new ArrayList<>();
         this.learnts = new ArrayList<>();
         last = null;
@@ -109,6 +196,63 @@ public class ClauseStore extends Propagator<IntVar> {
         return learnts.size();
     }
 
+    /**
+     * @param tier one of {@link #CORE}, {@link #MID} and {@link #LOCAL}
+     * @return the number of learnt clauses currently in <i>tier</i>
+     */
+    int getNbLearntClauses(byte tier) {
+        return tierSizes[tier];
+    }
+
+    /**
+     * Declare the LBD of the next learnt clause added to this store.
+     *
+     * @param lbd number of distinct decision levels among the literals of the next clause
+     */
+    public void setNextLBD(int lbd) {
+        this.nextLBD = lbd;
+    }
+
+    private byte tierOf(int lbd) {
+        return lbd <= coreLBD ? CORE : lbd <= midLBD ? MID : LOCAL;
+    }
+
+    /**
+     * Export the clauses learnt from now on to <i>sharing</i>, as <i>worker</i>.
+     *
+     * @param sharing exchange of learnt clauses among solvers
+     * @param worker  ID of this store in <i>sharing</i>
+     */
+    public void exportTo(ClauseSharing sharing, int worker) {
+        this.sharing = sharing;
+        this.worker = worker;
+    }
+
+    /**
+     * Add a clause learnt by another solver.
+     * Such a clause is managed like a learnt one but is never exported.
+     *
+     * @param vars   variables of the clause
+     * @param ranges ranges of the clause
+     * @param lbd    LBD of the clause in the solver that learnt it
+     */
+    public void importClause(IntVar[] vars, IntIterableRangeSet[] ranges, int lbd) {
+        ClauseBuilder ngb = model.getClauseBuilder();
+        for (int i = 0; i < vars.length; i++) {
+            ngb.put(vars[i], ranges[i]);
+        }
+        importing = true;
+        nextLBD = lbd;
+        try {
+            ngb.buildNogood(model);
+        } finally {
+            importing = false;
+            nextLBD = -1;
+            last = null;
+        }
+        nbImported++;
+    }
+
     public void declareClausesBasedStrategy(ClausesBased strat) {
         this.strat = strat;
     }
@@ -117,7 +261,17 @@ public class ClauseStore extends Propagator<IntVar> {
      * Declare a new signed clause in this store
      */
     public void add(IntVar[] vars, IntIterableRangeSet[] ranges) {
-        if (XParameters.INTERVAL_TREE) {
+        if (png != null && model.getSolver().getEngine().isInitialized()
+                && model.getClauseBuilder().translate(vars, ranges, png)) {
+            // the clause now lives in the no-good store
+            last = null;
+            nbTranslated++;
+            if (sharing != null && !importing
+                    && sharing.export(worker, vars, ranges, nextLBD > -1 ? nextLBD : vars.length)) {
+                nbExported++;
+            }
+            if (XParameters.PRINT_CLAUSE) System.out.printf("learn (sat): %s\n", Arrays.toString(vars));
+        } else if (XParameters.INTERVAL_TREE) {
             SignedClause cl = new SignedClause(vars, ranges);
             attach(new Watcher(cl.pos[0], cl));
             attach(new Watcher(cl.pos[1], cl));
@@ -126,6 +280,14 @@ public class ClauseStore extends Propagator<IntVar> {
                 last = cl;
                 last.activity = clauseInc;
                 last.rawActivity = 1;
+                last.lbd = nextLBD > -1 ? nextLBD : cl.cardinality();
+                last.tier = tierOf(last.lbd);
+                last.birth = last.lastUse = nbConflicts;
+                tierSizes[last.tier]++;
+                nbLearnt++;
+                if (sharing != null && !importing && sharing.export(worker, vars, ranges, last.lbd)) {
+                    nbExported++;
+                }
                 if (XParameters.PRINT_CLAUSE) System.out.printf("learn: %s\n", cl);
             } else {
                 if (XParameters.PRINT_CLAUSE) System.out.printf("add: %s\n", cl);
@@ -162,6 +324,10 @@ public class ClauseStore extends Propagator<IntVar> {
      */
     private void remove(int idx) {
         SignedClause ng = learnts.remove(idx);
+        tierSizes[ng.tier]--;
+        nbRemoved++;
+        sumLifespan += nbConflicts - ng.birth;
+        ng.lbd = 0; // no more promotion
         mSolver.getEngine().dynamicDeletion(ng);
         ng.pos[0] = ng.pos[1] = -1; // to remove it from watchers
     }
@@ -224,6 +390,49 @@ public class ClauseStore extends Propagator<IntVar> {
         // 2. reduce database
         reduceDB();
         last = null;
+        nextLBD = -1;
+        nbConflicts++;
+    }
+
+    /**
+     * Tag the clauses learnt from now on, so that they can be removed with {@link #removeTagged()}.
+     */
+    public void startTagging() {
+        taggedFrom = nbConflicts;
+    }
+
+    /**
+     * Stop tagging clauses, the ones tagged so far are kept.
+     */
+    public void stopTagging() {
+        taggedFrom = -1;
+    }
+
+    /**
+     * Remove the clauses learnt since the last call to {@link #startTagging()}.
+     * Must be called outside of the resolution.
+     */
+    public void removeTagged() {
+        if (taggedFrom > -1) {
+            for (int i = learnts.size() - 1; i >= 0; i--) {
+                if (learnts.get(i).birth >= taggedFrom) {
+                    remove(i);
+                }
+            }
+            last = null;
+            taggedFrom = -1;
+        }
+    }
+
+    /**
+     * Remove all the learnt clauses, the ones declared before the resolution are kept.
+     * Must be called outside of the resolution.
+     */
+    public void removeLearnts() {
+        for (int i = learnts.size() - 1; i >= 0; i--) {
+            remove(i);
+        }
+        last = null;
     }
 
     private void decayActivity() {
@@ -258,14 +467,24 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
     /**
-     * Remove sclauses with a lifespan greater than <i>lifespan</i> and which did not filtered in
-     * the current branch.
+     * When the local tier is full, move mid clauses not used since the last reduction to the local tier,
+     * then remove the least active local clauses (only {@link #ratio} of them are kept).
+     * Core clauses, and mid clauses still in use, are never removed.
      */
     private void reduceDB() {
         int size = learnts.size();
-        if (size >= nbMaxLearnts) {
-            learnts.sort(Comparator.comparingDouble(c -> -c.activity));
-            long to = Math.round(ratio * size);
+        if (tierSizes[LOCAL] >= nbMaxLearnts) {
+            for (int i = 0; i < size; i++) {
+                SignedClause ng = learnts.get(i);
+                if (ng.tier == MID && ng.lastUse < lastReduction) {
+                    ng.setTier(LOCAL);
+                    nbDemoted++;
+                }
+            }
+            lastReduction = nbConflicts;
+            // local clauses are put at the end, the least active ones last
+            learnts.sort(Comparator.comparingInt((SignedClause c) -> c.tier).thenComparingDouble(c -> -c.activity));
+            long to = size - tierSizes[LOCAL] + Math.round(ratio * tierSizes[LOCAL]);
             for (int i = size - 1; i >= to; i--) {
                 SignedClause ng = learnts.get(i);
                 if (ng.isNotLocked() && ng != last) {
@@ -305,7 +524,27 @@ public class ClauseStore extends Propagator<IntVar> {
     }
 
 
+    /**
+     * @return statistics on learnt clauses survival, as a map
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("learnt", nbLearnt);
+        stats.put("core", (long) tierSizes[CORE]);
+        stats.put("mid", (long) tierSizes[MID]);
+        stats.put("local", (long) tierSizes[LOCAL]);
+        stats.put("promoted", nbPromoted);
+        stats.put("demoted", nbDemoted);
+        stats.put("removed", nbRemoved);
+        stats.put("avg lifespan", nbRemoved == 0 ? 0 : sumLifespan / nbRemoved);
+        stats.put("exported", nbExported);
+        stats.put("imported", nbImported);
+        stats.put("translated", nbTranslated);
+        return stats;
+    }
+
     public void printStatistics() {
+        System.out.printf("Learnt clauses: %s\n", getStatistics());
         learnts.sort(Comparator.comparingInt(c -> -c.rawActivity));
         System.out.print("Top ten clauses:\n");
         for (int i = 0; i < 10 && i < learnts.size(); i++) {
@@ -531,6 +770,18 @@ public class ClauseStore extends Propagator<IntVar> {
         private double activity = 0d;
 
         private int rawActivity = 0;
+        /**
+         * Number of distinct decision levels among literals, as known when last used in conflict analysis
+         */
+        private int lbd;
+        /**
+         * Tier of this clause, when learnt
+         */
+        private byte tier = LOCAL;
+        /**
+         * Values of {@link #nbConflicts} when this was learnt, and when this was last used in conflict analysis
+         */
+        private long birth, lastUse;
 
         private int id;
 
@@ -582,6 +833,19 @@ public class ClauseStore extends Propagator<IntVar> {
             return mvars[p].updateBounds(bounds[p << 1], bounds[(p << 1) + 1], this);
         }
 
+        private void setTier(byte t) {
+            tierSizes[tier]--;
+            tierSizes[t]++;
+            tier = t;
+        }
+
+        /**
+         * @return the LBD of this clause
+         */
+        public int getLBD() {
+            return lbd;
+        }
+
         public final boolean isConnected() {
             return pos[0] > -1 && pos[1] > -1;
         }
@@ -892,12 +1156,18 @@ public class ClauseStore extends Propagator<IntVar> {
             IntIterableRangeSet set;
             activity += clauseInc;
             rawActivity += 1;
+            lastUse = nbConflicts;
+            levels.clear();
             int i = 0;
             while (i < mvars.length) {
                 IntVar v = mvars[i];
                 if (explanation.getFront().getValueOrDefault(v, -1) == -1) { // see javadoc for motivation of these two lines
                      explanation.getImplicationGraph().findPredecessor(explanation.getFront(), v, p);
                  }
+                int n = explanation.getFront().getValueOrDefault(v, -1);
+                if (n > -1) {
+                    levels.add(explanation.getImplicationGraph().getDecisionLevelAt(n));
+                }
                 set = explanation.empty();
                 do {
                     set.addBetween(bounds[i << 1], bounds[(i << 1) + 1]);
@@ -909,6 +1179,14 @@ public class ClauseStore extends Propagator<IntVar> {
                     v.unionLit(set, explanation);
                 }
             }
+            if (levels.size() > 0 && levels.size() < lbd) {
+                lbd = levels.size();
+                byte t = tierOf(lbd);
+                if (t < tier) {
+                    setTier(t);
+                    nbPromoted++;
+                }
+            }
         }
 
         @Override
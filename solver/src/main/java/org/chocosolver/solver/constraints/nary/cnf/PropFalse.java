@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.cnf;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -54,4 +55,8 @@ public class PropFalse extends Propagator<BoolVar> {
         // nothing to do
     }
 
+    @Override
+    public PropFalse duplicate(ModelCloner cloner) {
+        return new PropFalse(cloner.copyOf((BoolVar) vars[0]));
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.count;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -176,5 +178,8 @@ public class PropCountVar extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
-
+    @Override
+    public PropCountVar duplicate(ModelCloner cloner) {
+        return new PropCountVar(cloner.copyOf(Arrays.copyOf(vars, n)), cloner.copyOf(val), cloner.copyOf(card));
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.count;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
@@ -186,4 +188,8 @@ public class PropCount_AC extends Propagator<IntVar> {
         return ESat.TRUE;
     }
 
+    @Override
+    public PropCount_AC duplicate(ModelCloner cloner) {
+        return new PropCount_AC(cloner.copyOf(Arrays.copyOf(vars, n)), value, cloner.copyOf(vars[n]));
+    }
 }
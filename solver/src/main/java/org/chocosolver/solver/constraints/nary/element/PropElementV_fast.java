@@ -16,6 +16,8 @@
 
 package org.chocosolver.solver.constraints.nary.element;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -169,4 +171,9 @@ public class PropElementV_fast extends Propagator<IntVar> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropElementV_fast duplicate(ModelCloner cloner) {
+        return new PropElementV_fast(cloner.copyOf(var), cloner.copyOf(Arrays.copyOfRange(vars, 2, vars.length)),
+                cloner.copyOf(index), offset, fast);
+    }
 }
@@ -11,6 +11,8 @@ package org.chocosolver.solver.constraints.nary.globalcardinality;
 
 import gnu.trove.list.array.TIntArrayList;
 import gnu.trove.map.hash.TIntIntHashMap;
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -273,4 +275,9 @@ public class PropFastGCC extends Propagator<IntVar> {
         return st.toString();
     }
 
+    @Override
+    public PropFastGCC duplicate(ModelCloner cloner) {
+        return new PropFastGCC(cloner.copyOf(Arrays.copyOf(vars, n)), values, map,
+                cloner.copyOf(Arrays.copyOfRange(vars, n, vars.length)));
+    }
 }
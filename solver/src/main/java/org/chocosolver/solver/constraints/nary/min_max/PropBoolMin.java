@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -156,4 +158,9 @@ public class PropBoolMin extends Propagator<BoolVar> {
         sb.append(")");
         return sb.toString();
     }
+
+    @Override
+    public PropBoolMin duplicate(ModelCloner cloner) {
+        return new PropBoolMin(cloner.copyOf(Arrays.copyOf(vars, n, BoolVar[].class)), cloner.copyOf((BoolVar) vars[n]));
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -162,4 +164,9 @@ public class PropMax extends Propagator<IntVar> {
         sb.append(")");
         return sb.toString();
     }
+
+    @Override
+    public PropMax duplicate(ModelCloner cloner) {
+        return new PropMax(cloner.copyOf(Arrays.copyOf(vars, n)), cloner.copyOf(vars[n]));
+    }
 }
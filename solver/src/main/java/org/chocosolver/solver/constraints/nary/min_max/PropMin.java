@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.constraints.nary.min_max;
 
+import java.util.Arrays;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -161,4 +163,9 @@ public class PropMin extends Propagator<IntVar> {
         sb.append(")");
         return sb.toString();
     }
+
+    @Override
+    public PropMin duplicate(ModelCloner cloner) {
+        return new PropMin(cloner.copyOf(Arrays.copyOf(vars, n)), cloner.copyOf(vars[n]));
+    }
 }
@@ -16,30 +16,36 @@ import static org.chocosolver.sat.SatSolver.var;
 
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TLongIntHashMap;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.sat.SatSolver;
-import org.chocosolver.sat.SatSolver.Clause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.learn.ExplanationForSignedClause;
+import org.chocosolver.solver.learn.Implications;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.ESat;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.tools.VariableUtils;
 
 
 /**
  * A propagator to store and propagate no-goods.
  * <p>
+ * When signed clauses are learnt, a modification made by this propagator is explained
+ * by the SAT clause that forced the corresponding literal, translated back into signed literals.
+ * <p>
  * Created by cprudhom on 20/01/15.
  * Project: choco.
  *
@@ -97,6 +103,11 @@ public class PropNogoods extends Propagator<Variable> {
      */
     private TIntList early_deductions_;
 
+    /**
+     * Number of early deductions when tagging started, <i>-1</i> when not tagging
+     */
+    private int taggedDeductions = -1;
+
     /**
      * Local-like parameter.
      * To reduce learnt no-goods.
@@ -109,11 +120,6 @@ public class PropNogoods extends Propagator<Variable> {
      */
     private Deque<Variable> fp;
 
-    /**
-     * Local-like parameter, for #why() method only, lazily initialized.
-     */
-    private TIntObjectHashMap<ArrayList<Clause>> inClauses;
-
     /**
      * Store new added variables when {@link #initialized} is <i>false</i>
      */
@@ -124,6 +130,58 @@ public class PropNogoods extends Propagator<Variable> {
      */
     private boolean initialized = false;
 
+    /**
+     * The implication graph, when signed clauses are learnt, <i>null</i> otherwise
+     */
+    private Implications ig;
+
+    /**
+     * Literal assigned by this, per position in {@link #ig}
+     */
+    private int[] node2lit;
+
+    /**
+     * Value of {@link #epoch} when the literal was assigned, per position in {@link #ig}
+     */
+    private int[] node2epoch;
+
+    /**
+     * Incremented each time the SAT solver is reset to its root level,
+     * which makes obsolete the reasons of the literals assigned before
+     */
+    private int epoch;
+
+    /**
+     * Literals of the reason of a literal, for explanation purpose
+     */
+    private final TIntArrayList reason;
+
+    /**
+     * Variables already visited while computing a reason
+     */
+    private final BitSet seen;
+
+    /**
+     * Set to <tt>true</tt> to minimize learnt no-goods and to vivify them on restarts
+     */
+    private final boolean minimize;
+
+    /**
+     * Number of restarts after which an unused learnt no-good is forgotten, <i>0</i> for never
+     */
+    private final int maxAge;
+
+    /**
+     * Set to <tt>true</tt> to vivify learnt no-goods on next coarse propagation
+     */
+    private boolean vivifyNext;
+
+    /**
+     * Statistics on learnt no-goods: literals removed by minimization, literals removed by vivification
+     * and no-goods forgotten
+     */
+    private long nbMinimized, nbVivified, nbForgotten;
+
     /**
      * Create a (unique) propagator for no-goods recording and propagation.
      *
@@ -148,6 +206,12 @@ public class PropNogoods extends Propagator<Variable> {
         test_eq = new BitSet();
         fp = new ArrayDeque<>();
         add_var = new ArrayList<>(16);
+        node2lit = new int[k];
+        node2epoch = new int[k];
+        reason = new TIntArrayList();
+        seen = new BitSet();
+        minimize = model.getSettings().enableNogoodsMinimization();
+        maxAge = Math.min(model.getSettings().getNogoodsMaxAge(), SatSolver.MAX_AGE);
     }
 
     @Override
@@ -155,7 +219,17 @@ public class PropNogoods extends Propagator<Variable> {
         initialize();
         if (!sat_.ok_) fails();
         fp.clear();
+        ig = model.getSolver().getEventObserver().getGI().orElse(null);
+        epoch++;
         sat_.cancelUntil(0); // to deal with learnt clauses, only called on coarse grain propagation
+        if (vivifyNext) {
+            vivifyNext = false;
+            nbVivified += sat_.vivify();
+            if (!sat_.ok_) {
+                sat_.touched_variables_.resetQuick();
+                fails();
+            }
+        }
         storeEarlyDeductions();
         applyEarlyDeductions();
         for (int i = 0; i < vars.length; ++i) {
@@ -299,15 +373,16 @@ public class PropNogoods extends Propagator<Variable> {
         return true;
     }
 
-    private boolean clauseEntailed(ArrayList<Clause> clauses) {
+    private boolean clauseEntailed(TIntArrayList clauses) {
         int lit, var;
         long value;
         boolean sign;
         Variable avar;
-        for (Clause c : clauses) {
+        for (int k = 0; k < clauses.size(); k++) {
+            int c = clauses.getQuick(k);
             int cnt = 0;
-            for (int i = 0; i < c.size(); i++) {
-                lit = c._g(i);
+            for (int i = 0; i < sat_.clauseSize(c); i++) {
+                lit = sat_.clauseLiteral(c, i);
                 sign = sign(lit);
                 var = var(lit);
                 avar = vars[lit2pos[var]];
@@ -338,11 +413,133 @@ public class PropNogoods extends Propagator<Variable> {
                     throw new UnsupportedOperationException("Unknown case");
                 }
             }
-            if (cnt == c.size()) return false;
+            if (cnt == sat_.clauseSize(c)) return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * @implSpec
+     * <p>
+     *     Consider that the literal <i>l</i> has been assigned to true by the SAT solver,
+     *     because of the clause (l &or; l<sub>1</sub> &or; ... &or; l<sub>n</sub>), and that
+     *     <i>l</i> has been applied on its variable, the pivot.
+     *     Each literal is translated back into a signed literal wrt its variable, then:
+     * <pre>
+     *         (pivot &isin; S(l) &cup; S(l<sub>i</sub>) &forall; l<sub>i</sub> on pivot) &or; (v<sub>j</sub> &isin; S(l<sub>j</sub>)) &or; ...
+     *     </pre>
+     * When the SAT solver fails, the conflicting clause is used instead, after resolution with the clauses
+     * that forced the literals not applied yet.
+     * Literals assigned at root level are ignored.
+     * If no such clause can be found, the default explanation is used.
+     * </p>
+     */
+    @Override
+    public void explain(int p, ExplanationForSignedClause explanation) {
+        if (p == -1 || !collectReason(p, explanation)) {
+            super.explain(p, explanation);
+            return;
+        }
+        IntVar pivot = explanation.readVar(p);
+        IntIterableRangeSet pset = explanation.empty();
+        addValues(pset, node2lit[p]);
+        for (int i = 0; i < reason.size(); i++) {
+            int q = reason.getQuick(i);
+            IntVar v = (IntVar) vars[lit2pos[var(q)]];
+            if (v == pivot) {
+                addValues(pset, q);
+            } else {
+                IntIterableRangeSet set = explanation.empty();
+                addValues(set, q);
+                v.unionLit(set, explanation);
+            }
+        }
+        pivot.intersectLit(pset, explanation);
+    }
+
+    /**
+     * Store in {@link #reason} the literals, all false, that forced the literal applied at position <i>p</i>.
+     *
+     * @param p a position in the implication graph
+     * @param explanation the explanation
+     * @return <tt>false</tt> if no reason can be found or if the reason does not only rely on integer variables
+     */
+    private boolean collectReason(int p, ExplanationForSignedClause explanation) {
+        reason.resetQuick();
+        if (ig == null || p >= node2lit.length) {
+            return false;
+        }
+        int a = node2lit[p];
+        if (vars[lit2pos[var(a)]] != explanation.readVar(p)) {
+            return false;
+        }
+        if (sat_.isTrue(a)) {
+            if (sat_.levelOf(a) > 0 && (node2epoch[p] != epoch || !sat_.reasonOf(a, reason))) {
+                return false;
+            }
+        } else if (sat_.isFalse(a) && node2epoch[p] == epoch && sat_.conflictOf(reason)) {
+            // literals forced at the last level have not been applied yet: replace them by their reasons
+            int last = sat_.trailMarker();
+            seen.clear();
+            int i = 0;
+            while (i < reason.size()) {
+                int q = reason.getQuick(i);
+                if (seen.get(var(q))) {
+                    reason.setQuick(i, reason.getQuick(reason.size() - 1));
+                    reason.removeAt(reason.size() - 1);
+                } else {
+                    seen.set(var(q));
+                    if (sat_.levelOf(q) == last && sat_.reasonOf(negated(q), reason)) {
+                        reason.setQuick(i, reason.getQuick(reason.size() - 1));
+                        reason.removeAt(reason.size() - 1);
+                    } else {
+                        i++;
+                    }
+                }
+            }
+        } else {
+            return false;
         }
+        // ignore root level literals
+        int j = 0;
+        for (int i = 0; i < reason.size(); i++) {
+            int q = reason.getQuick(i);
+            if (sat_.levelOf(q) > 0) {
+                if (!VariableUtils.isInt(vars[lit2pos[var(q)]])) {
+                    return false;
+                }
+                reason.setQuick(j++, q);
+            }
+        }
+        reason.remove(j, reason.size() - j);
         return true;
     }
 
+    /**
+     * Add to <i>set</i> the values that satisfy the literal <i>lit</i>.
+     *
+     * @param set a set of values
+     * @param lit a literal based on an integer variable
+     */
+    private void addValues(IntIterableRangeSet set, int lit) {
+        long value = lit2val[var(lit)];
+        int val = ivalue(value);
+        if (iseq(value)) {
+            if (sign(lit)) {
+                set.add(val);
+            } else {
+                set.addBetween(IntIterableRangeSet.MIN, val - 1);
+                set.addBetween(val + 1, IntIterableRangeSet.MAX);
+            }
+        } else {
+            if (sign(lit)) {
+                set.addBetween(IntIterableRangeSet.MIN, val);
+            } else {
+                set.addBetween(val + 1, IntIterableRangeSet.MAX);
+            }
+        }
+    }
 
     /**
      * @param v a value
@@ -559,6 +756,17 @@ public class PropNogoods extends Propagator<Variable> {
      * @throws ContradictionException if reduction leads to failure
      */
     void doReduce(int lit) throws ContradictionException {
+        if (ig != null) {
+            // the next event, if any, will be stored at this position
+            int n = ig.size();
+            if (n >= node2lit.length) {
+                int nsize = Math.max(n + 1, node2lit.length * 3 / 2);
+                node2lit = Arrays.copyOf(node2lit, nsize);
+                node2epoch = Arrays.copyOf(node2epoch, nsize);
+            }
+            node2lit[n] = lit;
+            node2epoch[n] = epoch;
+        }
         int var = var(lit);
         long value = lit2val[var];
         Variable avar = vars[lit2pos[var]];
@@ -707,24 +915,52 @@ public class PropNogoods extends Propagator<Variable> {
      * @param lits clause
      */
     public void addLearnt(int... lits) {
+        if (minimize) {
+            int n = lits.length;
+            lits = sat_.minimize(lits);
+            nbMinimized += n - lits.length;
+        }
         sat_.learnClause(lits);
         // early deductions of learnt clause may lead to incorrect behavior on backtrack
         // since early deduction is not backtrackable.
         forcePropagationOnBacktrack(); // issue#327
+        removeDominated();
+    }
+
+    /**
+     * Add a no-good to the store during resolution which, unlike a learnt no-good, is never forgotten
+     * (see {@link #onRestart()}).
+     * This is required for no-goods that are not implied by the model, such as the ones excluding solutions.
+     *
+     * @param lits clause
+     */
+    public void addPermanentLearnt(int... lits) {
+        if (minimize) {
+            int n = lits.length;
+            lits = sat_.minimize(lits);
+            nbMinimized += n - lits.length;
+        }
+        sat_.learnPermanentClause(lits);
+        forcePropagationOnBacktrack(); // issue#327
+    }
+
+    private void removeDominated() {
         // compare the current clauses with the previous stored one,
         // just in case the current one dominates the previous none
         if (sat_.nLearnt() > 1) {
-            Clause last = sat_.learnts.get(sat_.learnts.size() - 1);
+            int last = sat_.learnts.get(sat_.learnts.size() - 1);
+            int lsize = sat_.clauseSize(last);
             test_eq.clear();
-            for (int i = last.size() - 1; i >= 0; i--) {
-                test_eq.set(last._g(i));
+            for (int i = lsize - 1; i >= 0; i--) {
+                test_eq.set(sat_.clauseLiteral(last, i));
             }
             for (int c = sat_.learnts.size() - 2; c >= 0; c--) {
                 int s = test_eq.cardinality();
-                Clause prev = sat_.learnts.get(c);
-                if (last.size() > 1 && last.size() < prev.size()) {
-                    for (int i = prev.size() - 1; i >= 0; i--) {
-                        s -= test_eq.get(prev._g(i)) ? 1 : 0;
+                int prev = sat_.learnts.get(c);
+                int psize = sat_.clauseSize(prev);
+                if (lsize > 1 && lsize < psize) {
+                    for (int i = psize - 1; i >= 0; i--) {
+                        s -= test_eq.get(sat_.clauseLiteral(prev, i)) ? 1 : 0;
                     }
                     if (s == 0) { // then last dominates prev
                         sat_.detachLearnt(c);
@@ -734,6 +970,65 @@ public class PropNogoods extends Propagator<Variable> {
         }
     }
 
+    /**
+     * Notify this that the search is about to restart.
+     * Learnt no-goods that did not propagate during the last restarts are forgotten
+     * (see {@link org.chocosolver.solver.Settings#setNogoodsMaxAge(int)})
+     * and, when no-goods are minimized, learnt no-goods are vivified on next coarse propagation
+     * (see {@link org.chocosolver.solver.Settings#setNogoodsMinimization(boolean)}).
+     */
+    public void onRestart() {
+        if (maxAge > 0) {
+            nbForgotten += sat_.forgetUnusedLearnts(maxAge);
+        }
+        if (minimize) {
+            vivifyNext = true;
+            forcePropagationOnBacktrack();
+        }
+    }
+
+    /**
+     * @return statistics on learnt no-goods, as a map
+     */
+    public Map<String, Long> getStatistics() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("learnt", (long) sat_.nLearnt());
+        stats.put("minimized", nbMinimized);
+        stats.put("vivified", nbVivified);
+        stats.put("forgotten", nbForgotten);
+        return stats;
+    }
+
+    /**
+     * Tag the no-goods learnt from now on (see {@link SatSolver#startTagging()}),
+     * so that they can be removed with {@link #removeTagged()}.
+     */
+    public void startTagging() {
+        sat_.startTagging();
+        taggedDeductions = early_deductions_.size();
+    }
+
+    /**
+     * Stop tagging no-goods, the ones tagged so far are kept.
+     */
+    public void stopTagging() {
+        sat_.stopTagging();
+        taggedDeductions = -1;
+    }
+
+    /**
+     * Remove the no-goods learnt since the last call to {@link #startTagging()}, and what was deduced from them.
+     * Must be called outside of the resolution, the initial propagation of this restores the remaining deductions.
+     */
+    public void removeTagged() {
+        if (taggedDeductions > -1) {
+            sat_.removeTagged();
+            sat_.touched_variables_.resetQuick();
+            early_deductions_.remove(taggedDeductions, early_deductions_.size() - taggedDeductions);
+            taggedDeductions = -1;
+        }
+    }
+
     private void storeEarlyDeductions() {
         for (int i = 0; i < sat_.touched_variables_.size(); ++i) {
             int lit = sat_.touched_variables_.get(i);
@@ -11,7 +11,6 @@ package org.chocosolver.solver.constraints.nary.sat;
 
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
-import gnu.trove.map.hash.TIntObjectHashMap;
 import gnu.trove.map.hash.TObjectIntHashMap;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.sat.SatSolver;
@@ -58,15 +57,30 @@ public class PropSat extends Propagator<BoolVar> {
     private TIntList early_deductions_;
 
     /**
-     * Local-like parameter, for #why() method only, lazily initialized.
+     * Number of early deductions when tagging started, <i>-1</i> when not tagging
      */
-    private TIntObjectHashMap<ArrayList<Clause>> inClauses;
+    private int taggedDeductions = -1;
 
     /**
      * Store new added variables when {@link #initialized} is <i>false</i>
      */
     private ArrayList<BoolVar> add_var;
 
+    /**
+     * Set to <tt>true</tt> to simplify clauses each time clauses are added
+     */
+    private final boolean simplify;
+
+    /**
+     * Set to <tt>true</tt> to simplify clauses on next coarse propagation
+     */
+    private boolean simplifyNext;
+
+    /**
+     * Number of clauses right after the last simplification
+     */
+    private long nbClausesAtSimplification = -1;
+
     /**
      * Indicates if this is initialized or not
      */
@@ -87,6 +101,7 @@ public class PropSat extends Propagator<BoolVar> {
         early_deductions_ = new TIntArrayList();
         sat_trail_ = model.getEnvironment().makeInt();
         add_var = new ArrayList<>(16);
+        simplify = model.getSettings().enableSATSimplification();
     }
 
     @Override
@@ -99,6 +114,15 @@ public class PropSat extends Propagator<BoolVar> {
         initialize();
         if (!sat_.ok_) fails();
         sat_.cancelUntil(0);
+        if (simplifyNext || (simplify && nbClausesAtSimplification != sat_.nbclauses())) {
+            simplifyNext = false;
+            boolean ok = sat_.simplify();
+            nbClausesAtSimplification = sat_.nbclauses();
+            if (!ok) {
+                sat_.touched_variables_.resetQuick();
+                fails();
+            }
+        }
         storeEarlyDeductions();
         applyEarlyDeductions();
         for (int i = 0; i < vars.length; ++i) {
@@ -147,20 +171,21 @@ public class PropSat extends Propagator<BoolVar> {
      * @param clauses list of clause
      * @return <tt>true</tt> if all clauses are satisfied, <tt>false</tt> otherwise
      */
-    private boolean clauseEntailed(ArrayList<Clause> clauses) {
+    private boolean clauseEntailed(TIntArrayList clauses) {
         int lit, var, val;
         boolean sign;
-        for (Clause c : clauses) {
+        for (int k = 0; k < clauses.size(); k++) {
+            int c = clauses.getQuick(k);
             int cnt = 0;
-            for (int i = 0; i < c.size(); i++) {
-                lit = c._g(i);
+            for (int i = 0; i < sat_.clauseSize(c); i++) {
+                lit = sat_.clauseLiteral(c, i);
                 sign = sign(lit);
                 var = var(lit);
                 val = vars[var].getValue();
                 if (val == (sign ? 0 : 1)) cnt++; // if the lit is ok
                 else break;
             }
-            if (cnt == c.size()) return false;
+            if (cnt == sat_.clauseSize(c)) return false;
         }
         return true;
     }
@@ -299,6 +324,45 @@ public class PropSat extends Propagator<BoolVar> {
         // since early deduction is not backtrackable.
     }
 
+    /**
+     * Simplify clauses (see {@link SatSolver#simplify()}) on next coarse propagation,
+     * which is forced on backtrack.
+     */
+    public void simplifyOnBacktrack() {
+        simplifyNext = true;
+        forcePropagationOnBacktrack();
+    }
+
+    /**
+     * Tag the clauses learnt from now on (see {@link SatSolver#startTagging()}),
+     * so that they can be removed with {@link #removeTagged()}.
+     */
+    public void startTagging() {
+        sat_.startTagging();
+        taggedDeductions = early_deductions_.size();
+    }
+
+    /**
+     * Stop tagging clauses, the ones tagged so far are kept.
+     */
+    public void stopTagging() {
+        sat_.stopTagging();
+        taggedDeductions = -1;
+    }
+
+    /**
+     * Remove the clauses learnt since the last call to {@link #startTagging()}, and what was deduced from them.
+     * Must be called outside of the resolution, the initial propagation of this restores the remaining deductions.
+     */
+    public void removeTagged() {
+        if (taggedDeductions > -1) {
+            sat_.removeTagged();
+            sat_.touched_variables_.resetQuick();
+            early_deductions_.remove(taggedDeductions, early_deductions_.size() - taggedDeductions);
+            taggedDeductions = -1;
+        }
+    }
+
     private void storeEarlyDeductions() {
         for (int i = 0; i < sat_.touched_variables_.size(); ++i) {
             int lit = sat_.touched_variables_.get(i);
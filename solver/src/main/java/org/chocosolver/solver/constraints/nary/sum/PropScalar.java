@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.nary.clauses.ClauseBuilder;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -489,4 +490,8 @@ public class PropScalar extends PropSum {
         return new PropScalar(vars, c, pos, nop(o), b + nb(o));
     }
 
+    @Override
+    public PropScalar duplicate(ModelCloner cloner) {
+        return new PropScalar(cloner.copyOf(vars), c, pos, o, b);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -697,4 +698,9 @@ public class PropSum extends Propagator<IntVar> {
     protected PropSum opposite(){
         return new PropSum(vars, pos, nop(o), b + nb(o));
     }
+
+    @Override
+    public PropSum duplicate(ModelCloner cloner) {
+        return new PropSum(cloner.copyOf(vars), pos, o, b, priority, reactToFineEvt);
+    }
 }
@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints.nary.sum;
 import static org.chocosolver.solver.constraints.PropagatorPriority.BINARY;
 import static org.chocosolver.util.tools.ArrayUtils.concat;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -258,4 +259,13 @@ public class PropSumBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumBool(bvars, pos, nop(o), vars[vars.length-1], b + nb(o), reactToFineEvt);
     }
+
+    @Override
+    public PropSumBool duplicate(ModelCloner cloner) {
+        BoolVar[] bools = new BoolVar[l - 1];
+        for (int i = 0; i < l - 1; i++) {
+            bools[i] = (BoolVar) cloner.copyOf(vars[i]);
+        }
+        return new PropSumBool(bools, pos, o, cloner.copyOf(sum), b, reactToFineEvt);
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.constraints.nary.sum;
 
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
@@ -135,4 +136,12 @@ public class PropSumBoolIncr extends PropSumBool {
         return new PropSumBoolIncr(bvars, pos, nop(o), vars[vars.length-1], b + nb(o));
     }
 
+    @Override
+    public PropSumBoolIncr duplicate(ModelCloner cloner) {
+        BoolVar[] bools = new BoolVar[l - 1];
+        for (int i = 0; i < l - 1; i++) {
+            bools[i] = (BoolVar) cloner.copyOf(vars[i]);
+        }
+        return new PropSumBoolIncr(bools, pos, o, cloner.copyOf(sum), b);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Operator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -203,4 +204,13 @@ public class PropSumFullBool extends PropSum {
         System.arraycopy(vars, 0, bvars, 0, bvars.length);
         return new PropSumFullBool(bvars, pos, nop(o), b, reactToFineEvt);
     }
+
+    @Override
+    public PropSumFullBool duplicate(ModelCloner cloner) {
+        BoolVar[] bools = new BoolVar[l];
+        for (int i = 0; i < l; i++) {
+            bools[i] = (BoolVar) cloner.copyOf(vars[i]);
+        }
+        return new PropSumFullBool(bools, pos, o, b, reactToFineEvt);
+    }
 }
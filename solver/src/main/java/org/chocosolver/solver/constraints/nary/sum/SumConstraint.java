@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.nary.sum;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -43,4 +44,11 @@ public class SumConstraint extends Constraint {
         } else
             return super.makeOpposite();
     }
+
+    @Override
+    public SumConstraint duplicate(ModelCloner cloner) {
+        SumConstraint copy = new SumConstraint(cloner.copyOf(propagators[0]));
+        copy.setEnabled(isEnabled());
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -59,4 +60,8 @@ public class PropOpposite extends Propagator<Variable> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropOpposite duplicate(ModelCloner cloner) {
+        return new PropOpposite(cloner.copyOf(original), cloner.copyOf(vars));
+    }
 }
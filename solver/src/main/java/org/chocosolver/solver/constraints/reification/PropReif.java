@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
@@ -127,4 +128,8 @@ public class PropReif extends Propagator<Variable> {
         return bVar.toString() + "=>" + trueCons.toString() + ", !" + bVar.toString() + "=>" + falseCons.toString();
     }
 
+    @Override
+    public PropReif duplicate(ModelCloner cloner) {
+        return new PropReif(cloner.copyOf(vars), cloner.copyOf(trueCons), cloner.copyOf(falseCons));
+    }
 }
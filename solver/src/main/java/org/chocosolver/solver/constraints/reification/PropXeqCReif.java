@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -143,4 +144,9 @@ public class PropXeqCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + var.getName() +" = " + cste + ") <=> "+r.getName();
     }
+
+    @Override
+    public PropXeqCReif duplicate(ModelCloner cloner) {
+        return new PropXeqCReif(cloner.copyOf(var), cste, cloner.copyOf(r));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -124,4 +125,9 @@ public class PropXeqYCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + vars[0].getName() + " = " + vars[1].getName() + (cste !=0?" + "+cste:"")+") <=> " + vars[2].getName();
     }
+
+    @Override
+    public PropXeqYCReif duplicate(ModelCloner cloner) {
+        return new PropXeqYCReif(cloner.copyOf(vars[0]), cloner.copyOf(vars[1]), cste, (BoolVar) cloner.copyOf(vars[2]));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -146,4 +147,8 @@ public class PropXinSReif extends Propagator<IntVar> {
         return "(" + var.getName() +" ∈ " + set + ") <=> "+r.getName();
     }
 
+    @Override
+    public PropXinSReif duplicate(ModelCloner cloner) {
+        return new PropXinSReif(cloner.copyOf(var), set, cloner.copyOf(r));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -142,4 +143,9 @@ public class PropXltCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + var.getName() +" < " + cste + ") <=> "+r.getName();
     }
+
+    @Override
+    public PropXltCReif duplicate(ModelCloner cloner) {
+        return new PropXltCReif(cloner.copyOf(var), cste, cloner.copyOf(r));
+    }
 }
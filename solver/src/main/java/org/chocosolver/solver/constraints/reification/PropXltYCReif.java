@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.reification;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -196,4 +197,9 @@ public class PropXltYCReif extends Propagator<IntVar> {
     public String toString() {
         return "(" + vars[0].getName() +" < " + vars[1].getName() + " + "+cste+") <=> "+vars[2].getName();
     }
+
+    @Override
+    public PropXltYCReif duplicate(ModelCloner cloner) {
+        return new PropXltYCReif(cloner.copyOf(vars[0]), cloner.copyOf(vars[1]), cste, (BoolVar) cloner.copyOf(vars[2]));
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.chocosolver.solver.constraints.set;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -105,4 +106,8 @@ public class PropCardinality extends Propagator<Variable> {
         return ESat.UNDEFINED;
     }
 
+    @Override
+    public PropCardinality duplicate(ModelCloner cloner) {
+        return new PropCardinality(cloner.copyOf(set), cloner.copyOf(card));
+    }
 }
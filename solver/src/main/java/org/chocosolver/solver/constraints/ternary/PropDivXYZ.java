@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -366,4 +367,9 @@ public class PropDivXYZ extends Propagator<IntVar> {
         return res;
     }
 
+    @Override
+    public PropDivXYZ duplicate(ModelCloner cloner) {
+        return new PropDivXYZ(cloner.copyOf(X), cloner.copyOf(Y), cloner.copyOf(Z),
+                cloner.copyOf(absX), cloner.copyOf(absY), cloner.copyOf(absZ));
+    }
 }
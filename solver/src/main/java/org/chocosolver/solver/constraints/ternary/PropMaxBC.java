@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -91,4 +92,8 @@ public class PropMaxBC extends Propagator<IntVar> {
         return BST.toString() + ".MAX(" + v1.toString() + "," + v2.toString() + ")";
     }
 
+    @Override
+    public PropMaxBC duplicate(ModelCloner cloner) {
+        return new PropMaxBC(cloner.copyOf(BST), cloner.copyOf(v1), cloner.copyOf(v2));
+    }
 }
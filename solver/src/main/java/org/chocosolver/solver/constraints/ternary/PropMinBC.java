@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -88,4 +89,8 @@ public class PropMinBC extends Propagator<IntVar> {
         return BST.toString() + ".MIN(" + v1.toString() + "," + v2.toString() + ")";
     }
 
+    @Override
+    public PropMinBC duplicate(ModelCloner cloner) {
+        return new PropMinBC(cloner.copyOf(BST), cloner.copyOf(v1), cloner.copyOf(v2));
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -178,4 +179,8 @@ public class PropModXYZ extends Propagator<IntVar> {
         return x.getName()+" % "+y.getName()+" = "+z.getName();
     }
 
+    @Override
+    public PropModXYZ duplicate(ModelCloner cloner) {
+        return new PropModXYZ(cloner.copyOf(x), cloner.copyOf(y), cloner.copyOf(z));
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.constraints.ternary;
 
 import static org.chocosolver.util.tools.MathUtils.safeMultiply;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -100,5 +101,8 @@ public class PropTimesNaive extends Propagator<IntVar> {
         return var.updateLowerBound(min, this) | var.updateUpperBound(max, this);
     }
 
-
+    @Override
+    public PropTimesNaive duplicate(ModelCloner cloner) {
+        return new PropTimesNaive(cloner.copyOf(v0), cloner.copyOf(v1), cloner.copyOf(v2));
+    }
 }
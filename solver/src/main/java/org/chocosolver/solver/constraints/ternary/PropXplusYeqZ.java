@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.ternary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -203,4 +204,9 @@ public class PropXplusYeqZ extends Propagator<IntVar> {
             Propagator.defaultExplain(this, p, explanation);
         }
     }
+
+    @Override
+    public PropXplusYeqZ duplicate(ModelCloner cloner) {
+        return new PropXplusYeqZ(cloner.copyOf(vars[x]), cloner.copyOf(vars[y]), cloner.copyOf(vars[z]));
+    }
 }
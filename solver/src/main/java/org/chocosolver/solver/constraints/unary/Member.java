@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -54,4 +55,11 @@ public class Member extends Constraint {
             return new NotMember(var, values);
         }
     }
+
+    @Override
+    public Member duplicate(ModelCloner cloner) {
+        Member copy = new Member(cloner.copyOf(var), lb, ub, values, cloner.copyOf(getPropagator(0)));
+        copy.setEnabled(isEnabled());
+        return copy;
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.Propagator;
@@ -53,4 +54,11 @@ public class NotMember extends Constraint {
             return new Member(var, values);
         }
     }
+
+    @Override
+    public NotMember duplicate(ModelCloner cloner) {
+        NotMember copy = new NotMember(cloner.copyOf(var), lb, ub, values, cloner.copyOf(getPropagator(0)));
+        copy.setEnabled(isEnabled());
+        return copy;
+    }
 }
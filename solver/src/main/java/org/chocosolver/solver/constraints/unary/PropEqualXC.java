@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -78,4 +79,8 @@ public class PropEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " = " + constant;
     }
 
+    @Override
+    public PropEqualXC duplicate(ModelCloner cloner) {
+        return new PropEqualXC(cloner.copyOf(vars[0]), constant);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -84,4 +85,8 @@ public class PropGreaterOrEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " >= " + constant;
     }
 
+    @Override
+    public PropGreaterOrEqualXC duplicate(ModelCloner cloner) {
+        return new PropGreaterOrEqualXC(cloner.copyOf(vars[0]), constant);
+    }
 }
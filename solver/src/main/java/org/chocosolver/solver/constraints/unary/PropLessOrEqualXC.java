@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -86,4 +87,8 @@ public class PropLessOrEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " <= " + constant;
     }
 
+    @Override
+    public PropLessOrEqualXC duplicate(ModelCloner cloner) {
+        return new PropLessOrEqualXC(cloner.copyOf(vars[0]), constant);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -81,4 +82,8 @@ public class PropNotEqualXC extends Propagator<IntVar> {
         return vars[0].getName() + " =/= " + constant;
     }
 
+    @Override
+    public PropNotEqualXC duplicate(ModelCloner cloner) {
+        return new PropNotEqualXC(cloner.copyOf(vars[0]), constant);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.constraints.unary;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.constraints.PropagatorPriority;
 import org.chocosolver.solver.constraints.UpdatablePropagator;
@@ -114,4 +115,9 @@ public class PropNotMember extends Propagator<IntVar> implements UpdatablePropag
     public IntIterableRangeSet getUpdatedValue() {
         return this.range.duplicate();
     }
+
+    @Override
+    public PropNotMember duplicate(ModelCloner cloner) {
+        return new PropNotMember(cloner.copyOf(vars[0]), range);
+    }
 }
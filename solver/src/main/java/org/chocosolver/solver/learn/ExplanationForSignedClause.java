@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.learn;
 
+import gnu.trove.set.hash.TIntHashSet;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.Propagator;
@@ -27,7 +28,9 @@ import org.chocosolver.util.PoolManager;
 import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Set;
 
 /**
  * An implementation of {@link IExplanation} dedicated to learn signed clauses
@@ -46,9 +49,17 @@ public class ExplanationForSignedClause extends IExplanation {
      */
     private final ValueSortedMap<IntVar> front;
     /**
-     * Literals that explains the conflict
+     * Variables of the literals that explains the conflict, the first {@link #nbLiterals} ones are relevant
      */
-    private final HashSet<IntVar> literals;
+    private IntVar[] literals;
+    /**
+     * Number of literals that explains the conflict
+     */
+    private int nbLiterals;
+    /**
+     * Position of a variable in {@link #literals}, per variable id, -1 if not a literal
+     */
+    private int[] positions;
     /**
      * The decision to refute (ie, point to jump to wrt the current decision path).
      *
@@ -62,11 +73,21 @@ public class ExplanationForSignedClause extends IExplanation {
      */
     private final Implications mIG;
 
+    /**
+     * Pool of sets, to avoid creating a new one each time a literal is explained
+     */
     private final PoolManager<IntIterableRangeSet> manager;
 
+    /**
+     * Decision levels met while computing LBD
+     */
+    private final TIntHashSet levels = new TIntHashSet();
+
     public ExplanationForSignedClause(Implications ig) {
         front = new ValueSortedMap<>();
-        literals = new HashSet<>();
+        literals = new IntVar[16];
+        positions = new int[16];
+        Arrays.fill(positions, -1);
         manager = new PoolManager<>();
         mIG = ig;
     }
@@ -77,15 +98,43 @@ public class ExplanationForSignedClause extends IExplanation {
     @Override
     public void extractConstraint(Model mModel, ClauseStore ngstore) {
         ClauseBuilder ngb = mModel.getClauseBuilder();
-        literals.forEach(v -> ngb.put(v, v.getLit().export())); // TODO : improve
+        for (int i = 0; i < nbLiterals; i++) {
+            ngb.put(literals[i], literals[i].getLit().export());
+        }
+        ngstore.setNextLBD(getLBD());
         ngb.buildNogood(mModel);
     }
 
+    /**
+     * Compute the LBD (literal block distance) of the current explanation,
+     * that is the number of distinct decision levels among the nodes of the literals in {@link #front}.
+     * A literal with no node in {@link #front} is assumed to come from its own decision level.
+     *
+     * @return the LBD of the current explanation
+     */
+    public int getLBD() {
+        levels.clear();
+        int unknown = 0;
+        for (int i = 0; i < nbLiterals; i++) {
+            int n = front.getValueOrDefault(literals[i], -1);
+            if (n > -1) {
+                levels.add(mIG.getDecisionLevelAt(n));
+            } else {
+                unknown++;
+            }
+        }
+        return levels.size() + unknown;
+    }
+
     @Override
     public void recycle() {
         front.clear();
-        literals.forEach(IntVar::flushLit);
-        literals.clear();
+        for (int i = 0; i < nbLiterals; i++) {
+            literals[i].flushLit();
+            positions[literals[i].getId()] = -1;
+            literals[i] = null;
+        }
+        nbLiterals = 0;
         assertLevel = Integer.MAX_VALUE;
     }
 
@@ -154,6 +203,33 @@ public class ExplanationForSignedClause extends IExplanation {
         if (XParameters.PROOF) System.out.print(">\n");
     }
 
+    /**
+     * Go on resolving the signed clause computed by {@link #learnSignedClause(ContradictionException)}
+     * until it only depends on decisions and on the root node, and collect the variables of these decisions.
+     * The explanation remains a valid signed clause, made of the negation of these decisions
+     * and of literals entailed at the root node.
+     *
+     * @param decisionVars where the variables of the decisions involved in the conflict are added
+     */
+    public void explainByDecisions(Set<IntVar> decisionVars) {
+        // filter irrelevant nodes first
+        relax();
+        while (!front.isEmpty()) {
+            int current = front.pollLastValue();
+            if (IntEventType.VOID.getMask() != mIG.getEventMaskAt(current)
+                    && mIG.getDecisionLevelAt(current) > 1) { // otherwise, entailed at root node
+                ICause cause = mIG.getCauseAt(current);
+                if (IntDecision.class.isAssignableFrom(cause.getClass())) {
+                    decisionVars.add(((IntDecision) cause).getDecisionVariable());
+                } else {
+                    mIG.predecessorsOf(current, front);
+                    explain(cause, current);
+                }
+            }
+            relax();
+        }
+    }
+
     private void initFront(ContradictionException cex) {
         mIG.collectNodesFromConflict(cex, front);
         // deal with global conflict
@@ -183,9 +259,9 @@ public class ExplanationForSignedClause extends IExplanation {
             explain(mIG.getCauseAt(current), current);
             if (XParameters.PROOF) {
                 System.out.print("Expl: {");
-                literals.stream()
-                        //.sorted(Comparator.comparingInt(Identity::getId))
-                        .forEach(v -> System.out.printf("%s ∈ %s,", v, v.getLit()));
+                for (int i = 0; i < nbLiterals; i++) {
+                    System.out.printf("%s ∈ %s,", literals[i], literals[i].getLit());
+                }
                 System.out.print("}\n-----");
             }
             // filter irrelevant nodes
@@ -231,7 +307,7 @@ public class ExplanationForSignedClause extends IExplanation {
         while (!front.isEmpty() && (l = front.getLastValue()) != k) {
             // remove variable in 'front' but not in literals
             // achieved lazily by only evaluating the right-most one
-            if (!literals.contains(mIG.getIntVarAt(l))) {
+            if (!contains(mIG.getIntVarAt(l))) {
                 front.pollLastValue();
             } else {
                 IntVar var = mIG.getIntVarAt(l);
@@ -286,17 +362,19 @@ public class ExplanationForSignedClause extends IExplanation {
                 if (PROOF)
                     System.out.printf("\nbacktrack to %s\n-----", mIG.getCauseAt(max));
                 if (ASSERT_NO_LEFT_BRANCH && !((IntDecision) mIG.getCauseAt(max)).hasNext()) {
-                    throw new SolverException("Weak explanation found. Try to backjump to :" + mIG.getCauseAt(max) + "\n" + literals);
+                    throw new SolverException("Weak explanation found. Try to backjump to :" + mIG.getCauseAt(max) + "\n" + this);
                 }
                 assertLevel = ((IntDecision) mIG.getCauseAt(max)).getPosition();
             }
             /*/if (IntDecision.class.isAssignableFrom(mIG.getCauseAt(max).getClass())) {
             if (XParameters.PROOF)
                 System.out.printf("\nbacktrack to %s\n-----", mIG.getCauseAt(max));
-            if (XParameters.ASSERT_NO_LEFT_BRANCH && !((IntDecision) mIG.getCauseAt(max)).hasNext()) {
-                throw new SolverException("Weak explanation found. Try to backjump to :" + mIG.getCauseAt(max) + "\n" + literals);
+            IntDecision dec = (IntDecision) mIG.getCauseAt(max);
+            // a decision that cannot be refuted, e.g. an assumption, is a legal backjump point
+            if (XParameters.ASSERT_NO_LEFT_BRANCH && !dec.hasNext() && dec.getArity() > 1) {
+                throw new SolverException("Weak explanation found. Try to backjump to :" + dec + "\n" + this);
             }
-            assertLevel = ((IntDecision) mIG.getCauseAt(max)).getPosition();
+            assertLevel = dec.getPosition();
             //*/
         }
         return assertLevel != Integer.MAX_VALUE;
@@ -326,7 +404,16 @@ public class ExplanationForSignedClause extends IExplanation {
      * @param var a variable
      */
     public void removeLit(IntVar var) {
-        literals.remove(var);
+        int i = var.getId() < positions.length ? positions[var.getId()] : -1;
+        if (i > -1) {
+            positions[var.getId()] = -1;
+            IntVar last = literals[--nbLiterals];
+            literals[nbLiterals] = null;
+            if (i < nbLiterals) {
+                literals[i] = last;
+                positions[last.getId()] = i;
+            }
+        }
         front.remove(var);
     }
 
@@ -336,7 +423,19 @@ public class ExplanationForSignedClause extends IExplanation {
      * @param var a variable
      */
     public void addLit(IntVar var) {
-        literals.add(var);
+        int id = var.getId();
+        if (id >= positions.length) {
+            int o = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(id + 1, o + (o >> 1)));
+            Arrays.fill(positions, o, positions.length, -1);
+        }
+        if (positions[id] == -1) {
+            if (nbLiterals == literals.length) {
+                literals = Arrays.copyOf(literals, nbLiterals + (nbLiterals >> 1));
+            }
+            positions[id] = nbLiterals;
+            literals[nbLiterals++] = var;
+        }
     }
 
     /**
@@ -345,14 +444,15 @@ public class ExplanationForSignedClause extends IExplanation {
      * @param var a variable
      */
     public boolean contains(IntVar var) {
-        return literals.contains(var);
+        int id = var.getId();
+        return id < positions.length && positions[id] > -1;
     }
 
     /**
      * @return the number of literals in this explanation
      */
     public int getCardinality() {
-        return literals.size();
+        return nbLiterals;
     }
 
     /**
@@ -500,17 +600,20 @@ public class ExplanationForSignedClause extends IExplanation {
         return mIG.getDomainAt(front.getValue(var));
     }
 
-    public HashSet<IntVar> getLiterals() {
-        return literals;
+    /**
+     * @return a <b>copy</b> of the variables of the literals that explains the conflict
+     */
+    public Set<IntVar> getLiterals() {
+        return new HashSet<>(Arrays.asList(literals).subList(0, nbLiterals));
     }
 
     @Override
     public String toString() {
         StringBuilder st = new StringBuilder();
         st.append('{');
-        literals.stream()
-                //.sorted(Comparator.comparingInt(Identity::getId))
-                .forEach(v -> st.append(v.getName()).append('\u2208').append(v.getLit()).append(','));
+        for (int i = 0; i < nbLiterals; i++) {
+            st.append(literals[i].getName()).append('\u2208').append(literals[i].getLit()).append(',');
+        }
         st.append('}');
         return st.toString();
 
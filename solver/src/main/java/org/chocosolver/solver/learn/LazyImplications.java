@@ -20,15 +20,15 @@ import org.chocosolver.util.objects.ValueSortedMap;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUtils;
 
-import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.function.Consumer;
 
 /**
  * This implication graph is lazily built.
  * It maintains the list of events invoked during propagation on each variable,
  * and maintains a copy of each domain.
  * <p>
- * Data is stored in a stack, where each entry is a tuple:
+ * Data is stored in a stack, made of parallel arrays, where each entry is a tuple:
  * <pre>< v, D, c, m, p, n></pre>
  * where :
  *     <ul>
@@ -48,89 +48,67 @@ import java.util.HashMap;
  */
 public class LazyImplications extends Implications {
 
+    // An entry < v, D, c, m, e, p, dl> is stored at the same position in each of the following arrays.
+    // Invar:  (p < i) xor ("root entry")
+    // Domains are allocated once per position and recycled on backtrack.
+
     /**
-     * An entry < v, D, c, m, p, n> where :
-     *     <ul>
-     *         <li>v is the variable modified,</li>
-     *         <li>D is its current domain,</li>
-     *         <li>c is the cause (most of the time, a propagator),</li>
-     *         <li>m is the mask event that triggers the modification,</li>
-     *         <li>i is the index of this entry in the stack</li>
-     *         <li>p is a pointer to the previous entry on v in the stack</li>
-     *     </ul>
-     *
-     *     Invar:  (p < n) xor ("root entry")
+     * Modified variable, per entry
      */
-    static class Entry implements Comparator<Entry> {
-        // modified variable
-        IntVar v;
-        // domain after modification
-        IntIterableRangeSet d;
-        // who causes the modification
-        ICause c;
-        // mask of the event
-        int m;
-        int e;
-        // index of this in the stack
-        int i;
-        // index of direct predecessor (same variable)
-        int p;
-        // decision level
-        int dl;
-
-        @Override
-        public String toString() {
-            return String.format("<%s, %s, %s, %s, %d, %d, %d>", v.getName(), d, c, m, i, p, dl);
-        }
-
-        Entry() {
-            d = new IntIterableRangeSet();
-        }
-
-        public void set(IntVar v, ICause c, int m, int e, int i, int p, int dl) {
-            this.v = v;
-            this.c = c;
-            this.m = m;
-            this.e = e;
-            this.i = i;
-            this.p = p;
-            this.dl = dl;
-        }
-
-        public IntIterableRangeSet getD() {
-            return d;
-        }
-
-        void setPrev(int p) {
-            this.p = p;
-        }
-
-        @Override
-        public int compare(Entry o1, Entry o2) {
-            return o1.i - o2.i;
-        }
-    }
-
+    IntVar[] vars;
+    /**
+     * Domain after modification, per entry
+     */
+    IntIterableRangeSet[] doms;
+    /**
+     * Who causes the modification, per entry
+     */
+    private ICause[] causes;
+    /**
+     * Mask of the event, per entry
+     */
+    private int[] masks;
+    /**
+     * Value of the event, per entry
+     */
+    private int[] values;
     /**
-     * Ordered list of entries.
+     * Index of direct predecessor (same variable), per entry.
+     * For a root entry, index of the last entry on the variable.
      */
-    Entry[] entries;
+    int[] prevs;
     /**
-     * Pointer, per variable, to the root entry {@link #entries}
+     * Decision level, per entry
      */
-    final HashMap<IntVar, Entry> rootEntries;
+    private int[] levels;
+    /**
+     * Position of the root entry, per variable id, -1 if the variable is unknown
+     */
+    private int[] roots;
+    /**
+     * Number of root entries, they are stored first in the stack
+     */
+    private int nbRoots;
     /**
      * Number of entries stored -- backtrackable
      */
     private final IStateInt size;
     /**
-     * Number of active entries in {@link #entries}
+     * Number of active entries
      */
     private int nbEntries;
     /**
      * Inform when a decision level changes
      */
     private boolean tagDl;
+    /**
+     * Front and position being updated by {@link #predecessorsOf(int, ValueSortedMap)},
+     * read by {@link #predecessorFinder} to avoid creating a lambda per call.
+     */
+    private ValueSortedMap<IntVar> cFront;
+    private int cPos;
+    private final Consumer<IntVar> predecessorFinder = v -> findPredecessor(cFront, v, cPos);
+    private final Consumer<IntVar> rootFinder = v -> cFront.put(v, prevs[roots[v.getId()]]);
 
     /**
      * Create lazily built implication graph
@@ -140,42 +118,88 @@ public class LazyImplications extends Implications {
         nbEntries = 0;
         size = model.getEnvironment().makeInt(0);
         size._set(0, 0); // to force history manually -- required when created during the search
-        entries = new Entry[16];
-        rootEntries = new HashMap<>(16, .5f);
+        vars = new IntVar[16];
+        doms = new IntIterableRangeSet[16];
+        causes = new ICause[16];
+        masks = new int[16];
+        values = new int[16];
+        prevs = new int[16];
+        levels = new int[16];
+        roots = new int[16];
+        Arrays.fill(roots, -1);
         init(model);
     }
 
+    /**
+     * @implSpec
+     * Variables already known are skipped, so that variables created after this graph can be declared,
+     * as long as it is called at root node.
+     */
     @Override
     public void init(Model model) {
+        int size_ = size.get();
+        if (nbEntries != size_) {
+            synchronize(size_);
+        }
+        assert nbEntries == nbRoots : "variables can only be declared at root node";
         IntVar[] ivars = model.retrieveIntVars(true);
         for (IntVar var : ivars) {
+            if (rootOf(var) > -1) {
+                continue;
+            }
             ensureCapacity();
-            Entry root = entries[nbEntries] = new Entry();
-            root.set(var, Cause.Null, IntEventType.VOID.getMask(), 0, nbEntries, nbEntries,1);
-            root.getD().copyFrom(var);
-            root.d.lock();
-            var.createLit(root.d);
-            rootEntries.put(var, root);
+            int r = nbEntries;
+            set(r, var, Cause.Null, IntEventType.VOID.getMask(), 0, r, 1);
+            doms[r] = new IntIterableRangeSet();
+            doms[r].copyFrom(var);
+            doms[r].lock();
+            var.createLit(doms[r]);
+            int id = var.getId();
+            if (id >= roots.length) {
+                int o = roots.length;
+                roots = Arrays.copyOf(roots, Math.max(id + 1, o + (o >> 1)));
+                Arrays.fill(roots, o, roots.length, -1);
+            }
+            roots[id] = r;
             nbEntries++;
         }
+        nbRoots = nbEntries;
         size.set(nbEntries);
     }
 
     @Override
     public void reset(){
-        synchronize(rootEntries.size());
+        synchronize(nbRoots);
+    }
+
+    private void set(int i, IntVar v, ICause c, int m, int e, int p, int dl) {
+        vars[i] = v;
+        causes[i] = c;
+        masks[i] = m;
+        values[i] = e;
+        prevs[i] = p;
+        levels[i] = dl;
+    }
+
+    /**
+     * @param var a variable
+     * @return position of the root entry of <i>var</i>
+     */
+    int rootOf(IntVar var) {
+        int id = var.getId();
+        return id < roots.length ? roots[id] : -1;
     }
 
     /**
      * @return <i>true</i> if links between nodes in this graph are correct
      */
     private boolean checkIntegrity() {
-        for (Entry r : rootEntries.values()) {
+        for (int r = 0; r < nbRoots; r++) {
             int dec = nbEntries;
-            Entry prev = entries[r.p];
-            if(prev.i > dec) return false;
+            int prev = prevs[r];
+            if(prev > dec) return false;
             while (dec > 0 && prev != r) {
-                prev = entries[prev.p];
+                prev = prevs[prev];
                 dec--;
             }
             if (dec == 0) return false;
@@ -189,11 +213,10 @@ public class LazyImplications extends Implications {
      */
     private void synchronize(int upto) {
         for (int p = upto; p < nbEntries; p++) {
-            Entry e = entries[p];
-            e.getD().unlock();
-            Entry root = rootEntries.get(e.v);
-            if (root.p >= upto) {
-                root.setPrev(e.p);
+            doms[p].unlock();
+            int root = roots[vars[p].getId()];
+            if (prevs[root] >= upto) {
+                prevs[root] = prevs[p];
             }
         }
         nbEntries = upto;
@@ -207,20 +230,24 @@ public class LazyImplications extends Implications {
 
     @Override
     public void undoLastEvent() {
-        Entry toUndo = entries[--nbEntries];
-        rootEntries.get(toUndo.v).p = toUndo.p;
+        int toUndo = --nbEntries;
+        prevs[roots[vars[toUndo].getId()]] = prevs[toUndo];
     }
 
     /**
      * Make sure that a new entry can be added into this graph
      */
     private void ensureCapacity() {
-        if (nbEntries >= entries.length) {
-            int oldCapacity = entries.length;
+        if (nbEntries >= vars.length) {
+            int oldCapacity = vars.length;
             int newCapacity = oldCapacity + (oldCapacity >> 1);
-            Entry[] entBigger = new Entry[newCapacity];
-            System.arraycopy(entries, 0, entBigger, 0, oldCapacity);
-            entries = entBigger;
+            vars = Arrays.copyOf(vars, newCapacity);
+            doms = Arrays.copyOf(doms, newCapacity);
+            causes = Arrays.copyOf(causes, newCapacity);
+            masks = Arrays.copyOf(masks, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+            prevs = Arrays.copyOf(prevs, newCapacity);
+            levels = Arrays.copyOf(levels, newCapacity);
         }
     }
 
@@ -240,18 +267,18 @@ public class LazyImplications extends Implications {
      *     </li>
      * </ul>
      *
-     * @param prev previous entry to merge with
+     * @param prev position of the previous entry to merge with
      * @param cause cause of the current event to merge into prev
      * @return <i>true</i> if two entries can be merged into a single one.
      */
     @SuppressWarnings("ConstantConditions")
-    private boolean mergeConditions(Entry prev, ICause cause) {
+    private boolean mergeConditions(int prev, ICause cause) {
         switch (XParameters.MERGE_CONDITIONS){
             default:
             case 0:
                 return false;
             case 1:
-                return nbEntries - 1 == prev.i && cause == prev.c;
+                return nbEntries - 1 == prev && cause == causes[prev];
         }
     }
 
@@ -260,13 +287,13 @@ public class LazyImplications extends Implications {
      * The domain and mask are merged.
      * @param evt event received
      * @param one value removed, new lower bound, new upper bound or singleton value, wrt to <i>evt</i>
-     * @param nentry entry to merge with
+     * @param nentry position of the entry to merge with
      */
-    private void mergeEntry(IntEventType evt, int one, Entry nentry){
-        nentry.m |= evt.getMask();
-        nentry.getD().unlock();
-        mergeDomain(nentry.getD(), evt, one);
-        nentry.getD().lock();
+    private void mergeEntry(IntEventType evt, int one, int nentry){
+        masks[nentry] |= evt.getMask();
+        doms[nentry].unlock();
+        mergeDomain(doms[nentry], evt, one);
+        doms[nentry].lock();
     }
 
     /**
@@ -330,30 +357,30 @@ public class LazyImplications extends Implications {
      * @param cause the cause of <i>var</i> modification
      * @param evt the type of event received
      * @param one value removed, new lower bound, new upper bound or singleton value, wrt to <i>evt</i>
-     * @param root its root node
-     * @param prev its predecessor
+     * @param root position of its root node
+     * @param prev position of its predecessor
      */
     private void addEntry(IntVar var, ICause cause, IntEventType evt, int one,
-                          Entry root, Entry prev){
+                          int root, int prev){
         ensureCapacity();
         // create entry
-        Entry nentry = entries[nbEntries];
-        if (nentry == null) {
-            nentry = entries[nbEntries] = new Entry();
+        int nentry = nbEntries;
+        if (doms[nentry] == null) {
+            doms[nentry] = new IntIterableRangeSet();
         } else {
-            nentry.getD().clear();
+            doms[nentry].clear();
         }
-        int dl = entries[nbEntries-1].dl;
+        int dl = levels[nentry - 1];
         if(tagDl){
             tagDl = false;
             dl++;
         }
-        nentry.set(var, cause, evt.getMask(), one, nbEntries, prev.i, dl);
+        set(nentry, var, cause, evt.getMask(), one, prev, dl);
         // make a (weak) copy of prev domain and update it wrt to current event
-        createDomain(nentry.getD(), prev.d, evt, one);
-        nentry.getD().lock();
+        createDomain(doms[nentry], doms[prev], evt, one);
+        doms[nentry].lock();
         // connect everything
-        root.setPrev(nbEntries);
+        prevs[root] = nentry;
 
         size.add(1);
         nbEntries++;
@@ -369,14 +396,12 @@ public class LazyImplications extends Implications {
         if (nbEntries != size_) {
             synchronize(size_);
         }
-        Entry root = rootEntries.get(var);
-        if (root == null) {
+        int root = rootOf(var);
+        if (root == -1) {
             throw new Error("Unknown variable. This happens when a constraint is added after the call to `solver.setLearningClause();`");
         }
-        int pidx = root.p;
-        Entry prev = entries[pidx];
-        assert prev != null;
-        assert prev.v == var;
+        int prev = prevs[root];
+        assert vars[prev] == var;
         if(mergeConditions(prev, cause)){
             mergeEntry(evt, one, prev);
         }else{
@@ -394,24 +419,24 @@ public class LazyImplications extends Implications {
      */
     int rightmostNode(int limit, IntVar var) {
         if(var.isBool()){
-            Entry root = rootEntries.get(var);
-            int ri = root.i;
+            int ri = rootOf(var);
+            int root = ri;
             assert ri < limit :"impossible right-most search";
             // consider the case where the variable failed
-            if(root.p >= limit){
-                root = entries[root.p];
+            if(prevs[root] >= limit){
+                root = prevs[root];
             }
-            return root.p < limit ? root.p : ri;
+            return prevs[root] < limit ? prevs[root] : ri;
         }else {
             // two ways of looking for the node
             // 1. reverse-iteration over all nodes, starting from 'limit-1'
             int pos = limit - 1;
             // 2. reverse-iteration over nodes of var, starting from 'root.p'
             // (presumably far away from limit)
-            int prev = rootEntries.get(var).p;
-            while (pos > 0 && entries[pos].v != var && prev > limit) {
+            int prev = prevs[rootOf(var)];
+            while (pos > 0 && vars[pos] != var && prev > limit) {
                 pos--;
-                prev = entries[prev].p;
+                prev = prevs[prev];
             }
             return prev > limit ? pos: prev;
         }
@@ -425,24 +450,24 @@ public class LazyImplications extends Implications {
     @Override
     public void collectNodesFromConflict(ContradictionException cft, ValueSortedMap<IntVar> front) {
         if (cft.v != null) {
-            Entry root = rootEntries.get(cft.v);
-            assert entries[root.p].c == cft.c;
-            front.put((IntVar) cft.v, root.p);
+            int last = prevs[rootOf((IntVar) cft.v)];
+            assert causes[last] == cft.c;
+            front.put((IntVar) cft.v, last);
         } else {
-            cft.c.forEachIntVar(v -> {
-                Entry root = rootEntries.get(v);
-                front.put(root.v, root.p);
-            });
+            cFront = front;
+            cft.c.forEachIntVar(rootFinder);
+            cFront = null;
         }
     }
 
     @Override
     public void predecessorsOf(int p, ValueSortedMap<IntVar> front) {
-        Entry entry = entries[p];
-        ICause cause = entry.c;
         // add the predecessor of 'p'
-        front.put(entry.v, entry.p);
-        cause.forEachIntVar(v -> findPredecessor(front, v, p));
+        front.put(vars[p], prevs[p]);
+        cFront = front;
+        cPos = p;
+        causes[p].forEachIntVar(predecessorFinder);
+        cFront = null;
     }
 
     /**
@@ -460,7 +485,7 @@ public class LazyImplications extends Implications {
         int cpos = front.getValueOrDefault(vi, Integer.MAX_VALUE);
         if(cpos < Integer.MAX_VALUE) {
             while (cpos > p) {
-                cpos = entries[cpos].p;
+                cpos = prevs[cpos];
             }
             front.replace(vi, cpos);
         }else {
@@ -470,48 +495,48 @@ public class LazyImplications extends Implications {
 
     @Override
     public ICause getCauseAt(int idx) {
-        return entries[idx].c;
+        return causes[idx];
     }
 
     @Override
     public int getEventMaskAt(int idx) {
-        return entries[idx].m;
+        return masks[idx];
     }
 
     @Override
     public IntVar getIntVarAt(int idx) {
-        return entries[idx].v;
+        return vars[idx];
     }
 
     @Override
     public int getValueAt(int idx) {
         assert XParameters.MERGE_CONDITIONS == 0;
-        return entries[idx].e;
+        return values[idx];
     }
 
     @Override
     public int getDecisionLevelAt(int idx) {
-        return entries[idx].dl;
+        return levels[idx];
     }
 
     @Override
     public IntIterableRangeSet getDomainAt(int idx) {
-        return entries[idx].d;
+        return doms[idx];
     }
 
     @Override
     public int getPredecessorOf(int idx) {
-        return entries[idx].p;
+        return prevs[idx];
     }
 
     @Override
     public IntIterableRangeSet getRootDomain(IntVar var) {
-        return rootEntries.get(var).d;
+        return doms[rootOf(var)];
     }
 
     @Override
     public void copyComplementSet(IntVar var, IntIterableRangeSet set, IntIterableRangeSet dest) {
-        dest.copyFrom(rootEntries.get(var).d);
+        dest.copyFrom(doms[rootOf(var)]);
         dest.removeAll(set);
     }
 }
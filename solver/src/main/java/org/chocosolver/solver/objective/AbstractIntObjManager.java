@@ -26,8 +26,20 @@ abstract class AbstractIntObjManager extends AbstractObjManager<IntVar> {
 
     private static final long serialVersionUID = 5539060355541720114L;
 
+    /**
+     * Incumbent shared with concurrent solvers, or <i>null</i>
+     */
+    transient protected SharedIncumbent incumbent;
+
+    /**
+     * Identifier of this manager in {@link #incumbent}
+     */
+    transient protected int worker;
+
     public AbstractIntObjManager(AbstractIntObjManager objman) {
         super(objman);
+        incumbent = objman.incumbent;
+        worker = objman.worker;
     }
 
     public AbstractIntObjManager(IntVar objective, ResolutionPolicy policy, Number precision) {
@@ -36,8 +48,15 @@ abstract class AbstractIntObjManager extends AbstractObjManager<IntVar> {
         bestProvedUB = objective.getUB() + 1;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method is not synchronized: a manager is confined to the thread of its solver.
+     * Bounds are shared among solvers with {@link #shareIncumbent(SharedIncumbent, int)}.
+     * </p>
+     */
     @Override
-    public synchronized boolean updateBestLB(Number lb) {
+    public boolean updateBestLB(Number lb) {
         if (bestProvedLB.intValue() < lb.intValue()) {
             bestProvedLB = lb;
             return true;
@@ -45,8 +64,15 @@ abstract class AbstractIntObjManager extends AbstractObjManager<IntVar> {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method is not synchronized: a manager is confined to the thread of its solver.
+     * Bounds are shared among solvers with {@link #shareIncumbent(SharedIncumbent, int)}.
+     * </p>
+     */
     @Override
-    public synchronized boolean updateBestUB(Number ub) {
+    public boolean updateBestUB(Number ub) {
         if (bestProvedUB.intValue() > ub.intValue()) {
             bestProvedUB = ub;
             return true;
@@ -68,6 +94,27 @@ abstract class AbstractIntObjManager extends AbstractObjManager<IntVar> {
         cutComputer = (Number n) -> n.intValue() + precision.intValue();
     }
 
+    @Override
+    public boolean shareIncumbent(SharedIncumbent incumbent, int worker) {
+        if (worker < 0) {
+            throw new IllegalArgumentException("worker identifier should be non-negative");
+        }
+        this.incumbent = incumbent;
+        this.worker = worker;
+        return true;
+    }
+
+    /**
+     * Offers <i>value</i> to the shared incumbent, if any.
+     *
+     * @param value objective value of a new solution
+     */
+    protected final void publish(int value) {
+        if (incumbent != null) {
+            incumbent.offer(value, worker);
+        }
+    }
+
     @Override
     public void resetBestBounds() {
         bestProvedLB = objective.getLB() - 1;
@@ -100,11 +147,18 @@ class MinIntObjManager extends AbstractIntObjManager {
 
     @Override
     public boolean updateBestSolution(Number n) {
+        publish(n.intValue());
         return updateBestUB(n);
     }
 
     @Override
     public void postDynamicCut() throws ContradictionException {
+        if (incumbent != null) {
+            int shared = incumbent.getBestValue();
+            if (shared < bestProvedUB.intValue()) {
+                bestProvedUB = shared;
+            }
+        }
         objective.updateBounds(bestProvedLB.intValue(), cutComputer.apply(bestProvedUB).intValue(), this);
     }
 
@@ -135,11 +189,18 @@ class MaxIntObjManager extends AbstractIntObjManager {
 
     @Override
     public boolean updateBestSolution(Number n) {
+        publish(n.intValue());
         return updateBestLB(n);
     }
 
     @Override
     public void postDynamicCut() throws ContradictionException {
+        if (incumbent != null) {
+            int shared = incumbent.getBestValue();
+            if (shared > bestProvedLB.intValue()) {
+                bestProvedLB = shared;
+            }
+        }
         objective.updateBounds(cutComputer.apply(bestProvedLB).intValue(), bestProvedUB.intValue(), this);
     }
 
@@ -61,4 +61,23 @@ public interface IObjectiveManager<V extends Variable> extends IBoundsManager, I
      * @throws org.chocosolver.solver.exception.ContradictionException if posting this cut fails
      */
     void postDynamicCut() throws ContradictionException;
+
+    /**
+     * Attaches this manager to an incumbent shared among concurrent solvers.
+     * Each solution found is offered to <i>incumbent</i>, and the best value it stores
+     * is pulled each time the cut is posted, that is, at every node.
+     *
+     * <p>
+     * By default, a manager cannot share its bounds this way, this method does nothing and returns <i>false</i>:
+     * the caller is then expected to share the bounds by other means,
+     * such as {@link #updateBestLB(Number)} and {@link #updateBestUB(Number)}.
+     * </p>
+     *
+     * @param incumbent the shared incumbent
+     * @param worker    identifier of the worker this manager belongs to (non-negative)
+     * @return <i>true</i> if this manager is now attached to <i>incumbent</i>
+     */
+    default boolean shareIncumbent(SharedIncumbent incumbent, int worker) {
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.objective;
+
+import org.chocosolver.solver.ResolutionPolicy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free incumbent, shared among concurrent solvers that optimize the same integer objective.
+ * <p>
+ * The best objective value found so far and the identifier of the worker which found it
+ * are packed in a single <code>long</code> (value in the 32 high bits, worker in the 32 low bits),
+ * so that both are updated at once with a CAS.
+ * Workers offer their solutions with {@link #offer(int, int)} and pull the best value
+ * with {@link #getBestValue()}, which is a simple volatile read.
+ * </p>
+ * <p>
+ * An objective manager is attached to an incumbent with
+ * {@link IObjectiveManager#shareIncumbent(SharedIncumbent, int)}.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class SharedIncumbent {
+
+    /**
+     * Worker identifier stored while no solution has been offered
+     */
+    private static final int NO_WORKER = -1;
+
+    /**
+     * The packed incumbent: (value, worker)
+     */
+    private final AtomicLong incumbent;
+
+    /**
+     * Set to <i>true</i> when the objective is minimized
+     */
+    private final boolean minimize;
+
+    /**
+     * Create a shared incumbent for an optimization problem.
+     *
+     * @param policy either {@link ResolutionPolicy#MINIMIZE} or {@link ResolutionPolicy#MAXIMIZE}
+     * @throws IllegalArgumentException if the policy is {@link ResolutionPolicy#SATISFACTION}.
+     */
+    public SharedIncumbent(ResolutionPolicy policy) {
+        if (policy == ResolutionPolicy.SATISFACTION) {
+            throw new IllegalArgumentException("cant build shared incumbent :" + policy);
+        }
+        this.minimize = policy == ResolutionPolicy.MINIMIZE;
+        this.incumbent = new AtomicLong(initial());
+    }
+
+    private long initial() {
+        return pack(minimize ? Integer.MAX_VALUE : Integer.MIN_VALUE, NO_WORKER);
+    }
+
+    private static long pack(int value, int worker) {
+        return ((long) value << 32) | (worker & 0xFFFFFFFFL);
+    }
+
+    private static int valueOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int workerOf(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Offers a new solution value to the incumbent.
+     * The incumbent is updated only if <i>value</i> strictly improves the best known one.
+     *
+     * @param value  objective value of the solution
+     * @param worker identifier of the worker which found the solution (non-negative)
+     * @return <i>true</i> if the incumbent has been updated
+     */
+    public boolean offer(int value, int worker) {
+        long next = pack(value, worker);
+        long cur;
+        do {
+            cur = incumbent.get();
+            if (workerOf(cur) != NO_WORKER
+                    && (minimize ? value >= valueOf(cur) : value <= valueOf(cur))) {
+                return false;
+            }
+        } while (!incumbent.compareAndSet(cur, next));
+        return true;
+    }
+
+    /**
+     * @return the best value offered so far, or {@link Integer#MAX_VALUE} (resp. {@link Integer#MIN_VALUE})
+     * when minimizing (resp. maximizing) and no solution has been offered yet.
+     */
+    public int getBestValue() {
+        return valueOf(incumbent.get());
+    }
+
+    /**
+     * @return the identifier of the worker which offered the best value, or -1 if none
+     */
+    public int getWorker() {
+        return workerOf(incumbent.get());
+    }
+
+    /**
+     * @return <i>true</i> if at least one solution has been offered
+     */
+    public boolean hasSolution() {
+        return workerOf(incumbent.get()) != NO_WORKER;
+    }
+
+    /**
+     * Forget any offered solution.
+     */
+    public void reset() {
+        incumbent.set(initial());
+    }
+
+    @Override
+    public String toString() {
+        long cur = incumbent.get();
+        return String.format("incumbent %d (worker %d)", valueOf(cur), workerOf(cur));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.events.IEventType;
+
+/**
+ * A propagation engine which records, for each propagator, statistics about its executions
+ * in a {@link PropagatorProfiler}.
+ * <p>
+ * Profiling is enabled by swapping the engine of a solver (see {@link org.chocosolver.solver.Solver#profilePropagators()}),
+ * so that the default engine pays nothing for it.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ProfilingPropagationEngine extends PropagationEngine {
+
+    /**
+     * Where statistics are recorded
+     */
+    private final PropagatorProfiler profiler;
+
+    /**
+     * A seven-queue propagation engine which profiles propagators.
+     *
+     * @param model the declaring model
+     */
+    public ProfilingPropagationEngine(Model model) {
+        super(model);
+        this.profiler = new PropagatorProfiler();
+    }
+
+    /**
+     * @return the statistics collected by this engine
+     */
+    public PropagatorProfiler getProfiler() {
+        return profiler;
+    }
+
+    @Override
+    void propagateFine(Propagator propagator) throws ContradictionException {
+        long t = System.nanoTime();
+        try {
+            propagator.doFinePropagation();
+        } catch (ContradictionException cex) {
+            profiler.onFailure(propagator);
+            throw cex;
+        } finally {
+            profiler.onCall(propagator, PropagatorProfiler.FINE, System.nanoTime() - t);
+        }
+    }
+
+    @Override
+    void propagateCoarse(Propagator propagator, int evtmask) throws ContradictionException {
+        long t = System.nanoTime();
+        try {
+            propagator.propagate(evtmask);
+        } catch (ContradictionException cex) {
+            profiler.onFailure(propagator);
+            throw cex;
+        } finally {
+            profiler.onCall(propagator, PropagatorProfiler.COARSE, System.nanoTime() - t);
+        }
+    }
+
+    @Override
+    public void onVariableUpdate(Variable variable, IEventType type, ICause cause) {
+        if (cause instanceof Propagator) {
+            profiler.onReduction((Propagator) cause);
+        }
+        super.onVariableUpdate(variable, type, cause);
+    }
+}
@@ -19,9 +19,10 @@ import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.events.PropagatorEventType;
 import org.chocosolver.util.iterators.EvtScheduler;
-import org.chocosolver.util.objects.queues.CircularQueue;
+import org.chocosolver.util.objects.IntCircularQueue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
@@ -31,6 +32,9 @@ import java.util.function.Consumer;
  * <br/>On a call to {@code onVariableUpdate}, it stores the event generated and schedules the propagator in
  * one of the 7 queues wrt to its priority for future revision.
  * <p>
+ * Propagators and variables are identified by their (dense) id:
+ * queues are circular buffers of ids and whether a propagator is scheduled, or a variable is pending,
+ * is stored in bitsets indexed by id.
  * <br/>
  *
  * @author Charles Prud'homme
@@ -57,15 +61,36 @@ public class PropagationEngine {
      * To deal with propagators added dynamically
      */
     private final DynPropagators dynPropagators;
+    /**
+     * Propagators added permanently which are not attached to any constraint (e.g., signed clauses),
+     * kept on {@link #reset()} to be registered again on {@link #initialize()}
+     */
+    private final List<Propagator> detached;
     /**
      * The main structure of this engine: seven circular queues,
      * each of them is dedicated to store propagator to execute wrt their priority.
      */
-    private final CircularQueue<Propagator>[] pro_queue;
-
-    private final CircularQueue<Variable> var_queue;
-
-    private final CircularQueue<Propagator> awake_queue;
+    private final IntCircularQueue[] pro_queue;
+    /**
+     * Ids of modified variables, not yet considered
+     */
+    private final IntCircularQueue var_queue;
+    /**
+     * Ids of propagators to execute on activation
+     */
+    private final IntCircularQueue awake_queue;
+    /**
+     * Propagators known by this engine, indexed by their id
+     */
+    private Propagator[] props;
+    /**
+     * Modified variables, indexed by their id
+     */
+    private Variable[] vars;
+    /**
+     * One bit per id: set when the propagator is scheduled, or when the variable is pending
+     */
+    private long[] scheduled;
     /**
      * The last propagator executed
      */
@@ -95,7 +120,7 @@ public class PropagationEngine {
     private final Consumer<Propagator> consumer = new Consumer<Propagator>() {
         @Override
         public void accept(Propagator propagator) {
-            awake_queue.addLast(propagator);
+            awake_queue.addLast(register(propagator));
         }
     };
 
@@ -109,15 +134,18 @@ public class PropagationEngine {
      */
     public PropagationEngine(Model model) {
         this.model = model;
-        //noinspection unchecked
-        this.pro_queue = new CircularQueue[8];
+        this.pro_queue = new IntCircularQueue[8];
         for (int i = 0; i < 8; i++) {
-            pro_queue[i] = new CircularQueue<>(16);
+            pro_queue[i] = new IntCircularQueue(16);
         }
-        this.var_queue = new CircularQueue<>(16);
-        this.awake_queue = new CircularQueue<>(16);
+        this.var_queue = new IntCircularQueue(16);
+        this.awake_queue = new IntCircularQueue(16);
+        this.scheduled = new long[1];
+        this.props = new Propagator[64];
+        this.vars = new Variable[64];
         this.dynPropagators = new DynPropagators();
         this.propagators = new ArrayList<>();
+        this.detached = new ArrayList<>();
         this.hybrid = model.getSettings().enableHybridizationOfPropagationEngine();
     }
 
@@ -137,6 +165,8 @@ public class PropagationEngine {
                 Propagator[] cprops = constraints[c].getPropagators();
                 Collections.addAll(propagators, cprops);
             }
+            propagators.addAll(detached);
+            detached.clear();
             if (model.getSettings().sortPropagatorActivationWRTPriority()) {
                 propagators.sort(
                         (p1, p2) -> {
@@ -148,7 +178,7 @@ public class PropagationEngine {
             }
             for (int i = 0; i < propagators.size(); i++) {
                 propagators.get(i).setPosition(i);
-                awake_queue.addLast(propagators.get(i));
+                awake_queue.addLast(register(propagators.get(i)));
             }
         }
     }
@@ -175,21 +205,22 @@ public class PropagationEngine {
             manageModifications();
             for (int i = nextNotEmpty(); i > -1; i = nextNotEmpty()) {
                 assert !pro_queue[i].isEmpty() : "try to pop a propagator from an empty queue";
-                lastProp = pro_queue[i].pollFirst();
+                int id = pro_queue[i].pollFirst();
                 if (pro_queue[i].isEmpty()) {
                     notEmpty &= ~(1 << i);
                 }
+                lastProp = props[id];
                 // revision of the variable
-                lastProp.unschedule();
+                unset(id);
                 delayedPropagationType = 0;
                 if (lastProp.reactToFineEvent()) {
-                    lastProp.doFinePropagation();
+                    propagateFine(lastProp);
                     // now we can check whether a delayed propagation has been scheduled
                     if (delayedPropagationType > 0) {
-                        lastProp.propagate(delayedPropagationType);
+                        propagateCoarse(lastProp, delayedPropagationType);
                     }
                 } else if (lastProp.isActive()) { // need to be checked due to views
-                    lastProp.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+                    propagateCoarse(lastProp, PropagatorEventType.FULL_PROPAGATION.getMask());
                 }
                 if (hybrid < 0b01) {
                     manageModifications();
@@ -206,7 +237,7 @@ public class PropagationEngine {
         int cw = model.getEnvironment().getWorldIndex(); // get current index
         dynPropagators.descending(cw, consumer);
         while (!awake_queue.isEmpty()) {
-            execute(awake_queue.pollFirst());
+            execute(props[awake_queue.pollFirst()]);
         }
     }
 
@@ -222,21 +253,108 @@ public class PropagationEngine {
             propagator.setActive();
         }
         if (propagator.isActive()) {
-            propagator.propagate(PropagatorEventType.FULL_PROPAGATION.getMask());
+            propagateCoarse(propagator, PropagatorEventType.FULL_PROPAGATION.getMask());
             while (!var_queue.isEmpty()) {
-                schedule(var_queue.pollFirst());
+                schedule(pollVariable());
             }
         }
     }
 
+    /**
+     * Run the fine-grained propagation of <i>propagator</i>, that is, over its pending events.
+     * Instrumented engines (see {@link ProfilingPropagationEngine}) override this method
+     * instead of adding branches to the propagation loop.
+     *
+     * @param propagator the propagator to run
+     * @throws ContradictionException if propagation fails
+     */
+    void propagateFine(Propagator propagator) throws ContradictionException {
+        propagator.doFinePropagation();
+    }
+
+    /**
+     * Run the coarse-grained propagation of <i>propagator</i>.
+     *
+     * @param propagator the propagator to run
+     * @param evtmask    type of propagation event
+     * @throws ContradictionException if propagation fails
+     */
+    void propagateCoarse(Propagator propagator, int evtmask) throws ContradictionException {
+        propagator.propagate(evtmask);
+    }
+
     private void manageModifications() {
         if (!var_queue.isEmpty()) {
             do {
-                schedule(var_queue.pollFirst());
+                schedule(pollVariable());
             } while (hybrid < 2 && !var_queue.isEmpty());
         }
     }
 
+    /**
+     * @return the next pending variable, which is not pending anymore
+     */
+    private Variable pollVariable() {
+        int id = var_queue.pollFirst();
+        unset(id);
+        return vars[id];
+    }
+
+    /**
+     * Declare <i>propagator</i> in {@link #props}
+     *
+     * @param propagator a propagator
+     * @return its id
+     */
+    private int register(Propagator propagator) {
+        int id = propagator.getId();
+        if (id >= props.length) {
+            ensureCapacity(id);
+        }
+        props[id] = propagator;
+        return id;
+    }
+
+    /**
+     * Declare <i>variable</i> in {@link #vars}
+     *
+     * @param variable a variable
+     * @return its id
+     */
+    private int register(Variable variable) {
+        int id = variable.getId();
+        if (id >= vars.length) {
+            ensureCapacity(id);
+        }
+        vars[id] = variable;
+        return id;
+    }
+
+    /**
+     * Grow {@link #props}, {@link #vars} and {@link #scheduled} to cover <i>id</i>.
+     * Kept apart so that the callers remain small enough to be inlined.
+     *
+     * @param id an id
+     */
+    private void ensureCapacity(int id) {
+        int nw = Math.max((id >>> 6) + 1, scheduled.length * 3 / 2 + 1);
+        scheduled = Arrays.copyOf(scheduled, nw);
+        props = Arrays.copyOf(props, nw << 6);
+        vars = Arrays.copyOf(vars, nw << 6);
+    }
+
+    private boolean isSet(int id) {
+        return (scheduled[id >>> 6] & (1L << id)) != 0;
+    }
+
+    private void set(int id) {
+        scheduled[id >>> 6] |= 1L << id;
+    }
+
+    private void unset(int id) {
+        scheduled[id >>> 6] &= ~(1L << id);
+    }
+
     private int nextNotEmpty() {
         if (notEmpty == 0) return -1;
         return Integer.numberOfTrailingZeros(notEmpty);
@@ -248,14 +366,19 @@ public class PropagationEngine {
     public void flush() {
         if (lastProp != null) {
             lastProp.doFlush();
+            unset(lastProp.getId());
         }
         while (!var_queue.isEmpty()) {
-            var_queue.pollLast().clearEvents();
+            int id = var_queue.pollLast();
+            unset(id);
+            vars[id].clearEvents();
         }
         for (int i = nextNotEmpty(); i > -1; i = nextNotEmpty()) {
             while (!pro_queue[i].isEmpty()) {
+                int id = pro_queue[i].pollLast();
+                unset(id);
                 // revision of the variable
-                pro_queue[i].pollLast().doFlush();
+                props[id].doFlush();
             }
             notEmpty = notEmpty & ~(1 << i);
         }
@@ -279,7 +402,11 @@ public class PropagationEngine {
             }
             assert found : variable + " not in scope of " + cause;
         }
-        var_queue.addLast(variable);
+        int id = variable.getId();
+        if (id >= vars.length || !isSet(id)) {
+            var_queue.addLast(register(variable));
+            set(id);
+        }
         variable.storeEvents(type.getMask(), cause);
     }
 
@@ -307,9 +434,49 @@ public class PropagationEngine {
         variable.clearEvents();
     }
 
+    /**
+     * Schedule <i>prop</i> for propagation, if not yet done, and store the event
+     *
+     * @param prop    a propagator
+     * @param pindice index of the modified variable in <i>prop</i>
+     * @param mask    the event mask
+     */
     public void schedule(Propagator prop, int pindice, int mask) {
         prop.doScheduleEvent(pindice, mask);
-        notEmpty |= (1 << prop.doSchedule(pro_queue));
+        int id = prop.getId();
+        if (id >= props.length || !isSet(id)) {
+            int prio = prop.getPriority().priority;
+            pro_queue[prio].addLast(register(prop));
+            set(id);
+            notEmpty |= 1 << prio;
+        }
+    }
+
+    /**
+     * @param propagator a propagator
+     * @return <i>true</i> if <i>propagator</i> is scheduled for propagation
+     */
+    public boolean isScheduled(Propagator propagator) {
+        int id = propagator.getId();
+        return id < props.length && isSet(id);
+    }
+
+    /**
+     * Set the scheduled state of <i>propagator</i>, without adding it to, or removing it from, a queue.
+     *
+     * @param propagator a propagator
+     * @param scheduled  its new scheduled state
+     * @deprecated only kept to support {@link Propagator#unschedule()} and
+     * {@link Propagator#doSchedule(org.chocosolver.util.objects.queues.CircularQueue[])}
+     */
+    @Deprecated
+    public void setScheduled(Propagator propagator, boolean scheduled) {
+        int id = register(propagator);
+        if (scheduled) {
+            set(id);
+        } else {
+            unset(id);
+        }
     }
 
     /**
@@ -341,6 +508,9 @@ public class PropagationEngine {
     public void desactivatePropagator(Propagator propagator) {
         if (propagator.reactToFineEvent()) {
             propagator.doFlush();
+            if (propagator.getId() < props.length) {
+                unset(propagator.getId());
+            }
         }
     }
 
@@ -348,8 +518,30 @@ public class PropagationEngine {
      * Reset the propagation engine.
      */
     public void reset() {
+        reset(false);
+    }
+
+    /**
+     * Reset the propagation engine.
+     * When <i>keepUnattached</i> is set to <i>true</i>, propagators added permanently which are not attached to
+     * any constraint, such as learnt signed clauses, are registered again on next initialization.
+     * Otherwise, they are dropped.
+     *
+     * @param keepUnattached set to <i>true</i> to keep propagators not attached to any constraint
+     */
+    public void reset(boolean keepUnattached) {
         flush();
+        List<Propagator> keep = new ArrayList<>();
+        for (int i = 0; i < propagators.size(); i++) {
+            Propagator p = propagators.get(i);
+            // positions are out-dated once the engine is cleared
+            p.setPosition(-1);
+            if (keepUnattached && p.getConstraint() == null) {
+                keep.add(p);
+            }
+        }
         clear();
+        detached.addAll(keep);
     }
 
     /**
@@ -357,8 +549,10 @@ public class PropagationEngine {
      */
     public void clear() {
         dynPropagators.clear();
+        detached.clear();
         awake_queue.clear();
         propagators.clear();
+        Arrays.fill(scheduled, 0L);
         notEmpty = 0;
         init = false;
         lastProp = null;
@@ -366,7 +560,7 @@ public class PropagationEngine {
 
     public void ignoreModifications() {
         while (!var_queue.isEmpty()) {
-            var_queue.pollFirst().clearEvents();
+            pollVariable().clearEvents();
         }
     }
 
@@ -425,6 +619,8 @@ public class PropagationEngine {
             if (toDelete.getPosition() > -1) {
                 dynPropagators.remove(toDelete);
                 remove(toDelete);
+            } else {
+                detached.remove(toDelete);
             }
         }
     }
@@ -0,0 +1,273 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.constraints.Propagator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statistics collected on propagators by a {@link ProfilingPropagationEngine}.
+ * <p>
+ * For each propagator, it records the number of fine and coarse calls,
+ * the time spent in these calls (in nanoseconds), the number of domain reductions it caused
+ * and the number of failures it raised.
+ * Statistics can be read per instance or aggregated per propagator class,
+ * and exported as text, CSV or JSON.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class PropagatorProfiler {
+
+    /**
+     * Index of the number of fine calls
+     */
+    public static final int FINE = 0;
+    /**
+     * Index of the number of coarse calls
+     */
+    public static final int COARSE = 1;
+    /**
+     * Index of the time spent in propagation, in nanoseconds
+     */
+    public static final int TIME = 2;
+    /**
+     * Index of the number of domain reductions
+     */
+    public static final int REDUCTIONS = 3;
+    /**
+     * Index of the number of failures
+     */
+    public static final int FAILURES = 4;
+
+    private static final int NB = 5;
+
+    private static final String[] HEADERS = {"fine", "coarse", "time(ns)", "reductions", "failures"};
+
+    /**
+     * Profiled propagators, indexed by their id
+     */
+    private Propagator[] propagators = new Propagator[16];
+    /**
+     * Statistics, {@link #NB} longs per propagator, indexed by their id
+     */
+    private long[] stats = new long[16 * NB];
+
+    /**
+     * Create an empty profiler.
+     */
+    PropagatorProfiler() {
+    }
+
+    private int offset(Propagator propagator) {
+        int id = propagator.getId();
+        if (id >= propagators.length) {
+            int n = Math.max(id + 1, propagators.length * 3 / 2 + 1);
+            propagators = Arrays.copyOf(propagators, n);
+            stats = Arrays.copyOf(stats, n * NB);
+        }
+        propagators[id] = propagator;
+        return id * NB;
+    }
+
+    void onCall(Propagator propagator, int type, long time) {
+        int o = offset(propagator);
+        stats[o + type]++;
+        stats[o + TIME] += time;
+    }
+
+    void onReduction(Propagator propagator) {
+        stats[offset(propagator) + REDUCTIONS]++;
+    }
+
+    void onFailure(Propagator propagator) {
+        stats[offset(propagator) + FAILURES]++;
+    }
+
+    /**
+     * Erase all statistics.
+     */
+    public void reset() {
+        Arrays.fill(propagators, null);
+        Arrays.fill(stats, 0L);
+    }
+
+    /**
+     * @param propagator a propagator
+     * @param stat       one of {@link #FINE}, {@link #COARSE}, {@link #TIME},
+     *                   {@link #REDUCTIONS} or {@link #FAILURES}
+     * @return the value of <i>stat</i> for <i>propagator</i>
+     */
+    public long get(Propagator propagator, int stat) {
+        int id = propagator.getId();
+        return id < propagators.length && propagators[id] == propagator ? stats[id * NB + stat] : 0L;
+    }
+
+    /**
+     * @return profiled propagators, sorted by decreasing time spent in propagation
+     */
+    public List<Propagator> getPropagators() {
+        List<Propagator> list = new ArrayList<>();
+        for (Propagator p : propagators) {
+            if (p != null) {
+                list.add(p);
+            }
+        }
+        list.sort(Comparator.comparingLong((Propagator p) -> get(p, TIME)).reversed());
+        return list;
+    }
+
+    /**
+     * @return statistics aggregated per propagator class name,
+     * sorted by decreasing time spent in propagation
+     */
+    public Map<String, long[]> getStatisticsPerClass() {
+        Map<String, long[]> map = new LinkedHashMap<>();
+        for (Propagator p : getPropagators()) {
+            long[] s = map.computeIfAbsent(name(p), k -> new long[NB]);
+            for (int i = 0; i < NB; i++) {
+                s[i] += get(p, i);
+            }
+        }
+        List<Map.Entry<String, long[]>> entries = new ArrayList<>(map.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[TIME]).reversed());
+        map.clear();
+        for (Map.Entry<String, long[]> e : entries) {
+            map.put(e.getKey(), e.getValue());
+        }
+        return map;
+    }
+
+    private static String name(Propagator p) {
+        String n = p.getClass().getSimpleName();
+        return n.isEmpty() ? p.getClass().getName() : n;
+    }
+
+    /**
+     * Return a textual report: statistics per class, then for the <i>top</i> most time consuming instances.
+     *
+     * @param top maximum number of instances to output
+     * @return a textual report
+     */
+    public String toString(int top) {
+        StringBuilder st = new StringBuilder(256);
+        st.append("- Propagators profile:\n");
+        st.append(String.format("\t%-40s %12s %12s %14s %12s %10s\n", "class", HEADERS[0], HEADERS[1], HEADERS[2], HEADERS[3], HEADERS[4]));
+        for (Map.Entry<String, long[]> e : getStatisticsPerClass().entrySet()) {
+            append(st, e.getKey(), e.getValue());
+        }
+        List<Propagator> props = getPropagators();
+        if (top > 0 && props.size() > 0) {
+            st.append(String.format("\t%-40s\n", "instances (top " + Math.min(top, props.size()) + ")"));
+            long[] s = new long[NB];
+            for (int i = 0; i < Math.min(top, props.size()); i++) {
+                Propagator p = props.get(i);
+                for (int j = 0; j < NB; j++) {
+                    s[j] = get(p, j);
+                }
+                append(st, name(p) + "#" + p.getId(), s);
+            }
+        }
+        return st.toString();
+    }
+
+    private static void append(StringBuilder st, String name, long[] s) {
+        st.append(String.format("\t%-40s %12d %12d %14d %12d %10d\n", name, s[FINE], s[COARSE], s[TIME], s[REDUCTIONS], s[FAILURES]));
+    }
+
+    @Override
+    public String toString() {
+        return toString(10);
+    }
+
+    /**
+     * Export statistics per instance in CSV format, one line per propagator.
+     * The header is:
+     * <pre>
+     *     id;class;constraint;fine;coarse;time(ns);reductions;failures
+     * </pre>
+     * Class and constraint names are double-quoted, embedded double quotes are doubled.
+     *
+     * @return statistics in CSV format
+     */
+    public String toCSV() {
+        StringBuilder st = new StringBuilder(256);
+        st.append("id;class;constraint;").append(String.join(";", HEADERS)).append('\n');
+        for (Propagator p : getPropagators()) {
+            st.append(p.getId()).append(';')
+                    .append(csv(name(p))).append(';')
+                    .append(csv(p.getConstraint() == null ? "" : p.getConstraint().getName()));
+            for (int i = 0; i < NB; i++) {
+                st.append(';').append(get(p, i));
+            }
+            st.append('\n');
+        }
+        return st.toString();
+    }
+
+    /**
+     * Export statistics in JSON format, per class and per instance.
+     *
+     * @return statistics in JSON format
+     */
+    public String toJSON() {
+        StringBuilder st = new StringBuilder(256);
+        st.append("{\"classes\":[");
+        boolean first = true;
+        for (Map.Entry<String, long[]> e : getStatisticsPerClass().entrySet()) {
+            if (!first) st.append(',');
+            first = false;
+            st.append("{\"class\":\"").append(e.getKey()).append('"');
+            json(st, e.getValue());
+            st.append('}');
+        }
+        st.append("],\"instances\":[");
+        first = true;
+        long[] s = new long[NB];
+        for (Propagator p : getPropagators()) {
+            if (!first) st.append(',');
+            first = false;
+            st.append("{\"id\":").append(p.getId())
+                    .append(",\"class\":\"").append(name(p)).append('"');
+            if (p.getConstraint() != null) {
+                st.append(",\"constraint\":\"").append(escape(p.getConstraint().getName())).append('"');
+            }
+            for (int j = 0; j < NB; j++) {
+                s[j] = get(p, j);
+            }
+            json(st, s);
+            st.append('}');
+        }
+        st.append("]}");
+        return st.toString();
+    }
+
+    private static void json(StringBuilder st, long[] s) {
+        st.append(",\"fine\":").append(s[FINE])
+                .append(",\"coarse\":").append(s[COARSE])
+                .append(",\"time\":").append(s[TIME])
+                .append(",\"reductions\":").append(s[REDUCTIONS])
+                .append(",\"failures\":").append(s[FAILURES]);
+    }
+
+    private static String csv(String s) {
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -11,6 +11,9 @@ package org.chocosolver.solver.search;
 
 import org.chocosolver.solver.ISelf;
 import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.SolutionList;
+import org.chocosolver.solver.SolutionReader;
+import org.chocosolver.solver.SolutionWriter;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.Propagator;
@@ -18,6 +21,7 @@ import org.chocosolver.solver.constraints.UpdatablePropagator;
 import org.chocosolver.solver.constraints.nary.lex.PropLexInt;
 import org.chocosolver.solver.constraints.unary.Member;
 import org.chocosolver.solver.constraints.unary.NotMember;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.objective.ParetoOptimizer;
 import org.chocosolver.solver.search.limits.ACounter;
 import org.chocosolver.solver.search.measure.IMeasures;
@@ -27,6 +31,11 @@ import org.chocosolver.util.ESat;
 import org.chocosolver.util.criteria.Criterion;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -151,6 +160,31 @@ public interface IResolutionHelper extends ISelf<Solver> {
         return solutions;
     }
 
+    /**
+     * Attempts to find all solutions of the declared problem, as {@link #findAllSolutions(Criterion...)} does,
+     * but stores them with delta compression (see {@link SolutionList}), which saves memory on many solutions.
+     * <p>
+     * The list returned is read-only and each access to an element of the list decodes a new {@link Solution}.
+     * <p>
+     * Note that all variables will be recorded
+     * <p>
+     * Note that it clears the current objective function, if any
+     *
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return a read-only list that contained the found solutions.
+     */
+    default SolutionList findAllSolutionsCompressed(Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        SolutionList solutions = new SolutionList();
+        Solution solution = new Solution(ref().getModel());
+        while (ref().solve()) {
+            solutions.add(solution.record());
+        }
+        ref().removeStopCriterion(stop);
+        return solutions;
+    }
+
     /**
      * Attempts to find all solutions of the declared problem.
      * <ul>
@@ -216,6 +250,136 @@ public interface IResolutionHelper extends ISelf<Solver> {
         return StreamSupport.stream(it, false);
     }
 
+    /**
+     * Attempts to find all solutions of the declared problem, and calls <i>action</i> on the values of
+     * <i>vars</i> in each of them, as soon as it is found.
+     * <p>
+     * Unlike {@link #streamSolutions(Criterion...)}, no {@link Solution} is recorded: the values are copied into
+     * a single array, which is given to <i>action</i> for each solution, so the memory used does not depend on
+     * the number of solutions. As a consequence, <i>action</i> must copy the array to keep the values.
+     * The search is resumed once <i>action</i> returns, so a slow consumer slows the search down
+     * rather than accumulating solutions.
+     * <p>
+     * Basically, this method runs the following instructions:
+     * <pre>
+     * {@code
+     * 	int[] values = new int[vars.length];
+     * 	while (model.getSolver().solve()) {
+     * 		for (int i = 0; i < vars.length; i++) {
+     * 			values[i] = vars[i].getValue();
+     *        }
+     * 		action.accept(values);
+     *    }
+     * }
+     * </pre>
+     * <p>
+     * Note that it clears the current objective function, if any, as {@link #findAllSolutions(Criterion...)} does
+     *
+     * @param vars   variables to get the values of, all instantiated in a solution
+     * @param action called on the values of <i>vars</i> in each solution, the array being reused
+     * @param stop   optional criterion to stop the search before finding all solutions
+     * @return number of solutions found
+     */
+    default long forEachSolution(IntVar[] vars, Consumer<int[]> action, Criterion... stop) {
+        ref().getModel().clearObjective();
+        ref().addStopCriterion(stop);
+        int[] values = new int[vars.length];
+        long count = 0;
+        try {
+            while (ref().solve()) {
+                for (int i = 0; i < vars.length; i++) {
+                    values[i] = vars[i].getValue();
+                }
+                action.accept(values);
+                count++;
+            }
+        } finally {
+            ref().removeStopCriterion(stop);
+        }
+        return count;
+    }
+
+    /**
+     * Attempts to find all solutions of the declared problem, and calls <i>action</i> on chunks of
+     * <i>chunkSize</i> solutions, each one given as the values of <i>vars</i>.
+     * The last chunk can be partially filled, the number of solutions in a chunk is given to <i>action</i>.
+     * <p>
+     * The chunk is allocated once and reused, so <i>action</i> must copy the values to keep them
+     * (see {@link #forEachSolution(IntVar[], Consumer, Criterion...)}, which also clears the objective function).
+     *
+     * @param vars      variables to get the values of, all instantiated in a solution
+     * @param chunkSize number of solutions per chunk, at least 1
+     * @param action    called on each chunk, whose first rows are the values of <i>vars</i> in each solution,
+     *                  and on the number of rows filled
+     * @param stop      optional criterion to stop the search before finding all solutions
+     * @return number of solutions found
+     */
+    default long forEachSolutionChunk(IntVar[] vars, int chunkSize, ObjIntConsumer<int[][]> action, Criterion... stop) {
+        if (chunkSize < 1) {
+            throw new SolverException("The size of a chunk of solutions must be positive");
+        }
+        int[][] chunk = new int[chunkSize][vars.length];
+        int[] filled = {0};
+        long count = forEachSolution(vars, values -> {
+            System.arraycopy(values, 0, chunk[filled[0]], 0, values.length);
+            if (++filled[0] == chunkSize) {
+                action.accept(chunk, chunkSize);
+                filled[0] = 0;
+            }
+        }, stop);
+        if (filled[0] > 0) {
+            action.accept(chunk, filled[0]);
+        }
+        return count;
+    }
+
+    /**
+     * Attempts to find all solutions of the declared problem, and writes the values of <i>vars</i> in each of them
+     * to <i>out</i>, in a compact binary format (see {@link SolutionWriter}) that can be read back with a
+     * {@link SolutionReader}. The memory used does not depend on the number of solutions.
+     * <p>
+     * The stream is flushed, but not closed, on return.
+     * Like {@link #forEachSolution(IntVar[], Consumer, Criterion...)}, it clears the objective function, if any.
+     *
+     * @param vars variables to get the values of, all instantiated in a solution
+     * @param out  the stream to write to
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return number of solutions found
+     * @throws IOException if an I/O error occurs, then the search is stopped
+     */
+    default long exportSolutions(IntVar[] vars, OutputStream out, Criterion... stop) throws IOException {
+        SolutionWriter writer = new SolutionWriter(out, vars.length);
+        try {
+            forEachSolution(vars, values -> {
+                try {
+                    writer.write(values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, stop);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return writer.getCount();
+    }
+
+    /**
+     * Attempts to find all solutions of the declared problem, and writes the values of <i>vars</i> in each of them
+     * to <i>file</i>, which is created or overwritten (see {@link #exportSolutions(IntVar[], OutputStream, Criterion...)}).
+     *
+     * @param vars variables to get the values of, all instantiated in a solution
+     * @param file the file to write to
+     * @param stop optional criterion to stop the search before finding all solutions
+     * @return number of solutions found
+     * @throws IOException if an I/O error occurs, then the search is stopped
+     */
+    default long exportSolutions(IntVar[] vars, Path file, Criterion... stop) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            return exportSolutions(vars, out, stop);
+        }
+    }
+
     /**
      * Attempt to find the solution that optimizes the mono-objective problem defined by a unique objective variable and
      * an optimization criteria.
@@ -15,6 +15,11 @@ import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.search.strategy.decision.DecisionPath;
 import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * A learn implementation that is able to learn signed clause on failure. The implication graph is
@@ -53,6 +58,14 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
      * Maximum cardinality to add nogoods to the store
      */
     private final int max_card;
+    /**
+     * Variables of the decisions involved in the last conflict, if it is final
+     */
+    private final Set<IntVar> finalDecisions = new HashSet<>();
+    /**
+     * Set to <i>true</i> when the last conflict is final, that is, no decision can be refuted anymore
+     */
+    private boolean finalConflict;
 
     /**
      * Build a learned able to learn signed clauses on conflicts and solutions.
@@ -74,12 +87,26 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
         return (E) lastExplanation;
     }
 
+    /**
+     * When the last conflict ends the search, that is, when no decision can be refuted anymore
+     * after backjumping, the explanation of this conflict is resolved until it only depends on decisions.
+     * With non-refutable decisions first, such as assumptions (see
+     * {@link org.chocosolver.solver.search.strategy.strategy.AssumptionBranching}), this gives the decisions
+     * that cannot be satisfied together.
+     *
+     * @return the variables of the decisions involved in the last conflict if it is final, <i>null</i> otherwise
+     */
+    public Set<IntVar> getFinalConflictDecisions() {
+        return finalConflict ? Collections.unmodifiableSet(finalDecisions) : null;
+    }
+
     @Override
     public boolean record(Solver solver) {
         if (nbsol == solver.getSolutionCount()) {
             onFailure();
         } else {
             nbsol++;
+            finalConflict = false;
             onSolution();
         }
         return true;
@@ -98,6 +125,15 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
             (cex.v != null) || (cex.c != null) :
             this.getClass().getName() + ".onContradiction incoherent state";
         lastExplanation.learnSignedClause(cex);
+        finalConflict = isFinal(lastExplanation.getAssertingLevel());
+        if (finalConflict) {
+            finalDecisions.clear();
+            if (cex.c instanceof IntDecision) {
+                // the decision failed when applied, it is not in the implication graph
+                finalDecisions.add(((IntDecision) cex.c).getDecisionVariable());
+            }
+            lastExplanation.explainByDecisions(finalDecisions);
+        }
 
         int upto = mSolver.getDecisionPath().size() - lastExplanation.getAssertingLevel();
 
@@ -117,6 +153,21 @@ public class LearnSignedClauses<E extends ExplanationForSignedClause> implements
         mSolver.setJumpTo(upto);
     }
 
+    /**
+     * @param assertLevel position of the decision to refute
+     * @return <i>true</i> if no decision at position <i>assertLevel</i> or above can be refuted
+     */
+    private boolean isFinal(int assertLevel) {
+        DecisionPath path = mSolver.getDecisionPath();
+        int k = Math.min(assertLevel, path.size() - 1);
+        for (int i = 1; i <= k; i++) { /*0 is ROOT */
+            if (path.getDecision(i).hasNext()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected void onSolution() {
         /*if (!mSolver.getObjectiveManager().isOptimization()) {
             // extract the decision path to build the nogood
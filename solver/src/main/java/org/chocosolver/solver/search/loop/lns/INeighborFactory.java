@@ -12,6 +12,7 @@ package org.chocosolver.solver.search.loop.lns;
 import org.chocosolver.solver.search.loop.lns.neighbors.*;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.util.bandit.UCB1;
 
 /**
  * Factory to creates INeighbor objects that configures LNS
@@ -91,6 +92,41 @@ public class INeighborFactory {
         return new ReversePropagationGuidedNeighborhood(vars, 0, 30, seed);
     }
 
+    /**
+     * Create a neighborhood relaxing balls of the constraint graph, computed once
+     * @param seed      the seed for randomness
+     * @param vars      the pool of variables to be freezed
+     * @return a ball neighborhood
+     * @see GraphNeighborhood
+     */
+    public static IntNeighbor ball(long seed, IntVar... vars) {
+        return new BallNeighborhood(vars, 30, 16, seed);
+    }
+
+    /**
+     * Create a neighborhood relaxing time windows of the cumulative resources of the model,
+     * and the variables closest to them in the constraint graph
+     * @param seed      the seed for randomness
+     * @param vars      the pool of variables to be freezed
+     * @return a cumulative window neighborhood
+     * @see GraphNeighborhood
+     */
+    public static IntNeighbor cumulativeWindow(long seed, IntVar... vars) {
+        return new CumulativeWindowNeighborhood(vars, 30, 16, seed);
+    }
+
+    /**
+     * Create a neighborhood relaxing segments of the circuits of the model,
+     * and the variables closest to them in the constraint graph
+     * @param seed      the seed for randomness
+     * @param vars      the pool of variables to be freezed
+     * @return a circuit segment neighborhood
+     * @see GraphNeighborhood
+     */
+    public static IntNeighbor circuitSegment(long seed, IntVar... vars) {
+        return new CircuitSegmentNeighborhood(vars, 30, 16, seed);
+    }
+
     /**
      * Creates a composite INeighbor grouping a set of neighbors
      * @param neighbors a set of neighbors to be grouped
@@ -100,6 +136,26 @@ public class INeighborFactory {
         return new SequenceNeighborhood(neighbors);
     }
 
+    /**
+     * Creates a neighbor which selects, with a UCB1 bandit policy, a propagation-guided,
+     * a reverse propagation-guided or a random neighbor, and half, once or twice a base fraction to relax.
+     * Arms are rewarded with the objective gain per second.
+     * @param objective the objective variable
+     * @param seed      the seed for randomness
+     * @param vars      the pool of variables to be freezed
+     * @return a bandit-driven neighbor
+     * @see BanditNeighborhood
+     */
+    public static INeighbor bandit(IntVar objective, long seed, IntVar... vars) {
+        double[] scales = {.5, 1., 2.};
+        return new BanditNeighborhood(objective, new UCB1(3 * scales.length),
+                BanditNeighborhood.Effort.TIME, scales,
+                propagationGuided(seed, vars),
+                reversedPropagationGuided(seed, vars),
+                random(seed, vars)
+        );
+    }
+
     /**
      * Creates a random neighborhood fixing a set variable randomly
      * @param setVar the set var to be freezed
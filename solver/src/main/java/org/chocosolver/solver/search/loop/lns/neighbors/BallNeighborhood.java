@@ -0,0 +1,41 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A LNS neighbor which relaxes a ball of the constraint graph: the variables closest
+ * to a variable chosen at random, in number of propagators.
+ * <br/>
+ *
+ * @author agent
+ * @see GraphNeighborhood
+ * @since 17/10/2026
+ */
+public class BallNeighborhood extends GraphNeighborhood {
+
+    /**
+     * Create a neighbor for LNS which relaxes balls of the constraint graph
+     *
+     * @param vars        variables to consider
+     * @param desiredSize initial number of variables to relax
+     * @param maxArity    propagators with more variables are ignored
+     * @param seed        for randomness
+     */
+    public BallNeighborhood(IntVar[] vars, int desiredSize, int maxArity, long seed) {
+        super(vars, desiredSize, maxArity, seed);
+    }
+
+    @Override
+    protected void selectSeeds(int budget) {
+        relax(variables[rd.nextInt(n)]);
+    }
+}
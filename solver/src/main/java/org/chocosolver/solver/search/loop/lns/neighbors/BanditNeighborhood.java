@@ -0,0 +1,194 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.bandit.Policy;
+
+/**
+ * A neighbor which is based on multiple neighbors and selects, with a multi-armed bandit {@link Policy},
+ * both the neighbor to run and the size of the fragment to relax.
+ * <br/>
+ * An arm is a pair (neighbor, scale): the neighbor relaxes a fraction of the problem
+ * (see {@link INeighbor#setRelaxedFraction(double)}) equal to the scale times a base fraction.
+ * The policy must be created with <i>n</i> &times; <i>k</i> actions, where <i>n</i> is the number of neighbors
+ * and <i>k</i> the number of scales, action <i>a</i> being the neighbor <i>a / k</i> with the scale <i>a % k</i>.
+ * <br/>
+ * A run of an arm lasts from its selection to the next one, or to the next solution.
+ * Its reward is the objective gain per unit of effort (seconds or failures, see {@link Effort}),
+ * divided by the best one observed so far, so that it lies in [0,1].
+ * <br/>
+ * Like in Adaptive LNS, the base fraction is adapted online: it is increased after each run
+ * that does not improve the objective, and decreased after each one that does.
+ * <br/>
+ *
+ * @author agent
+ * @see org.chocosolver.util.bandit.UCB1
+ * @see org.chocosolver.util.bandit.MOSS
+ * @see org.chocosolver.util.bandit.Static
+ * @since 17/10/2026
+ */
+public class BanditNeighborhood extends SequenceNeighborhood {
+
+    /**
+     * Effort a gain is related to
+     */
+    public enum Effort {
+        /**
+         * Seconds spent in a run
+         */
+        TIME,
+        /**
+         * Failures met in a run
+         */
+        FAILS
+    }
+
+    /**
+     * Bounds of the base fraction
+     */
+    private static final double MIN = .01, MAX = 1.;
+    /**
+     * Adaptation rate of the base fraction
+     */
+    private static final double STEP = .1;
+
+    private final IntVar objective;
+    private final Policy policy;
+    private final Effort effort;
+    private final double[] scales;
+    /**
+     * Base fraction to relax
+     */
+    private double fraction;
+    /**
+     * Number of arms played so far
+     */
+    private int step;
+    /**
+     * Arm whose run is in progress, -1 if none
+     */
+    private int arm;
+    /**
+     * Effort measured at the start of the run in progress
+     */
+    private long start;
+    /**
+     * Best gain per unit of effort observed so far
+     */
+    private double best;
+    /**
+     * Objective value of the last solution, if any
+     */
+    private int last;
+    private boolean known;
+
+    /**
+     * Create a neighbor which selects among <i>neighbors</i> and <i>scales</i> with <i>policy</i>.
+     *
+     * @param objective the objective variable
+     * @param policy    bandit policy, with <i>neighbors.length</i> &times; <i>scales.length</i> actions
+     * @param effort    effort the objective gain is related to
+     * @param scales    scales of the base fraction to relax
+     * @param neighbors neighbors to select from
+     */
+    public BanditNeighborhood(IntVar objective, Policy policy, Effort effort, double[] scales, INeighbor... neighbors) {
+        super(neighbors);
+        this.objective = objective;
+        this.policy = policy;
+        this.effort = effort;
+        this.scales = scales.clone();
+        this.fraction = .3;
+        this.arm = -1;
+    }
+
+    /**
+     * @return the base fraction to relax
+     */
+    public double getRelaxedFraction() {
+        return fraction;
+    }
+
+    /**
+     * Set the base fraction to relax, adapted online thereafter.
+     *
+     * @param fraction a value in [0,1]
+     */
+    @Override
+    public void setRelaxedFraction(double fraction) {
+        this.fraction = Math.max(MIN, Math.min(MAX, fraction));
+    }
+
+    @Override
+    public void init() {
+        super.init();
+        policy.init();
+    }
+
+    @Override
+    public void recordSolution() {
+        int value = objective.getValue();
+        stop(known ? Math.abs(value - last) : 0);
+        last = value;
+        known = true;
+        super.recordSolution();
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        // the run in progress is not rewarded, the solution does not come from it
+        arm = -1;
+        last = solution.getIntVal(objective);
+        known = true;
+        super.loadFromSolution(solution);
+    }
+
+    @Override
+    protected void nextNeighbor() {
+        stop(0);
+        arm = policy.nextAction(step++);
+        who = arm / scales.length;
+        neighbors[who].setRelaxedFraction(Math.min(MAX, scales[arm % scales.length] * fraction));
+        start = measure();
+    }
+
+    /**
+     * Reward the run in progress, if any, and adapt the base fraction
+     *
+     * @param gain objective gain of the run
+     */
+    private void stop(long gain) {
+        if (arm >= 0) {
+            double rate = gain / Math.max(measure() - start, effort == Effort.TIME ? 1e3 : 1.);
+            if (effort == Effort.TIME) {
+                rate *= 1e9;
+            }
+            best = Math.max(best, rate);
+            policy.update(arm, best > 0 ? rate / best : 0.);
+            if (gain > 0) {
+                fraction = Math.max(MIN, fraction * (1 - STEP));
+            } else {
+                fraction = Math.min(MAX, fraction * (1 + STEP));
+            }
+            arm = -1;
+        }
+    }
+
+    /**
+     * @return current effort, in nanoseconds or failures
+     */
+    private long measure() {
+        if (effort == Effort.TIME) {
+            return System.nanoTime();
+        }
+        return objective.getModel().getSolver().getFailCount();
+    }
+}
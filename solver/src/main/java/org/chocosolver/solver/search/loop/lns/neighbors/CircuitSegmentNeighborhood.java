@@ -0,0 +1,130 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.nary.circuit.PropNoSubtour;
+import org.chocosolver.solver.constraints.nary.circuit.PropSubcircuit;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A LNS neighbor which relaxes segments of circuits: the successor variables of consecutive nodes
+ * of a circuit in the last solution, from a node chosen at random, and of the node before them,
+ * then the variables closest to them in the constraint graph.
+ * <br/>
+ * Circuits are the {@link ConstraintsName#CIRCUIT} and {@link ConstraintsName#SUBCIRCUIT} constraints of the model.
+ * When there is none, it relaxes balls of the constraint graph, like {@link BallNeighborhood}.
+ * <br/>
+ *
+ * @author agent
+ * @see GraphNeighborhood
+ * @since 17/10/2026
+ */
+public class CircuitSegmentNeighborhood extends GraphNeighborhood {
+
+    /**
+     * For each circuit, its successor variables
+     */
+    private IntVar[][] circuits;
+    /**
+     * For each circuit, the offset of its successor variables
+     */
+    private int[] offsets;
+    /**
+     * For each circuit, successor and predecessor of each node in the last solution
+     */
+    private int[][] succs, preds;
+
+    /**
+     * Create a neighbor for LNS which relaxes segments of circuits
+     *
+     * @param vars        variables to consider
+     * @param desiredSize initial number of variables to relax
+     * @param maxArity    propagators with more variables are ignored
+     * @param seed        for randomness
+     */
+    public CircuitSegmentNeighborhood(IntVar[] vars, int desiredSize, int maxArity, long seed) {
+        super(vars, desiredSize, maxArity, seed);
+    }
+
+    @Override
+    protected void initStructure() {
+        List<IntVar[]> cs = new ArrayList<>();
+        List<Integer> os = new ArrayList<>();
+        for (Constraint c : mModel.getCstrs()) {
+            if (ConstraintsName.CIRCUIT.equals(c.getName()) || ConstraintsName.SUBCIRCUIT.equals(c.getName())) {
+                for (Propagator<?> p : c.getPropagators()) {
+                    if (p instanceof PropNoSubtour) {
+                        cs.add(((PropNoSubtour) p).getVars());
+                        os.add(((PropNoSubtour) p).getOffset());
+                        break;
+                    } else if (p instanceof PropSubcircuit) {
+                        // the last variable is the length of the subcircuit
+                        IntVar[] vs = ((PropSubcircuit) p).getVars();
+                        cs.add(Arrays.copyOf(vs, vs.length - 1));
+                        os.add(((PropSubcircuit) p).getOffset());
+                        break;
+                    }
+                }
+            }
+        }
+        circuits = cs.toArray(new IntVar[0][]);
+        offsets = os.stream().mapToInt(o -> o).toArray();
+        succs = new int[circuits.length][];
+        preds = new int[circuits.length][];
+    }
+
+    @Override
+    protected void recordStructure(Solution solution) {
+        for (int c = 0; c < circuits.length; c++) {
+            IntVar[] vs = circuits[c];
+            succs[c] = new int[vs.length];
+            preds[c] = new int[vs.length];
+            for (int i = 0; i < vs.length; i++) {
+                succs[c][i] = (solution == null ? vs[i].getLB() : solution.getIntVal(vs[i])) - offsets[c];
+            }
+            for (int i = 0; i < vs.length; i++) {
+                preds[c][succs[c][i]] = i;
+            }
+        }
+    }
+
+    @Override
+    protected void selectSeeds(int budget) {
+        if (circuits.length == 0 || succs[0] == null) {
+            relax(variables[rd.nextInt(n)]);
+            return;
+        }
+        int c = rd.nextInt(circuits.length);
+        IntVar[] vs = circuits[c];
+        int first = rd.nextInt(vs.length);
+        // try to start from a node in the subcircuit
+        for (int k = 0; k < 8 && succs[c][first] == first; k++) {
+            first = rd.nextInt(vs.length);
+        }
+        // the arc entering the segment can be changed too
+        boolean more = relax(vs[preds[c][first]]);
+        int i = first;
+        while (more) {
+            more = relax(vs[i]);
+            i = succs[c][i];
+            if (i == first) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.solver.variables.view.IView;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The static constraint graph of a model, stored in compressed sparse rows.
+ * A node is a variable, identified by its position in {@link Model#getVars()}, and a hyperedge
+ * connects the variables of a propagator, or a view and the variable it observes.
+ * Propagators with more than <i>maxArity</i> variables are ignored since they would connect
+ * almost any pair of variables.
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+final class ConstraintGraph {
+
+    /**
+     * Node of each variable, indexed by variable ID, -1 if none
+     */
+    private final int[] nodeOf;
+    /**
+     * Variables of the model, indexed by node
+     */
+    final Variable[] vars;
+    /**
+     * Hyperedges of node <i>i</i> are in {@link #nodeEdges}, from <i>nodeStart[i]</i> to <i>nodeStart[i + 1]</i>
+     */
+    final int[] nodeStart;
+    final int[] nodeEdges;
+    /**
+     * Nodes of hyperedge <i>p</i> are in {@link #edgeNodes}, from <i>edgeStart[p]</i> to <i>edgeStart[p + 1]</i>
+     */
+    final int[] edgeStart;
+    final int[] edgeNodes;
+
+    /**
+     * Build the constraint graph of <i>model</i>, from the constraints posted so far
+     *
+     * @param model    a model
+     * @param maxArity propagators with more variables are ignored
+     */
+    ConstraintGraph(Model model, int maxArity) {
+        this.vars = model.getVars();
+        int maxId = -1;
+        for (Variable v : vars) {
+            maxId = Math.max(maxId, v.getId());
+        }
+        this.nodeOf = new int[maxId + 1];
+        Arrays.fill(nodeOf, -1);
+        for (int i = 0; i < vars.length; i++) {
+            nodeOf[vars[i].getId()] = i;
+        }
+        // a hyperedge per propagator, and one per view, between the view and its observed variable
+        List<int[]> edges = new ArrayList<>();
+        for (Constraint c : model.getCstrs()) {
+            for (Propagator<?> p : c.getPropagators()) {
+                if (p.getNbVars() <= maxArity) {
+                    int[] edge = new int[p.getNbVars()];
+                    int k = 0;
+                    for (int i = 0; i < p.getNbVars(); i++) {
+                        int node = node(p.getVar(i));
+                        if (node >= 0) {
+                            edge[k++] = node;
+                        }
+                    }
+                    edges.add(Arrays.copyOf(edge, k));
+                }
+            }
+        }
+        for (int i = 0; i < vars.length; i++) {
+            if ((vars[i].getTypeAndKind() & Variable.VIEW) != 0) {
+                int node = node(((IView) vars[i]).getVariable());
+                if (node >= 0) {
+                    edges.add(new int[]{i, node});
+                }
+            }
+        }
+        this.edgeStart = new int[edges.size() + 1];
+        this.nodeStart = new int[vars.length + 1];
+        for (int p = 0; p < edges.size(); p++) {
+            edgeStart[p + 1] = edgeStart[p] + edges.get(p).length;
+            for (int node : edges.get(p)) {
+                nodeStart[node + 1]++;
+            }
+        }
+        for (int i = 0; i < vars.length; i++) {
+            nodeStart[i + 1] += nodeStart[i];
+        }
+        this.edgeNodes = new int[edgeStart[edges.size()]];
+        this.nodeEdges = new int[edgeNodes.length];
+        int[] pos = Arrays.copyOf(nodeStart, vars.length);
+        for (int p = 0; p < edges.size(); p++) {
+            int[] edge = edges.get(p);
+            System.arraycopy(edge, 0, edgeNodes, edgeStart[p], edge.length);
+            for (int node : edge) {
+                nodeEdges[pos[node]++] = p;
+            }
+        }
+    }
+
+    /**
+     * @param var a variable
+     * @return the node of <i>var</i>, -1 if it was not in the model when this graph was built
+     */
+    int node(Variable var) {
+        int id = var.getId();
+        return id < nodeOf.length ? nodeOf[id] : -1;
+    }
+
+    /**
+     * @return number of nodes
+     */
+    int nbNodes() {
+        return vars.length;
+    }
+
+    /**
+     * @return number of hyperedges
+     */
+    int nbEdges() {
+        return edgeStart.length - 1;
+    }
+}
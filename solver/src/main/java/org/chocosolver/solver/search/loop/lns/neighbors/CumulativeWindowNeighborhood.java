@@ -0,0 +1,128 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.ConstraintsName;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * A LNS neighbor which relaxes time windows of cumulative resources: the tasks of a resource
+ * (start, duration, end and height variables) which are consecutive in the last solution,
+ * from a task chosen at random, then the variables closest to them in the constraint graph.
+ * <br/>
+ * Resources are the {@link ConstraintsName#CUMULATIVE} constraints of the model.
+ * When there is none, it relaxes balls of the constraint graph, like {@link BallNeighborhood}.
+ * <br/>
+ *
+ * @author agent
+ * @see GraphNeighborhood
+ * @since 17/10/2026
+ */
+public class CumulativeWindowNeighborhood extends GraphNeighborhood {
+
+    /**
+     * For each resource, the variables of its cumulative propagator: starts, durations, ends, heights and capacity
+     */
+    private IntVar[][] resources;
+    /**
+     * For each resource, its tasks sorted by start in the last solution
+     */
+    private int[][] orders;
+
+    /**
+     * Create a neighbor for LNS which relaxes time windows of cumulative resources
+     *
+     * @param vars        variables to consider
+     * @param desiredSize initial number of variables to relax
+     * @param maxArity    propagators with more variables are ignored
+     * @param seed        for randomness
+     */
+    public CumulativeWindowNeighborhood(IntVar[] vars, int desiredSize, int maxArity, long seed) {
+        super(vars, desiredSize, maxArity, seed);
+    }
+
+    @Override
+    protected void initStructure() {
+        List<IntVar[]> rs = new ArrayList<>();
+        for (Constraint c : mModel.getCstrs()) {
+            if (ConstraintsName.CUMULATIVE.equals(c.getName())) {
+                Propagator<?> p = c.getPropagators()[0];
+                IntVar[] vs = new IntVar[p.getNbVars()];
+                for (int i = 0; i < vs.length; i++) {
+                    vs[i] = (IntVar) p.getVar(i);
+                }
+                rs.add(vs);
+            }
+        }
+        resources = rs.toArray(new IntVar[0][]);
+        orders = new int[resources.length][];
+    }
+
+    /**
+     * Sort the tasks of each resource by start
+     */
+    @Override
+    protected void recordStructure(Solution solution) {
+        for (int r = 0; r < resources.length; r++) {
+            IntVar[] vs = resources[r];
+            int nt = (vs.length - 1) / 4;
+            int[] starts = new int[nt];
+            for (int t = 0; t < nt; t++) {
+                starts[t] = solution == null ? vs[t].getLB() : solution.getIntVal(vs[t]);
+            }
+            orders[r] = IntStream.range(0, nt).boxed()
+                    .sorted(Comparator.comparingInt(t -> starts[t]))
+                    .mapToInt(t -> t)
+                    .toArray();
+        }
+    }
+
+    @Override
+    protected void selectSeeds(int budget) {
+        if (resources.length == 0 || orders[0] == null) {
+            relax(variables[rd.nextInt(n)]);
+            return;
+        }
+        int r = rd.nextInt(resources.length);
+        IntVar[] vs = resources[r];
+        int[] order = orders[r];
+        int nt = order.length;
+        int from = rd.nextInt(nt);
+        boolean more = true;
+        // the window grows forward, then backward
+        for (int k = from; k < nt && more; k++) {
+            more = relaxTask(vs, nt, order[k]);
+        }
+        for (int k = from - 1; k >= 0 && more; k--) {
+            more = relaxTask(vs, nt, order[k]);
+        }
+    }
+
+    /**
+     * Relax the variables of task <i>t</i>
+     *
+     * @return <tt>false</tt> if the number of variables to relax from the seeds is reached
+     */
+    private boolean relaxTask(IntVar[] vs, int nt, int t) {
+        boolean more = true;
+        for (int i = 0; i < 4 && more; i++) {
+            more = relax(vs[i * nt + t]);
+        }
+        return more;
+    }
+}
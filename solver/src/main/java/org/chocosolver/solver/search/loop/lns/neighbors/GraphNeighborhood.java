@@ -0,0 +1,275 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * A LNS neighbor based on the static constraint graph of the model, in which variables are nodes
+ * and propagators (with at most <i>maxArity</i> variables) are hyperedges.
+ * <p>
+ * A fragment relaxes a set of connected variables: starting from some seed variables
+ * (see {@link #selectSeeds(int)}), the graph is traversed breadth-first until the desired number of
+ * variables to relax is reached, the other variables are frozen.
+ * When the traversal runs out of variables, it goes on from a random variable not visited yet.
+ * Unlike {@link PropagationGuidedNeighborhood}, no propagation is needed to compute a fragment:
+ * the graph is built once, on the first call to {@link #init()}, so constraints posted afterwards are ignored.
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public abstract class GraphNeighborhood extends IntNeighbor {
+
+    /**
+     * Number of variables
+     */
+    protected final int n;
+    /**
+     * For randomness
+     */
+    protected final Random rd;
+    /**
+     * Reference to the model
+     */
+    protected final Model mModel;
+    /**
+     * Propagators with more variables are ignored
+     */
+    private final int maxArity;
+    /**
+     * Initial number of variables to relax
+     */
+    private final int desiredSize;
+    /**
+     * Current number of variables to relax
+     */
+    private int size;
+    /**
+     * Fraction of variables to relax, negative when not set
+     */
+    private double relaxed = -1;
+    /**
+     * The constraint graph
+     */
+    ConstraintGraph graph;
+    /**
+     * Node of each variable in {@link #variables}
+     */
+    private int[] nodes;
+    /**
+     * Position in {@link #variables} of each node, -1 if none
+     */
+    private int[] positions;
+    /**
+     * Number of distinct variables in {@link #variables}
+     */
+    private int distinct;
+    /**
+     * Breadth-first traversal queue
+     */
+    private int[] queue;
+    private int head, tail;
+    /**
+     * A node (resp. hyperedge) is visited during the current traversal if its stamp is equal to {@link #stamp}
+     */
+    private int[] nodeStamps, edgeStamps;
+    private int stamp;
+    /**
+     * A solution loaded before the graph is built
+     */
+    private Solution loaded;
+    /**
+     * Number of variables of {@link #variables} visited during the current traversal, its limit
+     * and the number of them to relax from the seeds
+     */
+    private int count, limit, budget;
+
+    /**
+     * Create a neighbor for LNS based on the constraint graph
+     *
+     * @param vars        variables to consider
+     * @param desiredSize initial number of variables to relax
+     * @param maxArity    propagators with more variables are ignored
+     * @param seed        for randomness
+     */
+    protected GraphNeighborhood(IntVar[] vars, int desiredSize, int maxArity, long seed) {
+        super(vars);
+        this.mModel = vars[0].getModel();
+        this.n = vars.length;
+        this.rd = new Random(seed);
+        this.desiredSize = Math.max(1, desiredSize);
+        this.size = this.desiredSize;
+        this.maxArity = maxArity;
+    }
+
+    @Override
+    public void init() {
+        if (graph == null) {
+            graph = new ConstraintGraph(mModel, maxArity);
+            int nn = graph.nbNodes();
+            nodes = new int[n];
+            positions = new int[nn];
+            Arrays.fill(positions, -1);
+            for (int i = 0; i < n; i++) {
+                nodes[i] = graph.node(variables[i]);
+                if (positions[nodes[i]] < 0) {
+                    distinct++;
+                }
+                positions[nodes[i]] = i;
+            }
+            queue = new int[nn];
+            nodeStamps = new int[nn];
+            edgeStamps = new int[graph.nbEdges()];
+            initStructure();
+            if (loaded != null) {
+                recordStructure(loaded);
+                loaded = null;
+            }
+        }
+    }
+
+    /**
+     * Compute the structure the seeds are selected from, called once, when the graph is built.
+     */
+    protected void initStructure() {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Record the values of the variables of the structure, once it is computed
+     *
+     * @param solution a solution to read values from, or <i>null</i> to read them from the solution just found
+     */
+    protected void recordStructure(Solution solution) {
+        // Intentionally left empty.
+    }
+
+    /**
+     * Select the seeds of the next fragment, with {@link #relax(Variable)}, until it returns <tt>false</tt>.
+     *
+     * @param budget number of variables to relax from the seeds, the remaining ones being relaxed by traversal
+     */
+    protected abstract void selectSeeds(int budget);
+
+    /**
+     * Add <i>var</i> to the fragment under construction, and to the traversal queue
+     *
+     * @param var a variable of the model
+     * @return <tt>false</tt> if the number of variables to relax from the seeds is reached
+     */
+    protected boolean relax(Variable var) {
+        int node = graph.node(var);
+        if (node >= 0 && count < limit) {
+            visit(node);
+        }
+        return count < budget;
+    }
+
+    @Override
+    public void fixSomeVariables() throws ContradictionException {
+        limit = Math.min(distinct, relaxed < 0 ? size : (int) Math.round(relaxed * n));
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(nodeStamps, 0);
+            Arrays.fill(edgeStamps, 0);
+            stamp = 1;
+        }
+        head = tail = count = 0;
+        if (limit > 0) {
+            budget = Math.max(1, limit / 2);
+            selectSeeds(budget);
+        }
+        while (count < limit) {
+            if (head == tail) {
+                visit(nodes[unvisited()]);
+                continue;
+            }
+            int node = queue[head++];
+            for (int i = graph.nodeStart[node]; i < graph.nodeStart[node + 1] && count < limit; i++) {
+                int edge = graph.nodeEdges[i];
+                if (edgeStamps[edge] != stamp) {
+                    edgeStamps[edge] = stamp;
+                    for (int j = graph.edgeStart[edge]; j < graph.edgeStart[edge + 1] && count < limit; j++) {
+                        visit(graph.edgeNodes[j]);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (nodeStamps[nodes[i]] != stamp && variables[i].contains(values[i])) {
+                freeze(i);
+            }
+        }
+    }
+
+    /**
+     * Add <i>node</i> to the traversal, if not visited yet
+     */
+    private void visit(int node) {
+        if (nodeStamps[node] != stamp) {
+            nodeStamps[node] = stamp;
+            queue[tail++] = node;
+            if (positions[node] >= 0) {
+                count++;
+            }
+        }
+    }
+
+    /**
+     * @return position of a variable of {@link #variables} not visited yet, chosen at random
+     */
+    private int unvisited() {
+        int i = rd.nextInt(n);
+        for (int k = 0; k < 8 && nodeStamps[nodes[i]] == stamp; k++) {
+            i = rd.nextInt(n);
+        }
+        while (nodeStamps[nodes[i]] == stamp) {
+            i = (i + 1) % n;
+        }
+        return i;
+    }
+
+    @Override
+    public void recordSolution() {
+        super.recordSolution();
+        size = desiredSize;
+        if (graph != null) {
+            recordStructure(null);
+        }
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        super.loadFromSolution(solution);
+        size = desiredSize;
+        if (graph != null) {
+            recordStructure(solution);
+        } else {
+            loaded = solution;
+        }
+    }
+
+    @Override
+    public void restrictLess() {
+        size = Math.min(n, size + Math.max(1, size / 10));
+    }
+
+    @Override
+    public void setRelaxedFraction(double fraction) {
+        relaxed = fraction;
+    }
+}
@@ -48,6 +48,17 @@ public interface INeighbor extends ICause {
         // Intentionally left empty.
     }
 
+    /**
+     * Set the fraction of the problem to relax, that is, not to freeze, on next calls to {@link #fixSomeVariables()}.
+     * Each neighbor interprets it its own way, e.g., as a fraction of the variables or of the (logarithmic)
+     * size of the search space, and neighbors that cannot control it ignore it.
+     *
+     * @param fraction a value in [0,1], or a negative value to go back to the neighbor's own sizing
+     */
+    default void setRelaxedFraction(double fraction){
+        // Intentionally left empty.
+    }
+
     /**
      * @return true iff the search is in a complete mode (no fixed variable)
      */
@@ -0,0 +1,128 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.Random;
+
+/**
+ * A neighbor which is based on multiple neighbors, and which selects the one with the best
+ * improvement rate, that is, the objective gain per second (see {@link ImprovementRates}).
+ * <br/>
+ * A run of a neighbor lasts from its selection to the next one, or to the next solution.
+ * Neighbors that never run are selected first, then the best one is selected,
+ * except from time to time when a neighbor is selected at random.
+ * <br/>
+ * The rates can be shared among neighborhoods of concurrent LNS working on copies of a model.
+ * In that case, neighbors must be declared in the same order, and each neighborhood should have its own seed,
+ * which also sets the position of the neighbor it starts from.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ImprovementRateNeighborhood extends SequenceNeighborhood {
+
+    /**
+     * Probability to select a neighbor at random
+     */
+    private static final double EPSILON = .1;
+
+    private final IntVar objective;
+    private final ImprovementRates rates;
+    private final Random random;
+    /**
+     * Position of the neighbor to start from, to break ties
+     */
+    private final int from;
+    /**
+     * Neighbor whose run is in progress, -1 if none
+     */
+    private int running;
+    /**
+     * Start time of the run in progress, in nanoseconds
+     */
+    private long start;
+    /**
+     * Objective value of the last solution, if any
+     */
+    private int last;
+    private boolean known;
+
+    /**
+     * Create a neighbor which selects among <i>neighbors</i> the one with the best improvement rate.
+     *
+     * @param objective the objective variable
+     * @param rates     improvement rates, one per neighbor, possibly shared
+     * @param seed      the seed for randomness
+     * @param neighbors neighbors to select from
+     */
+    public ImprovementRateNeighborhood(IntVar objective, ImprovementRates rates, long seed, INeighbor... neighbors) {
+        super(neighbors);
+        if (rates.size() != count) {
+            throw new SolverException("Expected " + count + " improvement rates, found " + rates.size());
+        }
+        this.objective = objective;
+        this.rates = rates;
+        this.random = new Random(seed);
+        this.from = (int) Math.floorMod(seed, (long) count);
+        this.running = -1;
+    }
+
+    /**
+     * @return improvement rates this neighborhood is based on
+     */
+    public ImprovementRates getRates() {
+        return rates;
+    }
+
+    @Override
+    public void recordSolution() {
+        int value = objective.getValue();
+        stop(known ? Math.abs(value - last) : 0);
+        last = value;
+        known = true;
+        super.recordSolution();
+    }
+
+    @Override
+    public void loadFromSolution(Solution solution) {
+        stop(0);
+        last = solution.getIntVal(objective);
+        known = true;
+        super.loadFromSolution(solution);
+    }
+
+    @Override
+    protected void nextNeighbor() {
+        stop(0);
+        if (random.nextDouble() < EPSILON) {
+            who = random.nextInt(count);
+        } else {
+            who = rates.best(from);
+        }
+        running = who;
+        start = System.nanoTime();
+    }
+
+    /**
+     * Charge the run in progress, if any, with <i>gain</i> and the time elapsed since its start
+     *
+     * @param gain objective gain of the run
+     */
+    private void stop(long gain) {
+        if (running >= 0) {
+            rates.record(running, gain, System.nanoTime() - start);
+            running = -1;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.lns.neighbors;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Improvement rates of a set of neighborhoods, that is, for each of them, the objective gain
+ * obtained over the time spent in LNS runs based on it.
+ * <p>
+ * Rates are lock-free and can be shared among concurrent LNS, which then learn from each other
+ * which neighborhood pays off (see {@link ImprovementRateNeighborhood}).
+ * </p>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class ImprovementRates {
+
+    /**
+     * Objective gain, per neighborhood
+     */
+    private final AtomicLongArray gains;
+    /**
+     * Time spent, in nanoseconds, per neighborhood
+     */
+    private final AtomicLongArray times;
+    /**
+     * Number of runs, per neighborhood
+     */
+    private final AtomicLongArray runs;
+
+    /**
+     * Create improvement rates for <i>n</i> neighborhoods
+     *
+     * @param n number of neighborhoods
+     */
+    public ImprovementRates(int n) {
+        this.gains = new AtomicLongArray(n);
+        this.times = new AtomicLongArray(n);
+        this.runs = new AtomicLongArray(n);
+    }
+
+    /**
+     * @return number of neighborhoods
+     */
+    public int size() {
+        return runs.length();
+    }
+
+    /**
+     * Record a LNS run based on neighborhood <i>i</i>
+     *
+     * @param i     index of a neighborhood
+     * @param gain  objective gain of the run, non-negative
+     * @param nanos duration of the run, in nanoseconds
+     */
+    public void record(int i, long gain, long nanos) {
+        gains.addAndGet(i, gain);
+        times.addAndGet(i, Math.max(nanos, 0));
+        runs.incrementAndGet(i);
+    }
+
+    /**
+     * @param i index of a neighborhood
+     * @return objective gain per second of the runs based on neighborhood <i>i</i>,
+     * {@link Double#POSITIVE_INFINITY} if it has never run
+     */
+    public double getRate(int i) {
+        if (runs.get(i) == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return gains.get(i) * 1e9 / Math.max(times.get(i), 1);
+    }
+
+    /**
+     * @param i index of a neighborhood
+     * @return number of runs based on neighborhood <i>i</i>
+     */
+    public long getRuns(int i) {
+        return runs.get(i);
+    }
+
+    /**
+     * @param i index of a neighborhood
+     * @return objective gain of the runs based on neighborhood <i>i</i>
+     */
+    public long getGain(int i) {
+        return gains.get(i);
+    }
+
+    /**
+     * Select the neighborhood with the best rate, those which never run first.
+     * Ties are broken in favor of the first neighborhood met from <i>from</i>,
+     * so that concurrent LNS starting from different positions race different neighborhoods.
+     *
+     * @param from position to start from
+     * @return index of the neighborhood with the best rate
+     */
+    public int best(int from) {
+        int n = size();
+        int best = from % n;
+        double bestRate = getRate(best);
+        for (int k = 1; k < n; k++) {
+            int i = (from + k) % n;
+            double r = getRate(i);
+            if (r > bestRate) {
+                best = i;
+                bestRate = r;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder st = new StringBuilder("rates: ");
+        for (int i = 0; i < size(); i++) {
+            st.append(String.format("#%d %.2f/s (%d runs) ", i, getRate(i), getRuns(i)));
+        }
+        return st.toString();
+    }
+}
@@ -51,15 +51,13 @@ public abstract class IntNeighbor implements INeighbor {
     }
 
     /**
-     * Load a solution and record it
+     * Load a solution and record it, all values being read at once (see {@link Solution#getIntVals(IntVar[], int[])})
      *
      * @param solution a solution to record
      */
     @Override
     public void loadFromSolution(Solution solution) {
-        for (int i = 0; i < variables.length; i++) {
-            values[i] = solution.getIntVal(variables[i]);
-        }
+        solution.getIntVals(variables, values);
     }
 
     @Override
@@ -84,6 +84,10 @@ public class PropagationGuidedNeighborhood extends IntNeighbor {
      * Reference to the model
      */
     protected Model mModel;
+    /**
+     * Fraction of the logarithmic size of the search space to relax, negative when not set
+     */
+    private double relaxed = -1;
 
     /**
      * Create a propagation-guided neighbor for LNS
@@ -108,6 +112,9 @@ public class PropagationGuidedNeighborhood extends IntNeighbor {
     @Override
     public void fixSomeVariables() throws ContradictionException {
         logSum = Arrays.stream(variables).mapToDouble(v -> MathUtils.log2(v.getDomainSize())).sum();
+        if (relaxed >= 0) {
+            size = relaxed * Arrays.stream(variables).mapToDouble(v -> Math.log(v.getDomainSize())).sum();
+        }
         System.arraycopy(curDoms, 0, befDoms, 0, curDoms.length);
         fragment.set(0, n); // all variables are frozen
         update();
@@ -188,6 +195,14 @@ public class PropagationGuidedNeighborhood extends IntNeighbor {
         size *= 1.01;
     }
 
+    @Override
+    public void setRelaxedFraction(double fraction) {
+        relaxed = fraction;
+        if (relaxed < 0) {
+            size = desiredSize;
+        }
+    }
+
     @Override
     public void init() {
         this.curDoms = new int[n];
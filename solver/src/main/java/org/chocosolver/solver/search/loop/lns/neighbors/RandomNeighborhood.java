@@ -53,6 +53,10 @@ public class RandomNeighborhood extends IntNeighbor {
      * Indicate which variables are selected to be part of the fragment
      */
     protected BitSet fragment;
+    /**
+     * Fraction of variables to relax, negative when not set
+     */
+    private double relaxed = -1;
 
     /**
      * Create a neighbor for LNS which randomly selects variable to be part of a fragment
@@ -71,7 +75,7 @@ public class RandomNeighborhood extends IntNeighbor {
     @Override
     public void recordSolution() {
         super.recordSolution();
-        nbFixedVariables = 2. * n / 3. + 1;
+        nbFixedVariables = initialSize();
         nbCall = 0;
         limit = 200; //geo.getNextCutoff(nbCall);
     }
@@ -79,7 +83,7 @@ public class RandomNeighborhood extends IntNeighbor {
     @Override
     public void loadFromSolution(Solution solution) {
         super.loadFromSolution(solution);
-        nbFixedVariables = 2. * n / 3. + 1;
+        nbFixedVariables = initialSize();
         nbCall = 0;
         limit = 200; //geo.getNextCutoff(nbCall);
     }
@@ -110,9 +114,22 @@ public class RandomNeighborhood extends IntNeighbor {
         return id;
     }
 
+    @Override
+    public void setRelaxedFraction(double fraction) {
+        relaxed = fraction;
+        nbFixedVariables = initialSize();
+    }
+
+    /**
+     * @return number of variables to freeze, plus one, after a solution
+     */
+    private double initialSize() {
+        return relaxed < 0 ? 2. * n / 3. + 1 : (1. - relaxed) * n + 1;
+    }
+
     @Override
     public void restrictLess() {
-        if (nbCall > limit) {
+        if (relaxed < 0 && nbCall > limit) {
             limit = nbCall + level;
             nbFixedVariables = rd.nextDouble() * n;
         }
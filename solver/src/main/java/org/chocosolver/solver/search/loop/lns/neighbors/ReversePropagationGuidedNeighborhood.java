@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.loop.lns.neighbors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
@@ -81,6 +82,10 @@ public class ReversePropagationGuidedNeighborhood extends IntNeighbor{
      * Reference to the model
      */
     protected Model mModel;
+    /**
+     * Fraction of the logarithmic size of the search space to relax, negative when not set
+     */
+    private double relaxed = -1;
 
     /**
      * Create a reverse adaptive neighbor for LNS based on PGLNS, which selects variables to not be part of a fragment
@@ -105,8 +110,13 @@ public class ReversePropagationGuidedNeighborhood extends IntNeighbor{
     @Override
     public void fixSomeVariables() throws ContradictionException {
         logSum = 0;
-        size = desiredSize * epsilon;
         fragment.set(0, n); // all variables are frozen
+        if (relaxed >= 0) {
+            size = relaxed * Arrays.stream(variables).mapToDouble(v -> MathUtils.log2(v.getDomainSize())).sum();
+            update();
+            return;
+        }
+        size = desiredSize * epsilon;
         try {
             update();
             epsilon = (.95 * epsilon) + (.05 * (logSum / size));
@@ -177,6 +187,11 @@ public class ReversePropagationGuidedNeighborhood extends IntNeighbor{
         return id;
     }
 
+    @Override
+    public void setRelaxedFraction(double fraction) {
+        relaxed = fraction;
+    }
+
     @Override
     public void init() {
         this.domSiz = new int[n];
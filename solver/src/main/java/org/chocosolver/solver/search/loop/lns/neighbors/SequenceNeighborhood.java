@@ -77,6 +77,13 @@ public class SequenceNeighborhood implements INeighbor {
         neighbors[who].restrictLess();
     }
 
+    @Override
+    public void setRelaxedFraction(double fraction) {
+        for (int i = 0; i < count; i++) {
+            neighbors[i].setRelaxedFraction(fraction);
+        }
+    }
+
     @Override
     public boolean isSearchComplete() {
         boolean isComplete = false;
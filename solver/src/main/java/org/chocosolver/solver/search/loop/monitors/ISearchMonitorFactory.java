@@ -45,6 +45,14 @@ public interface ISearchMonitorFactory extends ISelf<Solver> {
         ref().plugMonitor(new NogoodFromRestarts(ref().getModel()));
     }
 
+    /**
+     * Simplify the clauses of the underlying SAT solver anytime the search restarts.
+     * See {@link org.chocosolver.sat.SatSolver#simplify()}.
+     */
+    default void setSATSimplificationOnRestarts() {
+        ref().plugMonitor(new SatSimplificationOnRestarts(ref().getModel()));
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
 
     /**
@@ -34,6 +34,9 @@ import org.chocosolver.solver.variables.Variable;
  * - Must be plugged as a monitor
  * - Only works for integer variables
  * - Only works if branching decisions are assignments (no domain split nor value removal)
+ * <br/>
+ * No-goods can be minimized and vivified, see {@link org.chocosolver.solver.Settings#setNogoodsMinimization(boolean)},
+ * and forgotten when unused, see {@link org.chocosolver.solver.Settings#setNogoodsMaxAge(int)}.
  *
  * @author Charles Prud'homme
  * @since 20/06/13
@@ -78,6 +81,7 @@ public class NogoodFromRestarts implements IMonitorRestart {
 
     @Override
     public void beforeRestart() {
+        png.onRestart();
         extractNogoodFromPath(png.getModel().getSolver().getDecisionPath());
         nogoodStealer.nogoodStealing(png.getModel(), this);
     }
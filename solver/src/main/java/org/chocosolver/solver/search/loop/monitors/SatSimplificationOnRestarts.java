@@ -0,0 +1,43 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.nary.sat.PropSat;
+
+/**
+ * A monitor which simplifies the clauses of the underlying SAT solver on each restart.
+ * Simplification is done on the root node, right after the restart.
+ * <br/>
+ *
+ * @author agent
+ * @see org.chocosolver.sat.SatSolver#simplify()
+ * @since 17/10/2026
+ */
+public class SatSimplificationOnRestarts implements IMonitorRestart {
+
+    /**
+     * The propagator interfacing the SAT solver
+     */
+    private final PropSat sat;
+
+    /**
+     * Simplify the clauses of the SAT solver of <i>model</i> on each restart.
+     * @param model model to observe
+     */
+    public SatSimplificationOnRestarts(Model model) {
+        this.sat = model.getMinisat().getPropSat();
+    }
+
+    @Override
+    public void beforeRestart() {
+        sat.simplifyOnBacktrack();
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.monitors;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseSharing;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
+
+/**
+ * A monitor which imports, on each restart, the signed clauses learnt by other solvers
+ * and exported to a {@link ClauseSharing}.
+ * Clauses are added to the clause store right before going back to the root node.
+ * A clause based on a variable unknown to the observed model is ignored.
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class SharedClausesOnRestarts implements IMonitorRestart {
+
+    /**
+     * Exchange of learnt clauses
+     */
+    private final ClauseSharing sharing;
+    /**
+     * Worker ID of the observed model in {@link #sharing}
+     */
+    private final int worker;
+    /**
+     * Reading cursors in {@link #sharing}
+     */
+    private final long[] cursors;
+    /**
+     * The store to import the clauses in
+     */
+    private final ClauseStore store;
+    /**
+     * Integer variables of the observed model, by ID
+     */
+    private final TIntObjectHashMap<IntVar> vars;
+
+    /**
+     * Import clauses from <i>sharing</i> into <i>model</i> on each restart.
+     * @param model   model to observe, with signed clauses learning enabled
+     * @param sharing exchange of learnt clauses
+     * @param worker  ID of <i>model</i> in <i>sharing</i>
+     */
+    public SharedClausesOnRestarts(Model model, ClauseSharing sharing, int worker) {
+        this.sharing = sharing;
+        this.worker = worker;
+        this.cursors = sharing.makeCursors();
+        this.store = model.getClauseConstraint().getClauseStore();
+        IntVar[] ivars = model.retrieveIntVars(true);
+        this.vars = new TIntObjectHashMap<>(ivars.length);
+        for (IntVar v : ivars) {
+            vars.put(v.getId(), v);
+        }
+    }
+
+    @Override
+    public void beforeRestart() {
+        sharing.forEachNew(worker, cursors, sc -> {
+            IntVar[] cvars = new IntVar[sc.size()];
+            IntIterableRangeSet[] ranges = new IntIterableRangeSet[sc.size()];
+            for (int i = 0; i < sc.size(); i++) {
+                cvars[i] = vars.get(sc.getId(i));
+                if (cvars[i] == null) {
+                    return;
+                }
+                ranges[i] = new IntIterableRangeSet();
+                ranges[i].copyFrom(sc.getRange(i));
+            }
+            store.importClause(cvars, ranges, sc.getLBD());
+        });
+    }
+}
@@ -90,6 +90,27 @@ public interface IMoveFactory extends ISelf<Solver> {
         ref().setMove(new MoveRestart(ref().getMove(), restartStrategy, restartCriterion, restartsLimit));
     }
 
+    /**
+     * Creates a Move object that encapsulates the current move within a restart move.
+     * Every time the <code>restartCriterion</code> is met, a restart is done, the new restart limit is updated
+     * thanks to <code>restartStrategy</code>.
+     * There will be at most <code>restartsLimit</code> restarts.
+     * When <code>reuseTrail</code> is set to <tt>true</tt>, a restart does not go back to the root node but keeps
+     * the prefix of the decision path made of first branches (see {@link Solver#restart(boolean)}).
+     * This is relevant when the search strategy takes the same decisions again,
+     * e.g., with a static variable selection combined with
+     * {@link org.chocosolver.solver.search.strategy.selectors.values.IntDomainPhase}.
+     *
+     * @param restartCriterion the restart criterion, that is, the condition which triggers a restart
+     * @param restartStrategy  the way restart limit (evaluated in <code>restartCriterion</code>) is updated, that is, computes the next limit
+     * @param restartsLimit    number of allowed restarts
+     * @param reuseTrail       set to <tt>true</tt> to keep the trail prefix on restarts
+     */
+    default void setRestarts(LongCriterion restartCriterion, ICutoffStrategy restartStrategy, int restartsLimit,
+                             boolean reuseTrail) {
+        ref().setMove(new MoveRestart(ref().getMove(), restartStrategy, restartCriterion, restartsLimit, reuseTrail));
+    }
+
     /**
      * Branch a luby restart strategy to the model
      *
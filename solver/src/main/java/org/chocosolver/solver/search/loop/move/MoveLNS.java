@@ -28,6 +28,7 @@ import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableSetUti
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This {@link Move}'s implementation defines a Large Neighborhood Search.
@@ -71,6 +72,11 @@ public class MoveLNS implements Move {
 
     private boolean canApplyNeighborhood;
 
+    /**
+     * Solution given by {@link #offerSolution(Solution)}, to be loaded on next move
+     */
+    private final AtomicReference<Solution> offered = new AtomicReference<>();
+
     /**
      * Create a move which defines a Large Neighborhood Search.
      * @param move how the subtree is explored
@@ -119,6 +125,9 @@ public class MoveLNS implements Move {
      * <li>
      * a restart criterion is met
      * </li>
+     * <li>
+     * or a solution has been offered (see {@link #offerSolution(Solution)})
+     * </li>
      * </ul>
      *
      * @param solver SearchLoop
@@ -127,8 +136,12 @@ public class MoveLNS implements Move {
     @Override
     public boolean extend(Solver solver) {
         boolean extend;
+        // a solution has been offered, the search restarts from it
+        if (adopt(solver)) {
+            extend = true;
+        }
         // when a new fragment is needed (condition: at least one solution has been found)
-        if (solutions > 0 || solutionLoaded) {
+        else if (solutions > 0 || solutionLoaded) {
             if (freshRestart) {
                 assert solver.getDecisionPath().size() == 1;
                 assert solver.getDecisionPath().getDecision(0) == RootDecision.ROOT;
@@ -188,6 +201,9 @@ public class MoveLNS implements Move {
      * <li>
      * or the fast restart criterion is met
      * </li>
+     * <li>
+     * or a solution has been offered (see {@link #offerSolution(Solution)})
+     * </li>
      * </ul>
      *
      * @param solver SearchLoop
@@ -209,6 +225,10 @@ public class MoveLNS implements Move {
                 neighbor.recordSolution();
                 doRestart(solver);
             }
+            // a solution has been offered, the search restarts from it
+            else if (adopt(solver)) {
+                repair = true;
+            }
             // when posting the cut directly at root node fails
             else if (freshRestart) {
                 repair = false;
@@ -228,7 +248,7 @@ public class MoveLNS implements Move {
                 doRestart(solver);
             }
         }else{
-            repair = move.repair(solver);
+            repair = adopt(solver) || move.repair(solver);
         }
         return repair;
     }
@@ -242,13 +262,39 @@ public class MoveLNS implements Move {
     public void loadFromSolution(Solution solution, Solver solver){
         neighbor.loadFromSolution(solution);
         solutionLoaded = true;
-        if(solutions == 0){
+        if(solutions == 0 && !solver.isSolving()){
             freshRestart = true;
         }else{
             doRestart(solver);
         }
     }
 
+    /**
+     * Give a solution to restart from on the next move of the search loop,
+     * as if it was loaded with {@link #loadFromSolution(Solution, Solver)}.
+     * Unlike the latter, this method can be called while solving, from any thread,
+     * for instance to share an improving solution found by a concurrent search.
+     * A solution offered and not loaded yet is replaced by <i>solution</i>.
+     * @param solution a solution to restart from, its variables are matched by their ID
+     */
+    public void offerSolution(Solution solution){
+        offered.set(solution);
+    }
+
+    /**
+     * Load the last solution offered, if any
+     * @param solver SearchLoop
+     * @return <tt>true</tt> if a solution has been loaded, then the search has been restarted
+     */
+    private boolean adopt(Solver solver){
+        Solution solution = offered.getAndSet(null);
+        if(solution != null){
+            loadFromSolution(solution, solver);
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public void setTopDecisionPosition(int position) {
         move.setTopDecisionPosition(position);
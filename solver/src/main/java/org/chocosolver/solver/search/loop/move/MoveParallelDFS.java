@@ -0,0 +1,605 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop.move;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.monitors.IMonitorClose;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.search.strategy.strategy.AbstractStrategy;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.criteria.Criterion;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A move dedicated to run a Depth First Search with binary decisions, in parallel with other workers
+ * sharing the same {@link Team}.
+ * <p>
+ * Each worker solves its own copy of a model (see {@link Model#copy()}) and publishes the decisions of
+ * its current branch.
+ * The first worker to join the team explores the search tree from the root node.
+ * A worker with nothing to explore steals the shallowest unexplored right branch of another worker:
+ * the owner will no longer refute that decision and the thief replays the branch
+ * (a prefix of the owner's decision path, the last decision being refuted) before going on with its own strategy.
+ * The search of a worker ends when all the workers are idle, that is, when the whole tree has been explored.
+ * This preserves completeness when enumerating solutions or proving optimality,
+ * in the latter case, workers are expected to share their incumbent
+ * (see {@link org.chocosolver.solver.objective.IObjectiveManager#shareIncumbent}).
+ * <p>
+ * Only integer decisions based on the operators of {@link DecisionOperatorFactory} can be stolen,
+ * a branch below any other decision stays local.
+ * This move cannot be combined with restarts and a team is meant to serve only one resolution.
+ * <p>
+ * Example of use, each model being solved in its own thread:
+ * <pre>
+ * <code>MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+ * for (Model m : models) {
+ *     m.getSolver().setMove(new MoveParallelDFS(m, m.getSolver().getSearch(), team));
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class MoveParallelDFS extends MoveBinaryDFS {
+
+    /**
+     * Decision operators which can be shared among workers, a published decision refers to its index.
+     */
+    private static final DecisionOperator<?>[] OPERATORS = {
+            DecisionOperatorFactory.makeIntEq(),
+            DecisionOperatorFactory.makeIntNeq(),
+            DecisionOperatorFactory.makeIntSplit(),
+            DecisionOperatorFactory.makeIntReverseSplit()
+    };
+
+    /**
+     * State of a published decision which cannot be stolen: already refuted, not refutable or not shareable.
+     */
+    private static final byte CLOSED = 0;
+
+    /**
+     * State of a published decision whose right branch is still to explore.
+     */
+    private static final byte OPEN = 1;
+
+    /**
+     * State of a published decision whose right branch has been stolen.
+     */
+    private static final byte STOLEN = 2;
+
+    /**
+     * State of a published decision which cannot be replayed by another worker.
+     */
+    private static final byte OPAQUE = 3;
+
+    /**
+     * The model this move explores.
+     */
+    private final Model model;
+
+    /**
+     * The team this move belongs to.
+     */
+    private final Team team;
+
+    /**
+     * Index of this worker in the team, 0 is the one starting from the root node.
+     */
+    private final int worker;
+
+    /**
+     * Position of the variables in {@link Model#getVars()}, to share decisions by position.
+     */
+    private IdentityHashMap<Variable, Integer> positions;
+
+    /**
+     * Published decisions: position of the variable, index of the operator, value and branch (1 or 2).
+     * The i<sup>th</sup> quadruplet is the i<sup>th</sup> decision below {@link #topDecisionPosition}.
+     * Guarded by <i>this</i>.
+     */
+    private int[] published;
+
+    /**
+     * State of each published decision.
+     * Guarded by <i>this</i>.
+     */
+    private byte[] states;
+
+    /**
+     * Number of published decisions.
+     * Guarded by <i>this</i>.
+     */
+    private int size;
+
+    /**
+     * Branch to replay, as quadruplets (see {@link #published})
+     */
+    private int[] replay;
+
+    /**
+     * Index of the next quadruplet to replay.
+     */
+    private int current;
+
+    /**
+     * Set to <i>true</i> when this worker has a branch to explore, and is thus counted in {@link Team#busy}.
+     */
+    private boolean owner;
+
+    /**
+     * Create a move dedicated to run a Depth First Search in parallel with the other members of <i>team</i>.
+     *
+     * @param model    the model to explore, should be a copy of the other workers' ones
+     * @param strategy a search strategy
+     * @param team     the team to join
+     */
+    public MoveParallelDFS(Model model, AbstractStrategy strategy, Team team) {
+        super(strategy);
+        this.model = model;
+        this.team = team;
+        this.published = new int[64];
+        this.states = new byte[16];
+        this.replay = new int[0];
+        this.worker = team.join(this);
+        this.owner = worker == 0;
+        model.getSolver().plugMonitor(new Closer());
+    }
+
+    @Override
+    public boolean init() {
+        boolean init = super.init();
+        Variable[] vars = model.getVars();
+        positions = new IdentityHashMap<>(vars.length);
+        for (int i = 0; i < vars.length; i++) {
+            positions.put(vars[i], i);
+        }
+        synchronized (this) {
+            size = 0;
+        }
+        replay = new int[0];
+        current = 0;
+        Solver solver = model.getSolver();
+        solver.addStopCriterion(team);
+        if (init && worker > 0) {
+            // only the first worker starts from the root node, the other ones wait for a branch
+            init = acquire(solver);
+        }
+        return init;
+    }
+
+    @Override
+    public boolean extend(Solver solver) {
+        if (current < replay.length) {
+            IntVar var = (IntVar) model.getVar(replay[current]);
+            //noinspection unchecked
+            IntDecision d = solver.getDecisionPath().makeIntDecision(var,
+                    (DecisionOperator<IntVar>) OPERATORS[replay[current + 1]], replay[current + 2]);
+            if (replay[current + 3] == 2) {
+                // the next call to buildNext() will select the right branch, then the decision cannot be refuted
+                d.buildNext();
+            } else {
+                d.setRefutable(false);
+            }
+            solver.getDecisionPath().pushDecision(d);
+            solver.getEnvironment().worldPush();
+            publish(d, false, replay[current + 3]);
+            current += 4;
+            return true;
+        }
+        boolean extended = super.extend(solver);
+        if (extended) {
+            publish(solver.getDecisionPath().getLastDecision(), true, 1);
+        }
+        return extended;
+    }
+
+    @Override
+    public boolean repair(Solver solver) {
+        if (super.repair(solver)) {
+            return true;
+        }
+        // the branch is fully explored, try to get a new one
+        release();
+        if (acquire(solver)) {
+            solver.getEnvironment().worldPush();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean rewind(Solver solver) {
+        boolean repaired = false;
+        Decision head = solver.getDecisionPath().getLastDecision();
+        while (!repaired && head.getPosition() != topDecisionPosition) {
+            solver.setJumpTo(solver.getJumpTo() - 1);
+            if (solver.getJumpTo() <= 0 && head.hasNext() && refute()) {
+                solver.getEnvironment().worldPush();
+                repaired = true;
+            } else {
+                prevDecision(solver);
+            }
+            head = solver.getDecisionPath().getLastDecision();
+        }
+        return repaired;
+    }
+
+    @Override
+    protected void prevDecision(Solver solver) {
+        synchronized (this) {
+            size--;
+        }
+        super.prevDecision(solver);
+    }
+
+    /**
+     * @return index of this worker in its team
+     */
+    public int getWorker() {
+        return worker;
+    }
+
+    /**
+     * Publish a decision just pushed in the decision path.
+     *
+     * @param decision  the decision
+     * @param stealable set to <i>true</i> if its right branch can be given to another worker
+     * @param branch    1 if the decision is applied, 2 if it is refuted
+     */
+    private void publish(Decision decision, boolean stealable, int branch) {
+        int var = -1, op = -1, value = 0;
+        if (decision instanceof IntDecision) {
+            IntDecision d = (IntDecision) decision;
+            Integer p = positions.get(d.getDecisionVariable());
+            var = p == null ? -1 : p;
+            op = Arrays.asList(OPERATORS).indexOf(d.getDecOp());
+            value = d.getDecisionValue();
+        }
+        byte state;
+        if (var < 0 || op < 0) {
+            state = OPAQUE;
+        } else if (stealable && decision.triesLeft() == 2) {
+            state = OPEN;
+        } else {
+            state = CLOSED;
+        }
+        synchronized (this) {
+            if (size == states.length) {
+                states = Arrays.copyOf(states, size * 2);
+                published = Arrays.copyOf(published, size * 8);
+            }
+            int i = size * 4;
+            published[i] = var;
+            published[i + 1] = op;
+            published[i + 2] = value;
+            published[i + 3] = branch;
+            states[size++] = state;
+        }
+        if (state == OPEN) {
+            team.offered();
+        }
+    }
+
+    /**
+     * Claim the right branch of the last published decision, unless it has been stolen.
+     *
+     * @return <i>true</i> if the last decision can be refuted by this worker
+     */
+    private synchronized boolean refute() {
+        int last = size - 1;
+        if (states[last] == STOLEN) {
+            return false;
+        }
+        published[last * 4 + 3] = 2;
+        if (states[last] == OPEN) {
+            states[last] = CLOSED;
+        }
+        return true;
+    }
+
+    /**
+     * Steal the shallowest open right branch of this worker.
+     * This is called by another worker and, on success, the thief is counted as busy
+     * before this worker can be idle.
+     *
+     * @return the branch to replay, or <i>null</i> if there is none
+     */
+    private synchronized int[] giveAway() {
+        for (int i = 0; i < size && states[i] != OPAQUE; i++) {
+            if (states[i] == OPEN) {
+                states[i] = STOLEN;
+                int[] branch = Arrays.copyOf(published, (i + 1) * 4);
+                branch[i * 4 + 3] = 2;
+                team.busy.incrementAndGet();
+                return branch;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wait for a branch to explore, stolen from another worker.
+     *
+     * @param solver reference to the solver
+     * @return <i>true</i> if a branch is to replay, <i>false</i> if the search is over or stopped
+     */
+    private boolean acquire(Solver solver) {
+        team.idle.incrementAndGet();
+        try {
+            while (true) {
+                // read before looking for a branch, so that no event is missed while waiting
+                long seen = team.events();
+                int[] branch = team.steal(worker);
+                if (branch != null) {
+                    replay = branch;
+                    current = 0;
+                    owner = true;
+                    return true;
+                }
+                if (team.busy.get() == 0) {
+                    // nobody is working: the whole tree has been explored
+                    return false;
+                }
+                if (solver.isStopCriterionMet()) {
+                    solver.getMeasures().setSearchState(SearchState.STOPPED);
+                    return false;
+                }
+                if (!team.await(seen)) {
+                    solver.getMeasures().setSearchState(SearchState.KILLED);
+                    return false;
+                }
+            }
+        } finally {
+            team.idle.decrementAndGet();
+        }
+    }
+
+    /**
+     * Count this worker out of the busy ones, if it was counted in.
+     */
+    private void release() {
+        if (owner) {
+            owner = false;
+            team.release();
+        }
+    }
+
+    /**
+     * Count the worker out when its search ends without exploring its branch till the end,
+     * that is, when the root node is inconsistent or when the search is stopped or killed.
+     */
+    private final class Closer implements IMonitorSolution, IMonitorClose {
+
+        /**
+         * Set to <i>true</i> when the search ends on a solution, the branch is then to be explored further.
+         */
+        private boolean solution;
+
+        @Override
+        public void onSolution() {
+            solution = true;
+        }
+
+        @Override
+        public void beforeClose() {
+            SearchState state = model.getSolver().getSearchState();
+            if (state == SearchState.STOPPED || state == SearchState.KILLED) {
+                // idle workers would wait for the branches of this one forever
+                team.cancel();
+                release();
+            } else if (!solution) {
+                release();
+            }
+            solution = false;
+        }
+    }
+
+    /**
+     * <p>
+     * A set of workers running {@link MoveParallelDFS} on copies of the same model.
+     * </p>
+     * <p>
+     * It is also a stop criterion, met once {@link #cancel()} has been called, or when the search of a worker
+     * has been stopped or killed.
+     * </p>
+     * <p>
+     * Idle workers block until a branch is offered, the search is over or the team is cancelled,
+     * and wake up periodically to check their own stop criteria.
+     * </p>
+     */
+    public static final class Team implements Criterion {
+
+        /**
+         * The workers, in order of arrival.
+         */
+        private final List<MoveParallelDFS> members = new CopyOnWriteArrayList<>();
+
+        /**
+         * Delay, in milliseconds, after which an idle worker checks its stop criteria.
+         */
+        private static final long POLL = 10;
+
+        /**
+         * Number of workers with a branch to explore, the first worker owns the root node.
+         */
+        private final AtomicInteger busy = new AtomicInteger(1);
+
+        /**
+         * Number of workers waiting for a branch.
+         */
+        private final AtomicInteger idle = new AtomicInteger();
+
+        /**
+         * Guards {@link #events}.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * Signalled on each event an idle worker waits for.
+         */
+        private final Condition changed = lock.newCondition();
+
+        /**
+         * Number of events idle workers have been signalled so far: open branch, end of search or cancellation.
+         * Guarded by {@link #lock}.
+         */
+        private long events;
+
+        /**
+         * Number of branches stolen.
+         */
+        private final AtomicLong steals = new AtomicLong();
+
+        /**
+         * Set to <i>true</i> when the workers have to stop.
+         */
+        private volatile boolean cancelled;
+
+        private int join(MoveParallelDFS move) {
+            synchronized (members) {
+                members.add(move);
+                return members.size() - 1;
+            }
+        }
+
+        /**
+         * @param thief index of the worker looking for a branch
+         * @return the shallowest open right branch of a worker, or <i>null</i> if there is none
+         */
+        private int[] steal(int thief) {
+            int n = members.size();
+            for (int i = 1; i < n; i++) {
+                int[] branch = members.get((thief + i) % n).giveAway();
+                if (branch != null) {
+                    steals.incrementAndGet();
+                    return branch;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Count a worker out of the busy ones, and wake the idle ones up if none is left.
+         */
+        private void release() {
+            if (busy.decrementAndGet() == 0) {
+                signal();
+            }
+        }
+
+        /**
+         * Wake the idle workers up, if any, once a branch can be stolen.
+         */
+        private void offered() {
+            if (idle.get() > 0) {
+                signal();
+            }
+        }
+
+        private void signal() {
+            lock.lock();
+            try {
+                events++;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return number of events signalled so far
+         */
+        private long events() {
+            lock.lock();
+            try {
+                return events;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Block until an event occurs after the <i>seen</i><sup>th</sup> one, or until {@link #POLL} ms elapse.
+         *
+         * @param seen number of events already seen by the caller
+         * @return <i>false</i> if the calling thread has been interrupted
+         */
+        private boolean await(long seen) {
+            lock.lock();
+            try {
+                if (events == seen) {
+                    //noinspection ResultOfMethodCallIgnored
+                    changed.await(POLL, TimeUnit.MILLISECONDS);
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stop all the workers, for instance when one solution is enough.
+         */
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        /**
+         * @return <i>true</i> if the workers have to stop
+         */
+        @Override
+        public boolean isMet() {
+            return cancelled;
+        }
+
+        /**
+         * @return <i>true</i> if all the workers are idle and the team has not been cancelled,
+         * that is, the search tree has been explored
+         */
+        public boolean isTerminated() {
+            return busy.get() == 0 && !cancelled;
+        }
+
+        /**
+         * @return number of workers that joined this team
+         */
+        public int getNbWorkers() {
+            return members.size();
+        }
+
+        /**
+         * @return number of branches a worker took from another worker
+         */
+        public long getStealCount() {
+            return steals.get();
+        }
+    }
+}
@@ -54,6 +54,10 @@ public class MoveRestart implements Move {
      * When the next restart should be triggered
      */
     private long limit;
+    /**
+     * Set to <tt>true</tt> to keep the trail prefix on restarts
+     */
+    private final boolean reuseTrail;
 
     /**
      * @param move            the default {@link Move} to execute when no restart has to be done
@@ -62,10 +66,24 @@ public class MoveRestart implements Move {
      * @param restartLimit    restrict the total number of restart
      */
     public MoveRestart(Move move, ICutoffStrategy restartStrategy, LongCriterion criterion, int restartLimit) {
+        this(move, restartStrategy, criterion, restartLimit, false);
+    }
+
+    /**
+     * @param move            the default {@link Move} to execute when no restart has to be done
+     * @param restartStrategy defines when restarts happen
+     * @param criterion       defines how to trigger a restart
+     * @param restartLimit    restrict the total number of restart
+     * @param reuseTrail      set to <tt>true</tt> to keep, on restarts, the prefix of the decision path
+     *                        made of first branches (see {@link Solver#restart(boolean)})
+     */
+    public MoveRestart(Move move, ICutoffStrategy restartStrategy, LongCriterion criterion, int restartLimit,
+                       boolean reuseTrail) {
         this.move = move;
         this.restartStrategy = restartStrategy;
         this.criterion = criterion;
         this.restartLimit = restartLimit;
+        this.reuseTrail = reuseTrail;
     }
 
     @Override
@@ -132,7 +150,7 @@ public class MoveRestart implements Move {
             limit += restartStrategy.getNextCutoff();
         }
         // then do the restart
-        solver.restart();
+        solver.restart(reuseTrail);
     }
 
     @Override
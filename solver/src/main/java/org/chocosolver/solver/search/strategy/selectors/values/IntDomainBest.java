@@ -11,6 +11,7 @@ package org.chocosolver.solver.search.strategy.selectors.values;
 
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.ResolutionPolicy;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
@@ -115,4 +116,9 @@ public final class IntDomainBest implements IntValueSelector {
         model.getEnvironment().worldPop();
         return cost;
     }
+
+    @Override
+    public IntDomainBest duplicate(ModelCloner cloner) {
+        return new IntDomainBest(maxdom, dop);
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.strategy.selectors.values;
 
 import java.util.function.BiPredicate;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.variables.IntVar;
 
@@ -74,5 +75,20 @@ public final class IntDomainLast implements IntValueSelector {
                 (var.getLB() == value || var.getUB() == value))
         );
     }
+
+    /**
+     * {@inheritDoc}
+     * The copy of the last solution is attached to the solver of the copy, the condition is shared.
+     */
+    @Override
+    public IntDomainLast duplicate(ModelCloner cloner) {
+        if (cloner.get(lastSolution) == null) {
+            cloner.getModel().getSolver().attach(cloner.copyOf(lastSolution));
+        }
+        Solution solution = cloner.copyOf(lastSolution);
+        IntDomainLast copy = new IntDomainLast(solution, mainSelector.duplicate(cloner), null);
+        copy.condition = condition;
+        return copy;
+    }
 }
 
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -28,4 +29,8 @@ public final class IntDomainMax implements IntValueSelector {
         return var.getUB();
     }
 
+    @Override
+    public IntDomainMax duplicate(ModelCloner cloner) {
+        return new IntDomainMax();
+    }
 }
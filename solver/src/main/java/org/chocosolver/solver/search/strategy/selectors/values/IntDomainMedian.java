@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -39,4 +40,9 @@ public class IntDomainMedian implements IntValueSelector {
 		}
 		return median;
     }
+
+    @Override
+    public IntDomainMedian duplicate(ModelCloner cloner) {
+        return new IntDomainMedian();
+    }
 }
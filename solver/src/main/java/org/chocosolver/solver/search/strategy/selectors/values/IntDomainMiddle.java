@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 import java.util.function.ToDoubleFunction;
@@ -81,4 +82,9 @@ public class IntDomainMiddle implements IntValueSelector {
         }
         return value;
     }
+
+    @Override
+    public IntDomainMiddle duplicate(ModelCloner cloner) {
+        return new IntDomainMiddle(middle, roundingPolicy);
+    }
 }
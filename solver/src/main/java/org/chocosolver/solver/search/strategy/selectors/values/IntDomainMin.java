@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -25,4 +26,8 @@ public final class IntDomainMin implements IntValueSelector {
         return var.getLB();
     }
 
+    @Override
+    public IntDomainMin duplicate(ModelCloner cloner) {
+        return new IntDomainMin();
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import gnu.trove.map.hash.TIntIntHashMap;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
+import org.chocosolver.solver.search.loop.monitors.IMonitorSolution;
+import org.chocosolver.solver.variables.IntVar;
+
+import java.util.BitSet;
+
+/**
+ * Value selector with phase saving: branches on the value a variable was last instantiated to, if still in domain.
+ * <p>
+ * Values are saved on each solution (solution saving) and, optionally, right before each restart
+ * (restart-aware phase saving): the partial assignment reached before restarting is then tried first,
+ * which makes the search restarted from the root node take the same decisions again as long as the variable
+ * selection does not change (see {@link org.chocosolver.solver.Solver#restart(boolean)}).
+ * When no value is saved for a variable, or when the saved value is not relevant anymore,
+ * the selection is delegated to a default value selector.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public final class IntDomainPhase implements IntValueSelector, IMonitorSolution, IMonitorRestart {
+
+    /**
+     * Variables whose values are saved
+     */
+    private final IntVar[] vars;
+    /**
+     * Position of a variable in {@link #vars}, by id
+     */
+    private final TIntIntHashMap positions;
+    /**
+     * Saved values, <i>phases[i]</i> is attached to <i>vars[i]</i>
+     */
+    private final int[] phases;
+    /**
+     * Set bits indicate that a value is saved
+     */
+    private final BitSet saved;
+    /**
+     * The default value selector
+     */
+    private final IntValueSelector mainSelector;
+    /**
+     * Set to <tt>true</tt> to save values on restarts too
+     */
+    private final boolean onRestarts;
+
+    /**
+     * Create a value selector that returns the value a variable was last instantiated to, on a solution or,
+     * when <i>onRestarts</i> is set to <tt>true</tt>, right before a restart.
+     * The selector is plugged as a search monitor of the solver of <i>model</i>.
+     *
+     * @param model        the model to observe
+     * @param vars         variables whose values are saved
+     * @param mainSelector falling back selector
+     * @param onRestarts   set to <tt>true</tt> to save values on restarts, and not only on solutions
+     */
+    public IntDomainPhase(Model model, IntVar[] vars, IntValueSelector mainSelector, boolean onRestarts) {
+        this.vars = vars.clone();
+        this.positions = new TIntIntHashMap(vars.length, .5f, -1, -1);
+        for (int i = 0; i < vars.length; i++) {
+            positions.put(vars[i].getId(), i);
+        }
+        this.phases = new int[vars.length];
+        this.saved = new BitSet(vars.length);
+        this.mainSelector = mainSelector;
+        this.onRestarts = onRestarts;
+        model.getSolver().plugMonitor(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int selectValue(IntVar var) {
+        int i = positions.get(var.getId());
+        if (i > -1 && saved.get(i) && relevant(var, phases[i])) {
+            return phases[i];
+        }
+        return mainSelector.selectValue(var);
+    }
+
+    @Override
+    public void onSolution() {
+        save();
+    }
+
+    @Override
+    public void beforeRestart() {
+        if (onRestarts) {
+            save();
+        }
+    }
+
+    /**
+     * @param var a variable
+     * @return the value saved for <i>var</i>
+     * @throws IllegalStateException if no value is saved for <i>var</i>
+     */
+    public int getPhase(IntVar var) {
+        int i = positions.get(var.getId());
+        if (i == -1 || !saved.get(i)) {
+            throw new IllegalStateException("No value saved for " + var.getName());
+        }
+        return phases[i];
+    }
+
+    /**
+     * Save the value of each instantiated variable
+     */
+    private void save() {
+        for (int i = 0; i < vars.length; i++) {
+            if (vars[i].isInstantiated()) {
+                phases[i] = vars[i].getValue();
+                saved.set(i);
+            }
+        }
+    }
+
+    private static boolean relevant(IntVar var, int value) {
+        return (var.hasEnumeratedDomain() && var.contains(value))
+                || (!var.hasEnumeratedDomain() && (var.getLB() == value || var.getUB() == value));
+    }
+}
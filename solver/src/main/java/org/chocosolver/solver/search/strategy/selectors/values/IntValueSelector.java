@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 
 
@@ -31,4 +33,14 @@ public interface IntValueSelector  {
      */
     int selectValue(IntVar var);
 
+    /**
+     * Create a copy of this value selector, to be used in the copy of the model built by <i>cloner</i>.
+     *
+     * @param cloner the cloner of the model this selector is declared on
+     * @return a copy of this, in the initial state
+     * @throws SolverException if this value selector does not support copying
+     */
+    default IntValueSelector duplicate(ModelCloner cloner) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copying");
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.RealVar;
 
@@ -33,4 +34,9 @@ public class RealDomainMiddle implements RealValueSelector {
         }
         return r;
     }
+
+    @Override
+    public RealDomainMiddle duplicate(ModelCloner cloner) {
+        return new RealDomainMiddle();
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.values;
 
+import org.chocosolver.solver.ModelCloner;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.SetVar;
 
 /**
@@ -26,4 +28,14 @@ public interface SetValueSelector {
 	 */
 	int selectValue(SetVar v);
 
+	/**
+	 * Create a copy of this value selector, to be used in the copy of the model built by <i>cloner</i>.
+	 *
+	 * @param cloner the cloner of the model this selector is declared on
+	 * @return a copy of this, in the initial state
+	 * @throws SolverException if this value selector does not support copying
+	 */
+	default SetValueSelector duplicate(ModelCloner cloner) {
+		throw new SolverException(getClass().getSimpleName() + " does not support copying");
+	}
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -59,4 +60,9 @@ public class AntiFirstFail implements VariableSelector<IntVar>,VariableEvaluator
     public double evaluate(IntVar variable) {
         return -variable.getDomainSize();
     }
+
+    @Override
+    public AntiFirstFail duplicate(ModelCloner cloner) {
+        return new AntiFirstFail(cloner.getModel());
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.Variable;
 
 /**
@@ -39,4 +40,9 @@ public class Cyclic <V extends Variable> implements VariableSelector<V> {
         current = n;
         return vars[current].isInstantiated() ? null : vars[current];
     }
+
+    @Override
+    public Cyclic<V> duplicate(ModelCloner cloner) {
+        return new Cyclic<>();
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.search.strategy.selectors.variables;
 
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -64,4 +65,9 @@ public class FirstFail implements VariableSelector<IntVar>, VariableEvaluator<In
     public double evaluate(IntVar variable) {
         return variable.getDomainSize();
     }
+
+    @Override
+    public FirstFail duplicate(ModelCloner cloner) {
+        return new FirstFail(cloner.getModel());
+    }
 }
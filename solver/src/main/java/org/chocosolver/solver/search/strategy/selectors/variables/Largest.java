@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -41,4 +42,9 @@ public class Largest implements VariableSelector<IntVar>,VariableEvaluator<IntVa
     public double evaluate(IntVar variable) {
         return -variable.getUB();
     }
+
+    @Override
+    public Largest duplicate(ModelCloner cloner) {
+        return new Largest();
+    }
 }
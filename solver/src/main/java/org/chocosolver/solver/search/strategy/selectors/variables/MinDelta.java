@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.SetVar;
 
 /**
@@ -40,4 +41,9 @@ public class MinDelta implements VariableSelector<SetVar>,VariableEvaluator<SetV
     public double evaluate(SetVar variable) {
         return variable.getUB().size() - variable.getLB().size();
     }
+
+    @Override
+    public MinDelta duplicate(ModelCloner cloner) {
+        return new MinDelta();
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.objects.IntList;
 
@@ -33,6 +34,11 @@ public class Random<T extends Variable> implements VariableSelector<T>, Variable
      */
     private java.util.Random random;
 
+    /**
+     * Seed of {@link #random}
+     */
+    private final long seed;
+
     /**
      * Random variable selector
      * @param seed seed for random number generator.
@@ -40,6 +46,7 @@ public class Random<T extends Variable> implements VariableSelector<T>, Variable
     public Random(long seed) {
         sets = new IntList();
         random = new java.util.Random(seed);
+        this.seed = seed;
     }
 
 
@@ -61,4 +68,9 @@ public class Random<T extends Variable> implements VariableSelector<T>, Variable
     public double evaluate(T variable) {
         return random.nextDouble();
     }
+
+    @Override
+    public Random<T> duplicate(ModelCloner cloner) {
+        return new Random<>(seed);
+    }
 }
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.variables.IntVar;
 
 /**
@@ -40,4 +41,9 @@ public class Smallest implements VariableSelector<IntVar>, VariableEvaluator<Int
     public double evaluate(IntVar variable) {
         return variable.getLB();
     }
+
+    @Override
+    public Smallest duplicate(ModelCloner cloner) {
+        return new Smallest();
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.Variable;
 
 
@@ -32,4 +34,14 @@ public interface VariableSelector<V extends Variable>  {
      */
     V getVariable(V[] variables);
 
+    /**
+     * Create a copy of this variable selector, to be used in the copy of the model built by <i>cloner</i>.
+     *
+     * @param cloner the cloner of the model this selector is declared on
+     * @return a copy of this, in the initial state
+     * @throws SolverException if this variable selector does not support copying
+     */
+    default VariableSelector<V> duplicate(ModelCloner cloner) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copying");
+    }
 }
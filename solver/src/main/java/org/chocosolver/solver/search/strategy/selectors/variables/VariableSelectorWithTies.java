@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.selectors.variables;
 
+import org.chocosolver.solver.ModelCloner;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.Variable;
 
 import java.util.ArrayList;
@@ -73,4 +75,23 @@ public class VariableSelectorWithTies<V extends Variable> implements VariableSel
                 return oldv.get(0);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * The heuristics must be variable selectors too, the predicates are shared.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public VariableSelectorWithTies<V> duplicate(ModelCloner cloner) {
+        VariableEvaluator<V>[] copies = heuristics.clone();
+        for (int i = 0; i < heuristics.length; i++) {
+            if (!(heuristics[i] instanceof VariableSelector)) {
+                throw new SolverException(heuristics[i].getClass().getSimpleName() + " does not support copying");
+            }
+            copies[i] = (VariableEvaluator<V>) ((VariableSelector<V>) heuristics[i]).duplicate(cloner);
+        }
+        VariableSelectorWithTies<V> copy = new VariableSelectorWithTies<>(copies);
+        copy.predicate = predicate;
+        return copy;
+    }
 }
@@ -9,6 +9,8 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.ModelCloner;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.decision.IntDecision;
@@ -55,6 +57,20 @@ public abstract class AbstractStrategy<V extends Variable>  {
      */
     public abstract Decision<V> getDecision();
 
+    /**
+     * Create a copy of this strategy, over the copies of its variables, for the model built by <i>cloner</i>.
+     * The copy is created as if it were declared on the copy of the model, before the resolution starts.
+     * Strategies that support copying override this method.
+     *
+     * @param cloner the cloner in charge of the copy
+     * @return a copy of this strategy
+     * @throws SolverException if this strategy does not support copying
+     * @see ModelCloner
+     */
+    public AbstractStrategy<V> duplicate(ModelCloner cloner) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copying");
+    }
+
     /**
      * Creates a <code>String</code> object containing a pretty print of the current variables.
      *
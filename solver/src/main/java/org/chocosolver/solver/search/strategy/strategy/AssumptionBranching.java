@@ -0,0 +1,60 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.strategy;
+
+import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
+import org.chocosolver.solver.search.strategy.decision.Decision;
+import org.chocosolver.solver.search.strategy.decision.DecisionPath;
+import org.chocosolver.solver.search.strategy.decision.IntDecision;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+
+/**
+ * A strategy that sets assumption literals to <i>true</i>, in order, before any other decision.
+ * <p>
+ * Decisions are not refutable: when an assumption cannot be satisfied, the search does not try the opposite branch
+ * but backtracks, so that a search which ends without solution proves that there is no solution
+ * <b>under the assumptions</b>.
+ * An assumption already set to <i>true</i> is skipped, one already set to <i>false</i> leads to a failure.
+ * <p>
+ * To be declared first in a {@link StrategiesSequencer}.
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class AssumptionBranching extends AbstractStrategy<IntVar> {
+
+    /**
+     * Path of decisions, to build new ones
+     */
+    private final DecisionPath decisionPath;
+
+    /**
+     * Create a strategy that sets each of <i>assumptions</i> to <i>true</i>.
+     *
+     * @param assumptions assumption literals, not empty
+     */
+    public AssumptionBranching(BoolVar... assumptions) {
+        super(assumptions);
+        this.decisionPath = assumptions[0].getModel().getSolver().getDecisionPath();
+    }
+
+    @Override
+    public Decision<IntVar> getDecision() {
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiatedTo(1)) {
+                IntDecision d = decisionPath.makeIntDecision(vars[i], DecisionOperatorFactory.makeIntEq(), 1);
+                d.setRefutable(false);
+                return d;
+            }
+        }
+        return null;
+    }
+}
@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -97,4 +98,10 @@ public class IntStrategy extends AbstractStrategy<IntVar> {
         IntVar variable = variableSelector.getVariable(vars);
         return computeDecision(variable);
     }
+
+    @Override
+    public IntStrategy duplicate(ModelCloner cloner) {
+        return new IntStrategy(cloner.copyOf(vars), variableSelector.duplicate(cloner),
+                valueSelector.duplicate(cloner), decisionOperator);
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.search.strategy.strategy;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
@@ -167,4 +168,9 @@ public class LastConflict<V extends Variable> extends AbstractStrategy<V> implem
         }
         return null;
     }
+
+    @Override
+    public LastConflict<V> duplicate(ModelCloner cloner) {
+        return new LastConflict<>(cloner.getModel(), cloner.copyOf(mainStrategy), conflictingVariables.length);
+    }
 }
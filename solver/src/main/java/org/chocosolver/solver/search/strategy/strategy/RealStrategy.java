@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.search.strategy.selectors.values.RealValueSelector;
 import org.chocosolver.solver.search.strategy.selectors.variables.VariableSelector;
@@ -95,4 +96,10 @@ public class RealStrategy extends AbstractStrategy<RealVar> {
         RealVar variable = varselector.getVariable(vars);
         return computeDecision(variable);
     }
+
+    @Override
+    public RealStrategy duplicate(ModelCloner cloner) {
+        return new RealStrategy(cloner.copyOf(vars), varselector.duplicate(cloner),
+                valueIterator.duplicate(cloner), epsilon, leftFirst);
+    }
 }
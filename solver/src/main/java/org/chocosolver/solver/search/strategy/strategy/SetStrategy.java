@@ -9,6 +9,7 @@
  */
 package org.chocosolver.solver.search.strategy.strategy;
 
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperator;
 import org.chocosolver.solver.search.strategy.assignments.DecisionOperatorFactory;
 import org.chocosolver.solver.search.strategy.decision.Decision;
@@ -83,4 +84,12 @@ public class SetStrategy extends AbstractStrategy<SetVar> {
         assert !s.isInstantiated();
         return s.getModel().getSolver().getDecisionPath().makeSetDecision(s, operator, valSelector.selectValue(s));
     }
+
+    @Override
+    public SetStrategy duplicate(ModelCloner cloner) {
+        SetStrategy copy = new SetStrategy(cloner.copyOf(vars), varSelector.duplicate(cloner),
+                valSelector.duplicate(cloner), true);
+        copy.operator = operator;
+        return copy;
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.search.strategy.strategy;
 
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.search.strategy.decision.Decision;
 import org.chocosolver.solver.variables.Variable;
 import org.chocosolver.util.tools.ArrayUtils;
@@ -129,4 +130,16 @@ public class StrategiesSequencer<U extends Variable> extends AbstractStrategy<U>
         }
         return st.toString();
     }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public StrategiesSequencer<U> duplicate(ModelCloner cloner) {
+        AbstractStrategy<U>[] copies = strategies.clone();
+        for (int i = 0; i < strategies.length; i++) {
+            copies[i] = cloner.copyOf(strategies[i]);
+        }
+        return index == null ?
+                new StrategiesSequencer<>(copies) :
+                new StrategiesSequencer<>(cloner.getModel().getEnvironment(), copies);
+    }
 }
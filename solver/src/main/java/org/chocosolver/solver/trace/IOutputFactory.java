@@ -108,6 +108,16 @@ public interface IOutputFactory extends ISelf<Solver> {
         printVersion();
         printFeatures();
         getOut().println(ref().getMeasures().toString());
+        printPropagatorProfile();
+    }
+
+    /**
+     * Output the propagators profile, if {@link Solver#profilePropagators()} was called before.
+     */
+    default void printPropagatorProfile() {
+        if (ref().getPropagatorProfiler() != null) {
+            getOut().print(ref().getPropagatorProfiler().toString());
+        }
     }
 
     /**
@@ -149,6 +159,7 @@ public interface IOutputFactory extends ISelf<Solver> {
             @Override
             public void afterClose() {
                 getOut().println(ref().getMeasures().toString());
+                printPropagatorProfile();
             }
         });
     }
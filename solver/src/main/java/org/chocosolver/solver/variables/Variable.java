@@ -13,8 +13,10 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Identity;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Propagator;
 import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.delta.IDelta;
 import org.chocosolver.solver.variables.events.IEventType;
 import org.chocosolver.solver.variables.view.IView;
@@ -271,6 +273,19 @@ public interface Variable extends Identity, Comparable<Variable> {
      */
     Model getModel();
 
+    /**
+     * Create a copy of this variable, with its current domain, in the model built by <i>cloner</i>.
+     * The variables this variable depends on (e.g., the one a view observes) are copied through <i>cloner</i>.
+     *
+     * @param cloner the cloner in charge of the copy
+     * @return a copy of this variable
+     * @throws SolverException if this variable does not support copying
+     * @see ModelCloner
+     */
+    default Variable duplicate(ModelCloner cloner) {
+        throw new SolverException(getClass().getSimpleName() + " does not support copying");
+    }
+
     /**
      * @return the backtracking environment used for this variable
      */
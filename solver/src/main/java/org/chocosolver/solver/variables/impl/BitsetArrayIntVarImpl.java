@@ -15,6 +15,7 @@ import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.EnumDelta;
@@ -936,4 +937,14 @@ public final class BitsetArrayIntVarImpl extends AbstractVariable implements Int
         }
         return this.literal;
     }
+
+    @Override
+    public BitsetArrayIntVarImpl duplicate(ModelCloner cloner) {
+        int[] values = new int[getDomainSize()];
+        int k = 0;
+        for (int v = getLB(); v <= getUB(); v = nextValue(v)) {
+            values[k++] = v;
+        }
+        return new BitsetArrayIntVarImpl(name, values, cloner.getModel());
+    }
 }
@@ -14,6 +14,7 @@ import org.chocosolver.memory.IStateBitSet;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.EnumDelta;
@@ -858,4 +859,14 @@ public final class BitsetIntVarImpl extends AbstractVariable implements IntVar {
         }
         return this.literal;
     }
+
+    @Override
+    public BitsetIntVarImpl duplicate(ModelCloner cloner) {
+        int[] values = new int[getDomainSize()];
+        int k = 0;
+        for (int v = getLB(); v <= getUB(); v = nextValue(v)) {
+            values[k++] = v;
+        }
+        return new BitsetIntVarImpl(name, values, cloner.getModel());
+    }
 }
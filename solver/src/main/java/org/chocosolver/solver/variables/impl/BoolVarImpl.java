@@ -12,6 +12,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.memory.structure.IOperation;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.delta.IEnumDelta;
@@ -524,4 +525,12 @@ public class BoolVarImpl extends AbstractVariable implements BoolVar {
         }
         return this.literal;
     }
+
+    @Override
+    public BoolVarImpl duplicate(ModelCloner cloner) {
+        BoolVarImpl copy = new BoolVarImpl(name, cloner.getModel());
+        copy.mValue = mValue;
+        copy.isNot = isNot;
+        return copy;
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.solver.variables.Variable;
@@ -118,4 +119,8 @@ public class FixedBoolVarImpl extends FixedIntVarImpl implements BoolVar {
         return this.literal;
     }
 
+    @Override
+    public FixedBoolVarImpl duplicate(ModelCloner cloner) {
+        return new FixedBoolVarImpl(name, constante, cloner.getModel());
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IVariableMonitor;
 import org.chocosolver.solver.variables.IntVar;
@@ -433,4 +434,9 @@ public class FixedIntVarImpl extends AbstractVariable implements IntVar {
         }
         return this.literal;
     }
+
+    @Override
+    public FixedIntVarImpl duplicate(ModelCloner cloner) {
+        return new FixedIntVarImpl(name, constante, cloner.getModel());
+    }
 }
@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.impl;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
 import org.chocosolver.solver.variables.RealVar;
@@ -182,4 +183,9 @@ public class FixedRealVarImpl extends AbstractVariable implements RealVar {
     public void init() {
         // void
     }
+
+    @Override
+    public FixedRealVarImpl duplicate(ModelCloner cloner) {
+        return new FixedRealVarImpl(name, lb, ub, cloner.getModel());
+    }
 }
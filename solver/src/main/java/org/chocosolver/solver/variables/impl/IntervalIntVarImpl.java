@@ -13,6 +13,7 @@ import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.IStateInt;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -558,4 +559,9 @@ public final class IntervalIntVarImpl extends AbstractVariable implements IntVar
         }
         return this.literal;
     }
+
+    @Override
+    public IntervalIntVarImpl duplicate(ModelCloner cloner) {
+        return new IntervalIntVarImpl(name, getLB(), getUB(), cloner.getModel());
+    }
 }
@@ -12,6 +12,7 @@ package org.chocosolver.solver.variables.impl;
 import org.chocosolver.memory.IStateDouble;
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
@@ -213,4 +214,9 @@ public class RealVarImpl extends AbstractVariable implements RealVar {
     public void init() {
         // void
     }
+
+    @Override
+    public RealVarImpl duplicate(ModelCloner cloner) {
+        return new RealVarImpl(name, getLB(), getUB(), precision, cloner.getModel());
+    }
 }
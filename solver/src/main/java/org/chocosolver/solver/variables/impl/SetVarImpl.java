@@ -13,6 +13,7 @@ import gnu.trove.set.hash.TIntHashSet;
 
 import org.chocosolver.solver.ICause;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.constraints.ConstraintsName;
 import org.chocosolver.solver.constraints.set.PropCardinality;
@@ -281,4 +282,17 @@ public class SetVarImpl extends AbstractVariable implements SetVar {
         createDelta();
         return new SetDeltaMonitor(delta, propagator);
     }
+
+	@Override
+	public SetVarImpl duplicate(ModelCloner cloner) {
+		SetVarImpl copy;
+		if (lb == ub) {
+			// constant sets are read-only
+			copy = new SetVarImpl(name, lb, cloner.getModel());
+		} else {
+			copy = new SetVarImpl(name, lb.toArray(), lb.getSetType(), ub.toArray(), ub.getSetType(), cloner.getModel());
+		}
+		copy.cardinality = cloner.copyOf(cardinality);
+		return copy;
+	}
 }
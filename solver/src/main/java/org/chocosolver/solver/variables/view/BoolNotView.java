@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.BoolVar;
@@ -305,4 +306,9 @@ public final class BoolNotView extends IntView<BoolVar> implements BoolVar {
         }
         return this.literal;
     }
+
+    @Override
+    public BoolNotView duplicate(ModelCloner cloner) {
+        return new BoolNotView(cloner.copyOf(var));
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
@@ -226,4 +227,9 @@ public final class EqView extends IntBoolView {
             }
         }
     }
+
+    @Override
+    public EqView duplicate(ModelCloner cloner) {
+        return new EqView(cloner.copyOf(var), cste);
+    }
 }
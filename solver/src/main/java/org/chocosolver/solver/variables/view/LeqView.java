@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
@@ -224,5 +225,8 @@ public final class LeqView extends IntBoolView {
         }
     }
 
-
+    @Override
+    public LeqView duplicate(ModelCloner cloner) {
+        return new LeqView(cloner.copyOf(var), cste);
+    }
 }
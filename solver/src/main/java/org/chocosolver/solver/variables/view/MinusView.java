@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -328,4 +329,9 @@ public class MinusView extends IntView<IntVar> {
                 break;
         }
     }
+
+    @Override
+    public MinusView duplicate(ModelCloner cloner) {
+        return new MinusView(cloner.copyOf(var));
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
 import org.chocosolver.solver.variables.IntVar;
@@ -306,4 +307,9 @@ public final class OffsetView extends IntView<IntVar> {
             getVariable().intersectLit(set1, explanation);
         }
     }
+
+    @Override
+    public OffsetView duplicate(ModelCloner cloner) {
+        return new OffsetView(cloner.copyOf(var), cste);
+    }
 }
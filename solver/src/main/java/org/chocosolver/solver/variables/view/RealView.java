@@ -11,6 +11,7 @@ package org.chocosolver.solver.variables.view;
 
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.expression.continuous.arithmetic.CArExpression;
 import org.chocosolver.solver.learn.ExplanationForSignedClause;
@@ -216,4 +217,9 @@ public class RealView extends AbstractVariable implements IView, RealVar {
     public void init() {
         throw new UnsupportedOperationException("Consider using a constraint instead of a view. See: model.eq(RealVar, IntVar)");
     }
+
+    @Override
+    public RealView duplicate(ModelCloner cloner) {
+        return new RealView(cloner.copyOf(var), precision);
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.solver.variables.view;
 
 import org.chocosolver.solver.ICause;
+import org.chocosolver.solver.ModelCloner;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.delta.IIntDeltaMonitor;
@@ -302,4 +303,9 @@ public final class ScaleView extends IntView<IntVar> {
                 break;
         }
     }
+
+    @Override
+    public ScaleView duplicate(ModelCloner cloner) {
+        return new ScaleView(cloner.copyOf(var), cste);
+    }
 }
@@ -9,16 +9,17 @@
  */
 package org.chocosolver.util.objects;
 
-import gnu.trove.map.hash.TObjectIntHashMap;
+import org.chocosolver.solver.Identity;
 
-import java.util.Iterator;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Predicate;
 
 /**
  * A map which ensures key uniqueness and order over values.
+ * <p>
+ * It is backed by an indexed binary max-heap over values, where the position of a key in the heap
+ * is stored at its id. Once the internal arrays are large enough, no object is allocated.
  *
  * @param <E> key's type
  * @author Charles Prud'homme
@@ -26,20 +27,28 @@ import java.util.function.Predicate;
  * choco-solver.
  * @since 30/01/2017.
  */
-public class ValueSortedMap<E> {
+public class ValueSortedMap<E extends Identity> {
 
     /**
      * Default value for no entry
      */
     private static final int NO_ENTRY = -1;
     /**
-     * Set : values -> E
+     * Heap of keys
      */
-    TObjectIntHashMap<E> map;
+    private Object[] keys;
     /**
-     * Ordered set : values -> E
+     * Heap of values, <i>values[i]</i> is attached to <i>keys[i]</i>
      */
-    TreeMap<Integer, E> rmap;
+    private int[] values;
+    /**
+     * Position in the heap, per key id, or {@link #NO_ENTRY}
+     */
+    private int[] positions;
+    /**
+     * Number of entries
+     */
+    private int size;
 
     /**
      * Create a doubly-linked set E <-> value, where value is a int.
@@ -48,16 +57,21 @@ public class ValueSortedMap<E> {
      * In addition, values are sorted.
      */
     public ValueSortedMap() {
-        this.map = new TObjectIntHashMap<>(16, .5f, NO_ENTRY);
-        this.rmap = new TreeMap<>();
+        this.keys = new Object[16];
+        this.values = new int[16];
+        this.positions = new int[16];
+        Arrays.fill(positions, NO_ENTRY);
     }
 
     /**
      * Remove all entries from this map.
      */
     public void clear() {
-        map.clear();
-        rmap.clear();
+        for (int i = 0; i < size; i++) {
+            positions[key(i).getId()] = NO_ENTRY;
+            keys[i] = null;
+        }
+        size = 0;
     }
 
     /**
@@ -67,11 +81,14 @@ public class ValueSortedMap<E> {
      * @param v the value
      */
     public void put(E k, int v) {
-        if(map.containsKey(k)){
+        if (position(k) != NO_ENTRY) {
             replace(k, v);
-        }else {
-            map.put(k, v);
-            rmap.put(v, k);
+        } else {
+            ensureCapacity(k.getId());
+            keys[size] = k;
+            values[size] = v;
+            positions[k.getId()] = size;
+            siftUp(size++);
         }
     }
 
@@ -81,16 +98,15 @@ public class ValueSortedMap<E> {
      * @param v the value
      */
     public void replace(E k, int v) {
-        int cValue = map.get(k);
-        assert cValue != NO_ENTRY;
-        int amount = v - cValue;
-        if(amount != 0) {
-            map.adjustValue(k, amount);
-            rmap.remove(cValue);
-            rmap.put(v, k);
+        int i = position(k);
+        assert i != NO_ENTRY;
+        int cValue = values[i];
+        values[i] = v;
+        if (v > cValue) {
+            siftUp(i);
+        } else if (v < cValue) {
+            siftDown(i);
         }
-        assert rmap.get(map.get(k)) == k;
-        assert map.get(rmap.get(v)) == v;
     }
 
     /**
@@ -98,7 +114,7 @@ public class ValueSortedMap<E> {
      * @return value attached to the key <i>k</i>, or {@link #NO_ENTRY} otherwise.
      */
     public int getValue(E k) {
-        return map.get(k);
+        return getValueOrDefault(k, NO_ENTRY);
     }
 
     /**
@@ -107,11 +123,11 @@ public class ValueSortedMap<E> {
      * @return value attached to the key <i>k</i>, or <i>defaultValue</i> otherwise.
      */
     public int getValueOrDefault(E k, int defaultValue) {
-        int value = map.get(k);
-        if (value == NO_ENTRY) {
+        int i = position(k);
+        if (i == NO_ENTRY) {
             return defaultValue;
         }
-        return value;
+        return values[i];
     }
 
     /**
@@ -119,29 +135,32 @@ public class ValueSortedMap<E> {
      * @return the largest value stored in this
      */
     public int getLastValue() {
-//        return rmap.lastValue();
-        return rmap.lastKey();
+        return values[0];
     }
 
     /**
      * return the lowest value stored in this
      * @return the lowest value stored in this
+     * @implNote runs in linear time
      */
     public int getLowerValue(int value){
-        Integer low = rmap.lowerKey(value);
-        if(low == null){
-            low = -1;
+        int low = -1;
+        for (int i = 0; i < size; i++) {
+            if (values[i] < value && values[i] > low) {
+                low = values[i];
+            }
         }
         return low;
     }
+
     /**
      * return and remove the largest value stored in this
      * @return  the largest value stored in this
      */
     public int pollLastValue() {
-        Map.Entry<Integer, E> last = rmap.pollLastEntry();
-        map.remove(last.getValue());
-        return last.getKey();
+        int last = values[0];
+        removeAt(0);
+        return last;
     }
 
     /**
@@ -149,7 +168,10 @@ public class ValueSortedMap<E> {
      * @param k a key
      */
     public void remove(E k){
-        rmap.remove(map.remove(k));
+        int i = position(k);
+        if (i != NO_ENTRY) {
+            removeAt(i);
+        }
     }
 
     /**
@@ -158,17 +180,21 @@ public class ValueSortedMap<E> {
      */
     public boolean removeIf(Predicate<? super E> filter) {
         Objects.requireNonNull(filter);
-        boolean removed = false;
-        final Iterator<E> each = map.keySet().iterator();
-        while (each.hasNext()) {
-            E e = each.next();
-            if (filter.test(e)) {
-                int value = map.get(e);
-                each.remove();
-                rmap.remove(value);
-                removed = true;
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.test(key(i))) {
+                positions[key(i).getId()] = NO_ENTRY;
+            } else {
+                move(i, j++);
             }
         }
+        boolean removed = j < size;
+        Arrays.fill(keys, j, size, null);
+        size = j;
+        // restore the heap property
+        for (int i = (size >> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
         return removed;
     }
 
@@ -176,7 +202,86 @@ public class ValueSortedMap<E> {
      * @return <i>true</i> if this is empty
      */
     public boolean isEmpty() {
-        return map.isEmpty();
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E key(int i) {
+        return (E) keys[i];
+    }
+
+    private int position(E k) {
+        int id = k.getId();
+        return id < positions.length ? positions[id] : NO_ENTRY;
     }
 
+    private void ensureCapacity(int id) {
+        if (size == keys.length) {
+            int nsize = size + (size >> 1);
+            keys = Arrays.copyOf(keys, nsize);
+            values = Arrays.copyOf(values, nsize);
+        }
+        if (id >= positions.length) {
+            int o = positions.length;
+            positions = Arrays.copyOf(positions, Math.max(id + 1, o + (o >> 1)));
+            Arrays.fill(positions, o, positions.length, NO_ENTRY);
+        }
+    }
+
+    private void removeAt(int i) {
+        positions[key(i).getId()] = NO_ENTRY;
+        size--;
+        if (i < size) {
+            int v = values[i];
+            move(size, i);
+            if (values[i] > v) {
+                siftUp(i);
+            } else {
+                siftDown(i);
+            }
+        }
+        keys[size] = null;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+        positions[key(to).getId()] = to;
+    }
+
+    private void siftUp(int i) {
+        Object k = keys[i];
+        int v = values[i];
+        while (i > 0) {
+            int p = (i - 1) >> 1;
+            if (values[p] >= v) {
+                break;
+            }
+            move(p, i);
+            i = p;
+        }
+        keys[i] = k;
+        values[i] = v;
+        positions[key(i).getId()] = i;
+    }
+
+    private void siftDown(int i) {
+        Object k = keys[i];
+        int v = values[i];
+        int half = size >> 1;
+        while (i < half) {
+            int c = (i << 1) + 1;
+            if (c + 1 < size && values[c + 1] > values[c]) {
+                c++;
+            }
+            if (v >= values[c]) {
+                break;
+            }
+            move(c, i);
+            i = c;
+        }
+        keys[i] = k;
+        values[i] = v;
+        positions[key(i).getId()] = i;
+    }
 }
@@ -10,6 +10,7 @@
 package org.chocosolver.memory;
 
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
+import org.chocosolver.memory.trailing.trail.chunck.ChunckedIntTrail;
 import org.chocosolver.solver.Cause;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
@@ -31,7 +32,8 @@ public class EnvironmentTest {
     public Object[][] env() {
         return new IEnvironment[][]{
             {new EnvironmentBuilder().fromFlat().build()},
-            {new EnvironmentBuilder().fromChunk().build()}
+            {new EnvironmentBuilder().fromChunk().build()},
+            {new EnvironmentBuilder().buildCopying()}
         };
     }
 
@@ -91,6 +93,128 @@ public class EnvironmentTest {
         Assert.assertEquals(prim.toString(), "10.2");
     }
 
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testWorlds(IEnvironment environment) {
+        IStateInt prim = environment.makeInt(0);
+        IStateBool bool = environment.makeBool(false);
+        for (int i = 1; i <= 300; i++) {
+            environment.worldPush();
+            prim.set(i);
+            bool.set(i % 2 == 1);
+        }
+        // created in world 300, its value survives backtracks
+        IStateInt late = environment.makeInt(7);
+        environment.worldPop();
+        Assert.assertEquals(environment.getWorldIndex(), 299);
+        Assert.assertEquals(prim.get(), 299);
+        Assert.assertTrue(bool.get());
+        Assert.assertEquals(late.get(), 7);
+        environment.worldPopUntil(150);
+        Assert.assertEquals(prim.get(), 150);
+        environment.worldPush();
+        prim.add(5);
+        Assert.assertEquals(prim.get(), 155);
+        environment.worldPopUntil(0);
+        Assert.assertEquals(prim.get(), 0);
+        Assert.assertFalse(bool.get());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testFakeHistory(IEnvironment environment) {
+        environment.buildFakeHistoryOn(new Except_0());
+        IStateInt prim = environment.makeInt(0);
+        environment.worldPush();
+        environment.worldPush();
+        environment.worldPush();
+        prim.set(3);
+        IStateInt late = environment.makeInt(1);
+        IStateLong llate = environment.makeLong(1L);
+        late.set(5);
+        llate.set(5L);
+        environment.worldPop();
+        Assert.assertEquals(prim.get(), 0);
+        Assert.assertEquals(late.get(), 1);
+        Assert.assertEquals(llate.get(), 1L);
+        environment.worldPopUntil(0);
+        Assert.assertEquals(late.get(), 1);
+    }
+
+    private static void dive(IEnvironment environment, IStateInt[] prims, int depth) {
+        for (int d = 1; d <= depth; d++) {
+            environment.worldPush();
+            // more updates than a chunk can store
+            for (int i = 0; i < prims.length; i++) {
+                prims[i].set(d * prims.length + i);
+            }
+        }
+        for (int d = depth - 1; d >= 0; d--) {
+            environment.worldPop();
+            for (int i = 0; i < prims.length; i++) {
+                Assert.assertEquals(prims[i].get(), d == 0 ? i : d * prims.length + i);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testDeepDives(IEnvironment environment) {
+        IStateInt[] prims = new IStateInt[150];
+        for (int i = 0; i < prims.length; i++) {
+            prims[i] = environment.makeInt(i);
+        }
+        for (int k = 0; k < 5; k++) {
+            dive(environment, prims, 20 + k);
+        }
+        Assert.assertEquals(environment.getWorldIndex(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testChunkReuse() {
+        EnvironmentTrailing environment = new EnvironmentBuilder().fromChunk().build();
+        IStateInt[] prims = new IStateInt[150];
+        for (int i = 0; i < prims.length; i++) {
+            prims[i] = environment.makeInt(i);
+        }
+        ChunckedIntTrail trail = (ChunckedIntTrail) environment.getIntTrail();
+        dive(environment, prims, 30);
+        int allocated = trail.allocated();
+        for (int k = 0; k < 10; k++) {
+            dive(environment, prims, 30 - k);
+        }
+        Assert.assertEquals(trail.allocated(), allocated);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testChunkFakeHistory() {
+        IEnvironment environment = new EnvironmentBuilder().fromChunk().build();
+        environment.buildFakeHistoryOn(new Except_0());
+        IStateInt[] prims = new IStateInt[100];
+        environment.worldPush();
+        environment.worldPush();
+        for (int i = 0; i < prims.length; i++) {
+            // each primitive appends to the filled chunks of older worlds
+            prims[i] = environment.makeInt(i);
+            prims[i].set(-i);
+        }
+        environment.worldPop();
+        environment.worldPop();
+        for (int i = 0; i < prims.length; i++) {
+            Assert.assertEquals(prims[i].get(), i);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
+    public void testIntVector(IEnvironment environment) {
+        IStateIntVector vector = environment.makeIntVector(4, 1);
+        environment.worldPush();
+        vector.set(2, 5);
+        vector.quickSet(3, 6);
+        Assert.assertEquals(vector.quickGet(2), 5);
+        Assert.assertEquals(vector.quickGet(3), 6);
+        environment.worldPop();
+        Assert.assertEquals(vector.quickGet(2), 1);
+        Assert.assertEquals(vector.quickGet(3), 1);
+    }
+
     @Test(groups = "1s", timeOut = 60000, dataProvider = "env")
     public void testBitset1(IEnvironment environment) {
         testBitset(environment, 16, 48, 8, 9, 10);
@@ -16,6 +16,7 @@ package org.chocosolver.solver;
 
 
 import org.chocosolver.memory.EnvironmentBuilder;
+import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.memory.trailing.EnvironmentTrailing;
 import org.chocosolver.memory.trailing.trail.chunck.ChunckedIntTrail;
 import org.chocosolver.memory.trailing.trail.flatten.StoredDoubleTrail;
@@ -105,4 +106,43 @@ public class EnvironmentTest {
 		m.getEnvironment().makeDoubleVector(100, 0.0);
 		System.out.println(m.getSolver().solve());
 	}
-}
\ No newline at end of file
+
+	@DataProvider(name = "envs")
+	public Object[][] getAllEnvs(){
+		return new IEnvironment[][]{
+				{new EnvironmentBuilder().fromFlat().build()},
+				{new EnvironmentBuilder().fromChunk().build()},
+				{new EnvironmentBuilder().buildCopying()}
+		};
+	}
+
+	@Test(groups="1s", timeOut=60000, dataProvider = "envs")
+	public void testSameSearch(IEnvironment env) {
+		// Golomb ruler of 8 marks
+		int m = 8;
+		Model model = new Model(env, "Golomb");
+		IntVar[] ticks = model.intVarArray("a", m, 0, m * m, false);
+		IntVar[] diffs = new IntVar[(m * m - m) / 2];
+		model.arithm(ticks[0], "=", 0).post();
+		for (int i = 0, k = 0; i < m - 1; i++) {
+			model.arithm(ticks[i + 1], ">", ticks[i]).post();
+			for (int j = i + 1; j < m; j++, k++) {
+				diffs[k] = model.intVar("d" + k, 0, m * m, false);
+				model.scalar(new IntVar[]{ticks[j], ticks[i]}, new int[]{1, -1}, "=", diffs[k]).post();
+			}
+		}
+		model.allDifferent(diffs, "BC").post();
+		model.arithm(diffs[0], "<", diffs[diffs.length - 1]).post();
+		model.setObjective(Model.MINIMIZE, ticks[m - 1]);
+		Solver solver = model.getSolver();
+		solver.setSearch(Search.inputOrderLBSearch(ticks));
+		int best = -1;
+		while (solver.solve()) {
+			best = ticks[m - 1].getValue();
+		}
+		Assert.assertEquals(best, 34);
+		// the search tree does not depend on the environment
+		Assert.assertEquals(solver.getNodeCount(), 1402);
+		Assert.assertEquals(solver.getSolutionCount(), 7);
+	}
+}
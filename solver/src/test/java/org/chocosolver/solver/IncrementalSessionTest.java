@@ -0,0 +1,260 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.IncrementalSession.ConstraintGroup;
+import org.chocosolver.solver.constraints.nary.clauses.ClauseStore;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IncrementalSessionTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testGroups() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        model.arithm(x, "+", y, "=", 10).post();
+        IncrementalSession session = new IncrementalSession(model);
+        ConstraintGroup g1 = session.newGroup("g1");
+        session.add(g1, model.arithm(x, "<=", 2));
+        Assert.assertTrue(session.solve());
+        Assert.assertTrue(x.getValue() <= 2);
+        ConstraintGroup g2 = session.newGroup("g2");
+        session.add(g2, model.arithm(y, "<=", 2));
+        Assert.assertFalse(session.solve());
+        session.retract(g1);
+        Assert.assertTrue(g1.isRetracted());
+        Assert.assertTrue(session.solve());
+        Assert.assertTrue(y.getValue() <= 2);
+        Assert.assertEquals(model.getSolver().isSatisfied(), ESat.TRUE);
+        session.retract(g2);
+        session.post(model.arithm(x, "=", 5));
+        Assert.assertTrue(session.solve());
+        Assert.assertEquals(y.getValue(), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testRetractedGroup() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IncrementalSession session = new IncrementalSession(model);
+        ConstraintGroup g = session.newGroup("g");
+        session.retract(g);
+        session.add(g, model.arithm(x, "<=", 2));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAssumptions() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        model.allDifferent(x).post();
+        model.getSolver().setSearch(Search.inputOrderLBSearch(x));
+        BoolVar b0 = model.arithm(x[0], "=", 2).reify();
+        BoolVar b1 = model.arithm(x[1], "=", 2).reify();
+        IncrementalSession session = new IncrementalSession(model);
+        Assert.assertTrue(session.solve(b1));
+        Assert.assertEquals(x[1].getValue(), 2);
+        Assert.assertEquals(x[0].getValue(), 0);
+        Assert.assertFalse(session.solve(b0, b1));
+        Assert.assertTrue(session.solve());
+        Assert.assertEquals(x[0].getValue(), 0);
+        // enumerate solutions under assumption
+        Assert.assertTrue(session.solve(b0));
+        int n = 1;
+        while (model.getSolver().solve()) {
+            Assert.assertEquals(x[0].getValue(), 2);
+            n++;
+        }
+        Assert.assertEquals(n, 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKeepLearntClauses() {
+        Model model = new Model();
+        int n = 7;
+        IntVar[] p = model.intVarArray("p", n, 0, n - 1);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(p));
+        solver.setLearningSignedClauses();
+        IncrementalSession session = new IncrementalSession(model);
+        // the last hole is closed: n pigeons, n - 1 holes
+        ConstraintGroup closed = session.newGroup("closed");
+        for (int i = 0; i < n; i++) {
+            session.add(closed, model.arithm(p[i], "!=", n - 1));
+        }
+        Assert.assertFalse(session.solve());
+        long fails = solver.getFailCount();
+        Assert.assertTrue(fails > 0);
+        // learnt clauses are kept
+        Assert.assertFalse(session.solve());
+        Assert.assertTrue(solver.getFailCount() <= fails);
+        // and remain valid once the hole is open again
+        session.retract(closed);
+        Assert.assertTrue(session.solve());
+        Assert.assertEquals(solver.isSatisfied(), ESat.TRUE);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testResetDropsLearntClauses() {
+        Model model = new Model();
+        int n = 7;
+        IntVar[] p = model.intVarArray("p", n, 0, n - 2);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(p));
+        solver.setLearningSignedClauses();
+        ClauseStore store = model.getClauseConstraint().getClauseStore();
+        Assert.assertFalse(solver.solve());
+        int learnt = store.getNbLearntClauses();
+        Assert.assertTrue(learnt > 0);
+        // kept by the reset made by a session
+        solver.reset(true, true);
+        Assert.assertEquals(store.getNbLearntClauses(), learnt);
+        Assert.assertFalse(solver.solve());
+        // dropped by a plain reset
+        solver.reset();
+        Assert.assertEquals(store.getNbLearntClauses(), 0);
+        solver.setSearch(Search.inputOrderLBSearch(p));
+        Assert.assertFalse(solver.solve());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRemoveSolutionClauses() {
+        for (int learning = 0; learning < 2; learning++) {
+            Model model = new Model();
+            IntVar[] x = model.intVarArray("x", 3, 0, 2);
+            model.allDifferent(x).post();
+            Solver solver = model.getSolver();
+            solver.setSearch(Search.inputOrderLBSearch(x));
+            if (learning == 0) {
+                solver.setNoGoodRecordingFromSolutions(x);
+            } else {
+                solver.setLearningSignedClauses();
+            }
+            IncrementalSession session = new IncrementalSession(model);
+            for (int k = 0; k < 2; k++) {
+                int nb = 0;
+                if (session.solve()) {
+                    do {
+                        nb++;
+                    } while (solver.solve());
+                }
+                // solutions excluded during the previous resolution are found again
+                Assert.assertEquals(nb, 6, "learning " + learning + ", resolution " + k);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testKeepStopCriteria() {
+        Model model = new Model();
+        int n = 7;
+        IntVar[] p = model.intVarArray("p", n, 0, n - 2);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                model.arithm(p[i], "!=", p[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.limitFail(1);
+        IncrementalSession session = new IncrementalSession(model);
+        for (int k = 0; k < 2; k++) {
+            Assert.assertFalse(session.solve());
+            Assert.assertEquals(solver.getSearchState(), SearchState.STOPPED);
+            session.post(model.arithm(p[0], "!=", k));
+        }
+    }
+
+    private static Model modelForCores(boolean learn) {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 10);
+        IntVar y = model.intVar("y", 0, 10);
+        model.arithm(x, "<=", y).post();
+        model.getSolver().setSearch(Search.inputOrderLBSearch(x, y));
+        if (learn) {
+            model.getSolver().setLearningSignedClauses();
+        }
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUnsatCore() {
+        Model model = modelForCores(true);
+        IntVar x = (IntVar) model.getVar(0);
+        IntVar y = (IntVar) model.getVar(1);
+        BoolVar a = model.arithm(x, "<=", 3).reify();
+        BoolVar b = model.arithm(y, "=", 7).reify();
+        BoolVar c = model.arithm(x, ">=", 5).reify();
+        BoolVar d = model.arithm(y, ">=", 1).reify();
+        IncrementalSession session = new IncrementalSession(model);
+        Assert.assertNull(session.solveUnderAssumptions(a, b, d));
+        List<BoolVar> core = session.solveUnderAssumptions(a, b, c, d);
+        Assert.assertNotNull(core);
+        Assert.assertTrue(core.contains(c));
+        Assert.assertFalse(core.contains(d));
+        Assert.assertEquals(session.minimizeCore(core), Arrays.asList(a, c));
+        // the conflict still holds with a group
+        ConstraintGroup g = session.newGroup("g");
+        session.add(g, model.arithm(y, ">=", 8));
+        core = session.solveUnderAssumptions(b, d);
+        Assert.assertNotNull(core);
+        Assert.assertEquals(session.minimizeCore(core), Arrays.asList(g.getActivation(), b));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUnsatCoreNoLearning() {
+        Model model = modelForCores(false);
+        IntVar x = (IntVar) model.getVar(0);
+        IntVar y = (IntVar) model.getVar(1);
+        BoolVar a = model.arithm(x, "<=", 3).reify();
+        BoolVar b = model.arithm(y, "=", 7).reify();
+        BoolVar c = model.arithm(x, ">=", 5).reify();
+        IncrementalSession session = new IncrementalSession(model);
+        List<BoolVar> core = session.solveUnderAssumptions(a, b, c);
+        Assert.assertEquals(core, Arrays.asList(a, b, c));
+        Assert.assertEquals(session.minimizeCore(core), Arrays.asList(a, c));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testEmptyCore() {
+        Model model = modelForCores(true);
+        IntVar x = (IntVar) model.getVar(0);
+        IntVar y = (IntVar) model.getVar(1);
+        BoolVar a = model.arithm(x, "<=", 3).reify();
+        IncrementalSession session = new IncrementalSession(model);
+        session.post(model.arithm(y, "<", x));
+        List<BoolVar> core = session.solveUnderAssumptions(a);
+        Assert.assertNotNull(core);
+        Assert.assertTrue(core.isEmpty());
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.extension.Tuples;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
+import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.solver.variables.Variable;
+import org.chocosolver.util.ESat;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ModelClonerTest {
+
+    private static Model mixed() {
+        Model model = new Model("mixed");
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        BoolVar[] b = model.boolVarArray("b", 3);
+        model.allDifferent(x).post();
+        Tuples tuples = new Tuples(true);
+        tuples.add(0, 1);
+        tuples.add(1, 2);
+        tuples.add(2, 3);
+        tuples.add(3, 4);
+        tuples.add(4, 0);
+        model.table(x[0], x[1], tuples).post();
+        model.count(1, x, model.intVar("c", 0, 2)).post();
+        model.arithm(x[4], ">", x[3]).reifyWith(b[0]);
+        model.sum(new BoolVar[]{b[0], b[1]}, ">=", b[2]).post();
+        model.sum(x, "=", 10).post();
+        model.element(x[4], new int[]{4, 3, 2, 1, 0}, x[0]).post();
+        model.member(x[1], new int[]{0, 1, 2, 3}).post();
+        model.max(model.intVar("m", 0, 4), x[2], x[3]).post();
+        for (int i = 0; i < 3; i++) {
+            new Task(x[i], model.intVar(1), model.intVar("e" + i, 0, 6));
+        }
+        model.getSolver().setSearch(inputOrderLBSearch(x));
+        return model;
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyNQueens() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Model copy = model.copy();
+        Assert.assertNotSame(copy, model);
+        Assert.assertNotSame(copy.getSolver(), model.getSolver());
+        Assert.assertNotSame(copy.getEnvironment(), model.getEnvironment());
+        Assert.assertEquals(copy.getNbVars(), model.getNbVars());
+        Assert.assertEquals(copy.getNbCstrs(), model.getNbCstrs());
+        for (int i = 0; i < model.getNbVars(); i++) {
+            Assert.assertNotSame(copy.getVar(i), model.getVar(i));
+            Assert.assertSame(copy.getVar(i).getModel(), copy);
+            Assert.assertEquals(copy.getVar(i).getName(), model.getVar(i).getName());
+            Assert.assertEquals(copy.getVar(i).getId(), model.getVar(i).getId());
+        }
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), 92);
+        Assert.assertEquals(model.getSolver().findAllSolutions().size(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyName() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(4);
+        Assert.assertEquals(model.copy().getName(), model.getName());
+        Model copy = new ModelCloner().copy(model, "queens_2");
+        Assert.assertEquals(copy.getName(), "queens_2");
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyOptimization() {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        Model copy = model.copy();
+        Assert.assertEquals(copy.getResolutionPolicy(), ResolutionPolicy.MINIMIZE);
+        Assert.assertNotSame(copy.getObjective(), model.getObjective());
+        Assert.assertSame(copy.getObjective().getModel(), copy);
+        while (copy.getSolver().solve()) ;
+        Assert.assertEquals(copy.getSolver().getBestSolutionValue(), 17);
+        // the original model is not impacted by the resolution of the copy
+        Assert.assertFalse(model.getSolver().isSolving());
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(model.getSolver().getBestSolutionValue(), 17);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyMixed() {
+        Model model = mixed();
+        ModelCloner cloner = new ModelCloner();
+        Model copy = cloner.copy(model);
+        IntVar[] x = new IntVar[5];
+        for (int i = 0; i < 5; i++) {
+            x[i] = cloner.get((IntVar) model.getVar(i));
+            Assert.assertNotNull(x[i]);
+            Assert.assertSame(x[i].getModel(), copy);
+        }
+        copy.getSolver().setSearch(inputOrderLBSearch(x));
+        long expected = model.getSolver().findAllSolutions().size();
+        Assert.assertTrue(expected > 0);
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), expected);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyTable() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 3);
+        Tuples tuples = new Tuples(new int[][]{{0, 1, 2}, {1, 2, 3}, {3, 2, 1}}, true);
+        model.table(x, tuples).post();
+        Model copy = model.copy();
+        Propagator<?> prop = model.getCstrs()[0].getPropagator(0);
+        Propagator<?> cprop = copy.getCstrs()[0].getPropagator(0);
+        Assert.assertNotSame(cprop, prop);
+        Assert.assertEquals(cprop.getClass(), prop.getClass());
+        Assert.assertEquals(cprop.getId(), prop.getId());
+        Assert.assertEquals(copy.getSolver().findAllSolutions().size(), 3);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopyStrategy() {
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        model.getSolver().setSearch(
+                Search.lastConflict(Search.intVarSearch(new FirstFail(model), new IntDomainMax(), vars)));
+        ModelCloner cloner = new ModelCloner();
+        Model copy = cloner.copy(model);
+        copy.getSolver().setSearch(cloner.copyOf(model.getSolver().getSearch()));
+        for (Variable var : copy.getSolver().getSearch().getVariables()) {
+            Assert.assertSame(var.getModel(), copy);
+        }
+        Assert.assertTrue(model.getSolver().solve());
+        Assert.assertTrue(copy.getSolver().solve());
+        for (IntVar var : vars) {
+            Assert.assertEquals(cloner.get(var).getValue(), var.getValue());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testCopyUnsupportedPropagator() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 3);
+        new Constraint("custom", new Propagator<IntVar>(x) {
+            @Override
+            public void propagate(int evtmask) {
+            }
+
+            @Override
+            public ESat isEntailed() {
+                return ESat.TRUE;
+            }
+        }).post();
+        model.copy();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testConcurrentCopies() {
+        Model model = ModelTest.knapsack();
+        ParallelPortfolio portfolio = new ParallelPortfolio();
+        portfolio.addModel(model);
+        for (int i = 1; i < 4; i++) {
+            portfolio.addModel(model.copy());
+        }
+        while (portfolio.solve()) ;
+        Assert.assertEquals(portfolio.getBestModel().getSolver().getObjectiveManager().getBestLB().intValue(), 51);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testCopyAfterSolve() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(4);
+        model.getSolver().solve();
+        model.copy();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testCopyTwice() {
+        ModelCloner cloner = new ModelCloner();
+        cloner.copy(ProblemMaker.makeNQueenWithBinaryConstraints(4));
+        cloner.copy(ProblemMaker.makeNQueenWithBinaryConstraints(4));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.criteria.Criterion;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelEPSTest {
+
+    @DataProvider(name = "workers")
+    public Object[][] workers() {
+        return new Object[][]{{1}, {2}, {4}};
+    }
+
+    private static String key(Solution s, IntVar[] vars) {
+        StringBuilder st = new StringBuilder();
+        for (IntVar v : vars) {
+            st.append(s.getIntVal(v)).append(',');
+        }
+        return st.toString();
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testAllSolutions(int n) {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        ParallelEPS eps = new ParallelEPS(model, n);
+        List<Solution> solutions = eps.findAllSolutions();
+        Assert.assertEquals(solutions.size(), 92);
+        Assert.assertEquals(eps.getSolutionCount(), 92);
+        Assert.assertTrue(eps.isComplete());
+        Assert.assertTrue(eps.getNbSubproblems() >= n);
+        Assert.assertEquals(eps.getWorkers().size(), n);
+        Assert.assertSame(eps.getWorkers().get(0), model);
+        // subproblems are disjoint
+        Set<String> distinct = new HashSet<>();
+        for (Solution s : solutions) {
+            distinct.add(key(s, vars));
+        }
+        Assert.assertEquals(distinct.size(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutionsWithSearch() {
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(9);
+        IntVar[] vars = model.retrieveIntVars(true);
+        model.getSolver().setSearch(inputOrderLBSearch(vars));
+        ParallelEPS eps = new ParallelEPS(model, 3);
+        eps.setNbSubproblemsPerWorker(50);
+        Assert.assertEquals(eps.findAllSolutions().size(), 352);
+        Assert.assertTrue(eps.getNodeCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testDeclaredStopCriteria() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Criterion never = () -> false;
+        model.getSolver().addStopCriterion(never);
+        ParallelEPS eps = new ParallelEPS(model, 2);
+        eps.setNbSubproblemsPerWorker(30);
+        Assert.assertEquals(eps.findAllSolutions().size(), 92);
+        // kept across subproblems, without duplicates
+        Assert.assertEquals(model.getSolver().criteria, Collections.singletonList(never));
+
+        model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        solver.addStopCriterion(() -> solver.getSolutionCount() > 0);
+        eps = new ParallelEPS(model, 2);
+        eps.setNbSubproblemsPerWorker(30);
+        Assert.assertTrue(eps.findAllSolutions().size() < 92);
+        Assert.assertFalse(eps.isComplete());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testMinimize(int n) {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        IntVar objective = (IntVar) model.getHook("objective");
+        ParallelEPS eps = new ParallelEPS(model, n);
+        Solution best = eps.findOptimalSolution(objective, false);
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(objective), 17);
+        Assert.assertTrue(eps.isComplete());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testMaximize(int n) {
+        Model model = ModelTest.knapsack();
+        IntVar objective = (IntVar) model.getHook("obj");
+        ParallelEPS eps = new ParallelEPS(model, n);
+        Solution best = eps.findOptimalSolution(objective, true);
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(objective), 51);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testOneSolution() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(12);
+        IntVar[] vars = model.retrieveIntVars(true);
+        ParallelEPS eps = new ParallelEPS(model, 4);
+        Solution s = eps.findSolution();
+        Assert.assertNotNull(s);
+        for (int i = 0; i < vars.length; i++) {
+            for (int j = i + 1; j < vars.length; j++) {
+                int d = s.getIntVal(vars[i]) - s.getIntVal(vars[j]);
+                Assert.assertTrue(d != 0 && d != j - i && d != i - j);
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 2);
+        model.allDifferent(x).post();
+        ParallelEPS eps = new ParallelEPS(model, 2);
+        Assert.assertTrue(eps.findAllSolutions().isEmpty());
+        Assert.assertTrue(eps.isComplete());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStop() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(10);
+        ParallelEPS eps = new ParallelEPS(model, 2);
+        List<Solution> solutions = eps.findAllSolutions(() -> true);
+        Assert.assertFalse(eps.isComplete());
+        Assert.assertTrue(solutions.size() < 724);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testTwice() {
+        ParallelEPS eps = new ParallelEPS(ProblemMaker.makeNQueenWithBinaryConstraints(4), 2);
+        eps.findAllSolutions();
+        eps.findAllSolutions();
+    }
+}
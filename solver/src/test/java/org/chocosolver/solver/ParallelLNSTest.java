@@ -0,0 +1,93 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver;
+
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.loop.lns.neighbors.ImprovementRates;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.criteria.Criterion;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ParallelLNSTest {
+
+    @DataProvider(name = "workers")
+    public Object[][] workers() {
+        return new Object[][]{{1}, {2}, {4}};
+    }
+
+    private static Criterion timeLimit(long ms) {
+        long end = System.currentTimeMillis() + ms;
+        return () -> System.currentTimeMillis() > end;
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "workers")
+    public void testMinimize(int n) {
+        Model model = ProblemMaker.makeGolombRuler(6);
+        IntVar objective = (IntVar) model.getHook("objective");
+        ParallelLNS lns = new ParallelLNS(model, n);
+        Solution best = lns.findOptimalSolution(objective, false, timeLimit(2000));
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(objective), 17);
+        Assert.assertEquals(lns.getWorkers().size(), n);
+        Assert.assertSame(lns.getWorkers().get(0), model);
+        Assert.assertTrue(lns.getShareCount() > 0);
+        Assert.assertTrue(lns.getSolutionCount() >= lns.getShareCount());
+    }
+
+    @Test(groups = "10s", timeOut = 60000, dataProvider = "workers")
+    public void testMaximize(int n) {
+        Model model = ModelTest.knapsack();
+        IntVar objective = (IntVar) model.getHook("obj");
+        ParallelLNS lns = new ParallelLNS(model, n);
+        lns.setRestartFailLimit(100);
+        Solution best = lns.findOptimalSolution(objective, true, timeLimit(2000));
+        Assert.assertNotNull(best);
+        Assert.assertEquals(best.getIntVal(objective), 51);
+        long runs = 0;
+        for (int i = 0; i < 3; i++) {
+            runs += lns.getRates().getRuns(i);
+        }
+        Assert.assertTrue(runs > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRates() {
+        ImprovementRates rates = new ImprovementRates(3);
+        // neighbors which never run come first
+        Assert.assertEquals(rates.best(0), 0);
+        Assert.assertEquals(rates.best(4), 1);
+        rates.record(0, 10, 1_000_000_000L);
+        rates.record(1, 10, 500_000_000L);
+        Assert.assertEquals(rates.best(0), 2);
+        rates.record(2, 0, 1_000_000L);
+        Assert.assertEquals(rates.getRate(0), 10., 1e-9);
+        Assert.assertEquals(rates.getRate(1), 20., 1e-9);
+        Assert.assertEquals(rates.best(0), 1);
+        Assert.assertEquals(rates.getRuns(2), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testCalledTwice() {
+        Model model = ModelTest.knapsack();
+        IntVar objective = (IntVar) model.getHook("obj");
+        ParallelLNS lns = new ParallelLNS(model, 2);
+        lns.findOptimalSolution(objective, true, timeLimit(100));
+        lns.findOptimalSolution(objective, true, timeLimit(100));
+    }
+}
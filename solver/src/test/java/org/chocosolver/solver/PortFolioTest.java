@@ -9,13 +9,21 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.constraints.nary.clauses.ClauseSharing;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.objective.IObjectiveManager;
+import org.chocosolver.solver.objective.SharedIncumbent;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.restart.MonotonicRestartStrategy;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.chocosolver.solver.ModelTest.knapsack;
@@ -269,4 +277,179 @@ public class PortFolioTest {
             System.gc();
         }
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedIncumbent() throws InterruptedException {
+        SharedIncumbent incumbent = new SharedIncumbent(ResolutionPolicy.MINIMIZE);
+        Assert.assertFalse(incumbent.hasSolution());
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            int w = t;
+            threads[t] = new Thread(() -> {
+                for (int v = 10_000; v >= 0; v--) {
+                    if (v % threads.length == w) {
+                        incumbent.offer(v, w);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        Assert.assertTrue(incumbent.hasSolution());
+        Assert.assertEquals(incumbent.getBestValue(), 0);
+        Assert.assertEquals(incumbent.getWorker(), 0);
+        Assert.assertFalse(incumbent.offer(3, 3));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSharedIncumbentPull() throws ContradictionException {
+        SharedIncumbent incumbent = new SharedIncumbent(ResolutionPolicy.MAXIMIZE);
+        Model m1 = knapsack();
+        Model m2 = knapsack();
+        m1.getSolver().getObjectiveManager().shareIncumbent(incumbent, 0);
+        m2.getSolver().getObjectiveManager().shareIncumbent(incumbent, 1);
+        Assert.assertTrue(m1.getSolver().solve());
+        int best = m1.getSolver().getObjectiveManager().getBestSolutionValue().intValue();
+        Assert.assertEquals(incumbent.getBestValue(), best);
+        Assert.assertEquals(incumbent.getWorker(), 0);
+        m2.getSolver().getObjectiveManager().postDynamicCut();
+        Assert.assertEquals(m2.getSolver().getObjectiveManager().getBestLB().intValue(), best);
+        Assert.assertTrue(((IntVar) m2.getObjective()).getLB() > best);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testClauseSharing() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 5);
+        IntIterableRangeSet r = new IntIterableRangeSet(1, 2);
+        IntIterableRangeSet[] rs = {r, r, r};
+        ClauseSharing sharing = new ClauseSharing(3, 3, 2, 3);
+        for (int i = 0; i < 6; i++) {
+            Assert.assertTrue(sharing.export(0, new IntVar[]{x[0], x[1]}, rs, 1));
+        }
+        Assert.assertFalse(sharing.export(0, x, rs, 1));
+        Assert.assertFalse(sharing.export(0, new IntVar[]{x[0], x[2]}, rs, 4));
+        long[] cursors1 = sharing.makeCursors();
+        long[] cursors0 = sharing.makeCursors();
+        List<ClauseSharing.SharedClause> read = new ArrayList<>();
+        // capacity rounded up to 4, the two oldest clauses are lost
+        Assert.assertEquals(sharing.forEachNew(1, cursors1, read::add), 4);
+        Assert.assertEquals(read.get(0).size(), 2);
+        Assert.assertEquals(read.get(0).getId(1), x[1].getId());
+        Assert.assertEquals(read.get(0).getRange(0).toString(), r.toString());
+        Assert.assertEquals(sharing.forEachNew(1, cursors1, read::add), 0);
+        Assert.assertEquals(sharing.forEachNew(0, cursors0, read::add), 0);
+        sharing.export(2, new IntVar[]{x[2]}, rs, 1);
+        Assert.assertEquals(sharing.forEachNew(1, cursors1, read::add), 1);
+        Assert.assertEquals(sharing.forEachNew(0, cursors0, read::add), 1);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testShareLearntClauses() {
+        ParallelPortfolio pares = new ParallelPortfolio(false);
+        for (int i = 0; i < 3; i++) {
+            Model model = new Model();
+            IntVar[] pigeons = model.intVarArray("p", 7, 1, 6);
+            for (int j = 0; j < pigeons.length - 1; j++) {
+                for (int k = j + 1; k < pigeons.length; k++) {
+                    model.arithm(pigeons[j], "!=", pigeons[k]).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setSearch(i == 0 ? inputOrderLBSearch(pigeons) : randomSearch(pigeons, i));
+            solver.setLearningSignedClauses();
+            solver.setLubyRestart(2, new FailCounter(model, 2), 1000);
+            pares.addModel(model);
+        }
+        pares.shareLearntClauses(100, 100);
+        Assert.assertFalse(pares.solve());
+        long exported = pares.getModels().stream()
+                .mapToLong(m -> m.getClauseConstraint().getClauseStore().getStatistics().get("exported"))
+                .sum();
+        Assert.assertTrue(exported > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCustomObjectiveManager() {
+        ParallelPortfolio pares = new ParallelPortfolio();
+        for (int i = 0; i < 2; i++) {
+            Model m = knapsack();
+            IObjectiveManager<IntVar> om = m.getSolver().getObjectiveManager();
+            // delegates all but shareIncumbent, hence cannot share an incumbent
+            m.getSolver().setObjectiveManager(new IObjectiveManager<IntVar>() {
+                @Override
+                public IntVar getObjective() {
+                    return om.getObjective();
+                }
+
+                @Override
+                public boolean updateBestSolution(Number n) {
+                    return om.updateBestSolution(n);
+                }
+
+                @Override
+                public boolean updateBestSolution() {
+                    return om.updateBestSolution();
+                }
+
+                @Override
+                public void setCutComputer(Function<Number, Number> cutComputer) {
+                    om.setCutComputer(cutComputer);
+                }
+
+                @Override
+                public void setStrictDynamicCut() {
+                    om.setStrictDynamicCut();
+                }
+
+                @Override
+                public void setWalkingDynamicCut() {
+                    om.setWalkingDynamicCut();
+                }
+
+                @Override
+                public void postDynamicCut() throws ContradictionException {
+                    om.postDynamicCut();
+                }
+
+                @Override
+                public ResolutionPolicy getPolicy() {
+                    return om.getPolicy();
+                }
+
+                @Override
+                public Number getBestLB() {
+                    return om.getBestLB();
+                }
+
+                @Override
+                public Number getBestUB() {
+                    return om.getBestUB();
+                }
+
+                @Override
+                public synchronized boolean updateBestLB(Number lb) {
+                    return om.updateBestLB(lb);
+                }
+
+                @Override
+                public synchronized boolean updateBestUB(Number ub) {
+                    return om.updateBestUB(ub);
+                }
+
+                @Override
+                public Number getBestSolutionValue() {
+                    return om.getBestSolutionValue();
+                }
+            });
+            pares.addModel(m);
+        }
+        int best = 0;
+        while (pares.solve()) {
+            best = ((IntVar) pares.getBestModel().getObjective()).getValue();
+        }
+        Assert.assertEquals(best, 51);
+    }
 }
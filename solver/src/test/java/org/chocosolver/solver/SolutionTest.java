@@ -9,9 +9,23 @@
  */
 package org.chocosolver.solver;
 
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.solver.variables.RealVar;
+import org.chocosolver.solver.variables.SetVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public class SolutionTest {
 
     @Test
@@ -19,4 +33,176 @@ public class SolutionTest {
         final Solution emptySolution = new Solution(null);
         Assert.assertNotSame(emptySolution, emptySolution.copySolution());
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRecordAndRestore() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2});
+        IntVar y = model.intVar("y", 0, 9);
+        model.allDifferent(x).post();
+        model.member(x[0], s).post();
+        model.getSolver().solve();
+        Solution solution = new Solution(model, x[0], x[1], x[2], x[3], s).record();
+        Solution copy = solution.copySolution();
+        int[] values = new int[4];
+        copy.getIntVals(x, values);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(values[i], x[i].getValue());
+            Assert.assertEquals(solution.getIntVal(x[i]), x[i].getValue());
+        }
+        Assert.assertEquals(copy.getSetVal(s), s.getValue().toArray());
+        Assert.assertThrows(SolverException.class, () -> solution.getIntVal(y));
+        // a variable not declared is added to the variables to store, not to the ones of the copy
+        solution.setIntVal(y, 1);
+        Assert.assertEquals(solution.getIntVal(y), 1);
+        Assert.assertThrows(SolverException.class, () -> copy.getIntVal(y));
+        copy.setIntVal(x[0], 7);
+        Assert.assertEquals(copy.getIntVal(x[0]), 7);
+        Assert.assertEquals(solution.getIntVal(x[0]), x[0].getValue());
+        model.getSolver().reset();
+        model.getEnvironment().worldPush();
+        solution.restore();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(x[i].getValue(), values[i]);
+        }
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCopiedModel() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 4);
+        model.allDifferent(x).post();
+        Model copy = model.copy();
+        Assert.assertTrue(model.getSolver().solve());
+        Solution solution = new Solution(model).record();
+        IntVar[] y = copy.retrieveIntVars(true);
+        int[] values = new int[y.length];
+        solution.getIntVals(y, values);
+        for (int i = 0; i < y.length; i++) {
+            Assert.assertEquals(values[i], ((IntVar) model.getVar(i)).getValue());
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testUninstantiated() {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 3);
+        IntVar y = model.intVar("y", 0, 3);
+        Solution solution = new Solution(model, x, y);
+        Assert.assertThrows(SolverException.class, () -> solution.getIntVal(x));
+        solution.setIntVal(x, 2);
+        Assert.assertEquals(solution.getIntVal(x), 2);
+        Assert.assertThrows(SolverException.class, () -> solution.getIntVal(y));
+        Assert.assertThrows(SolverException.class, solution::restore);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSetUndeclared() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 70, 0, 3);
+        SetVar s = model.setVar("s", new int[]{}, new int[]{0, 1, 2});
+        RealVar r = model.realVar("r", 0., 1., 0.1);
+        Solution solution = new Solution(model, x[0]);
+        for (int i = 69; i > 0; i--) {
+            solution.setIntVal(x[i], i % 4);
+        }
+        solution.setSetVal(s, new int[]{1});
+        solution.setRealBounds(r, new double[]{0.2, 0.3});
+        for (int i = 1; i < 70; i++) {
+            Assert.assertEquals(solution.getIntVal(x[i]), i % 4);
+        }
+        Assert.assertThrows(SolverException.class, () -> solution.getIntVal(x[0]));
+        Assert.assertEquals(solution.getSetVal(s), new int[]{1});
+        Assert.assertEquals(solution.getRealBounds(r), new double[]{0.2, 0.3});
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolutionList() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 6, 0, 5);
+        model.allDifferent(x).post();
+        model.getSolver().setSearch(Search.inputOrderLBSearch(x));
+        List<Solution> solutions = new ArrayList<>();
+        while (model.getSolver().solve()) {
+            solutions.add(new Solution(model).record());
+        }
+        model.getSolver().reset();
+        // plain lists by default
+        Assert.assertTrue(model.getSolver().findAllSolutions() instanceof ArrayList);
+        model.getSolver().reset();
+        SolutionList all = model.getSolver().findAllSolutionsCompressed();
+        Assert.assertEquals(all.size(), 720);
+        Assert.assertTrue(all.getSnapshotCount() < all.size() / 10);
+        for (int i = 0; i < all.size(); i++) {
+            for (IntVar v : x) {
+                Assert.assertEquals(all.get(i).getIntVal(v), solutions.get(i).getIntVal(v));
+            }
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolutionPool() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 4);
+        IntVar sum = model.intVar("sum", 0, 16);
+        model.sum(x, "=", sum).post();
+        model.allDifferent(x).post();
+        SolutionPool pool = new SolutionPool(sum, true, 3);
+        model.getSolver().plugMonitor(pool);
+        while (model.getSolver().solve()) ;
+        Assert.assertEquals(pool.size(), 3);
+        Assert.assertEquals(pool.getCapacity(), 3);
+        List<Solution> best = pool.getSolutions();
+        Assert.assertEquals(best.get(0).getIntVal(sum), 10);
+        Assert.assertEquals(best.get(1).getIntVal(sum), 10);
+        Assert.assertEquals(best.get(2).getIntVal(sum), 10);
+        Assert.assertEquals(pool.getBest().getIntVal(sum), 10);
+        Assert.assertEquals(pool.getWorstValue(), 10);
+        pool.clear();
+        Assert.assertEquals(pool.size(), 0);
+        Assert.assertNull(pool.getBest());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolutionPoolMinimize() {
+        SolutionPool pool;
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 20);
+        pool = new SolutionPool(x, false, 4);
+        model.getSolver().plugMonitor(pool);
+        while (model.getSolver().solve()) ;
+        List<Solution> best = pool.getSolutions();
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(best.get(i).getIntVal(x), i);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testWriterReader() throws IOException {
+        int[][] solutions = {{0, -1, 5}, {0, -1, 6}, {Integer.MAX_VALUE, Integer.MIN_VALUE, 6}, {-300, 70000, 0}};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SolutionWriter writer = new SolutionWriter(out, 3)) {
+            for (int[] s : solutions) {
+                writer.write(s);
+            }
+            Assert.assertEquals(writer.getCount(), 4);
+        }
+        try (SolutionReader reader = new SolutionReader(new ByteArrayInputStream(out.toByteArray()))) {
+            int[] values = new int[3];
+            for (int[] s : solutions) {
+                Assert.assertTrue(reader.read(values));
+                Assert.assertEquals(values, s);
+            }
+            Assert.assertFalse(reader.read(values));
+        }
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        Assert.assertThrows(EOFException.class, () -> {
+            SolutionReader reader = new SolutionReader(new ByteArrayInputStream(truncated));
+            int[] values = new int[3];
+            while (reader.read(values)) ;
+        });
+        Assert.assertThrows(SolverException.class, () -> new SolutionReader(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+    }
 }
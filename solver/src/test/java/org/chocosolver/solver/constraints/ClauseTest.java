@@ -12,6 +12,7 @@ package org.chocosolver.solver.constraints;
 import org.chocosolver.memory.IEnvironment;
 import org.chocosolver.solver.constraints.nary.sat.PropSat;
 import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.constraints.nary.cnf.LogOp;
 import org.chocosolver.solver.exception.ContradictionException;
@@ -306,4 +307,38 @@ public class ClauseTest {
         }
     }
 
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSimplification() {
+        for (int seed = 0; seed < 20; seed++) {
+            long[] sols = new long[3];
+            for (int k = 0; k < 3; k++) {
+                Model model = new Model(new DefaultSettings()
+                        .setEnableSAT(true)
+                        .setEnableSATSimplification(k > 0));
+                BoolVar[] bs = model.boolVarArray("b", 8);
+                Random rnd = new Random(seed);
+                for (int c = 0; c < 12; c++) {
+                    List<BoolVar> pos = new ArrayList<>();
+                    List<BoolVar> neg = new ArrayList<>();
+                    for (int j = 0; j < bs.length; j++) {
+                        int r = rnd.nextInt(5);
+                        if (r == 0) pos.add(bs[j]);
+                        else if (r == 1) neg.add(bs[j]);
+                    }
+                    model.addClauses(pos.toArray(new BoolVar[0]), neg.toArray(new BoolVar[0]));
+                }
+                model.getSolver().setSearch(randomSearch(bs, seed));
+                if (k == 2) {
+                    model.getSolver().setRestartOnSolutions();
+                    model.getSolver().setSATSimplificationOnRestarts();
+                    model.getSolver().setNoGoodRecordingFromSolutions(bs);
+                }
+                while (model.getSolver().solve()) ;
+                sols[k] = model.getSolver().getSolutionCount();
+            }
+            assertEquals(sols[1], sols[0], "seed " + seed);
+            assertEquals(sols[2], sols[0], "seed " + seed);
+        }
+    }
 }
@@ -39,8 +39,8 @@ import org.testng.annotations.Test;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -150,7 +150,6 @@ public class ExplanationChecker {
                                                              ContradictionException cex, int p, boolean general){
             e.recycle();
             ValueSortedMap<IntVar> front = e.getFront();
-            HashSet<IntVar> literals = e.getLiterals();
 
     //        ig.collectNodesFromConflict(cex, front);
             assert ig.getIntVarAt(p) == cex.v;
@@ -174,6 +173,7 @@ public class ExplanationChecker {
             }
             // todo: check reification
     //        front.removeIf(v -> !literals.containsKey(v));
+            Set<IntVar> literals = e.getLiterals();
             if(XParameters.PROOF){
                 literals.forEach(v -> System.out.printf("(%s \u2208 %s) \u2228 ", v.getName(), v.getLit()));
                 System.out.print("\n\n");
@@ -15,6 +15,7 @@ import static org.testng.Assert.assertEquals;
 import gnu.trove.list.TIntList;
 import gnu.trove.list.array.TIntArrayList;
 import org.chocosolver.sat.SatSolver;
+import org.chocosolver.solver.DefaultSettings;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.extension.Tuples;
@@ -30,6 +31,8 @@ import org.chocosolver.solver.variables.SetVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Map;
+
 /**
  * <br/>
  *
@@ -127,5 +130,73 @@ public class NogoodTest {
         assertEquals(model.getSolver().getBackTrackCount(), 133);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testMinimization() {
+        for (boolean minimize : new boolean[]{false, true}) {
+            int n = 8;
+            Model model = new Model(new DefaultSettings().setNogoodsMinimization(minimize));
+            IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int k = j - i;
+                    model.arithm(vars[i], "!=", vars[j]).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", k).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setNoGoodRecordingFromRestarts();
+            solver.setSearch(randomSearch(vars, 29091981L));
+            solver.setRestarts(new BacktrackCounter(model, 0), new MonotonicRestartStrategy(30), 1000);
+            while (solver.solve()) ;
+            assertEquals(solver.getSolutionCount(), 92);
+            Map<String, Long> stats = model.getNogoodStore().getPropNogoods().getStatistics();
+            if (!minimize) {
+                assertEquals(stats.get("minimized").longValue(), 0L);
+                assertEquals(stats.get("vivified").longValue(), 0L);
+            }
+            assertEquals(stats.get("forgotten").longValue(), 0L);
+        }
+    }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testForgetUnusedNogoods() {
+        for (int maxAge : new int[]{0, 1, 4}) {
+            Model model = new Model(new DefaultSettings().setNogoodsMinimization(true).setNogoodsMaxAge(maxAge));
+            IntVar[] pigeons = model.intVarArray("p", 7, 0, 5, false);
+            for (int i = 0; i < pigeons.length - 1; i++) {
+                for (int j = i + 1; j < pigeons.length; j++) {
+                    model.arithm(pigeons[i], "!=", pigeons[j]).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setNoGoodRecordingFromRestarts();
+            solver.setSearch(randomSearch(pigeons, 29091981L));
+            solver.setRestarts(new BacktrackCounter(model, 0), new MonotonicRestartStrategy(30), 100000);
+            Assert.assertFalse(solver.solve());
+            Map<String, Long> stats = model.getNogoodStore().getPropNogoods().getStatistics();
+            if (maxAge == 0) {
+                assertEquals(stats.get("forgotten").longValue(), 0L);
+            } else {
+                Assert.assertTrue(stats.get("forgotten") > 0);
+            }
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testSolutionNogoodsAreNotForgotten() {
+        Model model = new Model(new DefaultSettings().setNogoodsMaxAge(1));
+        IntVar[] x = model.intVarArray("x", 5, 0, 4, false);
+        model.allDifferent(x).post();
+        Solver solver = model.getSolver();
+        solver.setNoGoodRecordingFromRestarts();
+        solver.setNoGoodRecordingFromSolutions(x);
+        solver.setSearch(randomSearch(x, 0L));
+        solver.setRestartOnSolutions();
+        solver.setRestarts(new BacktrackCounter(model, 0), new MonotonicRestartStrategy(5), 1000);
+        // duplicated solutions would exceed the limit
+        solver.limitSolution(121);
+        Assert.assertEquals(solver.findAllSolutions().size(), 120);
+        Assert.assertTrue(model.getNogoodStore().getPropNogoods().getStatistics().get("forgotten") > 0);
+    }
 }
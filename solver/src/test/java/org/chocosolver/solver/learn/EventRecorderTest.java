@@ -40,6 +40,7 @@ import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.copyOfRange;
 import static java.util.Arrays.fill;
@@ -551,6 +552,84 @@ public class EventRecorderTest {
         testPA(N, a);
     }
 
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testTiers() {
+        int[][] tiers = {{0, 0}, {2, 6}, {100, 100}};
+        for (int[] tier : tiers) {
+            int n = 8;
+            Model model = new Model(new DefaultSettings()
+                    .setNbMaxLearntClauses(20)
+                    .setLearntClausesTiers(tier[0], tier[1]));
+            IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int k = j - i;
+                    model.arithm(vars[i], "!=", vars[j]).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", k).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(vars));
+            solver.setLearningSignedClauses();
+            while (solver.solve()) ;
+            assertEquals(solver.getSolutionCount(), 92);
+            Map<String, Long> stats = model.getClauseConstraint().getClauseStore().getStatistics();
+            assertEquals(stats.get("learnt") - stats.get("removed"),
+                    stats.get("core") + stats.get("mid") + stats.get("local"));
+            if (tier[1] == 0) {
+                assertEquals(stats.get("core") + stats.get("mid"), 0L);
+            } else if (tier[1] == 100) {
+                assertEquals(stats.get("local").longValue(), 0L);
+            }
+        }
+    }
+
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testLazyClauseGeneration() {
+        for (boolean lcg : new boolean[]{false, true}) {
+            int n = 8;
+            Model model = new Model(new DefaultSettings().setLazyClauseGeneration(lcg));
+            IntVar[] vars = model.intVarArray("Q", n, 1, n, false);
+            for (int i = 0; i < n - 1; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    int k = j - i;
+                    model.arithm(vars[i], "!=", vars[j]).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", -k).post();
+                    model.arithm(vars[i], "!=", vars[j], "+", k).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setSearch(inputOrderLBSearch(vars));
+            solver.setLearningSignedClauses();
+            while (solver.solve()) ;
+            assertEquals(solver.getSolutionCount(), 92);
+            Map<String, Long> stats = model.getClauseConstraint().getClauseStore().getStatistics();
+            if (lcg) {
+                assertTrue(stats.get("translated") > 0);
+            } else {
+                assertEquals(stats.get("translated").longValue(), 0L);
+            }
+        }
+    }
+
+    @Test(groups = {"1s", "expl"}, timeOut = 60000)
+    public void testLazyClauseGenerationUnsat() {
+        int n = 7;
+        Model model = new Model(new DefaultSettings().setLazyClauseGeneration(true));
+        IntVar[] pigeons = model.intVarArray("P", n, 1, n - 1);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = i + 1; j < n; j++) {
+                model.arithm(pigeons[i], "!=", pigeons[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(pigeons));
+        solver.setLearningSignedClauses();
+        assertFalse(solver.solve());
+        assertTrue(model.getClauseConstraint().getClauseStore().getStatistics().get("translated") > 0);
+    }
+
     @Test(groups = {"1s", "expl"}, timeOut = 60000)
     public void testClauses() {
         int n = 4;
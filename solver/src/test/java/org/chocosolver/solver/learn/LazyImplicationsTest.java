@@ -41,8 +41,8 @@ public class LazyImplicationsTest {
         solver.setEventObserver(ee);
         while (solver.solve()) {
             for (IntVar q : qs) {
-                int i = aGI.rootEntries.get(q).p;
-                IntIterableRangeSet set = aGI.entries[i].d;
+                int i = aGI.prevs[aGI.rootOf(q)];
+                IntIterableRangeSet set = aGI.doms[i];
                 Assert.assertTrue(set.contains(q.getValue()));
                 Assert.assertEquals(set.size(), 1);
             }
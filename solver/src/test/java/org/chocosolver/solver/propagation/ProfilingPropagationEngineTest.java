@@ -0,0 +1,131 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.propagation;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.constraints.Constraint;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.exception.SolverException;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ProfilingPropagationEngineTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoProfiling() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        Assert.assertNull(solver.getPropagatorProfiler());
+        Assert.assertFalse(solver.getEngine() instanceof ProfilingPropagationEngine);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSameSearch() {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        while (model.getSolver().solve()) ;
+        Model pmodel = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        PropagatorProfiler profiler = pmodel.getSolver().profilePropagators();
+        Assert.assertSame(pmodel.getSolver().profilePropagators(), profiler);
+        while (pmodel.getSolver().solve()) ;
+        Assert.assertEquals(pmodel.getSolver().getSolutionCount(), 92);
+        Assert.assertEquals(pmodel.getSolver().getNodeCount(), model.getSolver().getNodeCount());
+        Assert.assertEquals(pmodel.getSolver().getFailCount(), model.getSolver().getFailCount());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStatistics() {
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(8);
+        Solver solver = model.getSolver();
+        PropagatorProfiler profiler = solver.profilePropagators();
+        while (solver.solve()) ;
+        long calls = 0, failures = 0, reductions = 0;
+        for (Propagator p : profiler.getPropagators()) {
+            calls += profiler.get(p, PropagatorProfiler.FINE) + profiler.get(p, PropagatorProfiler.COARSE);
+            failures += profiler.get(p, PropagatorProfiler.FAILURES);
+            reductions += profiler.get(p, PropagatorProfiler.REDUCTIONS);
+            Assert.assertTrue(profiler.get(p, PropagatorProfiler.TIME) >= 0);
+        }
+        Assert.assertTrue(calls > 0);
+        Assert.assertTrue(reductions > 0);
+        // each failure is raised by a propagator
+        Assert.assertEquals(failures, solver.getFailCount());
+        long classCalls = 0;
+        for (long[] s : profiler.getStatisticsPerClass().values()) {
+            classCalls += s[PropagatorProfiler.FINE] + s[PropagatorProfiler.COARSE];
+        }
+        Assert.assertEquals(classCalls, calls);
+        profiler.reset();
+        Assert.assertTrue(profiler.getPropagators().isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testExports() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 3, 0, 2);
+        model.allDifferent(x).post();
+        model.arithm(x[0], "<", x[1]).post();
+        Solver solver = model.getSolver();
+        PropagatorProfiler profiler = solver.profilePropagators();
+        while (solver.solve()) ;
+        Map<String, long[]> perClass = profiler.getStatisticsPerClass();
+        Assert.assertTrue(perClass.size() >= 2);
+        String csv = profiler.toCSV();
+        String[] lines = csv.split("\n");
+        Assert.assertEquals(lines[0], "id;class;constraint;fine;coarse;time(ns);reductions;failures");
+        Assert.assertEquals(lines.length, profiler.getPropagators().size() + 1);
+        for (int i = 1; i < lines.length; i++) {
+            Assert.assertEquals(lines[i].split(";").length, 8);
+        }
+        String json = profiler.toJSON();
+        Assert.assertTrue(json.startsWith("{\"classes\":[{\"class\":"));
+        Assert.assertTrue(json.contains("\"instances\":[{\"id\":"));
+        Assert.assertTrue(json.endsWith("]}"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        solver.setOut(new PrintStream(out));
+        solver.printStatistics();
+        Assert.assertTrue(out.toString().contains("- Propagators profile:"));
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCSVQuoting() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 2, 0, 2);
+        Constraint c = model.arithm(x[0], "<", x[1]);
+        c.setName("lt;\"x\"\nend");
+        c.post();
+        Solver solver = model.getSolver();
+        PropagatorProfiler profiler = solver.profilePropagators();
+        while (solver.solve()) ;
+        String csv = profiler.toCSV();
+        Assert.assertTrue(csv.contains(";\"lt;\"\"x\"\"\nend\";"), csv);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, expectedExceptions = SolverException.class)
+    public void testTooLate() throws Exception {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        Solver solver = model.getSolver();
+        solver.propagate();
+        solver.getEnvironment().worldPush();
+        solver.profilePropagators();
+    }
+}
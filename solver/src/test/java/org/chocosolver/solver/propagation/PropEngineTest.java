@@ -19,6 +19,7 @@ import org.chocosolver.solver.exception.SolverException;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.util.ESat;
 import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.objects.queues.CircularQueue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -210,4 +211,50 @@ public class PropEngineTest {
         solver.getEngine().clear();
         solver.reset(); // error (null)
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testHybridModes() {
+        long[] nodes = new long[3];
+        for (byte h = 0; h < 3; h++) {
+            Model model = new Model(new DefaultSettings().setHybridizationOfPropagationEngine(h));
+            IntVar[] qs = model.intVarArray("Q", 8, 1, 8, false);
+            model.allDifferent(qs).post();
+            for (int i = 0; i < 7; i++) {
+                for (int j = i + 1; j < 8; j++) {
+                    model.arithm(qs[i], "!=", qs[j], "+", j - i).post();
+                    model.arithm(qs[i], "!=", qs[j], "+", i - j).post();
+                }
+            }
+            Solver solver = model.getSolver();
+            solver.setSearch(minDomLBSearch(qs));
+            while (solver.solve()) ;
+            assertEquals(solver.getSolutionCount(), 92);
+            nodes[h] = solver.getNodeCount();
+            for (Propagator p : model.getCstrs()[0].getPropagators()) {
+                assertFalse(p.isScheduled());
+            }
+        }
+        assertEquals(nodes[1], nodes[0]);
+        assertEquals(nodes[2], nodes[0]);
+    }
+
+    @SuppressWarnings({"deprecation", "unchecked"})
+    @Test(groups="1s", timeOut=60000)
+    public void testDeprecatedScheduling() {
+        Model model = new Model();
+        IntVar[] xs = model.intVarArray("X", 2, 0, 3);
+        model.arithm(xs[0], "<", xs[1]).post();
+        Propagator p = model.getCstrs()[0].getPropagator(0);
+        CircularQueue<Propagator>[] queues = new CircularQueue[8];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new CircularQueue<>(4);
+        }
+        int prio = p.doSchedule(queues);
+        Assert.assertTrue(p.isScheduled());
+        assertEquals(queues[prio].size(), 1);
+        p.doSchedule(queues);
+        assertEquals(queues[prio].size(), 1);
+        p.unschedule();
+        assertFalse(p.isScheduled());
+    }
 }
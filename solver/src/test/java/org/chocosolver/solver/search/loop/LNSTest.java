@@ -19,7 +19,12 @@ import org.chocosolver.solver.Solution;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.exception.ContradictionException;
 import org.chocosolver.solver.search.limits.BacktrackCounter;
+import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.loop.lns.INeighborFactory;
+import org.chocosolver.solver.search.loop.lns.neighbors.BallNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.BanditNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.CircuitSegmentNeighborhood;
+import org.chocosolver.solver.search.loop.lns.neighbors.CumulativeWindowNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.INeighbor;
 import org.chocosolver.solver.search.loop.lns.neighbors.PropagationGuidedNeighborhood;
 import org.chocosolver.solver.search.loop.lns.neighbors.RandomNeighborhood;
@@ -35,11 +40,22 @@ import org.chocosolver.solver.search.strategy.selectors.variables.DomOverWDeg;
 import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
 import org.chocosolver.solver.variables.IntVar;
 import org.chocosolver.solver.variables.SetVar;
+import org.chocosolver.solver.variables.Task;
+import org.chocosolver.util.ProblemMaker;
+import org.chocosolver.util.bandit.MOSS;
+import org.chocosolver.util.bandit.UCB1;
 import org.chocosolver.util.tools.ArrayUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
 /**
  * <br/>
  *
@@ -98,6 +114,19 @@ public class LNSTest {
                 r.setNoGoodRecordingFromRestarts();
                 r.setLNS(new RandomNeighborhood(objects, 200, 123456L));
                 break;
+            case 7:
+                r.setLNS(INeighborFactory.bandit(power, 123456L, objects));
+                break;
+            case 9:
+                r.setLNS(INeighborFactory.ball(123456L, objects));
+                break;
+            case 8:
+                r.setLNS(new BanditNeighborhood(power, new MOSS(4), BanditNeighborhood.Effort.FAILS,
+                        new double[]{.2, .5},
+                        new PropagationGuidedNeighborhood(objects, 25, 10, 123456L),
+                        new RandomNeighborhood(objects, 200, 123456L)
+                ));
+                break;
         }
         model.setObjective(Model.MAXIMIZE, power);
         int bw = 0, bp = 0;
@@ -111,7 +140,7 @@ public class LNSTest {
 
     @DataProvider(name = "lns")
     public Object[][] createData() {
-        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}, {6}};
+        return new Object[][]{{0}, {1}, {2}, {3}, {4}, {5}, {6}, {7}, {8}, {9}};
     }
 
 
@@ -224,6 +253,225 @@ public class LNSTest {
         Assert.assertEquals(bw, 1092);
     }
 
+    @Test(groups="1s", timeOut=60000)
+    public void testRelaxedFraction() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] vars = model.intVarArray("x", 10, 0, 3);
+        Solution solution = new Solution(model);
+        model.getSolver().solve();
+        solution.record();
+        model.getSolver().reset();
+        RandomNeighborhood rnd = new RandomNeighborhood(vars, 1, 0);
+        rnd.setRelaxedFraction(.3);
+        rnd.loadFromSolution(solution);
+        model.getEnvironment().worldPush();
+        rnd.fixSomeVariables();
+        Assert.assertEquals(Arrays.stream(vars).filter(IntVar::isInstantiated).count(), 7);
+        model.getEnvironment().worldPop();
+        rnd.setRelaxedFraction(.5);
+        model.getEnvironment().worldPush();
+        rnd.fixSomeVariables();
+        Assert.assertEquals(Arrays.stream(vars).filter(IntVar::isInstantiated).count(), 5);
+        model.getEnvironment().worldPop();
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBanditFraction() {
+        Model model = ProblemMaker.makeGolombRuler(8);
+        IntVar objective = (IntVar) model.getHook("objective");
+        IntVar[] ticks = (IntVar[]) model.getHook("ticks");
+        Solver solver = model.getSolver();
+        BanditNeighborhood bandit = new BanditNeighborhood(objective, new UCB1(4), BanditNeighborhood.Effort.FAILS,
+                new double[]{.5, 1.},
+                new RandomNeighborhood(ticks, 1, 0),
+                new PropagationGuidedNeighborhood(ticks, 30, 10, 0));
+        bandit.setRelaxedFraction(.2);
+        Assert.assertEquals(bandit.getRelaxedFraction(), .2, 1e-9);
+        solver.setLNS(bandit, new FailCounter(model, 50));
+        solver.limitFail(2000);
+        int best = Integer.MAX_VALUE;
+        while (solver.solve()) {
+            Assert.assertTrue(objective.getValue() < best);
+            best = objective.getValue();
+        }
+        Assert.assertTrue(best < Integer.MAX_VALUE);
+        // the base fraction has been adapted
+        Assert.assertNotEquals(bandit.getRelaxedFraction(), .2);
+    }
+
+    /**
+     * @return positions of the variables left free by <i>neighbor</i>, from <i>solution</i>
+     */
+    private static List<Integer> relaxed(INeighbor neighbor, Solution solution, IntVar[] vars) throws ContradictionException {
+        Model model = vars[0].getModel();
+        neighbor.init();
+        neighbor.loadFromSolution(solution);
+        model.getEnvironment().worldPush();
+        neighbor.fixSomeVariables();
+        List<Integer> free = new ArrayList<>();
+        for (int i = 0; i < vars.length; i++) {
+            if (!vars[i].isInstantiated()) {
+                free.add(i);
+            }
+        }
+        model.getEnvironment().worldPop();
+        return free;
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testBall() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 20, 0, 30);
+        for (int i = 0; i < 19; i++) {
+            model.arithm(x[i], "<", x[i + 1]).post();
+        }
+        Solution solution = new Solution(model);
+        model.getSolver().solve();
+        solution.record();
+        model.getSolver().reset();
+        for (long seed = 0; seed < 5; seed++) {
+            List<Integer> free = relaxed(new BallNeighborhood(x, 5, 16, seed), solution, x);
+            Assert.assertEquals(free.size(), 5);
+            // a ball on a chain is a segment
+            Assert.assertEquals(free.get(4) - free.get(0), 4);
+        }
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCircuitSegment() throws ContradictionException {
+        Model model = new Model();
+        int n = 12;
+        IntVar[] succ = model.intVarArray("s", n, 0, n - 1);
+        model.circuit(succ).post();
+        Solution solution = new Solution(model);
+        model.getSolver().solve();
+        solution.record();
+        model.getSolver().reset();
+        // propagators connect all successors, they are ignored to only relax the segment
+        CircuitSegmentNeighborhood neighbor = new CircuitSegmentNeighborhood(succ, 8, 1, 0);
+        List<Integer> free = relaxed(neighbor, solution, succ);
+        Assert.assertEquals(free.size(), 8);
+        // the first half is a path in the solution
+        int path = 0;
+        for (int i : free) {
+            if (free.contains(solution.getIntVal(succ[i]))) {
+                path++;
+            }
+        }
+        Assert.assertTrue(path >= 3, free.toString());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCircuitSegmentLNS() {
+        int n = 15;
+        int[][] dist = new int[n][n];
+        Random rnd = new Random(0);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                dist[i][j] = dist[j][i] = 1 + rnd.nextInt(100);
+            }
+        }
+        Model model = new Model();
+        IntVar[] succ = model.intVarArray("s", n, 0, n - 1);
+        IntVar[] cost = model.intVarArray("c", n, 0, 100);
+        for (int i = 0; i < n; i++) {
+            model.element(cost[i], dist[i], succ[i]).post();
+        }
+        model.circuit(succ).post();
+        IntVar total = model.intVar("total", 0, 100 * n);
+        model.sum(cost, "=", total).post();
+        model.setObjective(Model.MINIMIZE, total);
+        Solver solver = model.getSolver();
+        solver.setSearch(Search.inputOrderLBSearch(succ));
+        solver.setLNS(INeighborFactory.circuitSegment(0, ArrayUtils.append(succ, cost)), new FailCounter(model, 100));
+        solver.limitFail(5000);
+        int first = -1, best = -1;
+        while (solver.solve()) {
+            if (first < 0) {
+                first = total.getValue();
+            }
+            best = total.getValue();
+        }
+        Assert.assertTrue(best < first);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testCumulativeWindow() throws ContradictionException {
+        Model model = new Model();
+        int n = 10;
+        IntVar[] starts = model.intVarArray("s", n, 0, 50);
+        Task[] tasks = new Task[n];
+        IntVar[] heights = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            tasks[i] = new Task(starts[i], model.intVar(3 + i % 3), model.intVar("e" + i, 0, 60));
+            heights[i] = model.intVar(1);
+        }
+        model.cumulative(tasks, heights, model.intVar(1)).post();
+        Solution solution = new Solution(model);
+        model.getSolver().setSearch(Search.inputOrderLBSearch(starts));
+        model.getSolver().solve();
+        solution.record();
+        model.getSolver().reset();
+        CumulativeWindowNeighborhood neighbor = new CumulativeWindowNeighborhood(starts, 6, 1, 0);
+        List<Integer> free = relaxed(neighbor, solution, starts);
+        Assert.assertEquals(free.size(), 6);
+        // the first half is a time window
+        int[] sorted = IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingInt(i -> solution.getIntVal(starts[i])))
+                .mapToInt(i -> i).toArray();
+        int window = 0;
+        for (int k = 0; k < n - 2; k++) {
+            if (free.contains(sorted[k]) && free.contains(sorted[k + 1]) && free.contains(sorted[k + 2])) {
+                window++;
+            }
+        }
+        Assert.assertTrue(window > 0, free.toString());
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testOfferSolution() {
+        int[] capacities = {99, 1101};
+        int[] volumes = {54, 12, 47, 33, 30, 65, 56, 57, 91, 88, 77, 99, 29, 23, 39, 86, 12, 85, 22, 64};
+        int[] energies = {38, 57, 69, 90, 79, 89, 28, 70, 38, 71, 46, 41, 49, 43, 36, 68, 92, 33, 84, 90};
+
+        Model model = new Model();
+        int nos = 20;
+        IntVar[] objects = new IntVar[nos];
+        for (int i = 0; i < nos; i++) {
+            objects[i] = model.intVar("o_" + (i + 1), 0, (int) ceil(capacities[1] / volumes[i]), true);
+        }
+        final IntVar power = model.intVar("power", 0, 99999, true);
+        IntVar scalar = model.intVar("weight", capacities[0], capacities[1], true);
+        model.scalar(objects, volumes, "=", scalar).post();
+        model.scalar(objects, energies, "=", power).post();
+        model.knapsack(objects, scalar, power, volumes, energies).post();
+        model.setObjective(Model.MAXIMIZE, power);
+
+        Solver r = model.getSolver();
+        Solution best = new Solution(model, objects);
+        while (r.solve()) {
+            best.record();
+        }
+        r.reset();
+        r.setSearch(Search.inputOrderLBSearch(objects));
+        // a neighborhood which freezes all the variables
+        MoveLNS lns = new MoveLNS(r.getMove(), new RandomNeighborhood(objects, 1, 0) {
+            @Override
+            public void fixSomeVariables() throws ContradictionException {
+                for (int i = 0; i < variables.length; i++) {
+                    freeze(i);
+                }
+            }
+        }, new BacktrackCounter(model, 100));
+        r.setMove(lns);
+        Assert.assertTrue(r.solve());
+        Assert.assertTrue(power.getValue() < 8372);
+        // the search restarts from the optimal solution, while solving
+        lns.offerSolution(best);
+        Assert.assertTrue(r.solve());
+        Assert.assertEquals(power.getValue(), 8372);
+    }
+
     @Test(groups = "1s", timeOut = 60000)
     public void testPN1() {
         // Instance copied from meb-inst-18-09.eprime-param
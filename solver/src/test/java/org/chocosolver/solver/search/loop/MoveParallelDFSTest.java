@@ -0,0 +1,249 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.loop;
+
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ModelTest;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.Solution;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.objective.SharedIncumbent;
+import org.chocosolver.solver.search.SearchState;
+import org.chocosolver.solver.search.loop.move.MoveParallelDFS;
+import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ProblemMaker;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
+import static org.chocosolver.solver.search.strategy.Search.minDomLBSearch;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class MoveParallelDFSTest {
+
+    @DataProvider(name = "workers")
+    public Object[][] workers() {
+        return new Object[][]{{1}, {2}, {4}};
+    }
+
+    /**
+     * Copy <i>model</i>, plug a {@link MoveParallelDFS} on each worker and solve them in parallel
+     */
+    private static List<Model> solve(Model model, int n, MoveParallelDFS.Team team,
+                                     BiConsumer<Integer, Model> onSolution) throws Exception {
+        List<Model> models = new ArrayList<>();
+        models.add(model);
+        for (int i = 1; i < n; i++) {
+            models.add(model.copy());
+        }
+        SharedIncumbent incumbent = model.getResolutionPolicy() == ResolutionPolicy.SATISFACTION ?
+                null : new SharedIncumbent(model.getResolutionPolicy());
+        for (int i = 0; i < n; i++) {
+            Solver solver = models.get(i).getSolver();
+            solver.setSearch(minDomLBSearch(models.get(i).retrieveIntVars(true)));
+            solver.setMove(new MoveParallelDFS(models.get(i), solver.getSearch(), team));
+            if (incumbent != null) {
+                solver.getObjectiveManager().shareIncumbent(incumbent, i);
+            }
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(n);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                int w = i;
+                tasks.add(pool.submit(() -> {
+                    Model m = models.get(w);
+                    while (m.getSolver().solve()) {
+                        onSolution.accept(w, m);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return models;
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testAllSolutions(int n) throws Exception {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        IntVar[] vars = model.retrieveIntVars(true);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        ConcurrentLinkedQueue<Solution> solutions = new ConcurrentLinkedQueue<>();
+        List<Model> models = solve(model, n, team, (w, m) -> solutions.add(new Solution(m).record()));
+        Assert.assertEquals(solutions.size(), 92);
+        Assert.assertTrue(team.isTerminated());
+        Assert.assertEquals(team.getNbWorkers(), n);
+        long count = 0;
+        for (Model m : models) {
+            count += m.getSolver().getSolutionCount();
+            Assert.assertEquals(m.getSolver().getSearchState(), SearchState.TERMINATED);
+        }
+        Assert.assertEquals(count, 92);
+        // branches are disjoint
+        Set<String> distinct = new HashSet<>();
+        for (Solution s : solutions) {
+            StringBuilder st = new StringBuilder();
+            for (IntVar v : vars) {
+                st.append(s.getIntVal(v)).append(',');
+            }
+            distinct.add(st.toString());
+        }
+        Assert.assertEquals(distinct.size(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testAllSolutionsWithSteals() throws Exception {
+        Model model = ProblemMaker.makeNQueenWithOneAlldifferent(10);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        ConcurrentLinkedQueue<Solution> solutions = new ConcurrentLinkedQueue<>();
+        solve(model, 4, team, (w, m) -> solutions.add(new Solution(m).record()));
+        Assert.assertEquals(solutions.size(), 724);
+        Assert.assertTrue(team.getStealCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSplitDecisions() throws Exception {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(8);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        List<Model> models = new ArrayList<>();
+        models.add(model);
+        models.add(model.copy());
+        models.add(model.copy());
+        ExecutorService pool = Executors.newFixedThreadPool(models.size());
+        try {
+            List<Future<Long>> tasks = new ArrayList<>();
+            for (Model m : models) {
+                Solver solver = m.getSolver();
+                solver.setSearch(inputOrderLBSearch(m.retrieveIntVars(true)));
+                solver.setMove(new MoveParallelDFS(m, solver.getSearch(), team));
+                tasks.add(pool.submit(() -> solver.streamSolutions().count()));
+            }
+            long count = 0;
+            for (Future<Long> task : tasks) {
+                count += task.get();
+            }
+            Assert.assertEquals(count, 92);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testMinimize(int n) throws Exception {
+        Model model = ProblemMaker.makeGolombRuler(7);
+        IntVar objective = (IntVar) model.getHook("objective");
+        model.setObjective(Model.MINIMIZE, objective);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        int[] bests = new int[n];
+        solve(model, n, team, (w, m) -> bests[w] = ((IntVar) m.getObjective()).getValue());
+        int best = Integer.MAX_VALUE;
+        for (int b : bests) {
+            if (b > 0) {
+                best = Math.min(best, b);
+            }
+        }
+        Assert.assertEquals(best, 25);
+        Assert.assertTrue(team.isTerminated());
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testMaximize(int n) throws Exception {
+        Model model = ModelTest.knapsack();
+        IntVar objective = (IntVar) model.getHook("obj");
+        model.setObjective(Model.MAXIMIZE, objective);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        int[] bests = new int[n];
+        solve(model, n, team, (w, m) -> bests[w] = ((IntVar) m.getObjective()).getValue());
+        Assert.assertEquals(max(bests), 51);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNoSolution() throws Exception {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 5, 0, 3);
+        model.allDifferent(x, "NEQS").post();
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        List<Model> models = solve(model, 3, team, (w, m) -> Assert.fail());
+        Assert.assertTrue(team.isTerminated());
+        Assert.assertTrue(models.get(0).getSolver().getFailCount() > 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000, dataProvider = "workers")
+    public void testRootFailure(int n) throws Exception {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 3);
+        model.sum(x, ">", 20).post();
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        List<Model> models = solve(model, n, team, (w, m) -> Assert.fail());
+        Assert.assertTrue(team.isTerminated());
+        for (Model m : models) {
+            Assert.assertEquals(m.getSolver().getSearchState(), SearchState.TERMINATED);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testStopOwner() throws Exception {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(12);
+        model.getSolver().limitNode(10);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        List<Model> models = solve(model, 3, team, (w, m) -> {
+        });
+        Assert.assertTrue(team.isMet());
+        Assert.assertFalse(team.isTerminated());
+        for (Model m : models) {
+            Assert.assertEquals(m.getSolver().getSearchState(), SearchState.STOPPED);
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testCancel() throws Exception {
+        Model model = ProblemMaker.makeNQueenWithBinaryConstraints(12);
+        MoveParallelDFS.Team team = new MoveParallelDFS.Team();
+        ConcurrentLinkedQueue<Solution> solutions = new ConcurrentLinkedQueue<>();
+        List<Model> models = solve(model, 3, team, (w, m) -> {
+            solutions.add(new Solution(m).record());
+            team.cancel();
+        });
+        Assert.assertTrue(solutions.size() >= 1);
+        Assert.assertTrue(solutions.size() <= 3);
+        Assert.assertFalse(team.isTerminated());
+        for (Model m : models) {
+            Assert.assertEquals(m.getSolver().getSearchState(), SearchState.STOPPED);
+        }
+    }
+
+    private static int max(int[] values) {
+        int max = Integer.MIN_VALUE;
+        for (int v : values) {
+            max = Math.max(max, v);
+        }
+        return max;
+    }
+}
@@ -11,6 +11,8 @@ package org.chocosolver.solver.search.loop;
 
 import org.chocosolver.cutoffseq.LubyCutoffStrategy;
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.ResolutionPolicy;
+import org.chocosolver.solver.SolutionReader;
 import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.NodeCounter;
@@ -26,8 +28,15 @@ import org.chocosolver.solver.variables.IntVar;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.chocosolver.solver.search.strategy.Search.*;
 import static org.chocosolver.util.ProblemMaker.makeGolombRuler;
@@ -329,4 +338,84 @@ public class SolverTest {
         choco.getSolver().solve();
         Assert.assertEquals("", errContent.toString());
     }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testForEachSolution() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = (IntVar[]) model.getHook("vars");
+        Set<String> seen = new HashSet<>();
+        long count = model.getSolver().forEachSolution(vars, values -> {
+            for (int i = 0; i < vars.length; i++) {
+                Assert.assertEquals(values[i], vars[i].getValue());
+            }
+            seen.add(Arrays.toString(values));
+        });
+        Assert.assertEquals(count, 92);
+        Assert.assertEquals(seen.size(), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testForEachSolutionStop() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = (IntVar[]) model.getHook("vars");
+        Solver solver = model.getSolver();
+        long count = solver.forEachSolution(vars, values -> {
+        }, () -> solver.getSolutionCount() == 10);
+        Assert.assertEquals(count, 10);
+        solver.reset();
+        Assert.assertEquals(solver.forEachSolution(vars, values -> {
+        }), 92);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testForEachSolutionObjective() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = (IntVar[]) model.getHook("vars");
+        model.setObjective(Model.MINIMIZE, vars[0]);
+        // the objective is cleared, as with findAllSolutions
+        Assert.assertEquals(model.getSolver().forEachSolution(vars, values -> {
+        }), 92);
+        Assert.assertEquals(model.getResolutionPolicy(), ResolutionPolicy.SATISFACTION);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testForEachSolutionChunk() {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = (IntVar[]) model.getHook("vars");
+        List<Integer> sizes = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        long count = model.getSolver().forEachSolutionChunk(vars, 10, (chunk, size) -> {
+            Assert.assertEquals(chunk.length, 10);
+            sizes.add(size);
+            for (int i = 0; i < size; i++) {
+                seen.add(Arrays.toString(chunk[i]));
+            }
+        });
+        Assert.assertEquals(count, 92);
+        Assert.assertEquals(seen.size(), 92);
+        Assert.assertEquals(sizes.size(), 10);
+        Assert.assertEquals((int) sizes.get(9), 2);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testExportSolutions() throws IOException {
+        Model model = makeNQueenWithOneAlldifferent(8);
+        IntVar[] vars = (IntVar[]) model.getHook("vars");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = model.getSolver().exportSolutions(vars, out);
+        Assert.assertEquals(count, 92);
+        Assert.assertTrue(out.size() < 92 * 8 * 2);
+        Model other = makeNQueenWithOneAlldifferent(8);
+        List<int[]> expected = new ArrayList<>();
+        other.getSolver().forEachSolution((IntVar[]) other.getHook("vars"), values -> expected.add(values.clone()));
+        try (SolutionReader reader = new SolutionReader(new ByteArrayInputStream(out.toByteArray()))) {
+            Assert.assertEquals(reader.getNbValues(), 8);
+            int[] values = new int[8];
+            for (int[] e : expected) {
+                Assert.assertTrue(reader.read(values));
+                Assert.assertEquals(values, e);
+            }
+            Assert.assertFalse(reader.read(values));
+        }
+    }
 }
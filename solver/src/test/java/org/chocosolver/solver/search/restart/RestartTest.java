@@ -10,14 +10,19 @@
 package org.chocosolver.solver.search.restart;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
 import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.search.limits.FailCounter;
 import org.chocosolver.solver.search.limits.NodeCounter;
+import org.chocosolver.solver.search.loop.monitors.IMonitorRestart;
 import org.chocosolver.solver.variables.IntVar;
+import org.chocosolver.util.ESat;
 import org.testng.annotations.Test;
 
 import static org.chocosolver.solver.search.strategy.Search.inputOrderLBSearch;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
 
 /**
  * <br/>
@@ -114,4 +119,39 @@ public class RestartTest {
 //        Assert.assertEquals(solver.getSolutionCount(), 92);
         assertEquals(model.getSolver().getRestartCount(), 2);
     }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testReuseTrail1() {
+        Model model = buildQ(12);
+        Solver solver = model.getSolver();
+        solver.setRestarts(new NodeCounter(model, 5), new MonotonicRestartStrategy(5), 50, true);
+        int[] kept = new int[1];
+        solver.plugMonitor(new IMonitorRestart() {
+            @Override
+            public void afterRestart() {
+                kept[0] = Math.max(kept[0], solver.getDecisionPath().size() - 1);
+            }
+        });
+        assertTrue(solver.solve());
+        assertEquals(solver.isSatisfied(), ESat.TRUE);
+        assertTrue(solver.getRestartCount() > 0);
+        // Q_0 = 1 belongs to the first solution found, it is never refuted
+        assertTrue(kept[0] > 0);
+    }
+
+    @Test(groups="1s", timeOut=60000)
+    public void testReuseTrail2() {
+        Model model = new Model();
+        IntVar[] pigeons = model.intVarArray("p", 7, 1, 6, false);
+        for (int i = 0; i < pigeons.length - 1; i++) {
+            for (int j = i + 1; j < pigeons.length; j++) {
+                model.arithm(pigeons[i], "!=", pigeons[j]).post();
+            }
+        }
+        Solver solver = model.getSolver();
+        solver.setSearch(inputOrderLBSearch(pigeons));
+        solver.setRestarts(new NodeCounter(model, 5), new MonotonicRestartStrategy(5), 100, true);
+        assertFalse(solver.solve());
+        assertTrue(solver.getRestartCount() > 0);
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.solver.search.strategy.selectors.values;
+
+import org.chocosolver.solver.Cause;
+import org.chocosolver.solver.Model;
+import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.search.strategy.Search;
+import org.chocosolver.solver.search.strategy.selectors.variables.InputOrder;
+import org.chocosolver.solver.variables.IntVar;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * <br/>
+ *
+ * @author agent
+ * @since 17/10/2026
+ */
+public class IntDomainPhaseTest {
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testSolutionSaving() {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 4, 0, 5);
+        model.sum(x, "=", 6).post();
+        model.allDifferent(x).post();
+        Solver solver = model.getSolver();
+        IntDomainPhase phase = new IntDomainPhase(model, x, new IntDomainMax(), false);
+        solver.setSearch(Search.intVarSearch(new InputOrder<>(model), phase, x));
+        Assert.assertTrue(solver.solve());
+        int[] values = new int[x.length];
+        for (int i = 0; i < x.length; i++) {
+            values[i] = x[i].getValue();
+            Assert.assertEquals(phase.getPhase(x[i]), values[i]);
+        }
+        solver.reset();
+        for (int i = 0; i < x.length; i++) {
+            Assert.assertEquals(phase.selectValue(x[i]), values[i]);
+        }
+        // the same solution is found again, straightforwardly
+        Assert.assertTrue(solver.solve());
+        for (int i = 0; i < x.length; i++) {
+            Assert.assertEquals(x[i].getValue(), values[i]);
+        }
+        Assert.assertEquals(solver.getFailCount(), 0);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testIrrelevantPhase() throws ContradictionException {
+        Model model = new Model();
+        IntVar x = model.intVar("x", 0, 5);
+        IntDomainPhase phase = new IntDomainPhase(model, new IntVar[]{x}, new IntDomainMax(), false);
+        model.getEnvironment().worldPush();
+        x.instantiateTo(2, Cause.Null);
+        phase.onSolution();
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(phase.selectValue(x), 2);
+        x.removeValue(2, Cause.Null);
+        Assert.assertEquals(phase.selectValue(x), 5);
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRestartSaving() throws ContradictionException {
+        Model model = new Model();
+        IntVar[] x = model.intVarArray("x", 2, 0, 5);
+        IntDomainPhase onSolutions = new IntDomainPhase(model, x, new IntDomainMin(), false);
+        IntDomainPhase onRestarts = new IntDomainPhase(model, x, new IntDomainMin(), true);
+        model.getEnvironment().worldPush();
+        x[0].instantiateTo(3, Cause.Null);
+        onSolutions.beforeRestart();
+        onRestarts.beforeRestart();
+        model.getEnvironment().worldPop();
+        Assert.assertEquals(onRestarts.getPhase(x[0]), 3);
+        Assert.assertEquals(onRestarts.selectValue(x[0]), 3);
+        Assert.assertEquals(onRestarts.selectValue(x[1]), 0);
+        Assert.assertEquals(onSolutions.selectValue(x[0]), 0);
+        Assert.assertThrows(IllegalStateException.class, () -> onSolutions.getPhase(x[0]));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of choco-solver, http://choco-solver.org/
+ *
+ * Copyright (c) 2026, IMT Atlantique. All rights reserved.
+ *
+ * Licensed under the BSD 4-clause license.
+ *
+ * See LICENSE file in the project root for full license information.
+ */
+package org.chocosolver.util.objects;
+
+import org.chocosolver.solver.Identity;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.testng.Assert.*;
+
+/**
+ * @author agent
+ * @since 17/10/2026
+ */
+public class ValueSortedMapTest {
+
+    private static class Key implements Identity {
+        final int id;
+
+        Key(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testNominal() {
+        ValueSortedMap<Key> map = new ValueSortedMap<>();
+        Key a = new Key(3), b = new Key(40), c = new Key(7);
+        assertTrue(map.isEmpty());
+        map.put(a, 5);
+        map.put(b, 12);
+        map.put(c, 8);
+        assertEquals(map.getLastValue(), 12);
+        assertEquals(map.getValue(c), 8);
+        assertEquals(map.getLowerValue(12), 8);
+        map.replace(b, 2);
+        assertEquals(map.getLastValue(), 8);
+        assertEquals(map.pollLastValue(), 8);
+        assertEquals(map.getValueOrDefault(c, -5), -5);
+        map.remove(a);
+        assertEquals(map.pollLastValue(), 2);
+        assertTrue(map.isEmpty());
+    }
+
+    @Test(groups = "1s", timeOut = 60000)
+    public void testRandom() {
+        Random rnd = new Random(0);
+        Key[] keys = new Key[60];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key(3 * i);
+        }
+        for (int it = 0; it < 200; it++) {
+            ValueSortedMap<Key> map = new ValueSortedMap<>();
+            TreeMap<Integer, Integer> values = new TreeMap<>();
+            Map<Integer, Integer> entries = new HashMap<>();
+            for (int op = 0; op < 300; op++) {
+                int k = rnd.nextInt(keys.length);
+                switch (rnd.nextInt(5)) {
+                    case 0:
+                    case 1:
+                        int v = rnd.nextInt(1000);
+                        if (!values.containsKey(v)) {
+                            Integer old = entries.put(k, v);
+                            if (old != null) values.remove(old);
+                            values.put(v, k);
+                            map.put(keys[k], v);
+                        }
+                        break;
+                    case 2:
+                        if (!values.isEmpty()) {
+                            Map.Entry<Integer, Integer> last = values.pollLastEntry();
+                            entries.remove(last.getValue());
+                            assertEquals(map.pollLastValue(), last.getKey().intValue());
+                        }
+                        break;
+                    case 3:
+                        Integer old = entries.remove(k);
+                        if (old != null) values.remove(old);
+                        map.remove(keys[k]);
+                        break;
+                    case 4:
+                        int mod = 2 + rnd.nextInt(3);
+                        map.removeIf(key -> key.getId() % mod == 0);
+                        Iterator<Map.Entry<Integer, Integer>> iter = entries.entrySet().iterator();
+                        while (iter.hasNext()) {
+                            Map.Entry<Integer, Integer> e = iter.next();
+                            if (keys[e.getKey()].getId() % mod == 0) {
+                                values.remove(e.getValue());
+                                iter.remove();
+                            }
+                        }
+                        break;
+                }
+                assertEquals(map.isEmpty(), values.isEmpty());
+                if (!values.isEmpty()) {
+                    assertEquals(map.getLastValue(), values.lastKey().intValue());
+                }
+                for (int i = 0; i < keys.length; i++) {
+                    assertEquals(map.getValueOrDefault(keys[i], -1), entries.getOrDefault(i, -1).intValue());
+                }
+            }
+        }
+    }
+}